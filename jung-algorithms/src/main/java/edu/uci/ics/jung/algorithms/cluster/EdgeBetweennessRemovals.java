@@ -0,0 +1,490 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.uci.ics.jung.algorithms.scoring.BrandesWorker;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.algorithms.util.WorkerPool;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+
+/**
+ * The sequence of edge removals performed by the Girvan-Newman algorithm:
+ * each call to <code>next()</code> removes (from a private view of the
+ * graph; the graph itself is not modified) the remaining edge with the
+ * highest betweenness, and returns it.  After each removal the weak
+ * components of the remaining edges, and their modularity with respect to
+ * the original graph, are available, so that callers may stop as soon as
+ * the clustering is good enough.
+ *
+ * <p>Edge betweenness is maintained incrementally.  The shortest paths from
+ * a source vertex can only change when a removed edge lies on one of them,
+ * so for each source the edges of its shortest-path DAG are recorded, and
+ * a removal recomputes the contributions of only those sources whose DAG
+ * contained the removed edge: the old contribution of each such source is
+ * subtracted and the new one added.  These recomputations are divided among
+ * several threads.  Each source's DAG is stored either as a sorted list of
+ * its edges or as one bit per edge of the graph, whichever is smaller.
+ *
+ * <p>The DAGs may together need memory proportional to the number of
+ * vertices times the number of edges.  If they would need more than a
+ * given budget, they are discarded, and from then on each removal
+ * recomputes the contributions of every source, as
+ * <code>BetweennessCentrality</code> would; memory used is then
+ * proportional to the number of vertices and edges.
+ *
+ * <p>Paths are unweighted and follow the direction of directed edges, as
+ * in <code>BetweennessCentrality</code>; the components and the modularity
+ * ignore edge direction.  The graph must not be modified while this
+ * sequence is in use.
+ *
+ * @see EdgeBetweennessClusterer
+ * @see "Community structure in social and biological networks by Michelle Girvan and Mark Newman"
+ * @see "M. E. J. Newman and M. Girvan: Finding and evaluating community structure in networks. Physical Review E 69, 026113, 2004."
+ */
+public class EdgeBetweennessRemovals<V,E> implements Iterator<E>
+{
+    protected Graph<V,E> graph;
+    protected IndexedGraph<V,E> indexed_graph;
+
+    private final IntGraph int_graph;
+    private final boolean[] removed;
+    private final int[] all_sources;
+    private final double[] edge_scores;     // betweenness in the remaining graph
+    private final List<Worker> workers;
+    private final ExecutorService executor; // null if there is one worker
+
+    // by source: the edges on its shortest paths, as a sorted list or as a
+    // bitmap, whichever is smaller (both null if there are none); null once
+    // they no longer fit in max_dag_bytes
+    private int[][] dag_lists;
+    private long[][] dag_bits;
+    private final long max_dag_bytes;
+    private final AtomicLong dag_bytes = new AtomicLong();
+    private volatile boolean incremental = true;
+
+    private final int[] component;          // weak component of each vertex
+    private int component_count;
+    private double modularity;
+
+    private final List<E> edges_removed = new ArrayList<E>();
+    private double last_score;
+    private int last_affected;
+
+    /**
+     * Creates the removal sequence for <code>graph</code>, computing the
+     * initial edge betweenness with one thread for each available processor.
+     */
+    public EdgeBetweennessRemovals(Graph<V,E> graph)
+    {
+        this(graph, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates the removal sequence for <code>graph</code>, computing the
+     * initial edge betweenness, and later updates, with <code>threads</code>
+     * threads, and keeping the shortest-path DAGs while they fit in a
+     * quarter of the maximum heap size.
+     */
+    public EdgeBetweennessRemovals(Graph<V,E> graph, int threads)
+    {
+        this(graph, threads, Runtime.getRuntime().maxMemory() / 4);
+    }
+
+    /**
+     * Creates the removal sequence for <code>graph</code>, computing the
+     * initial edge betweenness, and later updates, with <code>threads</code>
+     * threads, and keeping the shortest-path DAGs while they fit in
+     * (approximately) <code>max_dag_bytes</code> bytes.
+     */
+    public EdgeBetweennessRemovals(Graph<V,E> graph, int threads, long max_dag_bytes)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("number of threads must be positive: " + threads);
+        if (max_dag_bytes < 0)
+            throw new IllegalArgumentException("memory budget must not be negative: " + max_dag_bytes);
+        this.graph = graph;
+        this.indexed_graph = Indexer.createIndexedGraph(graph);
+        this.int_graph = indexed_graph.getIntGraph();
+        this.max_dag_bytes = max_dag_bytes;
+        int n = int_graph.getVertexCount();
+        int m = int_graph.getEdgeCount();
+        removed = new boolean[m];
+        dag_lists = new int[n][];
+        dag_bits = new long[n][];
+        edge_scores = new double[m];
+        workers = new ArrayList<Worker>();
+        for (int i = Math.max(1, Math.min(threads, n)); i > 0; i--)
+            workers.add(new Worker());
+        executor = workers.size() > 1 ? WorkerPool.create(workers.size()) : null;
+
+        all_sources = new int[n];
+        for (int s = 0; s < n; s++)
+            all_sources[s] = s;
+        update(all_sources, -1);
+
+        component = new int[n];
+        Arrays.fill(component, -1);
+        for (int v = 0; v < n; v++)
+            if (component[v] < 0)
+                label(v, component_count++);
+        modularity = computeModularity();
+    }
+
+    /**
+     * Returns <code>true</code> if any edges remain.
+     */
+    public boolean hasNext()
+    {
+        return edges_removed.size() < removed.length;
+    }
+
+    /**
+     * Removes the remaining edge with the highest betweenness (the first,
+     * in the order of <code>getEdges()</code>, among those tied), updates
+     * the betweenness of the other edges, the components and the
+     * modularity, and returns the edge removed.
+     */
+    public E next()
+    {
+        if (!hasNext())
+            throw new NoSuchElementException("all edges have been removed");
+        int best = -1;
+        for (int e = 0; e < edge_scores.length; e++)
+            if (!removed[e] && (best < 0 || edge_scores[e] > edge_scores[best] * (1 + 1e-9) + 1e-9))
+                best = e;
+        last_score = edge_scores[best] / (graph instanceof UndirectedGraph ? 2 : 1);
+
+        if (incremental)
+        {
+            // recompute the contributions of the sources whose paths used it
+            int[] affected = new int[all_sources.length];
+            int count = 0;
+            for (int s = 0; s < all_sources.length; s++)
+                if (onPaths(s, best))
+                    affected[count++] = s;
+            int[] sources = new int[count];
+            System.arraycopy(affected, 0, sources, 0, count);
+            update(sources, best);
+            removed[best] = true;
+            last_affected = count;
+        }
+        else
+        {
+            removed[best] = true;
+            Arrays.fill(edge_scores, 0);
+            update(all_sources, -1);
+            last_affected = all_sources.length;
+        }
+        edge_scores[best] = 0;
+        edges_removed.add(indexed_graph.getEdge(best));
+
+        int u = int_graph.getFirst(best);
+        int v = int_graph.getSecond(best);
+        if (u != v && component[v] == component[u])
+        {
+            int old = component[u];
+            int split = component_count;
+            label(u, split);
+            if (component[v] == split)
+                label(u, old);      // still connected
+            else
+            {
+                component_count++;
+                modularity = computeModularity();
+            }
+        }
+        return indexed_graph.getEdge(best);
+    }
+
+    /**
+     * Not supported; edges are removed by <code>next()</code>.
+     * @throws UnsupportedOperationException always
+     */
+    public void remove()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the betweenness (in the remaining graph) of the edge most
+     * recently removed, as it was just before its removal.
+     */
+    public double getRemovedEdgeBetweenness()
+    {
+        return last_score;
+    }
+
+    /**
+     * Returns the number of sources whose shortest paths were recomputed
+     * when the edge most recently removed was removed.
+     */
+    public int getAffectedSourceCount()
+    {
+        return last_affected;
+    }
+
+    /**
+     * Returns <code>true</code> if the shortest-path DAGs are still kept, so
+     * that each removal recomputes only the sources whose paths used the
+     * removed edge, or <code>false</code> if they have outgrown the memory
+     * budget, so that each removal recomputes every source.
+     */
+    public boolean isIncremental()
+    {
+        return incremental;
+    }
+
+    /**
+     * Returns the betweenness of <code>e</code> in the remaining graph, or
+     * <code>null</code> if <code>e</code> is not in the graph or has been
+     * removed.
+     */
+    public Double getEdgeScore(E e)
+    {
+        int index = indexed_graph.getEdgeIndex(e);
+        if (index < 0 || removed[index])
+            return null;
+        return edge_scores[index] / (graph instanceof UndirectedGraph ? 2 : 1);
+    }
+
+    /**
+     * Returns the edges removed so far, in the order in which they were
+     * removed.
+     */
+    public List<E> getEdgesRemoved()
+    {
+        return Collections.unmodifiableList(edges_removed);
+    }
+
+    /**
+     * Returns the number of weak components of the remaining graph.
+     */
+    public int getClusterCount()
+    {
+        return component_count;
+    }
+
+    /**
+     * Returns the vertex sets of the weak components of the remaining graph.
+     */
+    public Set<Set<V>> getClusters()
+    {
+        List<Set<V>> clusters = new ArrayList<Set<V>>(component_count);
+        for (int c = 0; c < component_count; c++)
+            clusters.add(new LinkedHashSet<V>());
+        for (int v = 0; v < component.length; v++)
+            clusters.get(component[v]).add(indexed_graph.getVertex(v));
+        return new LinkedHashSet<Set<V>>(clusters);
+    }
+
+    /**
+     * Returns the modularity of the current clusters with respect to the
+     * original graph (ignoring edge direction): the fraction of the edges
+     * that lie within clusters, minus the fraction expected if the edges
+     * were placed at random with the same vertex degrees.
+     */
+    public double getModularity()
+    {
+        return modularity;
+    }
+
+    /**
+     * Recomputes the contributions of <code>sources</code> to the edge
+     * betweenness when edge <code>excluded</code> (if not -1) is removed.
+     */
+    private void update(int[] sources, int excluded)
+    {
+        AtomicInteger next_source = new AtomicInteger();
+        for (Worker worker : workers)
+            worker.assign(sources, excluded, next_source);
+        if (executor == null)
+            workers.get(0).call();
+        else
+            WorkerPool.invokeAll(executor, workers);
+        for (Worker worker : workers)
+            worker.addEdgeScores(edge_scores);
+        if (!incremental)
+        {
+            dag_lists = null;
+            dag_bits = null;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if edge <code>e</code> lies on the
+     * recorded shortest paths from <code>s</code>.
+     */
+    private boolean onPaths(int s, int e)
+    {
+        if (dag_bits[s] != null)
+            return (dag_bits[s][e >>> 6] & (1L << (e & 63))) != 0;
+        return dag_lists[s] != null && Arrays.binarySearch(dag_lists[s], e) >= 0;
+    }
+
+    /**
+     * Records the first <code>count</code> elements of <code>edges</code> as
+     * the edges on the shortest paths from <code>s</code>, unless that would
+     * exceed the memory budget, in which case the recording stops.
+     */
+    private void record(int s, int[] edges, int count)
+    {
+        int words = (removed.length + 63) >>> 6;
+        boolean as_list = count <= 2 * words;
+        long size = count == 0 ? 0 : as_list ? 4L * count : 8L * words;
+        long old_size = dag_bits[s] != null ? 8L * words :
+            dag_lists[s] != null ? 4L * dag_lists[s].length : 0;
+        if (dag_bytes.addAndGet(size - old_size) > max_dag_bytes)
+        {
+            incremental = false;
+            return;
+        }
+        if (count == 0)
+        {
+            dag_lists[s] = null;
+            dag_bits[s] = null;
+        }
+        else if (as_list)
+        {
+            int[] list = new int[count];
+            System.arraycopy(edges, 0, list, 0, count);
+            Arrays.sort(list);
+            dag_lists[s] = list;
+            dag_bits[s] = null;
+        }
+        else
+        {
+            long[] bits = dag_bits[s];
+            if (bits == null)
+                bits = new long[words];
+            else
+                Arrays.fill(bits, 0);
+            for (int i = 0; i < count; i++)
+                bits[edges[i] >>> 6] |= 1L << (edges[i] & 63);
+            dag_bits[s] = bits;
+            dag_lists[s] = null;
+        }
+    }
+
+    /**
+     * Assigns <code>label</code> to every vertex connected to <code>v</code>
+     * by the remaining edges, regardless of their direction.
+     */
+    private void label(int v, int label)
+    {
+        int[] stack = new int[component.length];
+        int size = 0;
+        component[v] = label;
+        stack[size++] = v;
+        while (size > 0)
+        {
+            int w = stack[--size];
+            for (int direction = 0; direction < 2; direction++)
+            {
+                int degree = direction == 0 ? int_graph.outDegree(w) : int_graph.inDegree(w);
+                for (int i = 0; i < degree; i++)
+                {
+                    int e = direction == 0 ? int_graph.getOutEdge(w, i) : int_graph.getInEdge(w, i);
+                    if (removed[e])
+                        continue;
+                    int x = int_graph.getOpposite(w, e);
+                    if (component[x] != label)
+                    {
+                        component[x] = label;
+                        stack[size++] = x;
+                    }
+                }
+            }
+        }
+    }
+
+    private double computeModularity()
+    {
+        int m = int_graph.getEdgeCount();
+        if (m == 0)
+            return 0;
+        double[] internal = new double[component_count];
+        double[] degree = new double[component_count];
+        for (int e = 0; e < m; e++)
+        {
+            int u = component[int_graph.getFirst(e)];
+            int v = component[int_graph.getSecond(e)];
+            if (u == v)
+                internal[u]++;
+            degree[u]++;
+            degree[v]++;
+        }
+        double q = 0;
+        for (int c = 0; c < component_count; c++)
+            q += internal[c] / m - (degree[c] / (2.0 * m)) * (degree[c] / (2.0 * m));
+        return q;
+    }
+
+    /**
+     * Runs breadth-first Brandes passes for the sources that it takes from
+     * a shared counter.  For each source it subtracts the contribution made
+     * with the excluded edge (if any) present, and adds the contribution
+     * made without it, recording the new shortest-path DAG.
+     */
+    private class Worker extends BrandesWorker
+    {
+        private final int[] path_edges;
+        private int excluded;
+
+        Worker()
+        {
+            super(int_graph, null, false, removed);
+            path_edges = new int[int_graph.getEdgeCount()];
+        }
+
+        void assign(int[] sources, int excluded, AtomicInteger next_source)
+        {
+            this.excluded = excluded;
+            assign(sources, null, next_source);
+        }
+
+        @Override
+        protected void process(int s, double scale)
+        {
+            if (excluded >= 0)
+                accumulate(s, traverse(s, -1), -1);
+            int settled = traverse(s, excluded);
+            if (incremental)
+                record(s, path_edges, getPathEdges(settled, path_edges));
+            accumulate(s, settled, 1);
+        }
+
+        /**
+         * Adds the contributions accumulated since the last call to
+         * <code>scores</code>, and clears them.
+         */
+        void addEdgeScores(double[] scores)
+        {
+            for (int e = 0; e < scores.length; e++)
+                scores[e] += edge_scores[e];
+            Arrays.fill(edge_scores, 0);
+            Arrays.fill(vertex_scores, 0);
+        }
+    }
+}
@@ -18,6 +18,8 @@ import org.apache.commons.collections15.Transformer;
 import org.apache.commons.collections15.buffer.UnboundedFifoBuffer;
 
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
 
 
 
@@ -30,6 +32,8 @@ import edu.uci.ics.jung.graph.Graph;
  * see <code>algorithms.filters.FilterUtils</code>.
  * <p>
  * Running time: O(|V| + |E|) where |V| is the number of vertices and |E| is the number of edges.
+ * If the graph is an <code>IndexedGraph</code>, the traversal is done over its 
+ * <code>IntGraph</code> view, without hashing vertices.
  * @author Scott White
  */
 public class WeakComponentClusterer<V,E> implements Transformer<Graph<V,E>, Set<Set<V>>> 
@@ -39,8 +43,12 @@ public class WeakComponentClusterer<V,E> implements Transformer<Graph<V,E>, Set<
      * @param graph the graph whose weak components are to be extracted
      * @return the list of weak components
      */
+    @SuppressWarnings("unchecked")
     public Set<Set<V>> transform(Graph<V,E> graph) {
 
+        if (graph instanceof IndexedGraph)
+            return transform((IndexedGraph<V,E>)graph);
+
         Set<Set<V>> clusterSet = new HashSet<Set<V>>();
 
         HashSet<V> unvisitedVertices = new HashSet<V>(graph.getVertices());
@@ -70,4 +78,47 @@ public class WeakComponentClusterer<V,E> implements Transformer<Graph<V,E>, Set<
         }
         return clusterSet;
     }
+
+    /**
+     * Extracts the weak components from an indexed graph, using 
+     * <code>int</code> arrays for the traversal state.
+     */
+    protected Set<Set<V>> transform(IndexedGraph<V,E> graph) {
+        IntGraph g = graph.getIntGraph();
+        int n = g.getVertexCount();
+        boolean[] visited = new boolean[n];
+        int[] queue = new int[n];
+        Set<Set<V>> clusterSet = new HashSet<Set<V>>();
+
+        for (int root = 0; root < n; root++) {
+            if (visited[root])
+                continue;
+            visited[root] = true;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int i = 0, d = g.outDegree(v); i < d; i++) {
+                    int w = g.getOpposite(v, g.getOutEdge(v, i));
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        queue[tail++] = w;
+                    }
+                }
+                for (int i = 0, d = g.inDegree(v); i < d; i++) {
+                    int w = g.getOpposite(v, g.getInEdge(v, i));
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+            Set<V> cluster = new HashSet<V>();
+            for (int i = 0; i < tail; i++)
+                cluster.add(graph.getVertex(queue[i]));
+            clusterSet.add(cluster);
+        }
+        return clusterSet;
+    }
 }
@@ -10,6 +10,7 @@ package edu.uci.ics.jung.algorithms.layout;
 import edu.uci.ics.jung.algorithms.layout.util.RandomLocationTransformer;
 import edu.uci.ics.jung.algorithms.util.IterativeContext;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SnapshotGraph;
 import edu.uci.ics.jung.graph.util.Pair;
 
 import org.apache.commons.collections15.Factory;
@@ -62,6 +63,8 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
 
     private double max_dimension;
 
+    private Graph<V,E> step_graph;
+
     /**
      * Creates an instance for the specified graph.
      */
@@ -135,6 +138,7 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
      */
     public synchronized void step() {
         currentIteration++;
+        step_graph = SnapshotGraph.snapshotOf(getGraph());
 
         /**
          * Calculate repulsion
@@ -142,7 +146,7 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
         while(true) {
 
             try {
-                for(V v1 : getGraph().getVertices()) {
+                for(V v1 : step_graph.getVertices()) {
                     calcRepulsion(v1);
                 }
                 break;
@@ -154,7 +158,7 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
          */
         while(true) {
             try {
-                for(E e : getGraph().getEdges()) {
+                for(E e : step_graph.getEdges()) {
 
                     calcAttraction(e);
                 }
@@ -165,7 +169,7 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
 
         while(true) {
             try {
-                for(V v : getGraph().getVertices()) {
+                for(V v : step_graph.getVertices()) {
                     if (isLocked(v)) continue;
                     calcPositions(v);
                 }
@@ -173,6 +177,7 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
             } catch(ConcurrentModificationException cme) {}
         }
         cool();
+        step_graph = null;
     }
 
     protected synchronized void calcPositions(V v) {
@@ -213,7 +218,7 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
     }
 
     protected void calcAttraction(E e) {
-    	Pair<V> endpoints = getGraph().getEndpoints(e);
+    	Pair<V> endpoints = getStepGraph().getEndpoints(e);
         V v1 = endpoints.getFirst();
         V v2 = endpoints.getSecond();
         boolean v1_locked = isLocked(v1);
@@ -256,7 +261,7 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
         fvd1.setLocation(0, 0);
 
         try {
-            for(V v2 : getGraph().getVertices()) {
+            for(V v2 : getStepGraph().getVertices()) {
 
 //                if (isLocked(v2)) continue;
                 if (v1 != v2) {
@@ -283,6 +288,14 @@ public class FRLayout<V, E> extends AbstractLayout<V, E> implements IterativeCon
         }
     }
 
+    /**
+     * Returns the graph that the current step operates on: a snapshot if
+     * the graph is a {@code SnapshotGraph}, and the graph itself otherwise.
+     */
+    protected Graph<V,E> getStepGraph() {
+        return step_graph != null ? step_graph : getGraph();
+    }
+
     private void cool() {
         temperature *= (1.0 - currentIteration / (double) mMaxIterations);
     }
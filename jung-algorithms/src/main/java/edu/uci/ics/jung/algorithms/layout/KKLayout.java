@@ -19,10 +19,11 @@ import java.util.ConcurrentModificationException;
 
 import edu.uci.ics.jung.algorithms.layout.util.RandomLocationTransformer;
 import edu.uci.ics.jung.algorithms.shortestpath.Distance;
+import edu.uci.ics.jung.algorithms.shortestpath.DistanceMatrix;
 import edu.uci.ics.jung.algorithms.shortestpath.DistanceStatistics;
-import edu.uci.ics.jung.algorithms.shortestpath.UnweightedShortestPath;
 import edu.uci.ics.jung.algorithms.util.IterativeContext;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Versioned;
 
 /**
  * Implements the Kamada-Kawai algorithm for node layout.
@@ -56,6 +57,19 @@ public class KKLayout<V,E> extends AbstractLayout<V,E> implements IterativeConte
      */
     protected Distance<V> distance;
 
+    /**
+     * Whether the distances are to be computed by a <code>DistanceMatrix</code>
+     * for the current graph when the layout is initialized.
+     */
+    private boolean compute_distances;
+
+    /**
+     * The graph for which <code>distance</code> was computed, and its 
+     * modification version at the time (or -1 if it reports none).
+     */
+    private Graph<V,E> distance_graph;
+    private long distance_version;
+
     /**
      * The diameter of the visible graph. In other words, the maximum over all pairs
      * of vertices of the length of the shortest path between a and bf the visible graph.
@@ -74,11 +88,15 @@ public class KKLayout<V,E> extends AbstractLayout<V,E> implements IterativeConte
     private double disconnected_multiplier = 0.5;
     
 	/**
-	 * Creates an instance for the specified graph.
+	 * Creates an instance for the specified graph, whose unweighted distances 
+	 * are computed by a <code>DistanceMatrix</code> when the layout is initialized,
+	 * and recomputed only if the graph has since been replaced or modified (as
+	 * reported by its version, if it is <code>Versioned</code>).
 	 */
 	public KKLayout(Graph<V,E> g) 
     {
-        this(g, new UnweightedShortestPath<V,E>(g));
+        super(g);
+        compute_distances = true;
 	}
 
 	/**
@@ -164,12 +182,31 @@ public class KKLayout<V,E> extends AbstractLayout<V,E> implements IterativeConte
     			} catch(ConcurrentModificationException cme) {}
     		}
 
+    		if (compute_distances)
+    			updateDistances();
     		diameter = DistanceStatistics.<V,E>diameter(graph, distance, true);
 
     		double L0 = Math.min(height, width);
     		L = (L0 / diameter) * length_factor;  // length_factor used to be hardcoded to 0.9
     		//L = 0.75 * Math.sqrt(height * width / n);
 
+    		if (distance instanceof DistanceMatrix) {
+    			// read the matrix directly, by index
+    			DistanceMatrix<V,?> matrix = (DistanceMatrix<V,?>)distance;
+    			int[] index = new int[n];
+    			for (int i = 0; i < n; i++)
+    				index[i] = matrix.getIndexedGraph().getVertexIndex(vertices[i]);
+    			for (int i = 0; i < n - 1; i++) {
+    				for (int j = i + 1; j < n; j++) {
+    					double dist = diameter * disconnected_multiplier;
+    					dist = Math.min(matrix.getIndexedDistance(index[i], index[j]), dist);
+    					dist = Math.min(matrix.getIndexedDistance(index[j], index[i]), dist);
+    					dm[i][j] = dm[j][i] = dist;
+    				}
+    			}
+    			return;
+    		}
+
     		for (int i = 0; i < n - 1; i++) {
     			for (int j = i + 1; j < n; j++) {
     				Number d_ij = distance.getDistance(vertices[i], vertices[j]);
@@ -185,6 +222,20 @@ public class KKLayout<V,E> extends AbstractLayout<V,E> implements IterativeConte
     	}
 	}
 
+	/**
+	 * Computes a <code>DistanceMatrix</code> for the current graph, unless the
+	 * one computed previously is for the same graph, which has not been 
+	 * modified since.
+	 */
+	private void updateDistances() {
+		long version = graph instanceof Versioned ? ((Versioned)graph).getVersion() : -1;
+		if (distance != null && distance_graph == graph && version >= 0 && version == distance_version)
+			return;
+		distance = new DistanceMatrix<V,E>(graph);
+		distance_graph = graph;
+		distance_version = version;
+	}
+
 	public void step() {
 		try {
 			currentIteration++;
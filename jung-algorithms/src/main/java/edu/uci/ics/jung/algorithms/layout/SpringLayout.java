@@ -10,6 +10,7 @@ package edu.uci.ics.jung.algorithms.layout;
 import edu.uci.ics.jung.algorithms.layout.util.RandomLocationTransformer;
 import edu.uci.ics.jung.algorithms.util.IterativeContext;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SnapshotGraph;
 import edu.uci.ics.jung.graph.util.Pair;
 
 import org.apache.commons.collections15.Factory;
@@ -41,6 +42,8 @@ public class SpringLayout<V, E> extends AbstractLayout<V,E> implements Iterative
     protected int repulsion_range_sq = 100 * 100;
     protected double force_multiplier = 1.0 / 3.0;
 
+    private Graph<V,E> step_graph;
+
     protected Map<V, SpringVertexData> springVertexData =
     	LazyMap.decorate(new HashMap<V, SpringVertexData>(),
     			new Factory<SpringVertexData>() {
@@ -152,8 +155,9 @@ public class SpringLayout<V, E> extends AbstractLayout<V,E> implements Iterative
      * Relaxation step. Moves all nodes a smidge.
      */
     public void step() {
+    	step_graph = SnapshotGraph.snapshotOf(getGraph());
     	try {
-    		for(V v : getGraph().getVertices()) {
+    		for(V v : getStepGraph().getVertices()) {
     			SpringVertexData svd = springVertexData.get(v);
     			if (svd == null) {
     				continue;
@@ -170,12 +174,21 @@ public class SpringLayout<V, E> extends AbstractLayout<V,E> implements Iterative
     	relaxEdges();
     	calculateRepulsion();
     	moveNodes();
+    	step_graph = null;
+    }
+
+    /**
+     * Returns the graph being relaxed by the current step, which is a
+     * snapshot when the layout's graph is a {@code SnapshotGraph}.
+     */
+    protected Graph<V,E> getStepGraph() {
+        return step_graph != null ? step_graph : getGraph();
     }
 
     protected void relaxEdges() {
     	try {
-    		for(E e : getGraph().getEdges()) {
-    		    Pair<V> endpoints = getGraph().getEndpoints(e);
+    		for(E e : getStepGraph().getEdges()) {
+    		    Pair<V> endpoints = getStepGraph().getEndpoints(e);
     			V v1 = endpoints.getFirst();
     			V v2 = endpoints.getSecond();
 
@@ -193,7 +206,7 @@ public class SpringLayout<V, E> extends AbstractLayout<V,E> implements Iterative
 
     			double f = force_multiplier * (desiredLen - len) / len;
 
-    			f = f * Math.pow(stretch, (getGraph().degree(v1) + getGraph().degree(v2) - 2));
+    			f = f * Math.pow(stretch, (getStepGraph().degree(v1) + getStepGraph().degree(v2) - 2));
 
     			// the actual movement distance 'dx' is the force multiplied by the
     			// distance to go.
@@ -215,14 +228,14 @@ public class SpringLayout<V, E> extends AbstractLayout<V,E> implements Iterative
 
     protected void calculateRepulsion() {
         try {
-        for (V v : getGraph().getVertices()) {
+        for (V v : getStepGraph().getVertices()) {
             if (isLocked(v)) continue;
 
             SpringVertexData svd = springVertexData.get(v);
             if(svd == null) continue;
             double dx = 0, dy = 0;
 
-            for (V v2 : getGraph().getVertices()) {
+            for (V v2 : getStepGraph().getVertices()) {
                 if (v == v2) continue;
                 Point2D p = transform(v);
                 Point2D p2 = transform(v2);
@@ -255,7 +268,7 @@ public class SpringLayout<V, E> extends AbstractLayout<V,E> implements Iterative
     {
         synchronized (getSize()) {
             try {
-                for (V v : getGraph().getVertices()) {
+                for (V v : getStepGraph().getVertices()) {
                     if (isLocked(v)) continue;
                     SpringVertexData vd = springVertexData.get(v);
                     if(vd == null) continue;
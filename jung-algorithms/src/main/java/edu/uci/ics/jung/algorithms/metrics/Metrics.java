@@ -16,6 +16,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Graphs;
 
 /**
  * A class consisting of static methods for calculating graph metrics.
@@ -40,16 +42,26 @@ public class Metrics
     public static <V,E> Map<V, Double> clusteringCoefficients(Graph<V,E> graph)
     {
         Map<V,Double> coefficients = new HashMap<V,Double>();
+        // reused for each vertex's neighbors
+        final ArrayList<V> neighbors = new ArrayList<V>();
+        ElementVisitor<V> collector = new ElementVisitor<V>()
+        {
+            public boolean visit(V w)
+            {
+                return neighbors.add(w);
+            }
+        };
         
         for (V v : graph.getVertices())
         {
-            int n = graph.getNeighborCount(v);
+            neighbors.clear();
+            Graphs.visitNeighbors(graph, v, collector);
+            int n = neighbors.size();
             if (n < 2)
                 coefficients.put(v, new Double(0));
             else
             {
                 // how many of v's neighbors are connected to each other?
-                ArrayList<V> neighbors = new ArrayList<V>(graph.getNeighbors(v));
                 double edge_count = 0;
                 for (int i = 0; i < n; i++)
                 {
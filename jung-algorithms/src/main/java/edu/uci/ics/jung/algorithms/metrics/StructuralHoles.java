@@ -14,6 +14,8 @@ package edu.uci.ics.jung.algorithms.metrics;
 import org.apache.commons.collections15.Transformer;
 
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Graphs;
 
 /**
  * Calculates some of the measures from Burt's text "Structural Holes: 
@@ -179,12 +181,9 @@ public class StructuralHoles<V,E> {
     public double localConstraint(V v1, V v2) 
     {
         double nmew_vw = normalizedMutualEdgeWeight(v1, v2);
-        double inner_result = 0;
-        for (V w : g.getNeighbors(v1)) {
-
-            inner_result += normalizedMutualEdgeWeight(v1,w) * 
-                normalizedMutualEdgeWeight(w,v2);
-        }
+        IndirectWeightSum sum = new IndirectWeightSum(v1, v2);
+        Graphs.visitNeighbors(g, v1, sum);
+        double inner_result = sum.total;
         return (nmew_vw + inner_result) * (nmew_vw + inner_result);
     }
     
@@ -244,10 +243,9 @@ public class StructuralHoles<V,E> {
         if (numerator == 0)
             return 0;
         
-        double denominator = 0;
-        for (V v : g.getNeighbors(v1)) {
-            denominator += mutualWeight(v1, v);
-        }
+        MutualWeightSum sum = new MutualWeightSum(v1);
+        Graphs.visitNeighbors(g, v1, sum);
+        double denominator = sum.total;
         if (denominator == 0)
             return 0;
         
@@ -307,4 +305,42 @@ public class StructuralHoles<V,E> {
         
         return numerator / denominator;
     }
+
+    /**
+     * Sums <code>mutualWeight(v, w)</code> over the neighbors <code>w</code>
+     * of <code>v</code>, as they are visited.
+     */
+    private class MutualWeightSum implements ElementVisitor<V> {
+        private final V v;
+        private double total;
+
+        MutualWeightSum(V v) {
+            this.v = v;
+        }
+
+        public boolean visit(V w) {
+            total += mutualWeight(v, w);
+            return true;
+        }
+    }
+
+    /**
+     * Sums <code>p(v1,w) * p(w,v2)</code> over the neighbors <code>w</code>
+     * of <code>v1</code>, as they are visited.
+     */
+    private class IndirectWeightSum implements ElementVisitor<V> {
+        private final V v1;
+        private final V v2;
+        private double total;
+
+        IndirectWeightSum(V v1, V v2) {
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+
+        public boolean visit(V w) {
+            total += normalizedMutualEdgeWeight(v1, w) * normalizedMutualEdgeWeight(w, v2);
+            return true;
+        }
+    }
 }
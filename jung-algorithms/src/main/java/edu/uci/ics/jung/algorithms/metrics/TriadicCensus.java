@@ -10,14 +10,12 @@
 package edu.uci.ics.jung.algorithms.metrics;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-
-import org.apache.commons.collections15.CollectionUtils;
 
 import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Graphs;
 
 
 /**
@@ -101,6 +99,7 @@ public class TriadicCensus {
         long[] count = new long[MAX_TRIADS];
 
         List<V> id = new ArrayList<V>(g.getVertices());
+        TriadCounter<V,E> counter = new TriadCounter<V,E>(g, id, count);
 
 		// apply algorithm to each edge, one at at time
 		for (int i_v = 0; i_v < g.getVertexCount(); i_v++) {
@@ -109,20 +108,18 @@ public class TriadicCensus {
 				int triType = -1;
 				if (id.indexOf(u) <= i_v)
 					continue;
-				Set<V> neighbors = new HashSet<V>(CollectionUtils.union(g.getNeighbors(u), g.getNeighbors(v)));
-				neighbors.remove(u);
-				neighbors.remove(v);
 				if (g.isSuccessor(v,u) && g.isSuccessor(u,v)) {
 					triType = 3;
 				} else {
 					triType = 2;
 				}
-				count[triType] += g.getVertexCount() - neighbors.size() - 2;
-				for (V w : neighbors) {
-					if (shouldCount(g, id, u, v, w)) {
-						count [ triType ( triCode(g, u, v, w) ) ] ++;
-					}
-				}
+				// count the triads formed with each vertex in the union 
+				// of the neighborhoods of u and v
+				counter.reset(u, v);
+				Graphs.visitNeighbors(g, u, counter);
+				counter.in_u = false;
+				Graphs.visitNeighbors(g, v, counter);
+				count[triType] += g.getVertexCount() - counter.union_size - 2;
 			}
 		}
 		int sum = 0;
@@ -193,4 +190,43 @@ public class TriadicCensus {
 			return true;
 		return false;
 	}
+
+	/**
+	 * Visits the neighbors of <code>u</code> and then those of <code>v</code>,
+	 * counting the triads that <code>u</code> and <code>v</code> form with 
+	 * each vertex <code>w</code> in the union of their neighborhoods; 
+	 * a neighbor of <code>v</code> which is also a neighbor of <code>u</code>
+	 * has already been counted.
+	 */
+	private static class TriadCounter<V,E> implements ElementVisitor<V> {
+		private final DirectedGraph<V,E> g;
+		private final List<V> id;
+		private final long[] count;
+		private V u;
+		private V v;
+		boolean in_u;
+		int union_size;
+
+		TriadCounter(DirectedGraph<V,E> g, List<V> id, long[] count) {
+			this.g = g;
+			this.id = id;
+			this.count = count;
+		}
+
+		void reset(V u, V v) {
+			this.u = u;
+			this.v = v;
+			this.in_u = true;
+			this.union_size = 0;
+		}
+
+		public boolean visit(V w) {
+			if (w.equals(u) || w.equals(v) || (!in_u && g.isNeighbor(u, w)))
+				return true;
+			union_size++;
+			if (shouldCount(g, id, u, v, w))
+				count [ triType ( triCode(g, u, v, w) ) ] ++;
+			return true;
+		}
+	}
 }
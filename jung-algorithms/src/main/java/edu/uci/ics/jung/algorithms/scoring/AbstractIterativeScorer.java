@@ -318,6 +318,27 @@ public abstract class AbstractIterativeScorer<V,E,T> implements IterativeContext
     {
         return edge_weights.transform(new VEPair<V,E>(v,e));
     }
+
+    /**
+     * Returns the edge weight for <code>e</code> in the context of <code>v</code>
+     * as a primitive <code>double</code>.  If the edge weights were specified as 
+     * a <code>Transformer</code> on edges (for instance an 
+     * <code>EdgeWeightColumn</code>), this neither creates a <code>VEPair</code> 
+     * nor (for an <code>EdgeWeight</code>) boxes the weight; otherwise it is 
+     * equivalent to <code>getEdgeWeight(v, e).doubleValue()</code>.
+     * Subclasses which override <code>getEdgeWeight</code> should override
+     * this method as well.
+     * @param v the vertex incident to e as a context in which the edge weight is to be calculated
+     * @param e the edge whose weight is to be returned
+     * @see edu.uci.ics.jung.algorithms.util.EdgeWeight
+     */
+    @SuppressWarnings("unchecked")
+    protected double getEdgeWeightValue(V v, E e)
+    {
+        if (edge_weights instanceof DelegateToEdgeTransformer)
+            return ((DelegateToEdgeTransformer<V,E>)edge_weights).getWeight(e);
+        return getEdgeWeight(v, e).doubleValue();
+    }
     
     /**
      * Collects the 'potential' from v (its current value) if it has no outgoing edges; this
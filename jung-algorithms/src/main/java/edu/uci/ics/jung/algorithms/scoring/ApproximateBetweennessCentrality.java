@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.IndexedDaryHeap;
+import edu.uci.ics.jung.algorithms.util.EdgeWeightColumn;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.algorithms.util.WorkerPool;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+
+/**
+ * Estimates betweenness centrality for each vertex and edge in the graph
+ * from the single-source passes of Brandes' algorithm for a random sample
+ * of source vertices (pivots), rather than for every vertex.
+ *
+ * <p>Pivots are drawn independently, with replacement, either uniformly or
+ * with probability proportional to one more than their (out-)degree.  The
+ * contribution of a pivot <code>s</code> to the score of each vertex and
+ * edge is divided by the probability of drawing <code>s</code>, and the
+ * estimated score is the mean of these contributions over the sample; the
+ * estimate is thus unbiased.  The error reported for each score is the
+ * standard error of this mean, estimated from the sample variance of the
+ * contributions.
+ *
+ * <p><code>evaluate</code> draws a fixed number of pivots;
+ * <code>evaluateUntilStable</code> draws pivots in batches until the set of
+ * the highest-scoring vertices stops changing.  Scores are zero until one
+ * of these has been called.  The passes for the pivots are run on several
+ * threads, as in <code>ParallelBetweennessCentrality</code>.
+ *
+ * @see BetweennessCentrality
+ * @see ParallelBetweennessCentrality
+ * @see "Ulrik Brandes and Christian Pich: Centrality Estimation in Large Networks. International Journal of Bifurcation and Chaos 17(7):2303-2318, 2007."
+ */
+public class ApproximateBetweennessCentrality<V,E>
+    implements VertexScorer<V, Double>, EdgeScorer<E, Double>
+{
+    /**
+     * The ways in which pivots may be drawn.
+     */
+    public enum Sampling
+    {
+        /** each vertex is equally likely to be drawn */
+        UNIFORM,
+        /** vertices are drawn with probability proportional to one more than their (out-)degree */
+        DEGREE
+    }
+
+    protected Graph<V,E> graph;
+    protected IndexedGraph<V,E> indexed_graph;
+    protected double[] weights;             // null if unweighted
+    protected Sampling sampling = Sampling.UNIFORM;
+    protected int threads = Runtime.getRuntime().availableProcessors();
+    protected Random random = new Random();
+
+    protected int sample_count;
+    protected double[] vertex_scores;
+    protected double[] edge_scores;
+    protected double[] vertex_errors;
+    protected double[] edge_errors;
+
+    private List<BrandesWorker> workers;
+    private ExecutorService executor;       // kept across batches and evaluations
+    private int executor_threads;
+
+    /**
+     * Creates an instance which estimates betweenness scores based on the
+     * unweighted shortest paths in the graph.
+     * @param graph the graph for which the scores are to be estimated
+     */
+    public ApproximateBetweennessCentrality(Graph<V,E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Creates an instance which estimates betweenness scores based on the
+     * weighted shortest paths in the graph.
+     * @param graph the graph for which the scores are to be estimated
+     * @param edge_weights the edge weights to be used in the path length
+     * calculations, or <code>null</code> if the graph is unweighted
+     */
+    public ApproximateBetweennessCentrality(Graph<V,E> graph,
+        Transformer<E, ? extends Number> edge_weights)
+    {
+        this.graph = graph;
+        this.indexed_graph = Indexer.createIndexedGraph(graph);
+        this.weights = EdgeWeightColumn.getNonNegativeWeights(indexed_graph, edge_weights);
+        IntGraph int_graph = indexed_graph.getIntGraph();
+        vertex_scores = new double[int_graph.getVertexCount()];
+        edge_scores = new double[int_graph.getEdgeCount()];
+        vertex_errors = new double[int_graph.getVertexCount()];
+        edge_errors = new double[int_graph.getEdgeCount()];
+    }
+
+    /**
+     * Specifies how pivots are to be drawn; the default is
+     * <code>Sampling.UNIFORM</code>.
+     */
+    public void setSampling(Sampling sampling)
+    {
+        if (sampling == null)
+            throw new IllegalArgumentException("sampling must not be null");
+        this.sampling = sampling;
+    }
+
+    /**
+     * Returns the way in which pivots are drawn.
+     */
+    public Sampling getSampling()
+    {
+        return sampling;
+    }
+
+    /**
+     * Sets the seed of the random number generator used to draw pivots,
+     * so that later evaluations may be repeated.
+     */
+    public void setSeed(long seed)
+    {
+        random = new Random(seed);
+    }
+
+    /**
+     * Sets the number of threads used for the single-source passes; the
+     * default is the number of available processors.
+     */
+    public void setThreads(int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("number of threads must be positive: " + threads);
+        this.threads = threads;
+    }
+
+    /**
+     * Estimates the scores from <code>samples</code> pivots, discarding any
+     * earlier estimates.
+     */
+    public void evaluate(int samples)
+    {
+        if (samples < 1)
+            throw new IllegalArgumentException("number of samples must be positive: " + samples);
+        initialize();
+        sample(samples);
+    }
+
+    /**
+     * Estimates the scores from pivots drawn <code>batch_size</code> at a
+     * time, until the set of the <code>top_k</code> highest-scoring vertices
+     * is the same after <code>stable_batches</code> consecutive batches as
+     * it was before them, or until <code>max_samples</code> pivots have been
+     * drawn.  Earlier estimates are discarded.
+     * @return the number of pivots drawn
+     */
+    public int evaluateUntilStable(int top_k, int batch_size, int stable_batches, int max_samples)
+    {
+        if (top_k < 1)
+            throw new IllegalArgumentException("top_k must be positive: " + top_k);
+        if (batch_size < 1)
+            throw new IllegalArgumentException("batch size must be positive: " + batch_size);
+        if (stable_batches < 1)
+            throw new IllegalArgumentException("number of stable batches must be positive: " + stable_batches);
+        if (max_samples < 1)
+            throw new IllegalArgumentException("maximum number of samples must be positive: " + max_samples);
+        initialize();
+        boolean[] top = null;
+        int unchanged = 0;
+        while (sample_count < max_samples && unchanged < stable_batches)
+        {
+            sample(Math.min(batch_size, max_samples - sample_count));
+            boolean[] new_top = getTopVertices(top_k);
+            if (Arrays.equals(top, new_top))
+                unchanged++;
+            else
+                unchanged = 0;
+            top = new_top;
+        }
+        return sample_count;
+    }
+
+    /**
+     * Returns the number of pivots from which the current estimates were
+     * computed.
+     */
+    public int getSampleCount()
+    {
+        return sample_count;
+    }
+
+    public Double getVertexScore(V v)
+    {
+        int index = indexed_graph.getVertexIndex(v);
+        return index < 0 ? null : vertex_scores[index];
+    }
+
+    public Double getEdgeScore(E e)
+    {
+        int index = indexed_graph.getEdgeIndex(e);
+        return index < 0 ? null : edge_scores[index];
+    }
+
+    /**
+     * Returns the estimated standard error of the score of <code>v</code>,
+     * or <code>NaN</code> if fewer than two pivots have been drawn.
+     */
+    public Double getVertexError(V v)
+    {
+        int index = indexed_graph.getVertexIndex(v);
+        return index < 0 ? null : vertex_errors[index];
+    }
+
+    /**
+     * Returns the estimated standard error of the score of <code>e</code>,
+     * or <code>NaN</code> if fewer than two pivots have been drawn.
+     */
+    public Double getEdgeError(E e)
+    {
+        int index = indexed_graph.getEdgeIndex(e);
+        return index < 0 ? null : edge_errors[index];
+    }
+
+    private void initialize()
+    {
+        IntGraph int_graph = indexed_graph.getIntGraph();
+        int count = Math.max(1, Math.min(threads, int_graph.getVertexCount()));
+        workers = new ArrayList<BrandesWorker>(count);
+        for (int i = 0; i < count; i++)
+            workers.add(new BrandesWorker(int_graph, weights, true));
+        if (count > 1 && (executor == null || executor_threads < count))
+        {
+            executor = WorkerPool.create(count);
+            executor_threads = count;
+        }
+        sample_count = 0;
+        Arrays.fill(vertex_scores, 0);
+        Arrays.fill(edge_scores, 0);
+        Arrays.fill(vertex_errors, Double.NaN);
+        Arrays.fill(edge_errors, Double.NaN);
+    }
+
+    /**
+     * Draws <code>samples</code> more pivots, runs their single-source
+     * passes and updates the estimates.
+     */
+    private void sample(int samples)
+    {
+        IntGraph int_graph = indexed_graph.getIntGraph();
+        int n = int_graph.getVertexCount();
+        if (n == 0)
+            return;
+        int[] sources = new int[samples];
+        double[] scales = new double[samples];
+        if (sampling == Sampling.UNIFORM)
+        {
+            for (int i = 0; i < samples; i++)
+            {
+                sources[i] = random.nextInt(n);
+                scales[i] = n;
+            }
+        }
+        else
+        {
+            double[] cumulative = new double[n];
+            double total = 0;
+            for (int v = 0; v < n; v++)
+            {
+                total += int_graph.outDegree(v) + 1;
+                cumulative[v] = total;
+            }
+            for (int i = 0; i < samples; i++)
+            {
+                int s = draw(cumulative, random.nextDouble() * total);
+                sources[i] = s;
+                scales[i] = total / (int_graph.outDegree(s) + 1);
+            }
+        }
+        AtomicInteger next_source = new AtomicInteger();
+        for (BrandesWorker worker : workers)
+            worker.assign(sources, scales, next_source);
+        BrandesWorker.run(executor, workers);
+        sample_count += samples;
+        estimate(vertex_scores, vertex_errors, true);
+        estimate(edge_scores, edge_errors, false);
+    }
+
+    /**
+     * Returns the first index whose cumulative weight exceeds <code>x</code>.
+     */
+    private int draw(double[] cumulative, double x)
+    {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > x)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        return low;
+    }
+
+    /**
+     * Computes the mean contributions, and their standard errors, from the
+     * sums (and sums of squares) of the contributions held by the workers.
+     */
+    private void estimate(double[] scores, double[] errors, boolean vertices)
+    {
+        double k = sample_count;
+        double factor = graph instanceof UndirectedGraph ? 2.0 : 1.0;
+        for (int i = 0; i < scores.length; i++)
+        {
+            double sum = 0;
+            double squares = 0;
+            for (BrandesWorker worker : workers)
+            {
+                sum += vertices ? worker.vertex_scores[i] : worker.edge_scores[i];
+                squares += vertices ? worker.vertex_squares[i] : worker.edge_squares[i];
+            }
+            double mean = sum / k;
+            scores[i] = mean / factor;
+            if (sample_count > 1)
+            {
+                double variance = Math.max(0, (squares - sum * mean) / (k - 1));
+                errors[i] = Math.sqrt(variance / k) / factor;
+            }
+        }
+    }
+
+    /**
+     * Returns the membership, by vertex index, of the set of the
+     * <code>top_k</code> highest-scoring vertices (ties broken arbitrarily).
+     */
+    private boolean[] getTopVertices(int top_k)
+    {
+        IndexedDaryHeap lowest = new IndexedDaryHeap(vertex_scores.length);
+        for (int v = 0; v < vertex_scores.length; v++)
+        {
+            if (lowest.size() < top_k)
+                lowest.add(v, vertex_scores[v]);
+            else if (vertex_scores[v] > lowest.peekPriority())
+            {
+                lowest.poll();
+                lowest.add(v, vertex_scores[v]);
+            }
+        }
+        boolean[] top = new boolean[vertex_scores.length];
+        while (!lowest.isEmpty())
+            top[lowest.poll()] = true;
+        return top;
+    }
+}
@@ -11,20 +11,26 @@
  */
 package edu.uci.ics.jung.algorithms.scoring;
 
+import java.util.AbstractQueue;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Stack;
 
 import org.apache.commons.collections15.Transformer;
 import org.apache.commons.collections15.functors.ConstantTransformer;
 
-import edu.uci.ics.jung.algorithms.util.MapBinaryHeap;
+import edu.uci.ics.jung.algorithms.util.EdgeWeight;
+import edu.uci.ics.jung.algorithms.util.EdgeWeights;
+import edu.uci.ics.jung.algorithms.util.IndexedDaryHeap;
+import edu.uci.ics.jung.algorithms.util.UpdatableQueue;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
 import edu.uci.ics.jung.graph.UndirectedGraph;
 
 /**
@@ -65,17 +71,17 @@ public class BetweennessCentrality<V, E>
 			Transformer<E, ? extends Number> edge_weights) 
 	{
 		// reject negative-weight edges up front
+		EdgeWeight<E> weights = EdgeWeights.adapt(edge_weights);
 		for (E e : graph.getEdges())
 		{
-			double e_weight = edge_weights.transform(e).doubleValue();
+			double e_weight = weights.getWeight(e);
         	if (e_weight < 0)
         		throw new IllegalArgumentException(String.format(
         				"Weight for edge '%s' is < 0: %d", e, e_weight)); 
 		}
 			
 		initialize(graph);
-		computeBetweenness(new MapBinaryHeap<V>(new BetweennessComparator()), 
-			edge_weights);
+		computeBetweenness(new DistanceQueue(), edge_weights);
 	}
 
 	protected void initialize(Graph<V,E> graph)
@@ -95,6 +101,7 @@ public class BetweennessCentrality<V, E>
 	protected void computeBetweenness(Queue<V> queue, 
 			Transformer<E, ? extends Number> edge_weights)
 	{
+		EdgeWeight<E> weights = EdgeWeights.adapt(edge_weights);
 		for (V v : graph.getVertices())
 		{
 			// initialize the betweenness data for this new vertex
@@ -125,7 +132,7 @@ public class BetweennessCentrality<V, E>
                 	V x = graph.getOpposite(w, e);
                 	if (x.equals(w))
                 		continue;
-                	double wx_weight = edge_weights.transform(e).doubleValue();
+                	double wx_weight = weights.getWeight(e);
                 	
                 	
 //                for(V x : graph.getSuccessors(w)) 
@@ -172,8 +179,9 @@ public class BetweennessCentrality<V, E>
                     	// invalidate previously identified incoming edges
                     	// (we have a new shortest path distance to x)
                     	x_data.incomingEdges.clear(); 
+                    	x_data.numSPs = 0;
                         // update x's position in queue
-                    	((MapBinaryHeap<V>)queue).update(x);
+                    	((UpdatableQueue<V>)queue).update(x);
                     }
 //                  if (vertex_data.get(x).distance == vertex_data.get(w).distance + 1) 
                     // 
@@ -189,7 +197,7 @@ public class BetweennessCentrality<V, E>
                 	V x = graph.getOpposite(w, e);
                 	if (x.equals(w))
                 		continue;
-                	double e_weight = edge_weights.transform(e).doubleValue();
+                	double e_weight = weights.getWeight(e);
                 	BetweennessData x_data = vertex_data.get(x);
                 	double x_potential_dist = w_data.distance + e_weight;
                     if (x_data.distance == x_potential_dist) 
@@ -341,11 +349,107 @@ public class BetweennessCentrality<V, E>
         }
     }
     
-    private class BetweennessComparator implements Comparator<V>
+    /**
+     * A priority queue of vertices ordered by their current distance from 
+     * the source, which holds the vertices' indices in an 
+     * <code>IndexedDaryHeap</code>.  The indices are those of the graph if 
+     * it is an <code>IndexedGraph</code>, and are otherwise assigned when 
+     * the queue is created.
+     */
+    private class DistanceQueue extends AbstractQueue<V> implements UpdatableQueue<V>
     {
-		public int compare(V v1, V v2) 
-		{
-			return vertex_data.get(v1).distance > vertex_data.get(v2).distance ? 1 : -1;
-		}
+        private IndexedDaryHeap heap;
+        private IndexedGraph<V,E> indexed_graph;
+        private Map<V,Integer> indices;
+        private List<V> vertices;
+
+        @SuppressWarnings("unchecked")
+        DistanceQueue()
+        {
+            heap = new IndexedDaryHeap(graph.getVertexCount());
+            if (graph instanceof IndexedGraph)
+                indexed_graph = (IndexedGraph<V,E>)graph;
+            else
+            {
+                indices = new HashMap<V,Integer>();
+                vertices = new ArrayList<V>(graph.getVertices());
+                for (int i = 0; i < vertices.size(); i++)
+                    indices.put(vertices.get(i), i);
+            }
+        }
+
+        private int indexOf(V v)
+        {
+            return indexed_graph != null ? indexed_graph.getVertexIndex(v) : indices.get(v);
+        }
+
+        private V vertexOf(int index)
+        {
+            return indexed_graph != null ? indexed_graph.getVertex(index) : vertices.get(index);
+        }
+
+        public boolean offer(V v)
+        {
+            heap.add(indexOf(v), vertex_data.get(v).distance);
+            return true;
+        }
+
+        public V poll()
+        {
+            if (heap.isEmpty())
+                return null;
+            return vertexOf(heap.poll());
+        }
+
+        public V peek()
+        {
+            if (heap.isEmpty())
+                return null;
+            return vertexOf(heap.peek());
+        }
+
+        /**
+         * Repositions <code>v</code> according to its current distance.
+         */
+        public void update(V v)
+        {
+            heap.update(indexOf(v), vertex_data.get(v).distance);
+        }
+
+        @Override
+        public int size()
+        {
+            return heap.size();
+        }
+
+        /**
+         * Returns an <code>Iterator</code>, in no particular order, that does 
+         * not support modification of the queue.
+         */
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new Iterator<V>()
+            {
+                private int position = 0;
+
+                public boolean hasNext()
+                {
+                    return position < heap.size();
+                }
+
+                public V next()
+                {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    return vertexOf(heap.get(position++));
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
     }
 }
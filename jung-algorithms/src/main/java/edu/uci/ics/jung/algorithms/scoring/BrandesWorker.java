@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import edu.uci.ics.jung.algorithms.util.IndexedDaryHeap;
+import edu.uci.ics.jung.algorithms.util.WorkerPool;
+import edu.uci.ics.jung.graph.IntGraph;
+
+/**
+ * Runs single-source passes of Brandes' betweenness algorithm for the
+ * sources that it takes from a shared counter, accumulating their
+ * contributions to the vertex and edge scores.  Its arrays are reused
+ * from one source to the next, and from one set of sources to the next.
+ *
+ * <p>Algorithms in other packages may extend this class to ignore some
+ * edges, or to do more for each source (see <code>process</code>).
+ *
+ * @see ParallelBetweennessCentrality
+ * @see ApproximateBetweennessCentrality
+ * @see edu.uci.ics.jung.algorithms.cluster.EdgeBetweennessRemovals
+ */
+public class BrandesWorker implements Callable<Void>
+{
+    private final IntGraph graph;
+    private final double[] weights;         // null if unweighted
+    private final boolean[] removed;        // edges to ignore; null if none
+    private int[] sources;                  // null for all vertices
+    private double[] scales;                // null if all contributions count once
+    private AtomicInteger next_source;
+
+    private final double[] distance;
+    private final double[] path_count;
+    private final double[] dependency;
+    private final int[][] incoming;         // predecessor edges on shortest paths
+    private final int[] incoming_count;
+    private final int[] order;              // vertices in the order in which they were settled
+    private final int[] queue;              // for unweighted graphs
+    private final IndexedDaryHeap heap;     // for weighted graphs
+
+    protected final double[] vertex_scores;
+    protected final double[] edge_scores;
+    protected final double[] vertex_squares;    // sums of squared contributions, if requested
+    protected final double[] edge_squares;
+
+    /**
+     * Creates a worker for the specified graph and edge weights (or
+     * <code>null</code> if the graph is unweighted), which also sums the
+     * squares of the contributions if <code>squares</code> is
+     * <code>true</code>.
+     */
+    BrandesWorker(IntGraph graph, double[] weights, boolean squares)
+    {
+        this(graph, weights, squares, null);
+    }
+
+    /**
+     * Creates a worker as above, whose traversals ignore each edge
+     * <code>e</code> for which <code>removed[e]</code> is <code>true</code>
+     * (if <code>removed</code> is not <code>null</code>).  The contents of
+     * <code>removed</code> may change between calls, but not during one.
+     */
+    protected BrandesWorker(IntGraph graph, double[] weights, boolean squares, boolean[] removed)
+    {
+        this.graph = graph;
+        this.weights = weights;
+        this.removed = removed;
+        int n = graph.getVertexCount();
+        distance = new double[n];
+        path_count = new double[n];
+        dependency = new double[n];
+        incoming = new int[n][];
+        incoming_count = new int[n];
+        order = new int[n];
+        queue = weights == null ? new int[n] : null;
+        heap = weights == null ? null : new IndexedDaryHeap(n);
+        Arrays.fill(distance, -1);
+        vertex_scores = new double[n];
+        edge_scores = new double[graph.getEdgeCount()];
+        vertex_squares = squares ? new double[n] : null;
+        edge_squares = squares ? new double[graph.getEdgeCount()] : null;
+    }
+
+    /**
+     * Specifies the sources to be processed by the next call: the vertices
+     * <code>sources[i]</code> (or every vertex, if <code>sources</code> is
+     * <code>null</code>), for values of <code>i</code> taken from
+     * <code>next_source</code>, whose contributions are multiplied by
+     * <code>scales[i]</code> (or by 1, if <code>scales</code> is
+     * <code>null</code>).
+     */
+    protected void assign(int[] sources, double[] scales, AtomicInteger next_source)
+    {
+        this.sources = sources;
+        this.scales = scales;
+        this.next_source = next_source;
+    }
+
+    public Void call()
+    {
+        int count = sources == null ? graph.getVertexCount() : sources.length;
+        int i;
+        while ((i = next_source.getAndIncrement()) < count)
+        {
+            int s = sources == null ? i : sources[i];
+            process(s, scales == null ? 1 : scales[i]);
+        }
+        return null;
+    }
+
+    /**
+     * Adds the contributions of source <code>s</code>, multiplied by
+     * <code>scale</code>, to the scores.
+     */
+    protected void process(int s, double scale)
+    {
+        accumulate(s, traverse(s, -1), scale);
+    }
+
+    /**
+     * Runs <code>workers</code> on <code>executor</code>, unless there is
+     * only one, in which case it is run by the calling thread, and waits
+     * for them to finish.
+     */
+    static void run(ExecutorService executor, List<BrandesWorker> workers)
+    {
+        if (workers.size() == 1)
+            workers.get(0).call();
+        else
+            WorkerPool.invokeAll(executor, workers);
+    }
+
+    /**
+     * Finds the shortest paths from <code>s</code> that do not use removed
+     * edges or <code>excluded</code> (if not -1), and returns the number of
+     * vertices reached, which must then be passed to <code>accumulate</code>.
+     */
+    protected int traverse(int s, int excluded)
+    {
+        int settled = 0;
+        int head = 0;
+        int tail = 0;
+        distance[s] = 0;
+        path_count[s] = 1;
+        if (weights == null)
+            queue[tail++] = s;
+        else
+            heap.add(s, 0);
+        while (weights == null ? head < tail : !heap.isEmpty())
+        {
+            int w = weights == null ? queue[head++] : heap.poll();
+            order[settled++] = w;
+            double w_distance = distance[w];
+            int degree = graph.outDegree(w);
+            for (int i = 0; i < degree; i++)
+            {
+                int e = graph.getOutEdge(w, i);
+                if (e == excluded || (removed != null && removed[e]))
+                    continue;
+                int x = graph.getOpposite(w, e);
+                if (x == w)
+                    continue;
+                double x_potential_dist = w_distance + weight(e);
+                if (distance[x] < 0)
+                {
+                    distance[x] = x_potential_dist;
+                    if (weights == null)
+                        queue[tail++] = x;
+                    else
+                        heap.add(x, x_potential_dist);
+                }
+                if (distance[x] > x_potential_dist)
+                {
+                    // a shorter path to x: discard the longer ones
+                    distance[x] = x_potential_dist;
+                    incoming_count[x] = 0;
+                    path_count[x] = 0;
+                    heap.update(x, x_potential_dist);
+                }
+            }
+            for (int i = 0; i < degree; i++)
+            {
+                int e = graph.getOutEdge(w, i);
+                if (e == excluded || (removed != null && removed[e]))
+                    continue;
+                int x = graph.getOpposite(w, e);
+                if (x == w)
+                    continue;
+                if (distance[x] == w_distance + weight(e))
+                {
+                    path_count[x] += path_count[w];
+                    addIncoming(x, e);
+                }
+            }
+        }
+        return settled;
+    }
+
+    /**
+     * Accumulates the dependencies of <code>s</code> on the vertices and
+     * edges, multiplied by <code>scale</code>, in reverse order of distance,
+     * and resets the state of the vertices reached.
+     */
+    protected void accumulate(int s, int settled, double scale)
+    {
+        for (int k = settled - 1; k >= 0; k--)
+        {
+            int x = order[k];
+            int[] x_incoming = incoming[x];
+            for (int j = 0; j < incoming_count[x]; j++)
+            {
+                int e = x_incoming[j];
+                int w = graph.getOpposite(x, e);
+                double partialDependency =
+                    path_count[w] / path_count[x] * (1.0 + dependency[x]);
+                dependency[w] += partialDependency;
+                edge_scores[e] += scale * partialDependency;
+                if (edge_squares != null)
+                    edge_squares[e] += (scale * partialDependency) * (scale * partialDependency);
+            }
+            if (x != s)
+            {
+                vertex_scores[x] += scale * dependency[x];
+                if (vertex_squares != null)
+                    vertex_squares[x] += (scale * dependency[x]) * (scale * dependency[x]);
+            }
+        }
+        for (int k = 0; k < settled; k++)
+        {
+            int x = order[k];
+            distance[x] = -1;
+            path_count[x] = 0;
+            dependency[x] = 0;
+            incoming_count[x] = 0;
+        }
+    }
+
+    /**
+     * Copies into <code>edges</code> the edges which lie on the shortest
+     * paths found by the last call to <code>traverse</code>, which reached
+     * <code>settled</code> vertices, and returns their number.  Must be
+     * called before <code>accumulate</code>.
+     */
+    protected int getPathEdges(int settled, int[] edges)
+    {
+        int count = 0;
+        for (int k = 0; k < settled; k++)
+        {
+            int x = order[k];
+            if (incoming_count[x] > 0)
+                System.arraycopy(incoming[x], 0, edges, count, incoming_count[x]);
+            count += incoming_count[x];
+        }
+        return count;
+    }
+
+    private double weight(int e)
+    {
+        return weights == null ? 1 : weights[e];
+    }
+
+    private void addIncoming(int x, int e)
+    {
+        int[] x_incoming = incoming[x];
+        int count = incoming_count[x];
+        if (x_incoming == null || count == x_incoming.length)
+        {
+            int[] grown = new int[count == 0 ? 2 : count * 2];
+            if (count > 0)
+                System.arraycopy(x_incoming, 0, grown, 0, count);
+            incoming[x] = x_incoming = grown;
+        }
+        x_incoming[count] = e;
+        incoming_count[x] = count + 1;
+    }
+}
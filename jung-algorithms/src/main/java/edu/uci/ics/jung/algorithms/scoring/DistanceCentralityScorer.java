@@ -18,6 +18,7 @@ import org.apache.commons.collections15.Transformer;
 
 import edu.uci.ics.jung.algorithms.shortestpath.DijkstraDistance;
 import edu.uci.ics.jung.algorithms.shortestpath.Distance;
+import edu.uci.ics.jung.algorithms.shortestpath.DistanceMatrix;
 import edu.uci.ics.jung.algorithms.shortestpath.UnweightedShortestPath;
 import edu.uci.ics.jung.graph.Hypergraph;
 
@@ -33,6 +34,11 @@ import edu.uci.ics.jung.graph.Hypergraph;
  * v to all other vertices); this is sometimes referred to as <i>barycenter centrality</i>.
  * (If the average/total distance is 0, the value returned is {@code Double.POSITIVE_INFINITY}.)
  * 
+ * <p>The distances between all pairs of vertices of a <code>Graph</code> may be computed 
+ * up front by passing a <code>DistanceMatrix</code> for it, which is worthwhile if most 
+ * vertices will be scored and the matrix fits in memory; scores are then computed from 
+ * its rows directly.
+ * 
  * @see BarycenterScorer
  * @see ClosenessCentrality
  */
@@ -201,6 +207,18 @@ public class DistanceCentralityScorer<V,E> implements VertexScorer<V, Double>
 	        return value;
 	    }
 	    
+	    if (distance instanceof DistanceMatrix && ((DistanceMatrix<V,?>)distance).getGraph() == graph)
+	    {
+	        DistanceMatrix<V,?> matrix = (DistanceMatrix<V,?>)distance;
+	        int index = matrix.getIndexedGraph().getVertexIndex(v);
+	        if (index >= 0)
+	        {
+	            double score = getMatrixScore(matrix, index);
+	            output.put(v, score);
+	            return score < 0 ? null : score;
+	        }
+	    }
+	    
 	    Map<V, Number> v_distances = new HashMap<V, Number>(distance.getDistanceMap(v));
 	    if (ignore_self_distances)
 	        v_distances.remove(v);
@@ -246,4 +264,33 @@ public class DistanceCentralityScorer<V,E> implements VertexScorer<V, Double>
 		   
 		return score;
 	}
+
+	/**
+	 * Calculates the score for the vertex with the specified index from its row of 
+	 * <code>matrix</code>; returns -1 if there are missing distances and such are not 
+	 * ignored by this instance.
+	 */
+	private double getMatrixScore(DistanceMatrix<V,?> matrix, int index)
+	{
+	    int n = matrix.getIndexedGraph().getIntGraph().getVertexCount();
+	    double sum = 0;
+	    int count = 0;
+	    for (int t = 0; t < n; t++)
+	    {
+	        if (t == index && ignore_self_distances)
+	            continue;
+	        double d = matrix.getIndexedDistance(index, t);
+	        if (d == Double.POSITIVE_INFINITY)
+	        {
+	            if (ignore_missing)
+	                continue;
+	            return -1;
+	        }
+	        sum += d;
+	        count++;
+	    }
+	    if (averaging)
+	        sum /= count;
+	    return sum == 0 ? Double.POSITIVE_INFINITY : 1.0 / sum;
+	}
 }
@@ -81,7 +81,7 @@ public class HITSWithPriors<V, E>
         	{
         		if (!w.equals(v) || hyperedges_are_self_loops) 
         			v_auth += (getCurrentValue(w).hub * 
-        					getEdgeWeight(w,e).doubleValue() / incident_count);
+        					getEdgeWeightValue(w,e) / incident_count);
         	}
 //            V w = graph.getOpposite(v, e);
 //            auth += (getCurrentValue(w).hub * getEdgeWeight(w, e).doubleValue());
@@ -95,7 +95,7 @@ public class HITSWithPriors<V, E>
         	{
         		if (!w.equals(v) || hyperedges_are_self_loops) 
         			v_hub += (getCurrentValue(w).authority * 
-        					getEdgeWeight(w,e).doubleValue() / incident_count);
+        					getEdgeWeightValue(w,e) / incident_count);
         	}
 //            V x = graph.getOpposite(v,e);
 //            hub += (getCurrentValue(x).authority * getEdgeWeight(x, e).doubleValue()); 
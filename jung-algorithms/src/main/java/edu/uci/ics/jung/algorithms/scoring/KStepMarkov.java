@@ -138,7 +138,7 @@ public class KStepMarkov<V,E> extends PageRankWithPriors<V,E>
         	{
         		if (!w.equals(v) || hyperedges_are_self_loops) 
         			v_input += (getCurrentValue(w) * 
-        					getEdgeWeight(w,e).doubleValue() / incident_count);
+        					getEdgeWeightValue(w,e) / incident_count);
         	}
         }
         
@@ -85,7 +85,7 @@ public class PageRankWithPriors<V, E>
         	{
         		if (!w.equals(v) || hyperedges_are_self_loops) 
         			v_input += (getCurrentValue(w) * 
-        					getEdgeWeight(w,e).doubleValue() / incident_count);
+        					getEdgeWeightValue(w,e) / incident_count);
         	}
         }
         
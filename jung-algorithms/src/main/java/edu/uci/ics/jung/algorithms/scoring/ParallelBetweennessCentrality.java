@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.EdgeWeightColumn;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.algorithms.util.WorkerPool;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+
+/**
+ * Computes betweenness centrality for each vertex and edge in the graph,
+ * as <code>BetweennessCentrality</code> does, running the single-source
+ * passes of Brandes' algorithm on several threads.
+ *
+ * <p>The graph is traversed through its <code>IntGraph</code> view (see
+ * <code>Indexer.createIndexedGraph</code>).  Each thread takes source
+ * vertices from a shared counter, keeps its distances, path counts,
+ * dependencies and predecessor edges in arrays which are reused from one
+ * source to the next, and accumulates scores in arrays of its own, which
+ * are summed when all sources have been processed.  The scores are thus
+ * those computed by <code>BetweennessCentrality</code>, up to floating-point
+ * rounding (which depends on the order in which the contributions of the
+ * sources are summed).
+ *
+ * <p>Memory used is proportional to the number of threads times the number
+ * of vertices and edges.
+ *
+ * @see BetweennessCentrality
+ * @see "Ulrik Brandes: A Faster Algorithm for Betweenness Centrality. Journal of Mathematical Sociology 25(2):163-177, 2001."
+ */
+public class ParallelBetweennessCentrality<V,E>
+    implements VertexScorer<V, Double>, EdgeScorer<E, Double>
+{
+    protected Graph<V,E> graph;
+    protected IndexedGraph<V,E> indexed_graph;
+    protected double[] vertex_scores;
+    protected double[] edge_scores;
+
+    /**
+     * Calculates betweenness scores based on the all-pairs unweighted shortest
+     * paths in the graph, using one thread for each available processor.
+     * @param graph the graph for which the scores are to be calculated
+     */
+    public ParallelBetweennessCentrality(Graph<V,E> graph)
+    {
+        this(graph, null, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Calculates betweenness scores based on the all-pairs weighted shortest
+     * paths in the graph, using one thread for each available processor.
+     * @param graph the graph for which the scores are to be calculated
+     * @param edge_weights the edge weights to be used in the path length calculations
+     */
+    public ParallelBetweennessCentrality(Graph<V,E> graph,
+        Transformer<E, ? extends Number> edge_weights)
+    {
+        this(graph, edge_weights, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Calculates betweenness scores based on the all-pairs shortest paths in
+     * the graph, using <code>threads</code> threads.
+     * @param graph the graph for which the scores are to be calculated
+     * @param edge_weights the edge weights to be used in the path length
+     * calculations, or <code>null</code> if the graph is unweighted
+     * @param threads the number of threads to use
+     */
+    public ParallelBetweennessCentrality(Graph<V,E> graph,
+        Transformer<E, ? extends Number> edge_weights, int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("number of threads must be positive: " + threads);
+        this.graph = graph;
+        this.indexed_graph = Indexer.createIndexedGraph(graph);
+        IntGraph int_graph = indexed_graph.getIntGraph();
+        double[] weights = EdgeWeightColumn.getNonNegativeWeights(indexed_graph, edge_weights);
+        computeBetweenness(int_graph, weights,
+            Math.max(1, Math.min(threads, int_graph.getVertexCount())));
+    }
+
+    protected void computeBetweenness(IntGraph int_graph, double[] weights, int threads)
+    {
+        AtomicInteger next_source = new AtomicInteger();
+        List<BrandesWorker> workers = new ArrayList<BrandesWorker>(threads);
+        for (int i = 0; i < threads; i++)
+        {
+            BrandesWorker worker = new BrandesWorker(int_graph, weights, false);
+            worker.assign(null, null, next_source);
+            workers.add(worker);
+        }
+        BrandesWorker.run(threads > 1 ? WorkerPool.create(threads) : null, workers);
+
+        vertex_scores = new double[int_graph.getVertexCount()];
+        edge_scores = new double[int_graph.getEdgeCount()];
+        for (BrandesWorker worker : workers)
+        {
+            for (int v = 0; v < vertex_scores.length; v++)
+                vertex_scores[v] += worker.vertex_scores[v];
+            for (int e = 0; e < edge_scores.length; e++)
+                edge_scores[e] += worker.edge_scores[e];
+        }
+        if (graph instanceof UndirectedGraph)
+        {
+            for (int v = 0; v < vertex_scores.length; v++)
+                vertex_scores[v] /= 2.0;
+            for (int e = 0; e < edge_scores.length; e++)
+                edge_scores[e] /= 2.0;
+        }
+    }
+
+    public Double getVertexScore(V v)
+    {
+        int index = indexed_graph.getVertexIndex(v);
+        return index < 0 ? null : vertex_scores[index];
+    }
+
+    public Double getEdgeScore(E e)
+    {
+        int index = indexed_graph.getEdgeIndex(e);
+        return index < 0 ? null : edge_scores[index];
+    }
+}
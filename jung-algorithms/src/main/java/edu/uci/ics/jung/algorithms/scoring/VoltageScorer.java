@@ -224,7 +224,7 @@ public class VoltageScorer<V, E> extends AbstractIterativeScorer<V, E, Double>
         	{
         		if (!w.equals(v) || hyperedges_are_self_loops) 
         		{
-        			double weight = getEdgeWeight(w,e).doubleValue() / incident_count;
+        			double weight = getEdgeWeightValue(w,e) / incident_count;
         			voltage_sum += getCurrentValue(w).doubleValue() * weight;
         			weight_sum += weight;
         		}
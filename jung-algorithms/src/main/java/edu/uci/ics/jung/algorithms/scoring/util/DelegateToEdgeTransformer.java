@@ -13,6 +13,9 @@ package edu.uci.ics.jung.algorithms.scoring.util;
 
 import org.apache.commons.collections15.Transformer;
 
+import edu.uci.ics.jung.algorithms.util.EdgeWeight;
+import edu.uci.ics.jung.algorithms.util.EdgeWeights;
+
 /**
  * A <code>Transformer<VEPair,Number></code> that delegates its operation to a
  * <code>Transformer<E,Number></code>.  Mainly useful for technical reasons inside 
@@ -27,6 +30,8 @@ public class DelegateToEdgeTransformer<V,E> implements
 	 * The transformer to which this instance delegates its function.
 	 */
     protected Transformer<E,? extends Number> delegate;
+
+    private EdgeWeight<E> weights;
     
     /**
      * Creates an instance with the specified delegate transformer.
@@ -35,6 +40,7 @@ public class DelegateToEdgeTransformer<V,E> implements
     public DelegateToEdgeTransformer(Transformer<E,? extends Number> delegate)
     {
         this.delegate = delegate;
+        this.weights = EdgeWeights.adapt(delegate);
     }
     
     /**
@@ -45,4 +51,13 @@ public class DelegateToEdgeTransformer<V,E> implements
         return delegate.transform(arg0.getE());
     }
 
+    /**
+     * Returns the weight of <code>e</code> as a primitive <code>double</code>,
+     * without boxing if the delegate is an <code>EdgeWeight</code>.
+     */
+    public double getWeight(E e)
+    {
+        return weights.getWeight(e);
+    }
+
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * Answers point-to-point shortest-path queries with the A* algorithm: a
+ * search from the source in which each vertex is queued by its distance
+ * from the source plus an estimate (supplied by a
+ * <code>DistanceHeuristic</code>) of its distance to the target, so that
+ * the search is directed towards the target.  The paths found are shortest
+ * paths if the estimates are admissible; vertices are reopened if a
+ * shorter path to them is found after they have been settled, so the
+ * estimates need not also be consistent.  A heuristic which always returns
+ * 0 makes this a search with Dijkstra's algorithm which stops at the
+ * target.
+ *
+ * @see DistanceHeuristic
+ * @see BidirectionalDijkstraShortestPath
+ * @see "Peter E. Hart, Nils J. Nilsson and Bertram Raphael: A Formal Basis for the Heuristic Determination of Minimum Cost Paths. IEEE Transactions on Systems Science and Cybernetics 4(2):100-107, 1968."
+ */
+public class AStarShortestPath<V,E> extends PointToPointShortestPath<V,E>
+{
+    protected DistanceHeuristic<V> heuristic;
+    private int target;
+
+    /**
+     * Creates an instance for the specified graph, edge weights (or
+     * <code>null</code> if the graph is unweighted) and heuristic.
+     */
+    public AStarShortestPath(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        DistanceHeuristic<V> heuristic)
+    {
+        super(graph, edge_weights);
+        if (heuristic == null)
+            throw new IllegalArgumentException("heuristic must not be null");
+        this.heuristic = heuristic;
+    }
+
+    @Override
+    protected double search(int s, int t)
+    {
+        target = t;
+        V target_vertex = indexed_graph.getVertex(t);
+        forward.reset();
+        forward.relax(s, 0, -1, estimate(s, target_vertex));
+        while (!forward.queue.isEmpty())
+        {
+            int v = forward.queue.poll();
+            if (v == t)
+                return forward.getDistance(t);
+            forward.settle(v);
+            settled_count++;
+            double v_distance = forward.getDistance(v);
+            int degree = int_graph.outDegree(v);
+            for (int i = 0; i < degree; i++)
+            {
+                int e = int_graph.getOutEdge(v, i);
+                int x = int_graph.getOpposite(v, e);
+                double d = v_distance + weight(e);
+                if (d < forward.getDistance(x))
+                    forward.relax(x, d, e, d + estimate(x, target_vertex));
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    protected int[] getPathEdges()
+    {
+        return getTreePath(forward, target);
+    }
+
+    private double estimate(int v, V target_vertex)
+    {
+        return Math.max(0, heuristic.getLowerBound(indexed_graph.getVertex(v), target_vertex));
+    }
+}
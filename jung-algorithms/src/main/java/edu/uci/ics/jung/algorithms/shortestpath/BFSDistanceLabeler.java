@@ -18,12 +18,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import edu.uci.ics.jung.algorithms.util.GraphChangeTracker;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.Versioned;
 
 /**
  * Labels each node in the graph according to the BFS distance from the start node(s). If nodes are unreachable, then
  * they are assigned a distance of -1.
  * All nodes traversed at step k are marked as predecessors of their successors traversed at step k+1.
+ * If the graph is an <code>IndexedGraph</code>, or a <code>Graph</code> which reports a modification
+ * version (see <code>Versioned</code>), the search is done over its <code>IntGraph</code> view
+ * (see <code>Indexer.createIndexedGraph</code>) by a <code>ParallelBreadthFirstSearch</code>;
+ * the view and the search are reused by later calls on the same graph until it is modified.
  * <p>
  * Running time is: O(m)
  * @author Scott White
@@ -35,13 +45,30 @@ public class BFSDistanceLabeler<V, E> {
     private Set<V> mUnvisitedVertices;
     private List<V> mVerticesInOrderVisited;
     private Map<V,HashSet<V>> mPredecessorMap;
+    private final int mThreads;
+    private Graph<V,E> mGraph;                  // the graph last searched by its view
+    private IndexedGraph<V,E> mIndexedGraph;
+    private ParallelBreadthFirstSearch mSearch;
+    private GraphChangeTracker<V,E> mTracker;
 
 	/**
 	 * Creates a new BFS labeler for the specified graph and root set
 	 * The distances are stored in the corresponding Vertex objects and are of type MutableInteger
 	 */
 	public BFSDistanceLabeler() {
+		this(1);
+	}
+
+	/**
+	 * Creates a new BFS labeler which will use up to <code>threads</code> threads 
+	 * for each search of a large graph (see <code>ParallelBreadthFirstSearch</code>);
+	 * the default constructor runs each search on the calling thread.
+	 */
+	public BFSDistanceLabeler(int threads) {
+		if (threads < 1)
+			throw new IllegalArgumentException("number of threads must be positive: " + threads);
 		mPredecessorMap = new HashMap<V,HashSet<V>>();
+		mThreads = threads;
 	}
 
     /**
@@ -92,7 +119,7 @@ public class BFSDistanceLabeler<V, E> {
 
         mCurrentList = new ArrayList<V>();
         for(V v : rootSet) {
-            distanceDecorator.put(v, new Integer(0));
+            distanceDecorator.put(v, Integer.valueOf(0));
             mCurrentList.add(v);
             mUnvisitedVertices.remove(v);
             mVerticesInOrderVisited.add(v);
@@ -114,6 +141,10 @@ public class BFSDistanceLabeler<V, E> {
     public void labelDistances(Hypergraph<V,E> graph, Set<V> rootSet) {
 
         initialize(graph,rootSet);
+        if (graph instanceof IndexedGraph || (graph instanceof Graph && graph instanceof Versioned)) {
+            labelDistances(getIndexedGraph((Graph<V,E>)graph), rootSet);
+            return;
+        }
 
         int distance = 1;
         while (true) {
@@ -131,7 +162,59 @@ public class BFSDistanceLabeler<V, E> {
         }
 
         for(V v : mUnvisitedVertices) {
-            distanceDecorator.put(v,new Integer(-1));
+            distanceDecorator.put(v,Integer.valueOf(-1));
+        }
+    }
+
+    /**
+     * Returns the view of <code>graph</code> (and sets <code>mSearch</code> to a search of it),
+     * reusing those of the previous call unless the graph differs or has been modified since.
+     */
+    private IndexedGraph<V,E> getIndexedGraph(Graph<V,E> graph) {
+        Set<V> changed = graph == mGraph ? mTracker.getChangedVertices() : null;
+        if (changed == null || !changed.isEmpty()) {
+            mIndexedGraph = Indexer.createIndexedGraph(graph);
+            mSearch = new ParallelBreadthFirstSearch(mIndexedGraph.getIntGraph(), mThreads);
+            mTracker = new GraphChangeTracker<V,E>(graph);
+            mGraph = graph;
+        }
+        return mIndexedGraph;
+    }
+
+    /**
+     * Labels the vertices by a search of the <code>IntGraph</code> view of the graph.
+     */
+    private void labelDistances(IndexedGraph<V,E> graph, Set<V> rootSet) {
+        IntGraph g = graph.getIntGraph();
+        int[] roots = new int[rootSet.size()];
+        int root_count = 0;
+        for (V v : rootSet) {
+            int index = graph.getVertexIndex(v);
+            if (index >= 0)
+                roots[root_count++] = index;
+        }
+        int[] sources = new int[root_count];
+        System.arraycopy(roots, 0, sources, 0, root_count);
+        ParallelBreadthFirstSearch search = mSearch;
+        search.search(sources);
+        int[] distance = search.getDistances();
+        int[] order = search.getOrder();
+        for (int i = 0; i < search.getReachedCount(); i++) {
+            int v = order[i];
+            if (distance[v] == 0)
+                continue;   // a root
+            V vertex = graph.getVertex(v);
+            distanceDecorator.put(vertex, distance[v]);
+            mVerticesInOrderVisited.add(vertex);
+            mUnvisitedVertices.remove(vertex);
+            for (int j = 0, degree = g.inDegree(v); j < degree; j++) {
+                int u = g.getOpposite(v, g.getInEdge(v, j));
+                if (distance[u] == distance[v] - 1)
+                    addPredecessor(graph.getVertex(u), vertex);
+            }
+        }
+        for(V v : mUnvisitedVertices) {
+            distanceDecorator.put(v,Integer.valueOf(-1));
         }
     }
 
@@ -147,7 +230,7 @@ public class BFSDistanceLabeler<V, E> {
 
     private void visitNewVertex(V predecessor, V neighbor, int distance, List<V> newList) {
         if (mUnvisitedVertices.contains(neighbor)) {
-            distanceDecorator.put(neighbor, new Integer(distance));
+            distanceDecorator.put(neighbor, Integer.valueOf(distance));
             newList.add(neighbor);
             mVerticesInOrderVisited.add(neighbor);
             mUnvisitedVertices.remove(neighbor);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * Answers point-to-point shortest-path queries by running Dijkstra's
+ * algorithm forward from the source and backward (along incoming edges)
+ * from the target at the same time, always advancing the search whose
+ * queue is smaller.  The shortest path found through any vertex reached by
+ * both searches is recorded, and the query ends as soon as the sum of the
+ * smallest tentative distances in the two queues is at least its length.
+ * On graphs of low dimension, such as road networks, the two searches
+ * together settle far fewer vertices than a search from the source to the
+ * target.
+ *
+ * @see DijkstraShortestPath
+ * @see AStarShortestPath
+ */
+public class BidirectionalDijkstraShortestPath<V,E> extends PointToPointShortestPath<V,E>
+{
+    private SearchSpace backward;
+    private int meeting;                    // the vertex through which the best path runs
+
+    /**
+     * Creates an instance for the specified unweighted graph (that is, one
+     * whose edges all have weight 1).
+     */
+    public BidirectionalDijkstraShortestPath(Graph<V,E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Creates an instance for the specified graph and edge weights, which
+     * must be non-negative.
+     */
+    public BidirectionalDijkstraShortestPath(Graph<V,E> graph,
+        Transformer<E, ? extends Number> edge_weights)
+    {
+        super(graph, edge_weights);
+    }
+
+    @Override
+    protected void indexed()
+    {
+        backward = new SearchSpace(int_graph.getVertexCount());
+    }
+
+    @Override
+    protected double search(int s, int t)
+    {
+        forward.reset();
+        backward.reset();
+        forward.relax(s, 0, -1, 0);
+        backward.relax(t, 0, -1, 0);
+        double best = s == t ? 0 : Double.POSITIVE_INFINITY;
+        meeting = s == t ? s : -1;
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty())
+        {
+            if (forward.queue.peekPriority() + backward.queue.peekPriority() >= best)
+                break;
+            boolean is_forward = forward.queue.size() <= backward.queue.size();
+            SearchSpace side = is_forward ? forward : backward;
+            SearchSpace other = is_forward ? backward : forward;
+            int v = side.queue.poll();
+            side.settle(v);
+            settled_count++;
+            double v_distance = side.getDistance(v);
+            int degree = is_forward ? int_graph.outDegree(v) : int_graph.inDegree(v);
+            for (int i = 0; i < degree; i++)
+            {
+                int e = is_forward ? int_graph.getOutEdge(v, i) : int_graph.getInEdge(v, i);
+                int x = int_graph.getOpposite(v, e);
+                double d = v_distance + weight(e);
+                if (side.relax(x, d, e, d) && other.isReached(x) && d + other.getDistance(x) < best)
+                {
+                    best = d + other.getDistance(x);
+                    meeting = x;
+                }
+            }
+        }
+        return best;
+    }
+
+    @Override
+    protected int[] getPathEdges()
+    {
+        int[] head = getTreePath(forward, meeting);
+        int[] tail = getTreePath(backward, meeting);
+        int[] path = new int[head.length + tail.length];
+        System.arraycopy(head, 0, path, 0, head.length);
+        for (int i = 0; i < tail.length; i++)
+            path[head.length + i] = tail[tail.length - 1 - i];
+        return path;
+    }
+}
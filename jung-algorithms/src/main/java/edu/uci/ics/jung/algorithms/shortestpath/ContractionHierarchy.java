@@ -0,0 +1,660 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.IndexedDaryHeap;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * Answers point-to-point shortest-path queries with a contraction
+ * hierarchy: an index, built once, which makes each query a small
+ * bidirectional search.
+ *
+ * <p>To build the index, the vertices are contracted one at a time, in an
+ * order chosen to keep the number of added edges small (the vertex whose
+ * contraction would add the fewest shortcuts, relative to the number of
+ * edges it would remove, goes first).  Contracting a vertex <code>v</code>
+ * adds a shortcut from <code>u</code> to <code>w</code>, for each path
+ * <code>u-v-w</code> between vertices not yet contracted, unless a local
+ * search finds a path from <code>u</code> to <code>w</code> which avoids
+ * <code>v</code> and is no longer.  A query searches forward from the
+ * source and backward from the target, in each case following only edges
+ * and shortcuts which lead to vertices contracted later; the shortest path
+ * is found through the vertex at which the searches meet, and its shortcuts
+ * are then expanded into the edges they stand for.
+ *
+ * <p>The index refers to vertices and edges by their indices (see
+ * <code>Indexer.createIndexedGraph</code>).  It may be saved, and loaded
+ * for a graph whose vertices and edges are the same and are returned in the
+ * same order by <code>getVertices()</code> and <code>getEdges()</code>.  If
+ * the graph reports a modification version (see <code>Versioned</code>),
+ * the index is rebuilt by the first query after the graph is modified.
+ *
+ * @see BidirectionalDijkstraShortestPath
+ * @see "Robert Geisberger, Peter Sanders, Dominik Schultes and Daniel Delling: Contraction Hierarchies: Faster and Simpler Hierarchical Routing in Road Networks. WEA 2008, LNCS 5038:319-333."
+ */
+public class ContractionHierarchy<V,E> extends PointToPointShortestPath<V,E>
+{
+    private static final int MAGIC = 0x4A434832;
+
+    /**
+     * The number of vertices that a search for a path which avoids a
+     * contracted vertex may settle before it gives up (and a shortcut,
+     * possibly unnecessary, is added).  The searches which estimate how many
+     * shortcuts a contraction would add use the smaller limit.
+     */
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    private static final int ESTIMATE_SETTLE_LIMIT = 20;
+
+    private boolean stale;              // true if the graph has been indexed again since the build
+    private int[] rank;                 // the order in which each vertex was contracted
+
+    // the edges and shortcuts ("arcs"); a shortcut stands for two shorter arcs
+    private int arc_count;
+    private int[] arc_from;
+    private int[] arc_to;
+    private double[] arc_weight;
+    private int[] arc_edge;             // the edge index, or -1 for a shortcut
+    private int[] arc_first;            // for a shortcut, the arc into the contracted vertex
+    private int[] arc_second;           // for a shortcut, the arc out of the contracted vertex
+
+    // the arcs leading up the hierarchy, grouped by vertex
+    private int[] up_start;             // arcs leaving each vertex to a later one
+    private int[] up_arcs;
+    private int[] down_start;           // arcs entering each vertex from a later one
+    private int[] down_arcs;
+
+    private SearchSpace backward;
+    private int meeting;
+
+    /**
+     * Builds a contraction hierarchy for the specified unweighted graph.
+     */
+    public ContractionHierarchy(Graph<V,E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Builds a contraction hierarchy for the specified graph and edge
+     * weights (or <code>null</code> if the graph is unweighted).
+     */
+    public ContractionHierarchy(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights)
+    {
+        super(graph, edge_weights);
+        build();
+    }
+
+    private ContractionHierarchy(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        DataInputStream in) throws IOException
+    {
+        super(graph, edge_weights);
+        read(in);
+    }
+
+    /**
+     * Loads a contraction hierarchy saved by <code>save</code> for the
+     * specified graph and edge weights, which must be those for which it was
+     * built.
+     * @throws IOException if the hierarchy cannot be read, or was not built
+     * for a graph with the same numbers of vertices and edges, and the same
+     * endpoints, types and weights for each edge
+     */
+    public static <V,E> ContractionHierarchy<V,E> load(InputStream in, Graph<V,E> graph,
+        Transformer<E, ? extends Number> edge_weights) throws IOException
+    {
+        return new ContractionHierarchy<V,E>(graph, edge_weights,
+            new DataInputStream(new BufferedInputStream(in)));
+    }
+
+    /**
+     * Writes this hierarchy to <code>out</code>, from which it may be read by
+     * <code>load</code>.  If the graph has been modified, the hierarchy is
+     * first rebuilt.  The stream is flushed but not closed.
+     */
+    public void save(OutputStream out) throws IOException
+    {
+        refresh();
+        if (stale)
+            build();
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(int_graph.getVertexCount());
+        data.writeInt(int_graph.getEdgeCount());
+        data.writeLong(getChecksum());
+        data.writeInt(arc_count);
+        for (int v = 0; v < rank.length; v++)
+            data.writeInt(rank[v]);
+        for (int a = 0; a < arc_count; a++)
+        {
+            data.writeInt(arc_from[a]);
+            data.writeInt(arc_to[a]);
+            data.writeDouble(arc_weight[a]);
+            data.writeInt(arc_edge[a]);
+            data.writeInt(arc_first[a]);
+            data.writeInt(arc_second[a]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Returns the number of shortcuts added to the graph's edges.
+     */
+    public int getShortcutCount()
+    {
+        int shortcuts = 0;
+        for (int a = 0; a < arc_count; a++)
+            if (arc_edge[a] < 0)
+                shortcuts++;
+        return shortcuts;
+    }
+
+    @Override
+    protected void indexed()
+    {
+        stale = true;
+        backward = new SearchSpace(int_graph.getVertexCount());
+    }
+
+    @Override
+    protected double search(int s, int t)
+    {
+        if (stale)
+            build();
+        forward.reset();
+        backward.reset();
+        forward.relax(s, 0, -1, 0);
+        backward.relax(t, 0, -1, 0);
+        double best = s == t ? 0 : Double.POSITIVE_INFINITY;
+        meeting = s;
+        while (true)
+        {
+            // each search can stop once its queue holds nothing closer than the best path
+            boolean forward_live = !forward.queue.isEmpty() && forward.queue.peekPriority() < best;
+            boolean backward_live = !backward.queue.isEmpty() && backward.queue.peekPriority() < best;
+            if (!forward_live && !backward_live)
+                break;
+            boolean is_forward = forward_live &&
+                (!backward_live || forward.queue.size() <= backward.queue.size());
+            SearchSpace side = is_forward ? forward : backward;
+            SearchSpace other = is_forward ? backward : forward;
+            int v = side.queue.poll();
+            side.settle(v);
+            settled_count++;
+            double v_distance = side.getDistance(v);
+            if (stalled(side, v, v_distance, is_forward))
+                continue;
+            int[] start = is_forward ? up_start : down_start;
+            int[] arcs = is_forward ? up_arcs : down_arcs;
+            for (int i = start[v]; i < start[v + 1]; i++)
+            {
+                int a = arcs[i];
+                int x = is_forward ? arc_to[a] : arc_from[a];
+                double d = v_distance + arc_weight[a];
+                if (side.relax(x, d, a, d) && other.isReached(x) && d + other.getDistance(x) < best)
+                {
+                    best = d + other.getDistance(x);
+                    meeting = x;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns <code>true</code> if the search has reached a vertex above
+     * <code>v</code> in the hierarchy from which there is a shorter path to
+     * <code>v</code> (going against the search's direction), in which case
+     * <code>v</code>'s distance is not its true distance and it need not be
+     * scanned.
+     */
+    private boolean stalled(SearchSpace side, int v, double v_distance, boolean is_forward)
+    {
+        int[] start = is_forward ? down_start : up_start;
+        int[] arcs = is_forward ? down_arcs : up_arcs;
+        for (int i = start[v]; i < start[v + 1]; i++)
+        {
+            int a = arcs[i];
+            int x = is_forward ? arc_from[a] : arc_to[a];
+            if (side.isReached(x) && side.getDistance(x) + arc_weight[a] < v_distance)
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected int[] getPathEdges()
+    {
+        // the arcs from the source up to the meeting vertex and down to the target
+        int count = 0;
+        for (int v = meeting; forward.getParentEdge(v) >= 0; v = arc_from[forward.getParentEdge(v)])
+            count++;
+        for (int v = meeting; backward.getParentEdge(v) >= 0; v = arc_to[backward.getParentEdge(v)])
+            count++;
+        int[] arcs = new int[count];
+        int i = 0;
+        for (int v = meeting; forward.getParentEdge(v) >= 0; v = arc_from[forward.getParentEdge(v)])
+            arcs[i++] = forward.getParentEdge(v);
+        for (int j = 0, k = i - 1; j < k; j++, k--)
+        {
+            int a = arcs[j];
+            arcs[j] = arcs[k];
+            arcs[k] = a;
+        }
+        for (int v = meeting; backward.getParentEdge(v) >= 0; v = arc_to[backward.getParentEdge(v)])
+            arcs[i++] = backward.getParentEdge(v);
+
+        // expand the shortcuts
+        int length = 0;
+        int[] stack = new int[16];
+        int[] path = new int[16];
+        for (int a : arcs)
+        {
+            int size = 0;
+            stack[size++] = a;
+            while (size > 0)
+            {
+                int b = stack[--size];
+                if (arc_edge[b] >= 0)
+                {
+                    if (length == path.length)
+                        path = grow(path, length);
+                    path[length++] = arc_edge[b];
+                    continue;
+                }
+                if (size + 2 > stack.length)
+                    stack = grow(stack, size);
+                stack[size++] = arc_second[b];
+                stack[size++] = arc_first[b];
+            }
+        }
+        int[] result = new int[length];
+        System.arraycopy(path, 0, result, 0, length);
+        return result;
+    }
+
+    /**
+     * Contracts the vertices in order, adding shortcuts, and groups the
+     * arcs by vertex for the queries.
+     */
+    private void build()
+    {
+        int n = int_graph.getVertexCount();
+        int m = int_graph.getEdgeCount();
+        arc_count = 0;
+        arc_from = new int[2 * m + 16];
+        arc_to = new int[arc_from.length];
+        arc_weight = new double[arc_from.length];
+        arc_edge = new int[arc_from.length];
+        arc_first = new int[arc_from.length];
+        arc_second = new int[arc_from.length];
+        Contraction contraction = new Contraction(n);
+        for (int e = 0; e < m; e++)
+        {
+            int u = int_graph.getFirst(e);
+            int w = int_graph.getSecond(e);
+            if (u == w)
+                continue;
+            contraction.addArc(u, w, weight(e), e, -1, -1);
+            if (int_graph.getEdgeType(e) == EdgeType.UNDIRECTED)
+                contraction.addArc(w, u, weight(e), e, -1, -1);
+        }
+        rank = contraction.run();
+        group();
+        stale = false;
+    }
+
+    private void read(DataInputStream in) throws IOException
+    {
+        if (in.readInt() != MAGIC)
+            throw new IOException("not a saved contraction hierarchy");
+        int n = in.readInt();
+        int m = in.readInt();
+        if (n != int_graph.getVertexCount() || m != int_graph.getEdgeCount())
+            throw new IOException("hierarchy was built for a graph with " + n + " vertices and " +
+                m + " edges, not " + int_graph.getVertexCount() + " and " + int_graph.getEdgeCount());
+        if (in.readLong() != getChecksum())
+            throw new IOException("hierarchy was built for different edges or edge weights");
+        arc_count = in.readInt();
+        rank = new int[n];
+        for (int v = 0; v < n; v++)
+            rank[v] = in.readInt();
+        arc_from = new int[arc_count];
+        arc_to = new int[arc_count];
+        arc_weight = new double[arc_count];
+        arc_edge = new int[arc_count];
+        arc_first = new int[arc_count];
+        arc_second = new int[arc_count];
+        for (int a = 0; a < arc_count; a++)
+        {
+            arc_from[a] = in.readInt();
+            arc_to[a] = in.readInt();
+            arc_weight[a] = in.readDouble();
+            arc_edge[a] = in.readInt();
+            arc_first[a] = in.readInt();
+            arc_second[a] = in.readInt();
+        }
+        group();
+        stale = false;
+    }
+
+    /**
+     * Returns a checksum of the endpoints, type and weight of each edge, by
+     * which <code>load</code> detects a hierarchy saved for other edges or 
+     * weights.
+     */
+    private long getChecksum()
+    {
+        // FNV-1a, over 32- and 64-bit values rather than bytes
+        long checksum = 0xCBF29CE484222325L;
+        for (int e = 0; e < int_graph.getEdgeCount(); e++)
+        {
+            checksum = (checksum ^ int_graph.getFirst(e)) * 0x100000001B3L;
+            checksum = (checksum ^ int_graph.getSecond(e)) * 0x100000001B3L;
+            checksum = (checksum ^ int_graph.getEdgeType(e).ordinal()) * 0x100000001B3L;
+            checksum = (checksum ^ Double.doubleToLongBits(weight(e))) * 0x100000001B3L;
+        }
+        return checksum;
+    }
+
+    /**
+     * Groups the arcs leading up the hierarchy by the vertex from which the
+     * queries scan them.
+     */
+    private void group()
+    {
+        int n = rank.length;
+        up_start = new int[n + 1];
+        down_start = new int[n + 1];
+        for (int a = 0; a < arc_count; a++)
+        {
+            if (rank[arc_from[a]] < rank[arc_to[a]])
+                up_start[arc_from[a] + 1]++;
+            else
+                down_start[arc_to[a] + 1]++;
+        }
+        for (int v = 0; v < n; v++)
+        {
+            up_start[v + 1] += up_start[v];
+            down_start[v + 1] += down_start[v];
+        }
+        up_arcs = new int[up_start[n]];
+        down_arcs = new int[down_start[n]];
+        int[] up_next = new int[n];
+        int[] down_next = new int[n];
+        for (int a = 0; a < arc_count; a++)
+        {
+            if (rank[arc_from[a]] < rank[arc_to[a]])
+                up_arcs[up_start[arc_from[a]] + up_next[arc_from[a]]++] = a;
+            else
+                down_arcs[down_start[arc_to[a]] + down_next[arc_to[a]]++] = a;
+        }
+    }
+
+    private static int[] grow(int[] array, int length)
+    {
+        int[] grown = new int[array.length * 2];
+        System.arraycopy(array, 0, grown, 0, length);
+        return grown;
+    }
+
+    /**
+     * The state of the contraction: the arcs into and out of each vertex,
+     * and the vertices contracted so far.
+     */
+    private class Contraction
+    {
+        private final int[][] out;
+        private final int[] out_count;
+        private final int[][] in;
+        private final int[] in_count;
+        private final boolean[] contracted;
+        private final int[] contracted_neighbors;
+        private final int[] target;         // the vertex whose contraction last made each a target
+        private final SearchSpace witness;
+
+        Contraction(int n)
+        {
+            out = new int[n][];
+            out_count = new int[n];
+            in = new int[n][];
+            in_count = new int[n];
+            contracted = new boolean[n];
+            contracted_neighbors = new int[n];
+            target = new int[n];
+            Arrays.fill(target, -1);
+            witness = new SearchSpace(n);
+        }
+
+        void addArc(int from, int to, double weight, int edge, int first, int second)
+        {
+            if (arc_count == arc_from.length)
+            {
+                arc_from = grow(arc_from, arc_count);
+                arc_to = grow(arc_to, arc_count);
+                double[] grown = new double[arc_weight.length * 2];
+                System.arraycopy(arc_weight, 0, grown, 0, arc_count);
+                arc_weight = grown;
+                arc_edge = grow(arc_edge, arc_count);
+                arc_first = grow(arc_first, arc_count);
+                arc_second = grow(arc_second, arc_count);
+            }
+            int a = arc_count++;
+            arc_from[a] = from;
+            arc_to[a] = to;
+            arc_weight[a] = weight;
+            arc_edge[a] = edge;
+            arc_first[a] = first;
+            arc_second[a] = second;
+            if (out[from] == null || out_count[from] == out[from].length)
+                out[from] = out[from] == null ? new int[4] : grow(out[from], out_count[from]);
+            out[from][out_count[from]++] = a;
+            if (in[to] == null || in_count[to] == in[to].length)
+                in[to] = in[to] == null ? new int[4] : grow(in[to], in_count[to]);
+            in[to][in_count[to]++] = a;
+        }
+
+        /**
+         * Adds a shortcut from <code>u</code> to <code>w</code>, replacing
+         * any longer arc between them.  (No shortcut yet stands for such an
+         * arc, as shortcuts are made only from arcs into or out of the
+         * vertex being contracted.)
+         */
+        private void addShortcut(int u, int w, double weight, int first, int second)
+        {
+            for (int i = 0; i < out_count[u]; i++)
+            {
+                int a = out[u][i];
+                if (arc_to[a] == w)
+                {
+                    arc_weight[a] = weight;
+                    arc_edge[a] = -1;
+                    arc_first[a] = first;
+                    arc_second[a] = second;
+                    return;
+                }
+            }
+            addArc(u, w, weight, -1, first, second);
+        }
+
+        /**
+         * Contracts every vertex, and returns the order in which they were
+         * contracted.
+         */
+        int[] run()
+        {
+            int n = contracted.length;
+            int[] rank = new int[n];
+            IndexedDaryHeap order = new IndexedDaryHeap(n);
+            for (int v = 0; v < n; v++)
+                order.add(v, priority(v));
+            int next_rank = 0;
+            while (!order.isEmpty())
+            {
+                int v = order.poll();
+                // priorities are updated lazily: put v back if it is no longer first
+                double priority = priority(v);
+                if (!order.isEmpty() && priority > order.peekPriority())
+                {
+                    order.add(v, priority);
+                    continue;
+                }
+                contract(v, false);
+                contracted[v] = true;
+                rank[v] = next_rank++;
+                for (int i = 0; i < out_count[v]; i++)
+                    neighborContracted(arc_to[out[v][i]]);
+                for (int i = 0; i < in_count[v]; i++)
+                    neighborContracted(arc_from[in[v][i]]);
+            }
+            return rank;
+        }
+
+        /**
+         * Drops the arcs between <code>x</code> and the vertices contracted
+         * so far, and counts the contraction of a neighbor against it.
+         */
+        private void neighborContracted(int x)
+        {
+            if (contracted[x])
+                return;
+            out_count[x] = removeContracted(out[x], out_count[x], arc_to);
+            in_count[x] = removeContracted(in[x], in_count[x], arc_from);
+            contracted_neighbors[x]++;
+        }
+
+        /**
+         * Removes the arcs whose far ends (in <code>ends</code>) have been
+         * contracted, and returns the number of arcs remaining.
+         */
+        private int removeContracted(int[] arcs, int count, int[] ends)
+        {
+            int kept = 0;
+            for (int i = 0; i < count; i++)
+                if (!contracted[ends[arcs[i]]])
+                    arcs[kept++] = arcs[i];
+            return kept;
+        }
+
+        /**
+         * Returns the number of shortcuts that contracting <code>v</code>
+         * would add, less the number of arcs it would remove, plus the
+         * number of its neighbors already contracted (which spreads the
+         * contractions across the graph).
+         */
+        private double priority(int v)
+        {
+            int arcs = 0;
+            for (int i = 0; i < out_count[v]; i++)
+                if (!contracted[arc_to[out[v][i]]])
+                    arcs++;
+            for (int i = 0; i < in_count[v]; i++)
+                if (!contracted[arc_from[in[v][i]]])
+                    arcs++;
+            return contract(v, true) - arcs + contracted_neighbors[v];
+        }
+
+        /**
+         * Finds the shortcuts needed if <code>v</code> is contracted, adds
+         * them unless <code>simulate</code> is <code>true</code>, and returns
+         * their number.
+         */
+        private int contract(int v, boolean simulate)
+        {
+            double max_out = 0;
+            int targets = 0;
+            for (int i = 0; i < out_count[v]; i++)
+            {
+                int b = out[v][i];
+                int w = arc_to[b];
+                if (contracted[w])
+                    continue;
+                max_out = Math.max(max_out, arc_weight[b]);
+                if (target[w] != v)
+                {
+                    target[w] = v;
+                    targets++;
+                }
+            }
+            int shortcuts = 0;
+            for (int i = 0; i < in_count[v]; i++)
+            {
+                int a = in[v][i];
+                int u = arc_from[a];
+                if (contracted[u])
+                    continue;
+                searchWitnesses(u, v, arc_weight[a] + max_out, target[u] == v ? targets - 1 : targets,
+                    simulate ? ESTIMATE_SETTLE_LIMIT : WITNESS_SETTLE_LIMIT);
+                for (int j = 0; j < out_count[v]; j++)
+                {
+                    int b = out[v][j];
+                    int w = arc_to[b];
+                    if (contracted[w] || w == u)
+                        continue;
+                    double via = arc_weight[a] + arc_weight[b];
+                    if (witness.getDistance(w) <= via)
+                        continue;
+                    shortcuts++;
+                    if (!simulate)
+                    {
+                        addShortcut(u, w, via, a, b);
+                        // later searches from u may use the new shortcut
+                        witness.relax(w, via, -1, via);
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        /**
+         * Searches from <code>u</code> among the vertices not yet contracted,
+         * other than <code>v</code>, up to distance <code>limit</code> or
+         * until <code>settle_limit</code> vertices have been settled.
+         */
+        private void searchWitnesses(int u, int v, double limit, int targets, int settle_limit)
+        {
+            witness.reset();
+            witness.relax(u, 0, -1, 0);
+            int settled = 0;
+            while (!witness.queue.isEmpty() && settled < settle_limit)
+            {
+                if (witness.queue.peekPriority() > limit)
+                    break;
+                int x = witness.queue.poll();
+                witness.settle(x);
+                settled++;
+                if (target[x] == v && x != u && --targets == 0)
+                    break;
+                double x_distance = witness.getDistance(x);
+                for (int i = 0; i < out_count[x]; i++)
+                {
+                    int b = out[x][i];
+                    int y = arc_to[b];
+                    if (y == v || contracted[y])
+                        continue;
+                    double d = x_distance + arc_weight[b];
+                    witness.relax(y, d, b, d);
+                }
+            }
+        }
+    }
+}
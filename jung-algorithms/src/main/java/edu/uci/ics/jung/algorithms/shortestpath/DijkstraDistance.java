@@ -11,21 +11,31 @@
  */
 package edu.uci.ics.jung.algorithms.shortestpath;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.apache.commons.collections15.Transformer;
 import org.apache.commons.collections15.functors.ConstantTransformer;
 
 import edu.uci.ics.jung.algorithms.util.BasicMapEntry;
+import edu.uci.ics.jung.algorithms.util.EdgeWeight;
+import edu.uci.ics.jung.algorithms.util.EdgeWeights;
+import edu.uci.ics.jung.algorithms.util.EvictionPolicy;
+import edu.uci.ics.jung.algorithms.util.GraphChangeTracker;
+import edu.uci.ics.jung.algorithms.util.IndexedDaryHeap;
 import edu.uci.ics.jung.algorithms.util.MapBinaryHeap;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.IndexedGraph;
 
 /**
  * <p>Calculates distances in a specified graph, using  
@@ -55,9 +65,21 @@ import edu.uci.ics.jung.graph.Hypergraph;
  * are ordered (that is, returned 
  * by the iterator) by nondecreasing distance from <code>source</code>.</p>
  * 
- * <p>Users are cautioned that distances calculated should be assumed to
- * be invalidated by changes to the graph, and should invoke <code>reset()</code>
- * when appropriate so that the distances can be recalculated.</p>
+ * <p>If the graph reports a modification version (see <code>Versioned</code>),
+ * cached distances are discarded automatically when vertices or edges are 
+ * added or removed: those from every source if the graph is modified, or, 
+ * if the graph is an <code>ObservableGraph</code> whose change journal covers
+ * the modifications, only those from sources whose searches reached a 
+ * modified vertex.  Otherwise users are cautioned that distances calculated
+ * should be assumed to be invalidated by changes to the graph, and should 
+ * invoke <code>reset()</code> when appropriate so that the distances can be 
+ * recalculated.  Changes to edge weights always require a call to 
+ * <code>reset()</code>.</p>
+ * 
+ * <p>By default the results for every source queried are kept until they
+ * are reset.  An <code>EvictionPolicy</code> may be specified to bound the
+ * number of sources, or the approximate memory, for which results are
+ * kept; the number of cache hits, misses and evictions is recorded.</p>
  * 
  * @author Joshua O'Madadhain
  * @author Tom Nelson converted to jung2
@@ -70,6 +92,27 @@ public class DijkstraDistance<V,E> implements Distance<V>
     protected boolean cached;
     protected double max_distance;
     protected int max_targets;
+    protected GraphChangeTracker<V,E> tracker;
+    protected EvictionPolicy<V> eviction_policy;
+    protected long cache_hits;
+    protected long cache_misses;
+    protected long cache_evictions;
+
+    /**
+     * The approximate size in bytes of a hash map entry.
+     */
+    protected static final int MAP_ENTRY_BYTES = 40;
+
+    /**
+     * The approximate size in bytes of a boxed distance.
+     */
+    protected static final int DISTANCE_BYTES = 16;
+
+    /**
+     * The approximate size in bytes of a slot in the arrays of an 
+     * <code>IndexedDaryHeap</code>.
+     */
+    protected static final int HEAP_SLOT_BYTES = 16;
     
     /**
      * <p>Creates an instance of <code>DijkstraShortestPath</code> for 
@@ -88,6 +131,7 @@ public class DijkstraDistance<V,E> implements Distance<V>
         this.cached = cached;
         this.max_distance = Double.POSITIVE_INFINITY;
         this.max_targets = Integer.MAX_VALUE;
+        this.tracker = new GraphChangeTracker<V,E>(g);
     }
     
     /**
@@ -129,7 +173,7 @@ public class DijkstraDistance<V,E> implements Distance<V>
     
     /**
      * Implements Dijkstra's single-source shortest-path algorithm for
-     * weighted graphs.  Uses a <code>MapBinaryHeap</code> as the priority queue, 
+     * weighted graphs.  Uses an <code>IndexedDaryHeap</code> as the priority queue, 
      * which gives this algorithm a time complexity of O(m lg n) (m = # of edges, n = 
      * # of vertices).
      * This algorithm will terminate when any of the following have occurred (in order
@@ -148,7 +192,9 @@ public class DijkstraDistance<V,E> implements Distance<V>
      */
     protected LinkedHashMap<V,Number> singleSourceShortestPath(V source, Collection<V> targets, int numDests)
     {
-        SourceData sd = getSourceData(source);
+        EdgeWeight<E> weights = EdgeWeights.adapt(nev);
+        discardModified();
+        SourceData sd = lookUpSourceData(source);
 
         Set<V> to_get = new HashSet<V>();
         if (targets != null) {
@@ -170,7 +216,7 @@ public class DijkstraDistance<V,E> implements Distance<V>
             return sd.distances;
         }
         
-        while (!sd.unknownVertices.isEmpty() && (sd.distances.size() < numDests || !to_get.isEmpty()))
+        while (!sd.heap.isEmpty() && (sd.distances.size() < numDests || !to_get.isEmpty()))
         {
             Map.Entry<V,Number> p = sd.getNextVertex();
             V v = p.getKey();
@@ -198,27 +244,88 @@ public class DijkstraDistance<V,E> implements Distance<V>
                 {
                     if (!sd.distances.containsKey(w))
                     {
-                        double edge_weight = nev.transform(e).doubleValue();
+                        double edge_weight = weights.getWeight(e);
                         if (edge_weight < 0)
                             throw new IllegalArgumentException("Edges weights must be non-negative");
                         double new_dist = v_dist + edge_weight;
-                        if (!sd.estimatedDistances.containsKey(w))
+                        Number w_dist = sd.estimatedDistances.get(w);
+                        if (w_dist == null)
                         {
                             sd.createRecord(w, e, new_dist);
                         }
                         else
                         {
-                            double w_dist = ((Double)sd.estimatedDistances.get(w)).doubleValue();
-                            if (new_dist < w_dist) // update tentative distance & path for w
+                            if (new_dist < w_dist.doubleValue()) // update tentative distance & path for w
                                 sd.update(w, e, new_dist);
                         }
                     }
                 }
             }
         }
+        if (eviction_policy != null && sourceMap.get(source) == sd)
+        {
+            eviction_policy.resized(source, sd.estimateSize());
+            evict(source);
+        }
         return sd.distances;
     }
 
+    /**
+     * Returns the data for <code>source</code>, creating it if it is not 
+     * cached, and records the cache hit or miss.
+     */
+    private SourceData lookUpSourceData(V source)
+    {
+        SourceData sd = sourceMap.get(source);
+        if (sd != null)
+        {
+            cache_hits++;
+            if (eviction_policy != null)
+                eviction_policy.accessed(source);
+            return sd;
+        }
+        cache_misses++;
+        sd = getSourceData(source);
+        if (eviction_policy != null)
+            eviction_policy.added(source, sd.estimateSize());
+        return sd;
+    }
+
+    /**
+     * Removes the data for the sources selected by the eviction policy,
+     * other than <code>keep</code>.
+     */
+    private void evict(V keep)
+    {
+        V victim;
+        while ((victim = eviction_policy.selectVictim(keep)) != null)
+        {
+            sourceMap.remove(victim);
+            eviction_policy.removed(victim);
+            cache_evictions++;
+        }
+    }
+
+    /**
+     * Discards the cached results that may have been invalidated by 
+     * modifications of the graph since the last call.
+     */
+    protected void discardModified()
+    {
+        Set<V> changed = tracker.getChangedVertices();
+        if (changed == null)
+            reset();
+        else if (!changed.isEmpty())
+        {
+            for (Map.Entry<V,SourceData> entry : new ArrayList<Map.Entry<V,SourceData>>(sourceMap.entrySet()))
+            {
+                SourceData sd = entry.getValue();
+                if (sd != null && sd.touches(entry.getKey(), changed))
+                    reset(entry.getKey());
+            }
+        }
+    }
+
     protected SourceData getSourceData(V source)
     {
         SourceData sd = sourceMap.get(source);
@@ -418,6 +525,8 @@ public class DijkstraDistance<V,E> implements Distance<V>
     public void reset()
     {
         sourceMap = new HashMap<V,SourceData>();
+        if (eviction_policy != null)
+            eviction_policy.clear();
     }
         
     /**
@@ -441,7 +550,63 @@ public class DijkstraDistance<V,E> implements Distance<V>
      */
     public void reset(V source)
     {
-        sourceMap.put(source, null);
+        sourceMap.remove(source);
+        if (eviction_policy != null)
+            eviction_policy.removed(source);
+    }
+
+    /**
+     * Specifies the policy which decides which sources' results are 
+     * discarded from the cache, or <code>null</code> if results are to be 
+     * kept until they are reset.  The results already cached are reported
+     * to the new policy, and those that it selects are discarded.
+     */
+    public void setEvictionPolicy(EvictionPolicy<V> policy)
+    {
+        this.eviction_policy = policy;
+        if (policy == null)
+            return;
+        policy.clear();
+        for (Map.Entry<V,SourceData> entry : sourceMap.entrySet())
+            if (entry.getValue() != null)
+                policy.added(entry.getKey(), entry.getValue().estimateSize());
+        evict(null);
+    }
+
+    /**
+     * Returns the policy which decides which sources' results are discarded
+     * from the cache, or <code>null</code> if there is none.
+     */
+    public EvictionPolicy<V> getEvictionPolicy()
+    {
+        return eviction_policy;
+    }
+
+    /**
+     * Returns the number of queries for which the source's results were 
+     * found in the cache.
+     */
+    public long getCacheHits()
+    {
+        return cache_hits;
+    }
+
+    /**
+     * Returns the number of queries for which the source's results were 
+     * not found in the cache.
+     */
+    public long getCacheMisses()
+    {
+        return cache_misses;
+    }
+
+    /**
+     * Returns the number of sources whose results were discarded at the 
+     * request of the eviction policy.
+     */
+    public long getCacheEvictions()
+    {
+        return cache_evictions;
     }
 
     /**
@@ -469,34 +634,131 @@ public class DijkstraDistance<V,E> implements Distance<V>
      * the source vertex, and a priority queue (ordered by estimated distance)
      * of the vertices for which distances are unknown.
      * 
+     * <p>The priority queue holds <code>int</code> indices: those of the 
+     * graph if it is an <code>IndexedGraph</code>, and otherwise indices 
+     * assigned by this instance in the order in which vertices are reached.
+     * It is private; <code>unknownVertices</code> is a view of it, kept 
+     * for subclasses written when it was a <code>MapBinaryHeap</code>.
+     * 
      * @author Joshua O'Madadhain
      */
     protected class SourceData
     {
         protected LinkedHashMap<V,Number> distances;
         protected Map<V,Number> estimatedDistances;
+        /**
+         * A view of the queue of vertices whose distances are unknown, 
+         * ordered by their distances in <code>estimatedDistances</code>.
+         * @deprecated The queue is managed by <code>createRecord</code>, 
+         * <code>update</code>, <code>restoreVertex</code> and 
+         * <code>getNextVertex</code>; this view is slower, and will be removed.
+         */
+        @Deprecated
         protected MapBinaryHeap<V> unknownVertices;
         protected boolean reached_max = false;
         protected double dist_reached = 0;
+        private IndexedDaryHeap heap;
+        private IndexedGraph<V,E> indexed_graph;
+        private Map<V,Integer> vertex_indices;
+        private List<V> indexed_vertices;
 
+        @SuppressWarnings("unchecked")
         protected SourceData(V source)
         {
             distances = new LinkedHashMap<V,Number>();
             estimatedDistances = new HashMap<V,Number>();
-            unknownVertices = new MapBinaryHeap<V>(new VertexComparator<V>(estimatedDistances));
+            if (g instanceof IndexedGraph)
+            {
+                indexed_graph = (IndexedGraph<V,E>)g;
+                heap = new IndexedDaryHeap(0);
+            }
+            else
+            {
+                vertex_indices = new HashMap<V,Integer>();
+                indexed_vertices = new ArrayList<V>();
+                heap = new IndexedDaryHeap(16);
+            }
+            unknownVertices = new HeapView();
             
             sourceMap.put(source, this);
             
             // initialize priority queue
             estimatedDistances.put(source, new Double(0)); // distance from source to itself is 0
-            unknownVertices.add(source);
+            heap.add(indexOf(source), 0);
             reached_max = false;
             dist_reached = 0;
         }
+
+        /**
+         * Returns the index of <code>v</code> in the priority queue, 
+         * assigning one if necessary.
+         */
+        private int indexOf(V v)
+        {
+            if (indexed_graph != null)
+                return indexed_graph.getVertexIndex(v);
+            Integer index = vertex_indices.get(v);
+            if (index == null)
+            {
+                index = indexed_vertices.size();
+                vertex_indices.put(v, index);
+                indexed_vertices.add(v);
+            }
+            return index;
+        }
+
+        private V vertexAt(int index)
+        {
+            return indexed_graph != null ? indexed_graph.getVertex(index) : indexed_vertices.get(index);
+        }
+
+        /**
+         * Returns the index of <code>v</code> in the priority queue, or -1 if
+         * it has none.
+         */
+        @SuppressWarnings("unchecked")
+        private int findIndex(Object v)
+        {
+            if (indexed_graph != null)
+                return indexed_graph.getVertexIndex((V)v);
+            Integer index = vertex_indices.get(v);
+            return index == null ? -1 : index;
+        }
         
+        /**
+         * Returns <code>true</code> if <code>source</code> or any vertex 
+         * whose distance is known or estimated is in <code>vertices</code>.
+         */
+        protected boolean touches(V source, Set<V> vertices)
+        {
+            if (vertices.contains(source))
+                return true;
+            for (V v : vertices)
+                if (distances.containsKey(v) || estimatedDistances.containsKey(v))
+                    return true;
+            return false;
+        }
+
+        /**
+         * Returns the approximate number of bytes used by this instance: a
+         * map entry and a boxed distance for each vertex whose distance is 
+         * known or estimated, a heap slot for each vertex whose distance is
+         * estimated, and (unless the graph is indexed) an index entry for 
+         * each vertex reached.
+         */
+        protected long estimateSize()
+        {
+            long reached = distances.size() + estimatedDistances.size();
+            long size = (MAP_ENTRY_BYTES + DISTANCE_BYTES) * reached + 
+                HEAP_SLOT_BYTES * estimatedDistances.size();
+            if (indexed_graph == null)
+                size += (MAP_ENTRY_BYTES + HEAP_SLOT_BYTES) * reached;
+            return size;
+        }
+
         protected Map.Entry<V,Number> getNextVertex()
         {
-            V v = unknownVertices.remove();
+            V v = vertexAt(heap.poll());
             Double dist = (Double)estimatedDistances.remove(v);
             distances.put(v, dist);
             return new BasicMapEntry<V,Number>(v, dist);
@@ -505,20 +767,120 @@ public class DijkstraDistance<V,E> implements Distance<V>
         protected void update(V dest, E tentative_edge, double new_dist)
         {
             estimatedDistances.put(dest, new_dist);
-            unknownVertices.update(dest);
+            heap.update(indexOf(dest), new_dist);
         }
         
         protected void createRecord(V w, E e, double new_dist)
         {
             estimatedDistances.put(w, new_dist);
-            unknownVertices.add(w);
+            heap.add(indexOf(w), new_dist);
         }
         
         protected void restoreVertex(V v, double dist) 
         {
             estimatedDistances.put(v, dist);
-            unknownVertices.add(v);
+            heap.add(indexOf(v), dist);
             distances.remove(v);
         }
+
+        /**
+         * A <code>MapBinaryHeap</code> whose operations are those of the 
+         * priority queue, with the priority of each vertex taken from 
+         * <code>estimatedDistances</code> when it is added or updated.
+         */
+        private class HeapView extends MapBinaryHeap<V>
+        {
+            HeapView()
+            {
+                super(new VertexComparator<V>(estimatedDistances));
+            }
+
+            @Override
+            public boolean add(V v)
+            {
+                heap.add(indexOf(v), estimatedDistances.get(v).doubleValue());
+                return true;
+            }
+
+            @Override
+            public void update(V v)
+            {
+                heap.update(indexOf(v), estimatedDistances.get(v).doubleValue());
+            }
+
+            @Override
+            public boolean contains(Object v)
+            {
+                return heap.contains(findIndex(v));
+            }
+
+            @Override
+            public V peek()
+            {
+                return heap.isEmpty() ? null : vertexAt(heap.peek());
+            }
+
+            @Override
+            public V poll()
+            {
+                return heap.isEmpty() ? null : vertexAt(heap.poll());
+            }
+
+            @Override
+            public V remove()
+            {
+                if (heap.isEmpty())
+                    throw new NoSuchElementException();
+                return vertexAt(heap.poll());
+            }
+
+            @Override
+            public int size()
+            {
+                return heap.size();
+            }
+
+            @Override
+            public boolean isEmpty()
+            {
+                return heap.isEmpty();
+            }
+
+            @Override
+            public void clear()
+            {
+                heap.clear();
+            }
+
+            /**
+             * Returns an <code>Iterator</code>, in no particular order, that 
+             * does not support modification of the queue.
+             */
+            @Override
+            public Iterator<V> iterator()
+            {
+                return new Iterator<V>()
+                {
+                    private int position = 0;
+
+                    public boolean hasNext()
+                    {
+                        return position < heap.size();
+                    }
+
+                    public V next()
+                    {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        return vertexAt(heap.get(position++));
+                    }
+
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        }
     }
 }
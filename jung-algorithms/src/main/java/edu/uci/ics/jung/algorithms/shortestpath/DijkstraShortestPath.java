@@ -244,6 +244,13 @@ public class DijkstraShortestPath<V,E> extends DijkstraDistance<V,E> implements
             incomingEdges = new LinkedHashMap<V,E>();
             tentativeIncomingEdges = new HashMap<V,E>();
 		}
+
+        @Override
+        protected long estimateSize()
+        {
+            return super.estimateSize() + 
+                (long)MAP_ENTRY_BYTES * (incomingEdges.size() + tentativeIncomingEdges.size());
+        }
         
         @Override
         public void update(V dest, E tentative_edge, double new_dist)
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+/**
+ * An estimate of the distance between two vertices, used to direct a
+ * search towards its target.  An estimate is <i>admissible</i> if it is
+ * never greater than the length of a shortest path between the vertices;
+ * searches which rely on such estimates (such as
+ * <code>AStarShortestPath</code>) find shortest paths only if their
+ * estimates are admissible.
+ *
+ * @see AStarShortestPath
+ * @see EuclideanDistanceHeuristic
+ */
+public interface DistanceHeuristic<V>
+{
+    /**
+     * Returns a lower bound on the length of a shortest path from
+     * <code>source</code> to <code>target</code>.
+     */
+    double getLowerBound(V source, V target);
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.EdgeWeightColumn;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+
+/**
+ * Computes the shortest-path distances between all pairs of vertices,
+ * running a breadth-first search (for unweighted graphs) or Dijkstra's
+ * algorithm (for weighted graphs) from every vertex, on several threads,
+ * and stores them in a row-major matrix indexed by vertex index (see
+ * <code>Indexer.createIndexedGraph</code>).
+ *
+ * <p>Unweighted distances are stored as <code>short</code>s if the graph
+ * has at most 32768 vertices, and otherwise, as are weighted distances, as
+ * <code>float</code>s; weighted distances are thus rounded to
+ * <code>float</code> precision.  The matrix may be kept on the heap, or in
+ * a memory-mapped file, in which case it need not fit in memory (the file
+ * is overwritten, and is not deleted when this instance is discarded).
+ *
+ * <p>All distances are computed by the constructor; later changes to the
+ * graph are not reflected.  <code>getIndexedDistance</code> reads the
+ * matrix without boxing or hashing; <code>getDistance</code> and
+ * <code>getDistanceMap</code> are provided for compatibility with other
+ * <code>Distance</code> implementations.
+ *
+ * @see UnweightedShortestPath
+ * @see DijkstraDistance
+ * @see MultiSourceDijkstra
+ */
+public class DistanceMatrix<V,E> implements Distance<V>
+{
+    private static final short SHORT_UNREACHABLE = -1;
+
+    protected IndexedGraph<V,E> indexed_graph;
+    private final Graph<V,E> graph;
+    private final int n;
+    private final boolean unweighted;
+    private final boolean use_short;
+    private final int rows_per_chunk;
+    private ShortBuffer[] short_chunks;
+    private FloatBuffer[] float_chunks;
+
+    private double max_distance;            // over all pairs of connected vertices
+    private boolean disconnected;           // true if any pair is not connected
+
+    /**
+     * Computes the unweighted distances between all pairs of vertices in
+     * <code>graph</code>, using one thread for each available processor.
+     */
+    public DistanceMatrix(Graph<V,E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Computes the weighted distances between all pairs of vertices in
+     * <code>graph</code>, using one thread for each available processor.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     */
+    public DistanceMatrix(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights)
+    {
+        this(graph, edge_weights, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Computes the weighted distances between all pairs of vertices in
+     * <code>graph</code>, using <code>threads</code> threads, and keeps
+     * them on the heap.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     * @param threads the number of threads to use
+     */
+    public DistanceMatrix(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        int threads)
+    {
+        this.graph = graph;
+        this.indexed_graph = Indexer.createIndexedGraph(graph);
+        this.n = indexed_graph.getIntGraph().getVertexCount();
+        this.unweighted = edge_weights == null;
+        this.use_short = unweighted && n <= Short.MAX_VALUE + 1;
+        this.rows_per_chunk = getRowsPerChunk();
+        double[] weights = EdgeWeightColumn.getNonNegativeWeights(indexed_graph, edge_weights);
+        int chunk_count = getChunkCount();
+        if (use_short)
+        {
+            short_chunks = new ShortBuffer[chunk_count];
+            for (int c = 0; c < chunk_count; c++)
+                short_chunks[c] = ShortBuffer.allocate(getChunkRows(c) * n);
+        }
+        else
+        {
+            float_chunks = new FloatBuffer[chunk_count];
+            for (int c = 0; c < chunk_count; c++)
+                float_chunks[c] = FloatBuffer.allocate(getChunkRows(c) * n);
+        }
+        compute(weights, threads);
+    }
+
+    /**
+     * Computes the weighted distances between all pairs of vertices in
+     * <code>graph</code>, using <code>threads</code> threads, and keeps
+     * them in <code>file</code>, which is mapped into memory.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     * @param threads the number of threads to use
+     * @param file the file in which to store the matrix; any existing
+     * contents are overwritten
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public DistanceMatrix(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        int threads, File file) throws IOException
+    {
+        this.graph = graph;
+        this.indexed_graph = Indexer.createIndexedGraph(graph);
+        this.n = indexed_graph.getIntGraph().getVertexCount();
+        this.unweighted = edge_weights == null;
+        this.use_short = unweighted && n <= Short.MAX_VALUE + 1;
+        this.rows_per_chunk = getRowsPerChunk();
+        double[] weights = EdgeWeightColumn.getNonNegativeWeights(indexed_graph, edge_weights);
+        int chunk_count = getChunkCount();
+        long row_bytes = (long)n * (use_short ? 2 : 4);
+        if (use_short)
+            short_chunks = new ShortBuffer[chunk_count];
+        else
+            float_chunks = new FloatBuffer[chunk_count];
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try
+        {
+            raf.setLength(row_bytes * n);
+            FileChannel channel = raf.getChannel();
+            for (int c = 0; c < chunk_count; c++)
+            {
+                ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_WRITE,
+                    row_bytes * c * rows_per_chunk, row_bytes * getChunkRows(c));
+                bytes.order(ByteOrder.nativeOrder());
+                if (use_short)
+                    short_chunks[c] = bytes.asShortBuffer();
+                else
+                    float_chunks[c] = bytes.asFloatBuffer();
+            }
+        }
+        finally
+        {
+            raf.close();    // the mappings remain valid
+        }
+        compute(weights, threads);
+    }
+
+    /**
+     * Returns the graph whose distances this matrix holds.
+     */
+    public Graph<V,E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Returns the indexed view of the graph whose vertex indices identify
+     * the rows and columns of the matrix.
+     */
+    public IndexedGraph<V,E> getIndexedGraph()
+    {
+        return indexed_graph;
+    }
+
+    /**
+     * Returns the distance from the vertex with index <code>source</code> to
+     * the vertex with index <code>target</code>, or
+     * <code>Double.POSITIVE_INFINITY</code> if there is no path between them.
+     */
+    public double getIndexedDistance(int source, int target)
+    {
+        if (source < 0 || source >= n)
+            throw new IndexOutOfBoundsException("no vertex with index " + source);
+        if (target < 0 || target >= n)
+            throw new IndexOutOfBoundsException("no vertex with index " + target);
+        int chunk = source / rows_per_chunk;
+        int offset = (source % rows_per_chunk) * n + target;
+        if (use_short)
+        {
+            short distance = short_chunks[chunk].get(offset);
+            return distance == SHORT_UNREACHABLE ? Double.POSITIVE_INFINITY : distance;
+        }
+        return float_chunks[chunk].get(offset);
+    }
+
+    /**
+     * Returns the distance from <code>source</code> to <code>target</code>,
+     * or <code>null</code> if there is no path between them.  Unweighted
+     * distances are returned as <code>Integer</code>s, weighted distances as
+     * <code>Double</code>s.
+     * @throws IllegalArgumentException if either vertex is not in the graph
+     */
+    public Number getDistance(V source, V target)
+    {
+        double distance = getIndexedDistance(getIndex(source, "source"), getIndex(target, "target"));
+        return toNumber(distance);
+    }
+
+    /**
+     * Returns a map from each vertex reachable from <code>source</code>
+     * (including <code>source</code>) to its distance from
+     * <code>source</code>, in order of vertex index.
+     * @throws IllegalArgumentException if <code>source</code> is not in the graph
+     */
+    public Map<V,Number> getDistanceMap(V source)
+    {
+        int s = getIndex(source, "source");
+        Map<V,Number> distances = new LinkedHashMap<V,Number>();
+        for (int t = 0; t < n; t++)
+        {
+            Number distance = toNumber(getIndexedDistance(s, t));
+            if (distance != null)
+                distances.put(indexed_graph.getVertex(t), distance);
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the largest distance between two vertices.  If some vertex is
+     * not reachable from another, returns the largest distance between
+     * connected vertices if <code>use_max</code> is <code>true</code>, and
+     * <code>Double.POSITIVE_INFINITY</code> otherwise.
+     * @see DistanceStatistics#diameter(edu.uci.ics.jung.graph.Hypergraph, Distance, boolean)
+     */
+    public double getDiameter(boolean use_max)
+    {
+        return disconnected && !use_max ? Double.POSITIVE_INFINITY : max_distance;
+    }
+
+    private Number toNumber(double distance)
+    {
+        if (distance == Double.POSITIVE_INFINITY)
+            return null;
+        if (unweighted)
+            return (int)distance;
+        return distance;
+    }
+
+    private int getIndex(V v, String role)
+    {
+        int index = indexed_graph.getVertexIndex(v);
+        if (index < 0)
+            throw new IllegalArgumentException("Specified " + role + " vertex " +
+                v + " is not part of graph");
+        return index;
+    }
+
+    private int getRowsPerChunk()
+    {
+        long row_bytes = Math.max(1L, (long)n * (use_short ? 2 : 4));
+        return (int)Math.max(1, Math.min(Math.max(n, 1), (Integer.MAX_VALUE - 8) / row_bytes));
+    }
+
+    private int getChunkCount()
+    {
+        return (n + rows_per_chunk - 1) / rows_per_chunk;
+    }
+
+    private int getChunkRows(int chunk)
+    {
+        return Math.min(rows_per_chunk, n - chunk * rows_per_chunk);
+    }
+
+    private void compute(double[] weights, int threads)
+    {
+        int[] sources = new int[n];
+        for (int s = 0; s < n; s++)
+            sources[s] = s;
+        new MultiSourceDijkstra<V,E>(indexed_graph, weights, threads).run(sources, new RowWriter());
+    }
+
+    private synchronized void record(double row_max_distance, boolean row_disconnected)
+    {
+        max_distance = Math.max(max_distance, row_max_distance);
+        disconnected |= row_disconnected;
+    }
+
+    /**
+     * Writes the distances from each source into its row of the matrix,
+     * through a row buffer for each thread.
+     */
+    private class RowWriter implements MultiSourceDijkstra.Visitor
+    {
+        private final ThreadLocal<short[]> short_rows = new ThreadLocal<short[]>()
+        {
+            @Override
+            protected short[] initialValue()
+            {
+                return new short[n];
+            }
+        };
+        private final ThreadLocal<float[]> float_rows = new ThreadLocal<float[]>()
+        {
+            @Override
+            protected float[] initialValue()
+            {
+                return new float[n];
+            }
+        };
+
+        public void visit(int position, int s, int[] reached, int count, double[] distance)
+        {
+            short[] short_row = use_short ? short_rows.get() : null;
+            float[] float_row = use_short ? null : float_rows.get();
+            if (use_short)
+                Arrays.fill(short_row, SHORT_UNREACHABLE);
+            else
+                Arrays.fill(float_row, Float.POSITIVE_INFINITY);
+            double row_max_distance = 0;
+            for (int i = 0; i < count; i++)
+            {
+                int v = reached[i];
+                if (use_short)
+                    short_row[v] = (short)distance[v];
+                else
+                    float_row[v] = (float)distance[v];
+                row_max_distance = Math.max(row_max_distance, use_short ? short_row[v] : float_row[v]);
+            }
+            record(row_max_distance, count < n);
+            int chunk = s / rows_per_chunk;
+            int offset = (s % rows_per_chunk) * n;
+            if (use_short)
+            {
+                ShortBuffer row = short_chunks[chunk].duplicate();
+                row.position(offset);
+                row.put(short_row);
+            }
+            else
+            {
+                FloatBuffer row = float_chunks[chunk].duplicate();
+                row.position(offset);
+                row.put(float_row);
+            }
+        }
+    }
+}
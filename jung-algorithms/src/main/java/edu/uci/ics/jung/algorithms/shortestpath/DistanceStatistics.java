@@ -14,6 +14,7 @@ import org.apache.commons.collections15.Transformer;
 
 import edu.uci.ics.jung.algorithms.scoring.ClosenessCentrality;
 import edu.uci.ics.jung.algorithms.scoring.util.VertexScoreTransformer;
+import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.Hypergraph;
 
 /**
@@ -65,6 +66,12 @@ public class DistanceStatistics
      * For each vertex <code>v</code> in <code>g</code>, 
      * calculates the average shortest path length from <code>v</code> 
      * to all other vertices in <code>g</code>, ignoring edge weights.
+     * The distances from each vertex are found when its average is first
+     * requested.  If the averages of most vertices of a <code>Graph</code>
+     * will be requested, and a matrix of all pairs' distances fits in 
+     * memory, it may be faster to compute them all up front by passing a
+     * <code>DistanceMatrix</code> to 
+     * <code>averageDistances(Hypergraph, Distance)</code>.
      * @see #diameter(Hypergraph)
      * @see edu.uci.ics.jung.algorithms.scoring.ClosenessCentrality
      */
@@ -86,9 +93,34 @@ public class DistanceStatistics
      * if <code>use_max == true</code>, the value returned
      * will be the the maximum shortest path length over all pairs of <b>connected</b> 
      * vertices; otherwise it will be <code>Double.POSITIVE_INFINITY</code>.
+     * 
+     * <p>If <code>d</code> is a <code>DistanceMatrix</code> for 
+     * <code>g</code>, the diameter recorded when its distances were 
+     * computed is returned.  If 
+     * <code>g</code> is a <code>Graph</code>, and <code>d</code> is an 
+     * <code>UnweightedShortestPath</code> or (without limits on the distance 
+     * or number of targets) a <code>DijkstraDistance</code> for 
+     * <code>g</code>, the diameter is computed by an <code>Eccentricity</code>, 
+     * which usually needs only a few single-source searches.
      */
+    @SuppressWarnings("unchecked")
     public static <V, E> double diameter(Hypergraph<V,E> g, Distance<V> d, boolean use_max)
     {
+        if (d instanceof DistanceMatrix && ((DistanceMatrix<V,?>)d).getGraph() == g)
+            return ((DistanceMatrix<V,?>)d).getDiameter(use_max);
+        if (g instanceof Graph)
+        {
+            if (d instanceof UnweightedShortestPath && 
+                ((UnweightedShortestPath<V,?>)d).getGraph() == g)
+                return new Eccentricity<V,E>((Graph<V,E>)g).getDiameter(use_max);
+            if (d instanceof DijkstraDistance)
+            {
+                DijkstraDistance<V,E> dd = (DijkstraDistance<V,E>)d;
+                if (dd.g == g && dd.max_distance == Double.POSITIVE_INFINITY &&
+                    dd.max_targets == Integer.MAX_VALUE)
+                    return new Eccentricity<V,E>((Graph<V,E>)g, dd.nev).getDiameter(use_max);
+            }
+        }
         double diameter = 0;
         Collection<V> vertices = g.getVertices();
         for(V v : vertices) {
@@ -125,11 +157,15 @@ public class DistanceStatistics
     }
     
     /**
-     * Returns the diameter of <code>g</code>, ignoring edge weights.
+     * Returns the diameter of <code>g</code>, ignoring edge weights.  If 
+     * <code>g</code> is a <code>Graph</code>, it is computed by an 
+     * <code>Eccentricity</code>.
      * @see #diameter(Hypergraph, Distance, boolean)
      */
     public static <V, E> double diameter(Hypergraph<V,E> g)
     {
+        if (g instanceof Graph)
+            return new Eccentricity<V,E>((Graph<V,E>)g).getDiameter(false);
         return diameter(g, new UnweightedShortestPath<V,E>(g));
     }
     
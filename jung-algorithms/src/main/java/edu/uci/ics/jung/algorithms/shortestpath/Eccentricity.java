@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.EdgeWeightColumn;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * Computes the eccentricities of the vertices of a graph (the largest
+ * distance from each to any other), and its diameter (the largest
+ * eccentricity), exactly, with as few single-source searches as the
+ * structure of the graph allows.
+ *
+ * <p>The diameter is found by the iFUB method: a double sweep picks a
+ * central vertex <code>u</code> and a lower bound, and the eccentricities
+ * of the vertices farthest from <code>u</code> are then computed in
+ * decreasing order of distance until the largest found is at least the
+ * longest path through <code>u</code> between any two vertices not yet
+ * searched.  If the graph has directed edges, the vertices are taken in
+ * turn from those farthest from and farthest to <code>u</code>, and their
+ * eccentricities measured in and against the direction of the edges
+ * respectively.  On real-world graphs this usually stops after a handful
+ * of searches; in the worst case (such as a cycle) it searches from most
+ * vertices.  The eccentricities of all vertices of an undirected graph are
+ * found by narrowing upper and lower bounds on each, in the manner of
+ * Takes and Kosters.
+ *
+ * <p>The searches are run in batches of one per thread, so that the worst
+ * cases, and graphs (such as directed graphs which are not strongly
+ * connected) for which every vertex must be searched, are shared among
+ * several threads.  Distances are computed by a
+ * <code>MultiSourceDijkstra</code>, on the indexed view of the graph taken
+ * when this instance is created; later changes to the graph are not
+ * reflected.  The threads and the arrays used by the searches are created
+ * once, and reused by every batch.
+ *
+ * @see DistanceStatistics#diameter(edu.uci.ics.jung.graph.Hypergraph, Distance, boolean)
+ * @see "Pilu Crescenzi, Roberto Grossi, Michel Habib, Leonardo Lanzi and Andrea Marino: On computing the diameter of real-world undirected graphs. Theoretical Computer Science 514, 2013."
+ * @see "Frank Takes and Walter Kosters: Computing the Eccentricity Distribution of Large Graphs. Algorithms 6(1), 2013."
+ */
+public class Eccentricity<V,E>
+{
+    private final IndexedGraph<V,E> indexed_graph;
+    private final IntGraph graph;
+    private final int n;
+    private final int threads;
+    private final boolean directed;             // true if any edge is directed
+    private final MultiSourceDijkstra<V,E> forward;
+    private final MultiSourceDijkstra<V,E> backward;
+    private int searches;
+
+    /**
+     * Creates an instance for the unweighted distances in
+     * <code>graph</code>, using one thread for each available processor.
+     */
+    public Eccentricity(Graph<V,E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Creates an instance for the weighted distances in <code>graph</code>,
+     * using one thread for each available processor.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     */
+    public Eccentricity(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights)
+    {
+        this(graph, edge_weights, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an instance for the weighted distances in <code>graph</code>,
+     * using up to <code>threads</code> threads.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     * @param threads the number of threads to use
+     */
+    public Eccentricity(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        int threads)
+    {
+        this.indexed_graph = Indexer.createIndexedGraph(graph);
+        this.graph = indexed_graph.getIntGraph();
+        this.n = this.graph.getVertexCount();
+        this.threads = threads;
+        boolean directed = false;
+        for (int e = 0; e < this.graph.getEdgeCount() && !directed; e++)
+            directed = this.graph.getEdgeType(e) == EdgeType.DIRECTED;
+        this.directed = directed;
+        double[] weights = EdgeWeightColumn.getNonNegativeWeights(indexed_graph, edge_weights);
+        this.forward = new MultiSourceDijkstra<V,E>(indexed_graph, weights, threads, true);
+        this.backward = directed
+            ? new MultiSourceDijkstra<V,E>(indexed_graph, weights, threads, false) : forward;
+    }
+
+    /**
+     * Returns the largest distance from <code>v</code> to any vertex, or
+     * <code>Double.POSITIVE_INFINITY</code> if some vertex is not reachable
+     * from <code>v</code>.
+     * @throws IllegalArgumentException if <code>v</code> is not in the graph
+     */
+    public double getEccentricity(V v)
+    {
+        int s = indexed_graph.getVertexIndex(v);
+        if (s < 0)
+            throw new IllegalArgumentException("Specified vertex " + v + " is not part of graph");
+        searches = 0;
+        return search(forward, s).getEccentricity(true);
+    }
+
+    /**
+     * Returns an unmodifiable map from each vertex to its eccentricity: the
+     * largest distance from it to any vertex, or
+     * <code>Double.POSITIVE_INFINITY</code> if some vertex is not reachable
+     * from it.
+     */
+    public Map<V,Double> getEccentricities()
+    {
+        searches = 0;
+        final double[] eccentricity = new double[n];
+        if (directed)
+            searchAll(eccentricity, true);
+        else if (n > 0 && search(forward, 0).count < n)
+            Arrays.fill(eccentricity, Double.POSITIVE_INFINITY);
+        else
+            bound(eccentricity);
+        int[] keys = new int[n];
+        for (int v = 0; v < n; v++)
+            keys[v] = v;
+        return new IndexedVertexMap<V,Double>(indexed_graph, keys, n)
+        {
+            @Override
+            Double value(int v)
+            {
+                return eccentricity[v];
+            }
+        };
+    }
+
+    /**
+     * Returns the largest distance between two vertices.  If some vertex is
+     * not reachable from another, returns the largest distance between
+     * connected vertices if <code>use_max</code> is <code>true</code>, and
+     * <code>Double.POSITIVE_INFINITY</code> otherwise.
+     * @see DistanceStatistics#diameter(edu.uci.ics.jung.graph.Hypergraph, Distance, boolean)
+     */
+    public double getDiameter(boolean use_max)
+    {
+        searches = 0;
+        if (n == 0)
+            return 0;
+        if (directed)
+            return getDirectedDiameter(use_max);
+
+        // the diameter of each connected component
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        int[] queue = new int[n];
+        int components = 0;
+        double diameter = 0;
+        for (int r = 0; r < n; r++)
+        {
+            if (component[r] >= 0)
+                continue;
+            int head = 0;
+            int tail = 0;
+            int start = r;      // the vertex of highest degree
+            component[r] = components;
+            queue[tail++] = r;
+            while (head < tail)
+            {
+                int w = queue[head++];
+                if (graph.outDegree(w) > graph.outDegree(start))
+                    start = w;
+                for (int i = 0; i < graph.outDegree(w); i++)
+                {
+                    int x = graph.getOpposite(w, graph.getOutEdge(w, i));
+                    if (component[x] < 0)
+                    {
+                        component[x] = components;
+                        queue[tail++] = x;
+                    }
+                }
+            }
+            components++;
+            if (tail < n && !use_max)
+                return Double.POSITIVE_INFINITY;
+            if (tail > 1)
+                diameter = Math.max(diameter, getUndirectedDiameter(start));
+        }
+        return diameter;
+    }
+
+    /**
+     * Returns the number of single-source searches run by the most recent
+     * call to <code>getEccentricity</code>, <code>getEccentricities</code>
+     * or <code>getDiameter</code>.
+     */
+    public int getSearchCount()
+    {
+        return searches;
+    }
+
+    /**
+     * Returns the diameter of the connected component of an undirected
+     * graph which contains <code>r</code>.
+     */
+    private double getUndirectedDiameter(int r)
+    {
+        // a double sweep: the farthest vertex a from r, and b from a
+        Search from_r = search(forward, r);
+        int a = from_r.getFarthest();
+        Search from_a = search(forward, a);
+        int b = from_a.getFarthest();
+        Search from_b = search(forward, b);
+        double lower = Math.max(from_r.getEccentricity(false),
+            Math.max(from_a.getEccentricity(false), from_b.getEccentricity(false)));
+
+        // u is the vertex nearest the middle of the path from a to b
+        double length = from_a.distance[b];
+        int u = a;
+        for (int i = 0; i < from_a.count; i++)
+        {
+            int v = from_a.order[i];
+            if (from_a.distance[v] + from_b.distance[v] <= length * (1 + 1e-12) &&
+                Math.max(from_a.distance[v], from_b.distance[v]) <
+                Math.max(from_a.distance[u], from_b.distance[u]))
+                u = v;
+        }
+        boolean[] searched = new boolean[n];
+        searched[r] = searched[a] = searched[b] = true;
+        Search from_u = u == r ? from_r : u == a ? from_a : u == b ? from_b : search(forward, u);
+        lower = Math.max(lower, from_u.getEccentricity(false));
+        searched[u] = true;
+        from_r = from_a = from_b = null;
+
+        // any two vertices at most radius from u are at most 2 * radius apart
+        int[] batch = new int[threads];
+        int next = from_u.count - 1;
+        while (true)
+        {
+            while (next >= 0 && searched[from_u.order[next]])
+                next--;
+            if (next < 0 || lower >= 2 * from_u.distance[from_u.order[next]])
+                return lower;
+            int size = 0;
+            for (; next >= 0 && size < threads; next--)
+            {
+                int v = from_u.order[next];
+                if (!searched[v])
+                {
+                    searched[v] = true;
+                    batch[size++] = v;
+                }
+            }
+            lower = Math.max(lower, getMaxEccentricity(forward, batch, size));
+        }
+    }
+
+    /**
+     * Returns the diameter of a graph with directed edges.
+     */
+    private double getDirectedDiameter(boolean use_max)
+    {
+        int u = 0;
+        for (int v = 1; v < n; v++)
+            if (graph.outDegree(v) + graph.inDegree(v) > graph.outDegree(u) + graph.inDegree(u))
+                u = v;
+        Search from_u = search(forward, u);
+        Search to_u = from_u.count < n ? null : search(backward, u);
+        if (to_u == null || to_u.count < n)
+        {
+            // not strongly connected; every vertex must be searched
+            if (!use_max)
+                return Double.POSITIVE_INFINITY;
+            double[] eccentricity = new double[n];
+            searchAll(eccentricity, false);
+            double diameter = 0;
+            for (int v = 0; v < n; v++)
+                diameter = Math.max(diameter, eccentricity[v]);
+            return diameter;
+        }
+        double lower = Math.max(from_u.getEccentricity(true), to_u.getEccentricity(true));
+
+        // d(x, y) <= d(x, u) + d(u, y) for any x and y: the eccentricities of the
+        // vertices farthest to u are measured forward, and those of the
+        // vertices farthest from u backward
+        boolean[] searched_forward = new boolean[n];
+        boolean[] searched_backward = new boolean[n];
+        searched_forward[u] = searched_backward[u] = true;
+        int[] forward_batch = new int[threads];
+        int[] backward_batch = new int[threads];
+        int next_from = n - 1;
+        int next_to = n - 1;
+        while (true)
+        {
+            int forward_size = 0;
+            int backward_size = 0;
+            while (forward_size + backward_size < threads)
+            {
+                while (next_to >= 0 && searched_forward[to_u.order[next_to]])
+                    next_to--;
+                while (next_from >= 0 && searched_backward[from_u.order[next_from]])
+                    next_from--;
+                double to_radius = next_to < 0 ? 0 : to_u.distance[to_u.order[next_to]];
+                double from_radius = next_from < 0 ? 0 : from_u.distance[from_u.order[next_from]];
+                if (lower >= to_radius + from_radius)
+                    break;
+                if (next_to >= 0 && (next_from < 0 || to_radius >= from_radius))
+                {
+                    int v = to_u.order[next_to--];
+                    searched_forward[v] = true;
+                    forward_batch[forward_size++] = v;
+                }
+                else
+                {
+                    int v = from_u.order[next_from--];
+                    searched_backward[v] = true;
+                    backward_batch[backward_size++] = v;
+                }
+            }
+            if (forward_size + backward_size == 0)
+                return lower;
+            if (forward_size > 0)
+                lower = Math.max(lower, getMaxEccentricity(forward, forward_batch, forward_size));
+            if (backward_size > 0)
+                lower = Math.max(lower, getMaxEccentricity(backward, backward_batch, backward_size));
+        }
+    }
+
+    /**
+     * Finds the eccentricities of all vertices of a connected undirected
+     * graph, searching in each batch from the vertices with the largest upper
+     * bounds and the smallest lower bounds, until the bounds on each vertex
+     * meet.
+     */
+    private void bound(final double[] eccentricity)
+    {
+        final double[] lower = new double[n];
+        final double[] upper = new double[n];
+        final boolean[] done = new boolean[n];
+        Arrays.fill(upper, Double.POSITIVE_INFINITY);
+        int remaining = n;
+        int[] batch = new int[threads];
+        boolean pick_upper = true;
+        while (remaining > 0)
+        {
+            int size = 0;
+            for (; size < threads && size < remaining; size++)
+            {
+                int best = -1;
+                for (int v = 0; v < n; v++)
+                {
+                    if (done[v])
+                        continue;
+                    if (best < 0 || (pick_upper
+                        ? upper[v] > upper[best] || upper[v] == upper[best] &&
+                            graph.outDegree(v) > graph.outDegree(best)
+                        : lower[v] < lower[best]))
+                        best = v;
+                }
+                // excluded from later picks, and from the bounds below
+                done[best] = true;
+                batch[size] = best;
+                pick_upper = !pick_upper;
+            }
+            final int[] sources = prefix(batch, size);
+            forward.run(sources, new MultiSourceDijkstra.Visitor()
+            {
+                public void visit(int position, int source, int[] reached, int count, double[] distance)
+                {
+                    double e = distance[reached[count - 1]];
+                    synchronized (eccentricity)
+                    {
+                        eccentricity[source] = e;
+                        for (int i = 0; i < count; i++)
+                        {
+                            int w = reached[i];
+                            double d = distance[w];
+                            lower[w] = Math.max(lower[w], Math.max(e - d, d));
+                            upper[w] = Math.min(upper[w], e + d);
+                        }
+                    }
+                }
+            });
+            searches += size;
+            remaining -= size;
+            for (int v = 0; v < n; v++)
+            {
+                if (!done[v] && lower[v] >= upper[v])
+                {
+                    eccentricity[v] = upper[v];
+                    done[v] = true;
+                    remaining--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches from every vertex, and records the eccentricity of each in
+     * <code>eccentricity</code>: if some vertex is not reachable, this is
+     * infinite if <code>infinite</code> is <code>true</code>, and otherwise
+     * the largest distance to a vertex which is.
+     */
+    private void searchAll(final double[] eccentricity, final boolean infinite)
+    {
+        int[] sources = new int[n];
+        for (int v = 0; v < n; v++)
+            sources[v] = v;
+        forward.run(sources, new MultiSourceDijkstra.Visitor()
+        {
+            public void visit(int position, int source, int[] reached, int count, double[] distance)
+            {
+                eccentricity[source] = infinite && count < n
+                    ? Double.POSITIVE_INFINITY : distance[reached[count - 1]];
+            }
+        });
+        searches += n;
+    }
+
+    /**
+     * Returns the largest eccentricity, among those vertices reachable,
+     * of the first <code>size</code> vertices in <code>batch</code>.
+     */
+    private double getMaxEccentricity(MultiSourceDijkstra<V,E> searcher, int[] batch, int size)
+    {
+        final double[] eccentricity = new double[size];
+        searcher.run(prefix(batch, size), new MultiSourceDijkstra.Visitor()
+        {
+            public void visit(int position, int source, int[] reached, int count, double[] distance)
+            {
+                eccentricity[position] = distance[reached[count - 1]];
+            }
+        });
+        searches += size;
+        double max = 0;
+        for (double e : eccentricity)
+            max = Math.max(max, e);
+        return max;
+    }
+
+    private static int[] prefix(int[] array, int size)
+    {
+        int[] prefix = new int[size];
+        System.arraycopy(array, 0, prefix, 0, size);
+        return prefix;
+    }
+
+    /**
+     * Runs a single search from (or to) <code>s</code>, and keeps its results.
+     */
+    private Search search(MultiSourceDijkstra<V,E> searcher, int s)
+    {
+        final Search search = new Search();
+        searcher.run(new int[] {s}, new MultiSourceDijkstra.Visitor()
+        {
+            public void visit(int position, int source, int[] reached, int count, double[] distance)
+            {
+                search.distance = new double[n];
+                Arrays.fill(search.distance, Double.POSITIVE_INFINITY);
+                for (int i = 0; i < count; i++)
+                    search.distance[reached[i]] = distance[reached[i]];
+                search.order = new int[count];
+                System.arraycopy(reached, 0, search.order, 0, count);
+                search.count = count;
+            }
+        });
+        searches++;
+        return search;
+    }
+
+    /**
+     * The results of a single search.
+     */
+    private class Search
+    {
+        double[] distance;      // infinite if not reached
+        int[] order;            // the vertices reached, by nondecreasing distance
+        int count;
+
+        int getFarthest()
+        {
+            return order[count - 1];
+        }
+
+        double getEccentricity(boolean infinite)
+        {
+            return infinite && count < n ? Double.POSITIVE_INFINITY : distance[getFarthest()];
+        }
+    }
+}
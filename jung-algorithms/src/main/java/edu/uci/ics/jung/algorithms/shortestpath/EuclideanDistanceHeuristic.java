@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.awt.geom.Point2D;
+
+import org.apache.commons.collections15.Transformer;
+
+/**
+ * Estimates the distance between two vertices as the straight-line
+ * distance between their locations (such as those assigned by a
+ * <code>Layout</code>), multiplied by a scale factor.  The estimate is
+ * admissible if the weight of every edge is at least the scale factor
+ * times the distance between the locations of its endpoints.
+ */
+public class EuclideanDistanceHeuristic<V> implements DistanceHeuristic<V>
+{
+    protected Transformer<V, Point2D> locations;
+    protected double scale;
+
+    /**
+     * Creates an instance which uses the specified vertex locations and
+     * scale factor.
+     */
+    public EuclideanDistanceHeuristic(Transformer<V, Point2D> locations, double scale)
+    {
+        if (scale < 0)
+            throw new IllegalArgumentException("scale must be non-negative: " + scale);
+        this.locations = locations;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates an instance which uses the specified vertex locations and a
+     * scale factor of 1.
+     */
+    public EuclideanDistanceHeuristic(Transformer<V, Point2D> locations)
+    {
+        this(locations, 1);
+    }
+
+    public double getLowerBound(V source, V target)
+    {
+        return scale * locations.transform(source).distance(locations.transform(target));
+    }
+}
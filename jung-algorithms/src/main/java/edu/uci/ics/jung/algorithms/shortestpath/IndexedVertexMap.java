@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.commons.collections15.keyvalue.UnmodifiableMapEntry;
+
+import edu.uci.ics.jung.graph.IndexedGraph;
+
+/**
+ * An unmodifiable map from vertices to values held in primitive arrays
+ * indexed by vertex, so that results need not be copied into a
+ * <code>HashMap</code>.  The keys are the vertices for which
+ * <code>value</code> returns a value; they are iterated in the order of
+ * <code>keys</code>.
+ */
+abstract class IndexedVertexMap<V,T> extends AbstractMap<V,T>
+{
+    private final IndexedGraph<V,?> graph;
+    private final int[] keys;       // may include indices which are not keys
+    private final int size;
+
+    /**
+     * @param keys the indices of the keys (and possibly other vertices), in
+     * iteration order
+     * @param size the number of keys
+     */
+    IndexedVertexMap(IndexedGraph<V,?> graph, int[] keys, int size)
+    {
+        this.graph = graph;
+        this.keys = keys;
+        this.size = size;
+    }
+
+    /**
+     * Returns the value for the vertex with index <code>v</code>, or
+     * <code>null</code> if that vertex is not a key.
+     */
+    abstract T value(int v);
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(Object key)
+    {
+        int v;
+        try
+        {
+            v = graph.getVertexIndex((V)key);
+        }
+        catch (ClassCastException e)
+        {
+            return null;
+        }
+        return v < 0 ? null : value(v);
+    }
+
+    @Override
+    public Set<Map.Entry<V,T>> entrySet()
+    {
+        return new AbstractSet<Map.Entry<V,T>>()
+        {
+            @Override
+            public int size()
+            {
+                return size;
+            }
+
+            @Override
+            public Iterator<Map.Entry<V,T>> iterator()
+            {
+                return new Iterator<Map.Entry<V,T>>()
+                {
+                    private int next = advance(0);
+
+                    public boolean hasNext()
+                    {
+                        return next < keys.length;
+                    }
+
+                    public Map.Entry<V,T> next()
+                    {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        int v = keys[next];
+                        next = advance(next + 1);
+                        return new UnmodifiableMapEntry<V,T>(graph.getVertex(v), value(v));
+                    }
+
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    private int advance(int i)
+    {
+        while (i < keys.length && value(keys[i]) == null)
+            i++;
+        return i;
+    }
+}
@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.EdgeWeightColumn;
+import edu.uci.ics.jung.algorithms.util.IndexedDaryHeap;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.algorithms.util.WorkerPool;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * Estimates distances from the distances between each vertex and a few
+ * chosen vertices (landmarks).  By the triangle inequality, for each
+ * landmark <code>L</code>, the distance from <code>s</code> to
+ * <code>t</code> is at most <code>d(s,L) + d(L,t)</code>, and at least
+ * <code>d(L,t) - d(L,s)</code> and <code>d(s,L) - d(t,L)</code>; the bounds
+ * reported are the best of these over all landmarks, and are exact when a
+ * shortest path passes through a landmark.  Each bound takes time
+ * proportional to the number of landmarks <i>k</i> to compute, and the
+ * distances are kept in <i>O(kn)</i> space (half that for undirected
+ * graphs) rather than in maps.
+ *
+ * <p><code>getDistance</code> reports the upper bound, the length of an
+ * actual path; the lower bound is admissible, and may be used to direct
+ * <code>AStarShortestPath</code> (the ALT algorithm).  The distances to and
+ * from the landmarks are found by breadth-first search (for unweighted
+ * graphs) or Dijkstra's algorithm, on several threads.
+ *
+ * <p>The distances are computed when this instance is created, and are not
+ * updated if the graph is modified.
+ *
+ * @see DistanceMatrix
+ * @see "Andrew V. Goldberg and Chris Harrelson: Computing the Shortest Path: A* Search Meets Graph Theory. SODA 2005, 156-165."
+ */
+public class LandmarkDistance<V,E> implements Distance<V>, DistanceHeuristic<V>
+{
+    /**
+     * How landmarks are chosen.
+     */
+    public enum Selection
+    {
+        /**
+         * Each landmark is the vertex farthest from those already chosen
+         * (vertices not reachable from any are farthest of all).  This
+         * spreads the landmarks around the graph's periphery, which gives
+         * better bounds, but the searches from the landmarks must be run
+         * one at a time.
+         */
+        FARTHEST,
+
+        /**
+         * Landmarks are chosen at random, and all the searches are run in
+         * parallel.  The choice is the same from one run to the next unless 
+         * a <code>Random</code> is passed to the constructor.
+         */
+        RANDOM
+    }
+
+    protected IndexedGraph<V,E> indexed_graph;
+    private final int n;
+    private final int k;
+    private final boolean directed;
+    private final double[] weights;     // null if unweighted
+    private final int[] landmarks;
+    private final double[] from;        // d(landmark i, v) at [v * k + i]
+    private final double[] to;          // d(v, landmark i); the same array if undirected
+
+    /**
+     * Chooses <code>landmark_count</code> landmarks by
+     * <code>Selection.FARTHEST</code> and computes the distances to and from
+     * them, using one thread for each available processor.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     */
+    public LandmarkDistance(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        int landmark_count)
+    {
+        this(graph, edge_weights, landmark_count, Selection.FARTHEST,
+            Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Chooses <code>landmark_count</code> landmarks (or all the vertices,
+     * if there are fewer) as specified, and computes the distances to and
+     * from them using <code>threads</code> threads.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     */
+    public LandmarkDistance(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        int landmark_count, Selection selection, int threads)
+    {
+        this(graph, edge_weights, landmark_count, selection, 
+            selection == Selection.RANDOM ? new Random(0) : null, threads);
+    }
+
+    /**
+     * Chooses <code>landmark_count</code> landmarks (or all the vertices,
+     * if there are fewer) by <code>Selection.RANDOM</code>, drawing them
+     * from <code>random</code>, and computes the distances to and from them
+     * using <code>threads</code> threads.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     */
+    public LandmarkDistance(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        int landmark_count, Random random, int threads)
+    {
+        this(graph, edge_weights, landmark_count, Selection.RANDOM, random, threads);
+    }
+
+    private LandmarkDistance(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        int landmark_count, Selection selection, Random random, int threads)
+    {
+        if (landmark_count < 1)
+            throw new IllegalArgumentException("number of landmarks must be positive: " + landmark_count);
+        if (threads < 1)
+            throw new IllegalArgumentException("number of threads must be positive: " + threads);
+        if (selection == Selection.RANDOM && random == null)
+            throw new IllegalArgumentException("a source of random numbers must be specified");
+        this.indexed_graph = Indexer.createIndexedGraph(graph);
+        this.n = indexed_graph.getIntGraph().getVertexCount();
+        this.k = Math.min(landmark_count, n);
+        this.directed = isDirected();
+        this.weights = EdgeWeightColumn.getNonNegativeWeights(indexed_graph, edge_weights);
+        this.landmarks = new int[k];
+        this.from = new double[getTableSize()];
+        this.to = directed ? new double[from.length] : from;
+        if (selection == Selection.FARTHEST)
+            selectFarthest();
+        else
+        {
+            int[] order = new int[n];
+            for (int v = 0; v < n; v++)
+                order[v] = v;
+            for (int i = 0; i < k; i++)
+            {
+                int j = i + random.nextInt(n - i);
+                landmarks[i] = order[j];
+                order[j] = order[i];
+            }
+        }
+        compute(selection == Selection.FARTHEST, threads);
+    }
+
+    /**
+     * Computes the distances to and from the specified landmarks, using
+     * <code>threads</code> threads.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     */
+    public LandmarkDistance(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        Collection<? extends V> landmarks, int threads)
+    {
+        if (landmarks.isEmpty())
+            throw new IllegalArgumentException("at least one landmark must be specified");
+        if (threads < 1)
+            throw new IllegalArgumentException("number of threads must be positive: " + threads);
+        this.indexed_graph = Indexer.createIndexedGraph(graph);
+        this.n = indexed_graph.getIntGraph().getVertexCount();
+        this.k = landmarks.size();
+        this.directed = isDirected();
+        this.weights = EdgeWeightColumn.getNonNegativeWeights(indexed_graph, edge_weights);
+        this.landmarks = new int[k];
+        int i = 0;
+        for (V v : landmarks)
+            this.landmarks[i++] = getIndex(v, "landmark");
+        this.from = new double[getTableSize()];
+        this.to = directed ? new double[from.length] : from;
+        compute(false, threads);
+    }
+
+    /**
+     * Returns the landmarks, in the order in which they were chosen.
+     */
+    public List<V> getLandmarks()
+    {
+        List<V> list = new ArrayList<V>(k);
+        for (int l : landmarks)
+            list.add(indexed_graph.getVertex(l));
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns a lower bound on the length of a shortest path from
+     * <code>source</code> to <code>target</code>, which is
+     * <code>Double.POSITIVE_INFINITY</code> only if there is no such path.
+     * @throws IllegalArgumentException if either vertex is not in the graph
+     */
+    public double getLowerBound(V source, V target)
+    {
+        return getIndexedLowerBound(getIndex(source, "source"), getIndex(target, "target"));
+    }
+
+    /**
+     * Returns the length of a shortest path from <code>source</code> to
+     * <code>target</code> through a landmark, an upper bound on the length
+     * of a shortest path between them, or
+     * <code>Double.POSITIVE_INFINITY</code> if there is no such path.
+     * @throws IllegalArgumentException if either vertex is not in the graph
+     */
+    public double getUpperBound(V source, V target)
+    {
+        return getIndexedUpperBound(getIndex(source, "source"), getIndex(target, "target"));
+    }
+
+    /**
+     * Returns the upper bound on the distance from <code>source</code> to
+     * <code>target</code> (see <code>getUpperBound</code>), or
+     * <code>null</code> if there is no path between them through a
+     * landmark.
+     * @throws IllegalArgumentException if either vertex is not in the graph
+     */
+    public Number getDistance(V source, V target)
+    {
+        double upper = getUpperBound(source, target);
+        return upper == Double.POSITIVE_INFINITY ? null : (Number)upper;
+    }
+
+    /**
+     * Returns a map from each vertex to which there is a path from
+     * <code>source</code> through a landmark (and from <code>source</code>
+     * itself) to the upper bound on its distance from <code>source</code>.
+     * @throws IllegalArgumentException if <code>source</code> is not in the
+     * graph
+     */
+    public Map<V,Number> getDistanceMap(V source)
+    {
+        int s = getIndex(source, "source");
+        Map<V,Number> distances = new LinkedHashMap<V,Number>();
+        for (int t = 0; t < n; t++)
+        {
+            double upper = getIndexedUpperBound(s, t);
+            if (upper != Double.POSITIVE_INFINITY)
+                distances.put(indexed_graph.getVertex(t), upper);
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the lower bound on the distance between the vertices with
+     * the specified indices in the graph's <code>IndexedGraph</code> view.
+     */
+    public double getIndexedLowerBound(int s, int t)
+    {
+        if (s == t)
+            return 0;
+        double lower = 0;
+        int s_row = s * k;
+        int t_row = t * k;
+        for (int i = 0; i < k; i++)
+        {
+            // d(L,t) <= d(L,s) + d(s,t)
+            double from_s = from[s_row + i];
+            if (from_s != Double.POSITIVE_INFINITY)
+                lower = Math.max(lower, from[t_row + i] - from_s);
+            // d(s,L) <= d(s,t) + d(t,L)
+            double to_t = to[t_row + i];
+            if (to_t != Double.POSITIVE_INFINITY)
+                lower = Math.max(lower, to[s_row + i] - to_t);
+        }
+        return lower;
+    }
+
+    /**
+     * Returns the upper bound on the distance between the vertices with
+     * the specified indices in the graph's <code>IndexedGraph</code> view.
+     */
+    public double getIndexedUpperBound(int s, int t)
+    {
+        if (s == t)
+            return 0;
+        double upper = Double.POSITIVE_INFINITY;
+        int s_row = s * k;
+        int t_row = t * k;
+        for (int i = 0; i < k; i++)
+            upper = Math.min(upper, to[s_row + i] + from[t_row + i]);
+        return upper;
+    }
+
+    private int getIndex(V v, String role)
+    {
+        int index = indexed_graph.getVertexIndex(v);
+        if (index < 0)
+            throw new IllegalArgumentException("Specified " + role + " vertex " +
+                v + " is not part of graph");
+        return index;
+    }
+
+    /**
+     * Returns the number of distances to (or from) the landmarks.
+     * @throws IllegalArgumentException if there are too many to fit in an
+     * array
+     */
+    private int getTableSize()
+    {
+        long size = (long)n * k;
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many distances to store for " + k + 
+                " landmarks and " + n + " vertices: " + size);
+        return (int)size;
+    }
+
+    private boolean isDirected()
+    {
+        IntGraph graph = indexed_graph.getIntGraph();
+        for (int e = 0; e < graph.getEdgeCount(); e++)
+            if (graph.getEdgeType(e) == EdgeType.DIRECTED)
+                return true;
+        return false;
+    }
+
+    /**
+     * Chooses the landmarks one at a time, each farthest from those already
+     * chosen, and records the distances from each as it is chosen.  The
+     * first is the vertex farthest from vertex 0 (which is not itself a
+     * landmark unless chosen later).
+     */
+    private void selectFarthest()
+    {
+        if (k == 0)
+            return;
+        Worker worker = new Worker(null);
+        double[] nearest = new double[n];   // the distance from the nearest landmark
+        boolean[] chosen = new boolean[n];
+        worker.search(0, true, -1);
+        for (int v = 0; v < n; v++)
+            nearest[v] = worker.distance[v] < 0 ? Double.POSITIVE_INFINITY : worker.distance[v];
+        for (int i = 0; i < k; i++)
+        {
+            int farthest = -1;
+            for (int v = 0; v < n; v++)
+                if (!chosen[v] && (farthest < 0 || nearest[v] > nearest[farthest]))
+                    farthest = v;
+            landmarks[i] = farthest;
+            chosen[farthest] = true;
+            worker.search(farthest, true, i);
+            for (int v = 0; v < n; v++)
+                nearest[v] = i == 0 ? from[v * k] : Math.min(nearest[v], from[v * k + i]);
+        }
+    }
+
+    /**
+     * Runs the searches from (and, for directed graphs, to) each landmark,
+     * skipping the searches from the landmarks if they have already been
+     * run.
+     */
+    private void compute(boolean have_from, int threads)
+    {
+        int first = have_from ? k : 0;
+        int tasks = (directed ? 2 * k : k) - first;
+        if (tasks == 0)
+            return;
+        AtomicInteger next_task = new AtomicInteger(first);
+        List<Worker> workers = new ArrayList<Worker>();
+        for (int i = Math.min(threads, tasks); i > 0; i--)
+            workers.add(new Worker(next_task));
+        if (workers.size() == 1)
+            workers.get(0).call();
+        else
+            WorkerPool.invokeAll(WorkerPool.create(workers.size()), workers);
+    }
+
+    /**
+     * Runs the searches that it takes from a shared counter: task
+     * <code>i &lt; k</code> is the search from landmark <code>i</code>, and
+     * task <code>k + i</code> the search to it, which is needed only for
+     * directed graphs.
+     */
+    private class Worker implements Callable<Void>
+    {
+        private final IntGraph graph;
+        private final AtomicInteger next_task;
+        private final double[] distance;    // -1 if not reached
+        private final int[] reached;        // in the order in which they were settled
+        private final IndexedDaryHeap heap; // for weighted graphs
+
+        Worker(AtomicInteger next_task)
+        {
+            this.graph = indexed_graph.getIntGraph();
+            this.next_task = next_task;
+            distance = new double[n];
+            Arrays.fill(distance, -1);
+            reached = new int[n];
+            heap = weights == null ? null : new IndexedDaryHeap(n);
+        }
+
+        public Void call()
+        {
+            int task;
+            int tasks = directed ? 2 * k : k;
+            while ((task = next_task.getAndIncrement()) < tasks)
+            {
+                int i = task % k;
+                search(landmarks[i], task < k, i);
+            }
+            return null;
+        }
+
+        /**
+         * Searches from <code>s</code> along (or, if <code>forward</code> is
+         * <code>false</code>, against) the direction of the edges.  If
+         * <code>column</code> is not negative, the distances are written
+         * into that column of <code>from</code> (or <code>to</code>), and
+         * then cleared; otherwise they are left in <code>distance</code>.
+         */
+        void search(int s, boolean forward, int column)
+        {
+            Arrays.fill(distance, -1);
+            int count = weights == null ? breadthFirst(s, forward) : dijkstra(s, forward);
+            if (column < 0)
+                return;
+            double[] target = forward ? from : to;
+            for (int v = 0; v < n; v++)
+                target[v * k + column] = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < count; j++)
+                target[reached[j] * k + column] = distance[reached[j]];
+        }
+
+        private int breadthFirst(int s, boolean forward)
+        {
+            int head = 0;
+            int tail = 0;
+            distance[s] = 0;
+            reached[tail++] = s;
+            while (head < tail)
+            {
+                int w = reached[head++];
+                int degree = forward ? graph.outDegree(w) : graph.inDegree(w);
+                for (int i = 0; i < degree; i++)
+                {
+                    int x = graph.getOpposite(w, forward ? graph.getOutEdge(w, i) : graph.getInEdge(w, i));
+                    if (distance[x] < 0)
+                    {
+                        distance[x] = distance[w] + 1;
+                        reached[tail++] = x;
+                    }
+                }
+            }
+            return tail;
+        }
+
+        private int dijkstra(int s, boolean forward)
+        {
+            int settled = 0;
+            heap.add(s, 0);
+            while (!heap.isEmpty())
+            {
+                double w_distance = heap.peekPriority();
+                int w = heap.poll();
+                distance[w] = w_distance;
+                reached[settled++] = w;
+                int degree = forward ? graph.outDegree(w) : graph.inDegree(w);
+                for (int i = 0; i < degree; i++)
+                {
+                    int e = forward ? graph.getOutEdge(w, i) : graph.getInEdge(w, i);
+                    int x = graph.getOpposite(w, e);
+                    if (distance[x] < 0)
+                        heap.offer(x, w_distance + weights[e]);
+                }
+            }
+            return settled;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.EdgeWeightColumn;
+import edu.uci.ics.jung.algorithms.util.IndexedDaryHeap;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.algorithms.util.WorkerPool;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+
+/**
+ * Computes the shortest-path distances from each of a batch of sources,
+ * running a breadth-first search (for unweighted graphs) or Dijkstra's
+ * algorithm (for weighted graphs) from each, on several threads.
+ *
+ * <p>Each thread keeps its own heap and arrays, which are reused for every
+ * source it searches, and cleared after each search only where they were
+ * written; they and the threads are created when first needed and reused by
+ * later batches, so that nothing is allocated per source or per batch, and
+ * an instance may be used for many small batches.  As they are shared
+ * by the batches, an instance must not run more than one batch at a
+ * time.  The distances from each source
+ * are passed to a <code>Visitor</code> as soon as they are found, and are
+ * not retained, so that a batch of any size needs memory only in
+ * proportion to the number of threads.  <code>getDistanceRows</code>
+ * collects them into a compact <code>float</code> matrix instead.
+ *
+ * <p>Vertices are identified by their indices in the indexed view of the
+ * graph (see <code>Indexer.createIndexedGraph</code>), which is taken when
+ * this instance is created; later changes to the graph are not reflected.
+ *
+ * @see DijkstraDistance
+ * @see DistanceMatrix
+ */
+public class MultiSourceDijkstra<V,E>
+{
+    /**
+     * Receives the distances from each source of a batch.
+     */
+    public interface Visitor
+    {
+        /**
+         * Receives the distances from one source.  This is called on the
+         * thread which searched from the source, and so may be called
+         * concurrently for different sources, in no particular order.  The
+         * arrays belong to that thread, and are valid, and must not be
+         * modified, only until this method returns.
+         * @param position the position of the source in the batch
+         * @param source the index of the source
+         * @param reached the indices of the vertices reachable from the
+         * source (including the source), in order of nondecreasing distance,
+         * in its first <code>count</code> elements
+         * @param count the number of vertices reachable from the source
+         * @param distance the distance of each vertex in
+         * <code>reached</code>, indexed by vertex index; other elements are
+         * undefined
+         */
+        void visit(int position, int source, int[] reached, int count, double[] distance);
+    }
+
+    private final IndexedGraph<V,E> indexed_graph;
+    private final double[] weights;     // null if unweighted
+    private final int threads;
+    private final boolean forward;
+    private final List<Worker> workers = new ArrayList<Worker>();
+    private ExecutorService executor;   // null until needed
+
+    // the batch being run
+    private int[] sources;
+    private Visitor visitor;
+    private final AtomicInteger next_position = new AtomicInteger();
+
+    /**
+     * Creates an instance which searches <code>graph</code>, using one
+     * thread for each available processor.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     */
+    public MultiSourceDijkstra(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights)
+    {
+        this(graph, edge_weights, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an instance which searches <code>graph</code>, using up to
+     * <code>threads</code> threads.
+     * @param edge_weights the edge weights, or <code>null</code> if the
+     * graph is unweighted
+     * @param threads the number of threads to use
+     */
+    public MultiSourceDijkstra(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights,
+        int threads)
+    {
+        this(Indexer.createIndexedGraph(graph), edge_weights, threads);
+    }
+
+    private MultiSourceDijkstra(IndexedGraph<V,E> graph,
+        Transformer<E, ? extends Number> edge_weights, int threads)
+    {
+        this(graph, EdgeWeightColumn.getNonNegativeWeights(graph, edge_weights), threads);
+    }
+
+    /**
+     * Creates an instance which searches <code>graph</code> with the
+     * specified weights, indexed by edge index, which are not checked.
+     */
+    MultiSourceDijkstra(IndexedGraph<V,E> graph, double[] weights, int threads)
+    {
+        this(graph, weights, threads, true);
+    }
+
+    /**
+     * Creates an instance which searches <code>graph</code> with the
+     * specified weights, indexed by edge index, which are not checked.  If
+     * <code>forward</code> is <code>false</code>, the searches follow the
+     * in-edges of each vertex, and so find the distances <i>to</i> each
+     * source.
+     */
+    MultiSourceDijkstra(IndexedGraph<V,E> graph, double[] weights, int threads, boolean forward)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("number of threads must be positive: " + threads);
+        this.indexed_graph = graph;
+        this.weights = weights;
+        this.threads = threads;
+        this.forward = forward;
+    }
+
+    /**
+     * Returns the indexed view of the graph whose vertex indices identify
+     * the sources and the vertices reached.
+     */
+    public IndexedGraph<V,E> getIndexedGraph()
+    {
+        return indexed_graph;
+    }
+
+    /**
+     * Returns the indices of <code>vertices</code>, in iteration order.
+     * @throws IllegalArgumentException if any vertex is not in the graph
+     */
+    public int[] getIndices(Collection<? extends V> vertices)
+    {
+        int[] indices = new int[vertices.size()];
+        int i = 0;
+        for (V v : vertices)
+        {
+            indices[i] = indexed_graph.getVertexIndex(v);
+            if (indices[i] < 0)
+                throw new IllegalArgumentException("Specified source vertex " +
+                    v + " is not part of graph");
+            i++;
+        }
+        return indices;
+    }
+
+    /**
+     * Searches from each of <code>sources</code>, passing the distances
+     * from each to <code>visitor</code>; returns when all have been passed.
+     * Exceptions thrown by <code>visitor</code> are rethrown, and stop the
+     * remaining searches.
+     * @throws IllegalArgumentException if any source is not in the graph
+     */
+    public void run(Collection<? extends V> sources, Visitor visitor)
+    {
+        run(getIndices(sources), visitor);
+    }
+
+    /**
+     * Searches from the vertices with the specified indices, passing the
+     * distances from each to <code>visitor</code>; returns when all have
+     * been passed.  Exceptions thrown by <code>visitor</code> are rethrown,
+     * and stop the remaining searches.
+     */
+    public void run(int[] sources, Visitor visitor)
+    {
+        int n = indexed_graph.getIntGraph().getVertexCount();
+        for (int s : sources)
+            if (s < 0 || s >= n)
+                throw new IndexOutOfBoundsException("no vertex with index " + s);
+        int worker_count = Math.min(threads, sources.length);
+        while (workers.size() < worker_count)
+            workers.add(new Worker());
+        this.sources = sources;
+        this.visitor = visitor;
+        next_position.set(0);
+        try {
+            if (worker_count == 1)
+                workers.get(0).call();
+            else if (worker_count > 1)
+            {
+                if (executor == null)
+                    executor = WorkerPool.create(threads);
+                WorkerPool.invokeAll(executor, workers.subList(0, worker_count));
+            }
+        } finally {
+            this.sources = null;
+            this.visitor = null;
+        }
+    }
+
+    /**
+     * Returns the distances from each of <code>sources</code>: element
+     * <code>[i][v]</code> is the distance from the <code>i</code>th source
+     * to the vertex with index <code>v</code>, or
+     * <code>Float.POSITIVE_INFINITY</code> if it is not reachable.
+     * Distances are rounded to <code>float</code> precision.
+     * @throws IllegalArgumentException if any source is not in the graph
+     */
+    public float[][] getDistanceRows(Collection<? extends V> sources)
+    {
+        return getDistanceRows(getIndices(sources));
+    }
+
+    /**
+     * Returns the distances from the vertices with the specified indices:
+     * element <code>[i][v]</code> is the distance from
+     * <code>sources[i]</code> to the vertex with index <code>v</code>, or
+     * <code>Float.POSITIVE_INFINITY</code> if it is not reachable.
+     * Distances are rounded to <code>float</code> precision.
+     */
+    public float[][] getDistanceRows(int[] sources)
+    {
+        final int n = indexed_graph.getIntGraph().getVertexCount();
+        final float[][] rows = new float[sources.length][];
+        run(sources, new Visitor()
+        {
+            public void visit(int position, int source, int[] reached, int count, double[] distance)
+            {
+                float[] row = new float[n];
+                Arrays.fill(row, Float.POSITIVE_INFINITY);
+                for (int i = 0; i < count; i++)
+                    row[reached[i]] = (float)distance[reached[i]];
+                rows[position] = row;
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * Searches from the sources of the current batch at the positions that
+     * it takes from a shared counter, passing the distances from each to the
+     * visitor.
+     */
+    private class Worker implements Callable<Void>
+    {
+        private final IntGraph graph;
+        private final double[] distance;    // -1 if not reached
+        private final int[] reached;        // in the order in which they were settled
+        private final IndexedDaryHeap heap; // for weighted graphs
+
+        Worker()
+        {
+            this.graph = indexed_graph.getIntGraph();
+            int n = graph.getVertexCount();
+            distance = new double[n];
+            Arrays.fill(distance, -1);
+            reached = new int[n];
+            heap = weights == null ? null : new IndexedDaryHeap(n);
+        }
+
+        public Void call()
+        {
+            int position;
+            while ((position = next_position.getAndIncrement()) < sources.length)
+            {
+                int s = sources[position];
+                int count = weights == null ? search(s) : dijkstra(s);
+                try {
+                    visitor.visit(position, s, reached, count, distance);
+                } finally {
+                    // leave the arrays ready for the next batch even if the visitor fails
+                    for (int i = 0; i < count; i++)
+                        distance[reached[i]] = -1;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Runs a breadth-first search from <code>s</code>, and returns the
+         * number of vertices reached.
+         */
+        private int search(int s)
+        {
+            int head = 0;
+            int tail = 0;
+            distance[s] = 0;
+            reached[tail++] = s;
+            while (head < tail)
+            {
+                int w = reached[head++];
+                int degree = forward ? graph.outDegree(w) : graph.inDegree(w);
+                for (int i = 0; i < degree; i++)
+                {
+                    int x = graph.getOpposite(w, forward ? graph.getOutEdge(w, i) : graph.getInEdge(w, i));
+                    if (distance[x] < 0)
+                    {
+                        distance[x] = distance[w] + 1;
+                        reached[tail++] = x;
+                    }
+                }
+            }
+            return tail;
+        }
+
+        /**
+         * Runs Dijkstra's algorithm from <code>s</code>, and returns the
+         * number of vertices reached.
+         */
+        private int dijkstra(int s)
+        {
+            int settled = 0;
+            heap.add(s, 0);
+            while (!heap.isEmpty())
+            {
+                double w_distance = heap.peekPriority();
+                int w = heap.poll();
+                distance[w] = w_distance;
+                reached[settled++] = w;
+                int degree = forward ? graph.outDegree(w) : graph.inDegree(w);
+                for (int i = 0; i < degree; i++)
+                {
+                    int e = forward ? graph.getOutEdge(w, i) : graph.getInEdge(w, i);
+                    int x = graph.getOpposite(w, e);
+                    if (distance[x] < 0)
+                        heap.offer(x, w_distance + weights[e]);
+                }
+            }
+            return settled;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import edu.uci.ics.jung.algorithms.util.WorkerPool;
+import edu.uci.ics.jung.graph.IntGraph;
+
+/**
+ * A breadth-first search over an <code>IntGraph</code> which switches
+ * between two ways of finding each level of the search tree:
+ * <ul>
+ * <li>top-down, in which the out-edges of each vertex in the frontier
+ * (the previous level) are scanned for vertices not yet reached; and
+ * <li>bottom-up, in which the in-edges of each vertex not yet reached are
+ * scanned for a vertex in the frontier, stopping at the first found.
+ * </ul>
+ * Bottom-up steps are used while the frontier is large, as in the middle
+ * levels of a search of a small-world graph, where they check far fewer
+ * edges.  Levels with enough work are split among several threads.
+ *
+ * <p>The results are kept in primitive arrays indexed by vertex: the
+ * distance of each vertex from the nearest source, the edge by which it
+ * was reached, and the order in which the vertices were reached (by level,
+ * and in no particular order within a level).  The same arrays are reused,
+ * and cleared only where they were written, by each search, so that a
+ * search which reaches few vertices takes little time; callers which keep
+ * the results of a search past the next must copy them.  The threads are
+ * likewise kept from one search to the next, in a pool supplied by the
+ * caller or held by this instance (whose idle threads exit after a few
+ * seconds).  Instances are not safe for concurrent use.
+ *
+ * @see UnweightedShortestPath
+ * @see BFSDistanceLabeler
+ * @see "Scott Beamer, Krste Asanovic and David Patterson: Direction-Optimizing Breadth-First Search. SC 2012."
+ */
+public class ParallelBreadthFirstSearch
+{
+    /**
+     * A top-down search switches to bottom-up when the frontier's out-edges
+     * number more than 1/<code>ALPHA</code> of the in-edges of the vertices
+     * not yet reached.
+     */
+    private static final int ALPHA = 14;
+
+    /**
+     * A bottom-up search switches back to top-down when the frontier holds
+     * fewer than 1/<code>BETA</code> of the vertices.
+     */
+    private static final int BETA = 24;
+
+    /**
+     * Levels which need fewer than this many edges (top-down) or vertices
+     * (bottom-up) to be checked are run on the calling thread.
+     */
+    private static final int PARALLEL_WORK = 1 << 14;
+
+    private final IntGraph graph;
+    private final int n;
+    private final int threads;
+    private final long in_edges;                    // the sum of the in-degrees
+    private final AtomicLongArray reached_bits;     // claimed atomically by top-down steps
+    private final long[] frontier_bits;             // the frontier, for bottom-up steps
+    private final int[] distance;
+    private final int[] parent;
+    private final int[] order;
+    private ExecutorService executor;               // null until needed
+    private int reached;
+    private int bottom_up_steps;
+
+    /**
+     * Creates an instance which searches <code>graph</code> using up to
+     * <code>threads</code> threads, from a pool which it creates when first
+     * needed.
+     */
+    public ParallelBreadthFirstSearch(IntGraph graph, int threads)
+    {
+        this(graph, null, threads);
+    }
+
+    /**
+     * Creates an instance which searches <code>graph</code> using up to
+     * <code>threads</code> tasks at a time, run by <code>executor</code>.
+     * The executor is not shut down by this instance.
+     * @param executor the executor which runs the tasks into which large
+     * levels are split, or <code>null</code> if this instance should create
+     * its own pool of <code>threads</code> threads when first needed
+     */
+    public ParallelBreadthFirstSearch(IntGraph graph, ExecutorService executor, int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("number of threads must be positive: " + threads);
+        this.graph = graph;
+        this.n = graph.getVertexCount();
+        this.threads = threads;
+        this.executor = executor;
+        long in_edges = 0;
+        for (int v = 0; v < n; v++)
+            in_edges += graph.inDegree(v);
+        this.in_edges = in_edges;
+        this.reached_bits = new AtomicLongArray((n + 63) >>> 6);
+        this.frontier_bits = new long[(n + 63) >>> 6];
+        this.distance = new int[n];
+        this.parent = new int[n];
+        this.order = new int[n];
+        Arrays.fill(distance, -1);
+        Arrays.fill(parent, -1);
+    }
+
+    /**
+     * Searches from the vertices with the specified indices, all at
+     * distance 0.
+     */
+    public void search(int... sources)
+    {
+        // clears the results of the previous search
+        for (int i = 0; i < reached; i++)
+        {
+            int v = order[i];
+            distance[v] = -1;
+            parent[v] = -1;
+            reached_bits.set(v >>> 6, 0);
+        }
+        reached = 0;
+        bottom_up_steps = 0;
+        long unexplored_edges = in_edges;   // in-edges of the vertices not yet reached
+        for (int s : sources)
+        {
+            if (claim(s))
+            {
+                distance[s] = 0;
+                order[reached++] = s;
+                unexplored_edges -= graph.inDegree(s);
+            }
+        }
+
+        boolean top_down = true;
+        for (int level = 0, level_start = 0; level_start < reached; level++)
+        {
+            int level_end = reached;
+            long frontier_edges = 0;
+            for (int i = level_start; i < level_end; i++)
+                frontier_edges += graph.outDegree(order[i]);
+            if (top_down && frontier_edges > unexplored_edges / ALPHA)
+                top_down = false;
+            else if (!top_down && level_end - level_start < n / BETA)
+                top_down = true;
+
+            long work = top_down ? frontier_edges : n - reached;
+            int chunks = threads > 1 && work >= PARALLEL_WORK ? threads * 4 : 1;
+            List<Step> steps = new ArrayList<Step>(chunks);
+            if (top_down)
+            {
+                int size = level_end - level_start;
+                for (int c = 0; c < chunks; c++)
+                    steps.add(new TopDownStep(level + 1,
+                        level_start + (int)((long)size * c / chunks),
+                        level_start + (int)((long)size * (c + 1) / chunks)));
+            }
+            else
+            {
+                bottom_up_steps++;
+                Arrays.fill(frontier_bits, 0);
+                for (int i = level_start; i < level_end; i++)
+                    frontier_bits[order[i] >>> 6] |= 1L << order[i];
+                // chunks are whole words, so that each step alone writes to its words
+                int words = frontier_bits.length;
+                for (int c = 0; c < chunks; c++)
+                    steps.add(new BottomUpStep(level + 1,
+                        Math.min(n, (int)((long)words * c / chunks) << 6),
+                        Math.min(n, (int)((long)words * (c + 1) / chunks) << 6)));
+            }
+            if (steps.size() == 1)
+                steps.get(0).call();
+            else
+            {
+                if (executor == null)
+                    executor = WorkerPool.create(threads);
+                WorkerPool.invokeAll(executor, steps);
+            }
+            for (Step step : steps)
+            {
+                for (int i = 0; i < step.count; i++)
+                {
+                    order[reached++] = step.found[i];
+                    unexplored_edges -= graph.inDegree(step.found[i]);
+                }
+            }
+            level_start = level_end;
+        }
+    }
+
+    /**
+     * Returns the distance of each vertex from the nearest source, or -1
+     * for vertices not reached, as found by the most recent search.  The
+     * array is overwritten by the next search.
+     */
+    public int[] getDistances()
+    {
+        return distance;
+    }
+
+    /**
+     * Returns the index of the edge by which each vertex was reached, or -1
+     * for the sources and for vertices not reached, as found by the most
+     * recent search.  The array is overwritten by the next search.
+     */
+    public int[] getParentEdges()
+    {
+        return parent;
+    }
+
+    /**
+     * Returns an array whose first <code>getReachedCount()</code> elements
+     * are the vertices reached by the most recent search, in order of
+     * nondecreasing distance.  The array is overwritten by the next search.
+     */
+    public int[] getOrder()
+    {
+        return order;
+    }
+
+    /**
+     * Returns the number of vertices reached by the most recent search,
+     * including the sources.
+     */
+    public int getReachedCount()
+    {
+        return reached;
+    }
+
+    /**
+     * Returns the number of levels of the most recent search which were
+     * found bottom-up.
+     */
+    public int getBottomUpStepCount()
+    {
+        return bottom_up_steps;
+    }
+
+    /**
+     * Marks <code>v</code> as reached, and returns <code>true</code> if it
+     * was not already.
+     */
+    private boolean claim(int v)
+    {
+        int word = v >>> 6;
+        long bit = 1L << v;
+        while (true)
+        {
+            long bits = reached_bits.get(word);
+            if ((bits & bit) != 0)
+                return false;
+            if (reached_bits.compareAndSet(word, bits, bits | bit))
+                return true;
+        }
+    }
+
+    /**
+     * Finds part of the next level, recording the vertices found.
+     */
+    private abstract class Step implements Callable<Void>
+    {
+        protected final int distance_found;
+        protected final int from;
+        protected final int to;
+        int[] found = new int[16];
+        int count;
+
+        Step(int distance_found, int from, int to)
+        {
+            this.distance_found = distance_found;
+            this.from = from;
+            this.to = to;
+        }
+
+        public abstract Void call();
+
+        protected void found(int v, int e)
+        {
+            distance[v] = distance_found;
+            parent[v] = e;
+            if (count == found.length)
+            {
+                int[] grown = new int[found.length * 2];
+                System.arraycopy(found, 0, grown, 0, count);
+                found = grown;
+            }
+            found[count++] = v;
+        }
+    }
+
+    /**
+     * Scans the out-edges of the frontier vertices <code>order[from]</code>
+     * through <code>order[to - 1]</code>.
+     */
+    private class TopDownStep extends Step
+    {
+        TopDownStep(int distance_found, int from, int to)
+        {
+            super(distance_found, from, to);
+        }
+
+        public Void call()
+        {
+            for (int i = from; i < to; i++)
+            {
+                int v = order[i];
+                int degree = graph.outDegree(v);
+                for (int j = 0; j < degree; j++)
+                {
+                    int e = graph.getOutEdge(v, j);
+                    int w = graph.getOpposite(v, e);
+                    if (distance[w] < 0 && claim(w))
+                        found(w, e);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Scans the in-edges of the vertices from <code>from</code> to
+     * <code>to - 1</code> which have not been reached.
+     */
+    private class BottomUpStep extends Step
+    {
+        BottomUpStep(int distance_found, int from, int to)
+        {
+            super(distance_found, from, to);
+        }
+
+        public Void call()
+        {
+            for (int v = from; v < to; v++)
+            {
+                if (distance[v] >= 0)
+                    continue;
+                int degree = graph.inDegree(v);
+                for (int j = 0; j < degree; j++)
+                {
+                    int e = graph.getInEdge(v, j);
+                    int u = graph.getOpposite(v, e);
+                    if ((frontier_bits[u >>> 6] & (1L << u)) != 0)
+                    {
+                        claim(v);
+                        found(v, e);
+                        break;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
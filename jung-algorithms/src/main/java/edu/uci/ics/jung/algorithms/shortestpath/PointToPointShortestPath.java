@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.EdgeWeightColumn;
+import edu.uci.ics.jung.algorithms.util.GraphChangeTracker;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+
+/**
+ * A base class for algorithms which answer shortest-path queries between
+ * a single source and a single target, searching the graph's
+ * <code>IntGraph</code> view (see <code>Indexer.createIndexedGraph</code>).
+ * Subclasses implement <code>search</code>; the single-source methods
+ * required by <code>Distance</code> and <code>ShortestPath</code> run
+ * Dijkstra's algorithm to completion.
+ *
+ * <p>The edge weights are read when the graph is indexed, which is done
+ * again (if the graph reports a modification version; see
+ * <code>Versioned</code>) when the graph has been modified.  Instances are
+ * not safe for concurrent use, as the search state is reused from one
+ * query to the next.
+ *
+ * @see DijkstraShortestPath
+ */
+public abstract class PointToPointShortestPath<V,E> implements ShortestPath<V,E>, Distance<V>
+{
+    protected Graph<V,E> graph;
+    protected Transformer<E, ? extends Number> edge_weights;   // null if unweighted
+    protected IndexedGraph<V,E> indexed_graph;
+    protected IntGraph int_graph;
+    protected double[] weights;             // null if unweighted
+
+    /**
+     * The forward search state; used by <code>getDistanceMap</code> and
+     * <code>getIncomingEdgeMap</code>, and available to subclasses in this
+     * package.
+     */
+    SearchSpace forward;
+
+    /**
+     * The number of vertices settled by the most recent query.
+     */
+    protected int settled_count;
+
+    private GraphChangeTracker<V,E> tracker;
+
+    /**
+     * Creates an instance for <code>graph</code>, whose edges are weighted by
+     * <code>edge_weights</code> (or are all of weight 1, if
+     * <code>edge_weights</code> is <code>null</code>).
+     */
+    protected PointToPointShortestPath(Graph<V,E> graph, Transformer<E, ? extends Number> edge_weights)
+    {
+        this.graph = graph;
+        this.edge_weights = edge_weights;
+        this.tracker = new GraphChangeTracker<V,E>(graph);
+        index();
+    }
+
+    /**
+     * Returns the length of a shortest path from <code>source</code> to
+     * <code>target</code>, or <code>null</code> if there is none.
+     * @throws IllegalArgumentException if either vertex is not in the graph
+     */
+    public Number getDistance(V source, V target)
+    {
+        double distance = query(source, target);
+        return distance == Double.POSITIVE_INFINITY ? null : (Number)distance;
+    }
+
+    /**
+     * Returns the edges on a shortest path from <code>source</code> to
+     * <code>target</code>, in order, or an empty list if there is none.
+     * @throws IllegalArgumentException if either vertex is not in the graph
+     */
+    public List<E> getPath(V source, V target)
+    {
+        LinkedList<E> path = new LinkedList<E>();
+        if (query(source, target) == Double.POSITIVE_INFINITY)
+            return path;
+        for (int e : getPathEdges())
+            path.add(indexed_graph.getEdge(e));
+        return path;
+    }
+
+    /**
+     * Returns the number of vertices settled (removed from a queue and
+     * scanned) by the most recent query, a measure of the work it took.
+     */
+    public int getSettledCount()
+    {
+        return settled_count;
+    }
+
+    /**
+     * Returns a map from each vertex reachable from <code>source</code>
+     * (including <code>source</code>) to its distance from
+     * <code>source</code>, in order of nondecreasing distance.
+     */
+    public Map<V,Number> getDistanceMap(V source)
+    {
+        refresh();
+        int s = getIndex(source, "source");
+        Map<V,Number> distances = new LinkedHashMap<V,Number>();
+        for (int v : searchAll(s))
+            distances.put(indexed_graph.getVertex(v), forward.getDistance(v));
+        return distances;
+    }
+
+    /**
+     * Returns a map from each vertex reachable from <code>source</code>
+     * (including <code>source</code>, which is mapped to <code>null</code>)
+     * to the last edge on a shortest path from <code>source</code>, in order
+     * of nondecreasing distance.
+     */
+    public Map<V,E> getIncomingEdgeMap(V source)
+    {
+        refresh();
+        int s = getIndex(source, "source");
+        Map<V,E> incoming = new LinkedHashMap<V,E>();
+        for (int v : searchAll(s))
+        {
+            int e = forward.getParentEdge(v);
+            incoming.put(indexed_graph.getVertex(v), e < 0 ? null : indexed_graph.getEdge(e));
+        }
+        return incoming;
+    }
+
+    /**
+     * Returns the length of a shortest path from the vertex with index
+     * <code>s</code> to the vertex with index <code>t</code>, or
+     * <code>Double.POSITIVE_INFINITY</code> if there is none, leaving the
+     * state from which <code>getPathEdges</code> reconstructs the path.
+     */
+    protected abstract double search(int s, int t);
+
+    /**
+     * Returns the indices of the edges on the path found by the most recent
+     * successful call to <code>search</code>, in order.
+     */
+    protected abstract int[] getPathEdges();
+
+    /**
+     * Called when the graph has been indexed (or indexed again after a
+     * modification), so that subclasses can size their search state.
+     */
+    protected void indexed()
+    {
+    }
+
+    /**
+     * Returns the weight of the edge with index <code>e</code>.
+     */
+    protected double weight(int e)
+    {
+        return weights == null ? 1 : weights[e];
+    }
+
+    /**
+     * Returns the indices of the edges on the path to <code>v</code> in the
+     * search tree of <code>space</code>, in order from its origin.
+     */
+    int[] getTreePath(SearchSpace space, int v)
+    {
+        int length = 0;
+        for (int x = v; space.getParentEdge(x) >= 0; length++)
+            x = int_graph.getOpposite(x, space.getParentEdge(x));
+        int[] path = new int[length];
+        for (int x = v; length > 0; )
+        {
+            int e = space.getParentEdge(x);
+            path[--length] = e;
+            x = int_graph.getOpposite(x, e);
+        }
+        return path;
+    }
+
+    private double query(V source, V target)
+    {
+        refresh();
+        int s = getIndex(source, "source");
+        int t = getIndex(target, "target");
+        settled_count = 0;
+        return search(s, t);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from <code>s</code> to completion, and
+     * returns the vertices settled, in order.
+     */
+    private int[] searchAll(int s)
+    {
+        int[] order = new int[int_graph.getVertexCount()];
+        int settled = 0;
+        forward.reset();
+        forward.relax(s, 0, -1, 0);
+        while (!forward.queue.isEmpty())
+        {
+            int v = forward.queue.poll();
+            forward.settle(v);
+            order[settled++] = v;
+            double v_distance = forward.getDistance(v);
+            int degree = int_graph.outDegree(v);
+            for (int i = 0; i < degree; i++)
+            {
+                int e = int_graph.getOutEdge(v, i);
+                int x = int_graph.getOpposite(v, e);
+                double d = v_distance + weight(e);
+                forward.relax(x, d, e, d);
+            }
+        }
+        int[] result = new int[settled];
+        System.arraycopy(order, 0, result, 0, settled);
+        return result;
+    }
+
+    private int getIndex(V v, String role)
+    {
+        int index = indexed_graph.getVertexIndex(v);
+        if (index < 0)
+            throw new IllegalArgumentException("Specified " + role + " vertex " +
+                v + " is not part of graph " + graph);
+        return index;
+    }
+
+    /**
+     * Indexes the graph again if it has been modified.  Called before each
+     * query; subclasses should call it before using the index otherwise.
+     */
+    protected void refresh()
+    {
+        Set<V> changed = tracker.getChangedVertices();
+        if (changed == null || !changed.isEmpty())
+            index();
+    }
+
+    private void index()
+    {
+        indexed_graph = Indexer.createIndexedGraph(graph);
+        int_graph = indexed_graph.getIntGraph();
+        weights = EdgeWeightColumn.getNonNegativeWeights(indexed_graph, edge_weights);
+        forward = new SearchSpace(int_graph.getVertexCount());
+        indexed();
+    }
+}
@@ -8,6 +8,8 @@ import org.apache.commons.collections15.Factory;
 import org.apache.commons.collections15.Transformer;
 import org.apache.commons.collections15.functors.ConstantTransformer;
 
+import edu.uci.ics.jung.algorithms.util.EdgeWeight;
+import edu.uci.ics.jung.algorithms.util.EdgeWeights;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.util.Pair;
 
@@ -78,6 +80,7 @@ public class PrimMinimumSpanningTree<V,E> implements Transformer<Graph<V,E>,Grap
 	
 	protected void updateTree(Graph<V,E> tree, Graph<V,E> graph, Collection<E> unfinishedEdges) {
 		Collection<V> tv = tree.getVertices();
+		EdgeWeight<E> edge_weights = EdgeWeights.adapt(weights);
 		double minCost = Double.MAX_VALUE;
 		E nextEdge = null;
 		V nextVertex = null;
@@ -91,15 +94,17 @@ public class PrimMinimumSpanningTree<V,E> implements Transformer<Graph<V,E>,Grap
 			V first = endpoints.getFirst();
 			V second = endpoints.getSecond();
 			if((tv.contains(first) == true && tv.contains(second) == false)) {
-				if(weights.transform(e) < minCost) {
-					minCost = weights.transform(e);
+				double cost = edge_weights.getWeight(e);
+				if(cost < minCost) {
+					minCost = cost;
 					nextEdge = e;
 					currentVertex = first;
 					nextVertex = second;
 				}
 			} else if((tv.contains(second) == true && tv.contains(first) == false)) {
-				if(weights.transform(e) < minCost) {
-					minCost = weights.transform(e);
+				double cost = edge_weights.getWeight(e);
+				if(cost < minCost) {
+					minCost = cost;
 					nextEdge = e;
 					currentVertex = second;
 					nextVertex = first;
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Arrays;
+
+import edu.uci.ics.jung.algorithms.util.IndexedDaryHeap;
+
+/**
+ * The state of one direction of a Dijkstra-like search over vertex
+ * indices: tentative distances, the edges by which the vertices were
+ * reached, and the queue of vertices to be scanned.  The arrays are reused
+ * from one search to the next; each vertex is stamped with the search in
+ * which it was reached, so that <code>reset</code> takes constant time.
+ */
+class SearchSpace
+{
+    private final int[] reached_in;         // the search in which each vertex was reached
+    private final int[] settled_in;         // the search in which each vertex was settled
+    private int search;
+    private final double[] distance;
+    private final int[] parent_edge;        // -1 for the origin of the search
+    final IndexedDaryHeap queue;
+
+    SearchSpace(int n)
+    {
+        reached_in = new int[n];
+        settled_in = new int[n];
+        distance = new double[n];
+        parent_edge = new int[n];
+        queue = new IndexedDaryHeap(n);
+        search = 1;
+    }
+
+    /**
+     * Forgets all vertices reached, and empties the queue.
+     */
+    void reset()
+    {
+        queue.clear();
+        if (++search == Integer.MAX_VALUE)
+        {
+            Arrays.fill(reached_in, 0);
+            Arrays.fill(settled_in, 0);
+            search = 1;
+        }
+    }
+
+    boolean isReached(int v)
+    {
+        return reached_in[v] == search;
+    }
+
+    boolean isSettled(int v)
+    {
+        return settled_in[v] == search;
+    }
+
+    /**
+     * Returns the tentative distance of <code>v</code>, or
+     * <code>Double.POSITIVE_INFINITY</code> if it has not been reached.
+     */
+    double getDistance(int v)
+    {
+        return reached_in[v] == search ? distance[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the edge by which <code>v</code> was reached, or -1 if it is
+     * the origin of the search.
+     */
+    int getParentEdge(int v)
+    {
+        return parent_edge[v];
+    }
+
+    void settle(int v)
+    {
+        settled_in[v] = search;
+    }
+
+    /**
+     * Records that <code>v</code> may be reached at distance <code>d</code>
+     * by <code>edge</code>, if it has not been reached by a shorter path,
+     * and (re-)queues it with the specified priority.  Returns
+     * <code>true</code> if the distance of <code>v</code> was lowered.
+     */
+    boolean relax(int v, double d, int edge, double priority)
+    {
+        if (reached_in[v] == search && d >= distance[v])
+            return false;
+        reached_in[v] = search;
+        settled_in[v] = 0;
+        distance[v] = d;
+        parent_edge[v] = edge;
+        if (queue.contains(v))
+            queue.update(v, priority);
+        else
+            queue.add(v, priority);
+        return true;
+    }
+}
@@ -10,12 +10,31 @@
 package edu.uci.ics.jung.algorithms.shortestpath;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
+import edu.uci.ics.jung.algorithms.util.GraphChangeTracker;
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.Versioned;
 
 /**
  * Computes the shortest path distances for graphs whose edges are not weighted (using BFS).
+ * If the graph is an <code>IndexedGraph</code>, or a <code>Graph</code> which reports 
+ * a modification version (see <code>Versioned</code>), the search is done over its 
+ * <code>IntGraph</code> view (see <code>Indexer.createIndexedGraph</code>) by a 
+ * <code>ParallelBreadthFirstSearch</code>, and the maps returned are views of 
+ * its primitive arrays.  Other graphs are searched directly, as a view taken of 
+ * them would not be known to be out of date when they are modified.
+ * 
+ * <p>Results are cached for each source; if the graph reports a 
+ * modification version, the results which may have been invalidated by the 
+ * addition or removal of vertices or edges are discarded automatically 
+ * (see <code>DijkstraDistance</code>); otherwise <code>reset</code> must be
+ * called after the graph is modified.
  * 
  * @author Scott White
  */
@@ -25,17 +44,38 @@ public class UnweightedShortestPath<V, E>
 	private Map<V,Map<V,Number>> mDistanceMap;
 	private Map<V,Map<V,E>> mIncomingEdgeMap;
 	private Hypergraph<V,E> mGraph;
+	private GraphChangeTracker<V,E> mTracker;
     private Map<V, Number> distances = new HashMap<V,Number>();
+    private final int mThreads;
+    private IndexedGraph<V,E> mIndexedGraph;    // null until needed, or if the graph has changed
+    private ParallelBreadthFirstSearch mSearch;
 
 	/**
-	 * Constructs and initializes algorithm
+	 * Constructs and initializes algorithm, which runs each search on the
+	 * calling thread.
 	 * @param g the graph
 	 */
 	public UnweightedShortestPath(Hypergraph<V,E> g)
 	{
+		this(g, 1);
+	}
+
+	/**
+	 * Constructs and initializes algorithm, which will use up to 
+	 * <code>threads</code> threads for each search of a large graph
+	 * (see <code>ParallelBreadthFirstSearch</code>).
+	 * @param g the graph
+	 * @param threads the maximum number of threads to use
+	 */
+	public UnweightedShortestPath(Hypergraph<V,E> g, int threads)
+	{
+		if (threads < 1)
+			throw new IllegalArgumentException("number of threads must be positive: " + threads);
 		mDistanceMap = new HashMap<V,Map<V,Number>>();
 		mIncomingEdgeMap = new HashMap<V,Map<V,E>>();
 		mGraph = g;
+		mTracker = new GraphChangeTracker<V,E>(g);
+		mThreads = threads;
 	}
 
     /**
@@ -52,6 +92,7 @@ public class UnweightedShortestPath<V, E>
      */
 	public Map<V,Number> getDistanceMap(V source)
 	{
+		discardModified();
 		Map<V,Number> sourceSPMap = mDistanceMap.get(source);
 		if (sourceSPMap == null)
 		{
@@ -66,6 +107,7 @@ public class UnweightedShortestPath<V, E>
 	 */
 	public Map<V,E> getIncomingEdgeMap(V source)
 	{
+		discardModified();
 		Map<V,E> sourceIEMap = mIncomingEdgeMap.get(source);
 		if (sourceIEMap == null)
 		{
@@ -80,8 +122,23 @@ public class UnweightedShortestPath<V, E>
 	 * Computes the shortest path distances from a given node to all other nodes.
 	 * @param source the source node
 	 */
+	@SuppressWarnings("unchecked")
 	private void computeShortestPathsFromSource(V source)
 	{
+		if (mIndexedGraph == null)
+		{
+			if (mGraph instanceof IndexedGraph)
+				mIndexedGraph = (IndexedGraph<V,E>)mGraph;
+			else if (mGraph instanceof Graph && mGraph instanceof Versioned)
+				mIndexedGraph = Indexer.createIndexedGraph((Graph<V,E>)mGraph);
+			if (mIndexedGraph != null)
+				mSearch = new ParallelBreadthFirstSearch(mIndexedGraph.getIntGraph(), mThreads);
+		}
+		if (mIndexedGraph != null)
+		{
+			computeShortestPathsFromSource(mIndexedGraph, source);
+			return;
+		}
 		BFSDistanceLabeler<V,E> labeler = new BFSDistanceLabeler<V,E>();
 		labeler.labelDistances(mGraph, source);
         distances = labeler.getDistanceDecorator();
@@ -120,6 +177,70 @@ public class UnweightedShortestPath<V, E>
 		mDistanceMap.put(source, currentSourceSPMap);
 		mIncomingEdgeMap.put(source, currentSourceEdgeMap);
 	}
+
+	/**
+	 * Computes the shortest path distances from <code>source</code> by a
+	 * breadth-first search over the <code>IntGraph</code> view of <code>graph</code>.
+	 */
+	private void computeShortestPathsFromSource(final IndexedGraph<V,E> graph, V source)
+	{
+		int s = graph.getVertexIndex(source);
+		if (s < 0)
+			throw new IllegalArgumentException("Specified source vertex " + 
+					source + " is not part of graph " + mGraph);
+		mSearch.search(s);
+		// the search's arrays are reused by the next search
+		final int[] distance = mSearch.getDistances().clone();
+		final int[] incoming = mSearch.getParentEdges().clone();
+		int reached = mSearch.getReachedCount();
+		int[] order = new int[reached];
+		System.arraycopy(mSearch.getOrder(), 0, order, 0, reached);
+
+		mDistanceMap.put(source, new IndexedVertexMap<V,Number>(graph, order, reached)
+		{
+			@Override
+			Number value(int v)
+			{
+				return distance[v] < 0 ? null : (Number)distance[v];
+			}
+		});
+		mIncomingEdgeMap.put(source, new IndexedVertexMap<V,E>(graph, order, reached - 1)
+		{
+			@Override
+			E value(int v)
+			{
+				return incoming[v] < 0 ? null : graph.getEdge(incoming[v]);
+			}
+		});
+	}
+    
+    /**
+     * Discards the cached results from each source which reached a vertex
+     * touched by modifications of the graph since the last call.
+     */
+    private void discardModified()
+    {
+        Set<V> changed = mTracker.getChangedVertices();
+        if (changed == null)
+            reset();
+        else if (!changed.isEmpty())
+        {
+            mIndexedGraph = null;
+            for (Iterator<Map.Entry<V,Map<V,Number>>> it = mDistanceMap.entrySet().iterator(); it.hasNext(); )
+            {
+                Map.Entry<V,Map<V,Number>> entry = it.next();
+                for (V v : changed)
+                {
+                    if (v.equals(entry.getKey()) || entry.getValue().containsKey(v))
+                    {
+                        mIncomingEdgeMap.remove(entry.getKey());
+                        it.remove();
+                        break;
+                    }
+                }
+            }
+        }
+    }
     
     /**
      * Clears all stored distances for this instance.  
@@ -134,6 +255,7 @@ public class UnweightedShortestPath<V, E>
     {
         mDistanceMap.clear();
         mIncomingEdgeMap.clear();
+        mIndexedGraph = null;
     }
     
     /**
@@ -148,4 +270,12 @@ public class UnweightedShortestPath<V, E>
         mDistanceMap.remove(v);
         mIncomingEdgeMap.remove(v);
     }
+
+    /**
+     * Returns the graph whose distances are computed.
+     */
+    Hypergraph<V,E> getGraph()
+    {
+        return mGraph;
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An <code>EvictionPolicy</code> which bounds the number of entries and
+ * their total size, evicting either the least recently used entry or the
+ * least frequently used one (the oldest such, in case of ties).  Selecting
+ * the least frequently used entry takes time linear in the number of
+ * entries.
+ */
+public class BoundedEvictionPolicy<K> implements EvictionPolicy<K>
+{
+    /**
+     * The entries which are evicted first.
+     */
+    public static enum Order { LEAST_RECENTLY_USED, LEAST_FREQUENTLY_USED }
+
+    private final Order order;
+    private final int max_entries;
+    private final long max_bytes;
+    private final LinkedHashMap<K,long[]> entries; // key -> {bytes, uses}
+    private long total_bytes;
+
+    /**
+     * Creates a policy which keeps at most <code>max_entries</code> entries
+     * whose total size is at most <code>max_bytes</code>.
+     */
+    public BoundedEvictionPolicy(Order order, int max_entries, long max_bytes)
+    {
+        if (order == null)
+            throw new IllegalArgumentException("order may not be null");
+        if (max_entries < 1)
+            throw new IllegalArgumentException("maximum number of entries must be positive: " + max_entries);
+        if (max_bytes < 1)
+            throw new IllegalArgumentException("maximum size must be positive: " + max_bytes);
+        this.order = order;
+        this.max_entries = max_entries;
+        this.max_bytes = max_bytes;
+        this.entries = new LinkedHashMap<K,long[]>(16, 0.75f, order == Order.LEAST_RECENTLY_USED);
+    }
+
+    /**
+     * Creates a policy which keeps at most <code>max_entries</code> entries.
+     */
+    public BoundedEvictionPolicy(Order order, int max_entries)
+    {
+        this(order, max_entries, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the approximate total size of the entries.
+     */
+    public long getTotalBytes()
+    {
+        return total_bytes;
+    }
+
+    public void added(K key, long bytes)
+    {
+        long[] entry = entries.get(key);
+        if (entry == null)
+        {
+            entry = new long[2];
+            entries.put(key, entry);
+        }
+        total_bytes += bytes - entry[0];
+        entry[0] = bytes;
+        entry[1]++;
+    }
+
+    public void accessed(K key)
+    {
+        long[] entry = entries.get(key);
+        if (entry != null)
+            entry[1]++;
+    }
+
+    public void resized(K key, long bytes)
+    {
+        long[] entry = entries.get(key);
+        if (entry != null)
+        {
+            total_bytes += bytes - entry[0];
+            entry[0] = bytes;
+        }
+    }
+
+    public void removed(K key)
+    {
+        long[] entry = entries.remove(key);
+        if (entry != null)
+            total_bytes -= entry[0];
+    }
+
+    public void clear()
+    {
+        entries.clear();
+        total_bytes = 0;
+    }
+
+    public K selectVictim(K keep)
+    {
+        if (entries.size() <= max_entries && total_bytes <= max_bytes)
+            return null;
+        K victim = null;
+        long min_uses = Long.MAX_VALUE;
+        for (Map.Entry<K,long[]> entry : entries.entrySet())
+        {
+            K key = entry.getKey();
+            if (key.equals(keep))
+                continue;
+            if (order == Order.LEAST_RECENTLY_USED)
+                return key;
+            if (entry.getValue()[1] < min_uses)
+            {
+                victim = key;
+                min_uses = entry.getValue()[1];
+            }
+        }
+        return victim;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import org.apache.commons.collections15.Transformer;
+
+/**
+ * An edge weight function which returns its weights as primitive 
+ * <code>double</code>s.  Weighted algorithms which are given an instance of
+ * this interface in place of a <code>Transformer&lt;E,Number&gt;</code> call
+ * <code>getWeight</code> rather than <code>transform</code>, and so
+ * neither box nor unbox the weights.
+ * 
+ * @see EdgeWeightColumn
+ * @see EdgeWeights#adapt(Transformer)
+ */
+public interface EdgeWeight<E> extends Transformer<E,Double>
+{
+    /**
+     * Returns the weight of <code>edge</code>; equivalent to 
+     * <code>transform(edge).doubleValue()</code>.
+     */
+    public double getWeight(E edge);
+}
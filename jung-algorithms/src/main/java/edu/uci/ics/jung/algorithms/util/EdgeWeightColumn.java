@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.graph.IndexedGraph;
+
+/**
+ * Edge weights for an <code>IndexedGraph</code>, stored in a 
+ * <code>double</code> array indexed by edge index.
+ * 
+ * <p>The weight of an edge is read from the array at the edge's index in
+ * the graph; weighted algorithms which accept <code>EdgeWeight</code>s do so
+ * without boxing.  Algorithms which work with edge indices directly may 
+ * use <code>getWeight(int)</code> or the backing array itself, and so 
+ * avoid looking up the edge altogether.
+ * 
+ * <p>Like the graph's indices, a column is only valid as long as the graph
+ * is not modified.
+ */
+@SuppressWarnings("serial")
+public class EdgeWeightColumn<E> implements EdgeWeight<E>, SettableTransformer<E,Double>, Serializable
+{
+    protected IndexedGraph<?,E> graph;
+    protected double[] weights;
+
+    /**
+     * Creates a column for <code>graph</code> in which each edge has weight
+     * <code>default_weight</code>.
+     * @param graph the graph whose edges are to be weighted
+     * @param default_weight the initial weight of each edge
+     */
+    public EdgeWeightColumn(IndexedGraph<?,E> graph, double default_weight)
+    {
+        this.graph = graph;
+        this.weights = new double[graph.getIntGraph().getEdgeCount()];
+        if (default_weight != 0)
+            Arrays.fill(weights, default_weight);
+    }
+
+    /**
+     * Creates a column for <code>graph</code> containing the weights that
+     * <code>weights</code> assigns to its edges.
+     */
+    public EdgeWeightColumn(IndexedGraph<?,E> graph, Transformer<? super E,? extends Number> weights)
+    {
+        this(graph, 0);
+        EdgeWeight<? super E> edge_weight = EdgeWeights.adapt(weights);
+        for (int i = 0; i < this.weights.length; i++)
+            this.weights[i] = edge_weight.getWeight(graph.getEdge(i));
+    }
+
+    /**
+     * Returns the weights that <code>edge_weights</code> assigns to the edges
+     * of <code>graph</code>, indexed by edge index, or <code>null</code> if
+     * <code>edge_weights</code> is <code>null</code> (for algorithms which 
+     * treat every edge as having weight 1).
+     * @throws IllegalArgumentException if any weight is negative
+     */
+    public static <E> double[] getNonNegativeWeights(IndexedGraph<?,E> graph, 
+        Transformer<? super E,? extends Number> edge_weights)
+    {
+        if (edge_weights == null)
+            return null;
+        EdgeWeightColumn<E> column = new EdgeWeightColumn<E>(graph, edge_weights);
+        column.checkNonNegative();
+        return column.weights;
+    }
+
+    /**
+     * Checks that no edge in this column has a negative weight, as required
+     * by shortest-path algorithms which settle each vertex once.
+     * @throws IllegalArgumentException if any weight is negative
+     */
+    public void checkNonNegative()
+    {
+        for (int i = 0; i < weights.length; i++)
+            if (weights[i] < 0)
+                throw new IllegalArgumentException("Weight for edge '" + 
+                    graph.getEdge(i) + "' is < 0: " + weights[i]);
+    }
+
+    public double getWeight(E edge)
+    {
+        return weights[indexOf(edge)];
+    }
+
+    /**
+     * Returns the weight of the edge with index <code>edge_index</code>.
+     */
+    public double getWeight(int edge_index)
+    {
+        return weights[edge_index];
+    }
+
+    /**
+     * Sets the weight of the edge with index <code>edge_index</code>.
+     */
+    public void setWeight(int edge_index, double weight)
+    {
+        weights[edge_index] = weight;
+    }
+
+    /**
+     * Sets the weight of <code>edge</code>.
+     */
+    public void setWeight(E edge, double weight)
+    {
+        weights[indexOf(edge)] = weight;
+    }
+
+    public Double transform(E edge)
+    {
+        return getWeight(edge);
+    }
+
+    public void set(E edge, Double weight)
+    {
+        setWeight(edge, weight.doubleValue());
+    }
+
+    /**
+     * Returns the array in which the weights are stored, indexed by edge index.
+     * Changes to the array are reflected in this column.
+     */
+    public double[] getWeights()
+    {
+        return weights;
+    }
+
+    /**
+     * Returns the graph whose edges this column weights.
+     */
+    public IndexedGraph<?,E> getGraph()
+    {
+        return graph;
+    }
+
+    private int indexOf(E edge)
+    {
+        int index = graph.getEdgeIndex(edge);
+        if (index < 0)
+            throw new IllegalArgumentException(edge + " is not an edge in this graph");
+        return index;
+    }
+}
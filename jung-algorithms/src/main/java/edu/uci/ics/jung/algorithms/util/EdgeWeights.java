@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import org.apache.commons.collections15.Transformer;
+
+/**
+ * Utility methods for <code>EdgeWeight</code>s.
+ */
+public class EdgeWeights 
+{
+    private EdgeWeights()
+    {
+    }
+
+    /**
+     * Returns <code>weights</code> as an <code>EdgeWeight</code>: either
+     * <code>weights</code> itself, if it is one, or a view which unboxes the
+     * values it returns.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> EdgeWeight<E> adapt(final Transformer<E,? extends Number> weights)
+    {
+        if (weights instanceof EdgeWeight)
+            return (EdgeWeight<E>)weights;
+        return new EdgeWeight<E>()
+        {
+            public double getWeight(E edge)
+            {
+                return weights.transform(edge).doubleValue();
+            }
+
+            public Double transform(E edge)
+            {
+                Number weight = weights.transform(edge);
+                return weight instanceof Double ? (Double)weight : Double.valueOf(weight.doubleValue());
+            }
+        };
+    }
+}
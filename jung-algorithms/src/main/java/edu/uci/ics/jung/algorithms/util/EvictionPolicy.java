@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+/**
+ * Decides which entries a bounded cache should discard.  The cache reports
+ * each entry that it adds, uses, resizes or removes, together with the
+ * entry's approximate size in bytes, and asks for a victim after each
+ * addition or growth.
+ */
+public interface EvictionPolicy<K>
+{
+    /**
+     * Records that <code>key</code> has been added to the cache.
+     * @param bytes the approximate size of the entry
+     */
+    void added(K key, long bytes);
+
+    /**
+     * Records that the entry for <code>key</code> has been used.
+     */
+    void accessed(K key);
+
+    /**
+     * Records that the size of the entry for <code>key</code> has changed.
+     * @param bytes the new approximate size of the entry
+     */
+    void resized(K key, long bytes);
+
+    /**
+     * Records that the entry for <code>key</code> has been removed from the
+     * cache, whether or not at this policy's request.
+     */
+    void removed(K key);
+
+    /**
+     * Records that all entries have been removed from the cache.
+     */
+    void clear();
+
+    /**
+     * Returns the key of an entry, other than <code>keep</code>, which
+     * should be removed to bring the cache within its budget, or
+     * <code>null</code> if no entry need be removed.  The cache is expected
+     * to remove the entry and then call <code>removed</code>.
+     * @param keep the key of an entry which is in use and may not be removed
+     */
+    K selectVictim(K keep);
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.ObservableGraph;
+import edu.uci.ics.jung.graph.Versioned;
+import edu.uci.ics.jung.graph.event.GraphEvent;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Detects structural modifications of a graph by means of its modification
+ * version (see <code>Versioned</code>), so that algorithms which cache
+ * results can discard those which may have been invalidated.
+ *
+ * <p>If the graph is an <code>ObservableGraph</code> whose change journal
+ * covers the modifications, the vertices touched by them are reported, so
+ * that only the affected results need be discarded; otherwise all results
+ * must be discarded.  Graphs which do not report versions are assumed not
+ * to change.  Changes to edge weights are not detected.
+ */
+public class GraphChangeTracker<V,E>
+{
+    private final Hypergraph<V,E> graph;
+    private long seen;
+
+    /**
+     * Creates an instance which tracks modifications of <code>graph</code>
+     * made after this call.
+     */
+    public GraphChangeTracker(Hypergraph<V,E> graph)
+    {
+        this.graph = graph;
+        this.seen = getVersion();
+    }
+
+    /**
+     * Returns the vertices which have been added or removed, or are
+     * endpoints of edges which have been added or removed, since the
+     * previous call (or the creation of this instance).  Returns an
+     * empty set if the graph has not been modified, and <code>null</code>
+     * if it has been modified in a way that cannot be itemized.
+     */
+    public Set<V> getChangedVertices()
+    {
+        long version = getVersion();
+        if (version == seen)
+            return Collections.emptySet();
+        Set<V> changed = null;
+        if (graph instanceof ObservableGraph && seen >= 0 && version > seen)
+            changed = getChangedVertices((ObservableGraph<V,E>)graph, seen);
+        seen = version;
+        return changed;
+    }
+
+    private Set<V> getChangedVertices(ObservableGraph<V,E> graph, long since)
+    {
+        List<GraphEvent<V,E>> changes = graph.getChangesSince(since);
+        if (changes == null)
+            return null;
+        Set<V> changed = new HashSet<V>();
+        for (GraphEvent<V,E> evt : changes)
+        {
+            if (evt instanceof GraphEvent.Vertex)
+                changed.add(((GraphEvent.Vertex<V,E>)evt).getVertex());
+            else
+            {
+                Pair<V> endpoints = ((GraphEvent.Edge<V,E>)evt).getEndpoints();
+                if (endpoints == null)
+                    return null;
+                changed.add(endpoints.getFirst());
+                changed.add(endpoints.getSecond());
+            }
+        }
+        return changed;
+    }
+
+    private long getVersion()
+    {
+        return graph instanceof Versioned ? ((Versioned)graph).getVersion() : -1;
+    }
+}
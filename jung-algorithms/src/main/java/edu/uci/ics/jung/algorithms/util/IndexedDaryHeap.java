@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An array-based d-ary min-heap of <code>int</code> elements with
+ * <code>double</code> priorities.  The elements are non-negative integers
+ * (typically vertex indices); the position of each element in the heap is
+ * kept in an array indexed by element, so that <code>contains</code>,
+ * <code>getPriority</code> and <code>update</code> require no hashing and
+ * no boxing.
+ *
+ * <p>The storage used is proportional to the largest element added; the
+ * arrays are grown as necessary.  A wider heap (larger <code>arity</code>)
+ * is shallower, which makes insertions and decreases in priority cheaper
+ * and removals more expensive; the default arity of 4 suits algorithms,
+ * such as Dijkstra's, which decrease priorities more often than they
+ * remove elements.
+ *
+ * @see MapBinaryHeap
+ */
+public class IndexedDaryHeap
+{
+    /**
+     * The default number of children of each node.
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private int[] heap;           // the elements, as an implicit d-ary tree
+    private double[] priorities;  // the priority of each element, by position in the heap
+    private int[] positions;      // the position of each element in the heap, or -1
+    private int size;
+
+    /**
+     * Creates an empty heap in which each node has <code>arity</code>
+     * children, with room for the elements <code>0</code> to
+     * <code>capacity - 1</code>.
+     */
+    public IndexedDaryHeap(int arity, int capacity)
+    {
+        if (arity < 2)
+            throw new IllegalArgumentException("arity must be at least 2: " + arity);
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must be non-negative: " + capacity);
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.priorities = new double[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Creates an empty heap with the default arity and room for the
+     * elements <code>0</code> to <code>capacity - 1</code>.
+     */
+    public IndexedDaryHeap(int capacity)
+    {
+        this(DEFAULT_ARITY, capacity);
+    }
+
+    /**
+     * Returns the number of elements in this heap.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns <code>true</code> if this heap has no elements.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>element</code> is in this heap.
+     */
+    public boolean contains(int element)
+    {
+        return element >= 0 && element < positions.length && positions[element] >= 0;
+    }
+
+    /**
+     * Returns the element at position <code>i</code> of this heap, for
+     * <code>0 &lt;= i &lt; size()</code>; the position of the elements
+     * other than the first (one with the lowest priority) is unspecified.
+     */
+    public int get(int i)
+    {
+        if (i < 0 || i >= size)
+            throw new IndexOutOfBoundsException("no element at position " + i);
+        return heap[i];
+    }
+
+    /**
+     * Returns the priority of <code>element</code>, which must be in this heap.
+     */
+    public double getPriority(int element)
+    {
+        return priorities[position(element)];
+    }
+
+    /**
+     * Adds <code>element</code>, which must not be in this heap, with the
+     * specified priority.
+     */
+    public void add(int element, double priority)
+    {
+        if (element < 0)
+            throw new IllegalArgumentException("element must be non-negative: " + element);
+        if (contains(element))
+            throw new IllegalArgumentException("element " + element + " is already in this heap");
+        ensureCapacity(Math.max(element + 1, size + 1));
+        siftUp(size++, element, priority);
+    }
+
+    /**
+     * Changes the priority of <code>element</code>, which must be in this
+     * heap, to <code>priority</code>.
+     */
+    public void update(int element, double priority)
+    {
+        int i = position(element);
+        if (priority < priorities[i])
+            siftUp(i, element, priority);
+        else
+            siftDown(i, element, priority);
+    }
+
+    /**
+     * Adds <code>element</code> with the specified priority, or lowers its
+     * priority to <code>priority</code> if it is already in this heap with
+     * a higher priority.  Returns <code>true</code> if the heap was changed.
+     */
+    public boolean offer(int element, double priority)
+    {
+        if (!contains(element))
+        {
+            add(element, priority);
+            return true;
+        }
+        int i = positions[element];
+        if (priority >= priorities[i])
+            return false;
+        siftUp(i, element, priority);
+        return true;
+    }
+
+    /**
+     * Returns an element with the lowest priority, without removing it.
+     * @throws NoSuchElementException if this heap is empty
+     */
+    public int peek()
+    {
+        if (size == 0)
+            throw new NoSuchElementException("heap is empty");
+        return heap[0];
+    }
+
+    /**
+     * Returns the lowest priority in this heap.
+     * @throws NoSuchElementException if this heap is empty
+     */
+    public double peekPriority()
+    {
+        if (size == 0)
+            throw new NoSuchElementException("heap is empty");
+        return priorities[0];
+    }
+
+    /**
+     * Removes and returns an element with the lowest priority.
+     * @throws NoSuchElementException if this heap is empty
+     */
+    public int poll()
+    {
+        int top = peek();
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Removes <code>element</code> from this heap, if it is present, and
+     * returns <code>true</code> if it was.
+     */
+    public boolean remove(int element)
+    {
+        if (!contains(element))
+            return false;
+        removeAt(positions[element]);
+        return true;
+    }
+
+    /**
+     * Removes all elements from this heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+            positions[heap[i]] = -1;
+        size = 0;
+    }
+
+    private int position(int element)
+    {
+        if (!contains(element))
+            throw new IllegalArgumentException("element " + element + " is not in this heap");
+        return positions[element];
+    }
+
+    private void removeAt(int i)
+    {
+        positions[heap[i]] = -1;
+        size--;
+        if (i == size)
+            return;
+        int last = heap[size];
+        double last_priority = priorities[size];
+        if (last_priority < priorities[i])
+            siftUp(i, last, last_priority);
+        else
+            siftDown(i, last, last_priority);
+    }
+
+    /**
+     * Places <code>element</code> at or above position <code>i</code>,
+     * moving down the ancestors whose priorities are higher.
+     */
+    private void siftUp(int i, int element, double priority)
+    {
+        while (i > 0)
+        {
+            int parent = (i - 1) / arity;
+            if (priorities[parent] <= priority)
+                break;
+            move(parent, i);
+            i = parent;
+        }
+        place(i, element, priority);
+    }
+
+    /**
+     * Places <code>element</code> at or below position <code>i</code>,
+     * moving up the descendants whose priorities are lower.
+     */
+    private void siftDown(int i, int element, double priority)
+    {
+        while (true)
+        {
+            int first = i * arity + 1;
+            if (first >= size)
+                break;
+            int last = Math.min(first + arity, size);
+            int min = first;
+            for (int c = first + 1; c < last; c++)
+                if (priorities[c] < priorities[min])
+                    min = c;
+            if (priorities[min] >= priority)
+                break;
+            move(min, i);
+            i = min;
+        }
+        place(i, element, priority);
+    }
+
+    private void move(int from, int to)
+    {
+        int element = heap[from];
+        heap[to] = element;
+        priorities[to] = priorities[from];
+        positions[element] = to;
+    }
+
+    private void place(int i, int element, double priority)
+    {
+        heap[i] = element;
+        priorities[i] = priority;
+        positions[element] = i;
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if (capacity > heap.length)
+        {
+            int length = Math.max(capacity, heap.length + (heap.length >> 1) + 1);
+            int[] grown_heap = new int[length];
+            System.arraycopy(heap, 0, grown_heap, 0, size);
+            heap = grown_heap;
+            double[] grown_priorities = new double[length];
+            System.arraycopy(priorities, 0, grown_priorities, 0, size);
+            priorities = grown_priorities;
+        }
+        if (capacity > positions.length)
+        {
+            int[] grown = new int[Math.max(capacity, positions.length + (positions.length >> 1) + 1)];
+            System.arraycopy(positions, 0, grown, 0, positions.length);
+            Arrays.fill(grown, positions.length, grown.length, -1);
+            positions = grown;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * An <code>IndexedGraph</code> snapshot of an arbitrary <code>Graph</code>.
+ * Vertices and edges are indexed in the order in which they are returned by
+ * the graph's <code>getVertices()</code> and <code>getEdges()</code> methods,
+ * and the incoming and outgoing edges of each vertex are copied into 
+ * <code>int</code> arrays.  Each index is stored once in each direction: 
+ * elements are looked up by index in an array, and indices by element in 
+ * a <code>HashMap</code>.
+ * 
+ * <p>This snapshot does not reflect subsequent changes to the original graph.
+ * 
+ * @see Indexer#createIndexedGraph(Graph)
+ */
+public class IndexedGraphAdapter<V,E> implements IndexedGraph<V,E>, IntGraph
+{
+    protected Map<V,Integer> vertex_indices;
+    protected Map<E,Integer> edge_indices;
+    protected Object[] vertices;            // by index
+    protected Object[] edges;
+    protected EdgeType[] edge_types;
+    protected int[] firsts;
+    protected int[] seconds;
+    protected int[] out_offsets;
+    protected int[] out_edges;
+    protected int[] in_offsets;
+    protected int[] in_edges;
+
+    /**
+     * Creates an indexed snapshot of <code>graph</code>.
+     */
+    public IndexedGraphAdapter(Graph<V,E> graph)
+    {
+        vertices = graph.getVertices().toArray();
+        edges = graph.getEdges().toArray();
+        vertex_indices = index(vertices);
+        edge_indices = index(edges);
+        int n = vertices.length;
+        int m = edges.length;
+        edge_types = new EdgeType[m];
+        firsts = new int[m];
+        seconds = new int[m];
+        for (int e = 0; e < m; e++)
+        {
+            E edge = getEdge(e);
+            Pair<V> endpoints = graph.getEndpoints(edge);
+            edge_types[e] = graph.getEdgeType(edge);
+            firsts[e] = vertex_indices.get(endpoints.getFirst());
+            seconds[e] = vertex_indices.get(endpoints.getSecond());
+        }
+
+        out_offsets = new int[n + 1];
+        in_offsets = new int[n + 1];
+        int out_count = 0;
+        int in_count = 0;
+        for (int v = 0; v < n; v++)
+        {
+            out_count += graph.outDegree(getVertex(v));
+            in_count += graph.inDegree(getVertex(v));
+        }
+        out_edges = new int[out_count];
+        in_edges = new int[in_count];
+        int i = 0;
+        int j = 0;
+        for (int v = 0; v < n; v++)
+        {
+            V vertex = getVertex(v);
+            out_offsets[v] = i;
+            for (E e : graph.getOutEdges(vertex))
+                out_edges[i++] = edge_indices.get(e);
+            in_offsets[v] = j;
+            for (E e : graph.getInEdges(vertex))
+                in_edges[j++] = edge_indices.get(e);
+        }
+        out_offsets[n] = i;
+        in_offsets[n] = j;
+    }
+
+    /**
+     * Returns a map from each of <code>elements</code> to its index.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Map<T,Integer> index(Object[] elements)
+    {
+        Map<T,Integer> indices = new HashMap<T,Integer>(elements.length * 4 / 3 + 1);
+        for (int i = 0; i < elements.length; i++)
+            indices.put((T)elements[i], i);
+        return indices;
+    }
+
+    public int getVertexIndex(V vertex)
+    {
+        Integer i = vertex_indices.get(vertex);
+        return i == null ? -1 : i.intValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getVertex(int index)
+    {
+        return (V)vertices[index];
+    }
+
+    public int getEdgeIndex(E edge)
+    {
+        Integer i = edge_indices.get(edge);
+        return i == null ? -1 : i.intValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    public E getEdge(int index)
+    {
+        return (E)edges[index];
+    }
+
+    /**
+     * Returns this instance.
+     */
+    public IntGraph getIntGraph()
+    {
+        return this;
+    }
+
+    public int getVertexCount()
+    {
+        return vertices.length;
+    }
+
+    public int getEdgeCount()
+    {
+        return edges.length;
+    }
+
+    public int outDegree(int v)
+    {
+        return out_offsets[v + 1] - out_offsets[v];
+    }
+
+    public int inDegree(int v)
+    {
+        return in_offsets[v + 1] - in_offsets[v];
+    }
+
+    public int getOutEdge(int v, int i)
+    {
+        return out_edges[out_offsets[v] + i];
+    }
+
+    public int getInEdge(int v, int i)
+    {
+        return in_edges[in_offsets[v] + i];
+    }
+
+    public int getOpposite(int v, int e)
+    {
+        return firsts[e] == v ? seconds[e] : firsts[e];
+    }
+
+    public int getFirst(int e)
+    {
+        return firsts[e];
+    }
+
+    public int getSecond(int e)
+    {
+        return seconds[e];
+    }
+
+    public EdgeType getEdgeType(int e)
+    {
+        return edge_types[e];
+    }
+}
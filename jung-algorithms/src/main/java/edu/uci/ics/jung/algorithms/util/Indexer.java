@@ -14,6 +14,9 @@ import java.util.Collection;
 import org.apache.commons.collections15.BidiMap;
 import org.apache.commons.collections15.bidimap.DualHashBidiMap;
 
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+
 /**
  * A class providing static methods useful for improving the
  * performance of graph algorithms.
@@ -53,4 +56,20 @@ public class Indexer {
 		}
 		return map;
 	}
+
+	/**
+	 * Returns an <code>IndexedGraph</code> for <code>graph</code>: 
+	 * <code>graph</code> itself if it is already an <code>IndexedGraph</code>,
+	 * and otherwise an <code>IndexedGraphAdapter</code> snapshot of it.
+	 * @param <V> the vertex type
+	 * @param <E> the edge type
+	 * @param graph the graph to be indexed
+	 * @return an indexed view or snapshot of <code>graph</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public static <V,E> IndexedGraph<V,E> createIndexedGraph(Graph<V,E> graph) {
+		if (graph instanceof IndexedGraph)
+			return (IndexedGraph<V,E>)graph;
+		return new IndexedGraphAdapter<V,E>(graph);
+	}
 }
@@ -20,7 +20,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Queue;
 import java.util.Vector;
 
 import org.apache.commons.collections15.IteratorUtils;
@@ -38,7 +37,7 @@ import org.apache.commons.collections15.IteratorUtils;
  */
 public class MapBinaryHeap<T>
     extends AbstractCollection<T> 
-    implements Queue<T>
+    implements UpdatableQueue<T>
 {
 	private Vector<T> heap = new Vector<T>();            // holds the heap as an implicit binary tree
     private Map<T,Integer> object_indices = new HashMap<T,Integer>(); // maps each object in the heap to its index in the heap
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.Queue;
+
+/**
+ * A priority queue whose elements may be repositioned when the key values
+ * by which they are ordered change while they are in the queue.
+ *
+ * @see MapBinaryHeap
+ */
+public interface UpdatableQueue<T> extends Queue<T>
+{
+    /**
+     * Informs the queue that the key value of <code>o</code>, which must be
+     * in the queue, has changed, so that its place in the queue may need to
+     * be shifted.
+     */
+    void update(T o);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates thread pools for the parallel algorithms in this library, and
+ * runs tasks on them.
+ */
+public final class WorkerPool
+{
+    /**
+     * The number of seconds for which an idle thread is kept.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 5;
+
+    private WorkerPool()
+    {
+    }
+
+    /**
+     * Returns a pool of up to <code>threads</code> daemon threads, which
+     * exit after they have been idle for a few seconds, so that a pool held
+     * by an instance which is discarded need not be shut down.  Tasks
+     * submitted while every thread is busy are run by the submitting
+     * thread.
+     */
+    public static ExecutorService create(int threads)
+    {
+        final ThreadFactory factory = Executors.defaultThreadFactory();
+        return new ThreadPoolExecutor(0, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new SynchronousQueue<Runnable>(), new ThreadFactory()
+            {
+                public Thread newThread(Runnable r)
+                {
+                    Thread thread = factory.newThread(r);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Runs <code>tasks</code> on <code>executor</code>, and returns when all
+     * have finished, rethrowing the first exception thrown by any of them.
+     */
+    public static void invokeAll(ExecutorService executor, List<? extends Callable<Void>> tasks)
+    {
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks))
+                future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException)e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
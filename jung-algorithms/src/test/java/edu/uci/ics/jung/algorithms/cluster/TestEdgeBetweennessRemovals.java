@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.algorithms.scoring.BetweennessCentrality;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestEdgeBetweennessRemovals extends TestCase
+{
+    public void testUndirected()
+    {
+        for (int threads = 1; threads <= 3; threads += 2)
+            compare(new UndirectedSparseMultigraph<Integer,Integer>(),
+                new UndirectedSparseMultigraph<Integer,Integer>(), threads, Long.MAX_VALUE);
+    }
+
+    public void testDirected()
+    {
+        for (int threads = 1; threads <= 3; threads += 2)
+            compare(new DirectedSparseMultigraph<Integer,Integer>(),
+                new DirectedSparseMultigraph<Integer,Integer>(), threads, Long.MAX_VALUE);
+    }
+
+    public void testMemoryBudget()
+    {
+        // no room for the shortest-path DAGs: every removal recomputes every source
+        for (int threads = 1; threads <= 3; threads += 2)
+            compare(new UndirectedSparseMultigraph<Integer,Integer>(),
+                new UndirectedSparseMultigraph<Integer,Integer>(), threads, 0);
+        try
+        {
+            new EdgeBetweennessRemovals<Integer,Integer>(
+                new UndirectedSparseGraph<Integer,Integer>(), 1, -1);
+            fail("a negative memory budget should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    public void testModularity()
+    {
+        // two triangles joined by a bridge
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        graph.addEdge(0, 0, 1);
+        graph.addEdge(1, 1, 2);
+        graph.addEdge(2, 2, 0);
+        graph.addEdge(3, 3, 4);
+        graph.addEdge(4, 4, 5);
+        graph.addEdge(5, 5, 3);
+        graph.addEdge(6, 2, 3);
+        EdgeBetweennessRemovals<Integer,Integer> removals =
+            new EdgeBetweennessRemovals<Integer,Integer>(graph, 1);
+        assertEquals(1, removals.getClusterCount());
+        assertEquals(0.0, removals.getModularity(), 1e-9);
+        assertEquals(9.0, removals.getEdgeScore(6), 1e-9);
+
+        assertEquals(Integer.valueOf(6), removals.next());
+        assertEquals(9.0, removals.getRemovedEdgeBetweenness(), 1e-9);
+        assertEquals(6, removals.getAffectedSourceCount());
+        assertNull(removals.getEdgeScore(6));
+        assertEquals(2, removals.getClusterCount());
+        assertEquals(2 * (3.0 / 7 - 0.25), removals.getModularity(), 1e-9);
+        assertEquals(7, graph.getEdgeCount());
+
+        while (removals.hasNext())
+            removals.next();
+        assertEquals(6, removals.getClusterCount());
+        assertEquals(7, removals.getEdgesRemoved().size());
+        try
+        {
+            removals.next();
+            fail("no edges remain");
+        }
+        catch (NoSuchElementException e)
+        {
+        }
+    }
+
+    /**
+     * Removes every edge of a random graph, checking after each removal
+     * that the betweenness and components match those computed from
+     * scratch on a copy from which the same edges have been removed.
+     */
+    private void compare(Graph<Integer,Integer> graph, Graph<Integer,Integer> copy, int threads,
+        long max_dag_bytes)
+    {
+        Random random = new Random(threads);
+        for (int v = 0; v < 40; v++)
+        {
+            graph.addVertex(v);
+            copy.addVertex(v);
+        }
+        for (int e = 0; e < 80; e++)
+        {
+            int u = random.nextInt(40);
+            int v = random.nextInt(40);
+            graph.addEdge(e, u, v);
+            copy.addEdge(e, u, v);
+        }
+        EdgeBetweennessRemovals<Integer,Integer> removals =
+            new EdgeBetweennessRemovals<Integer,Integer>(graph, threads, max_dag_bytes);
+        assertEquals(max_dag_bytes > 0, removals.isIncremental());
+        while (removals.hasNext())
+        {
+            BetweennessCentrality<Integer,Integer> expected =
+                new BetweennessCentrality<Integer,Integer>(copy);
+            double max = 0;
+            for (Integer e : copy.getEdges())
+            {
+                assertEquals(expected.getEdgeScore(e), removals.getEdgeScore(e), 1e-6);
+                max = Math.max(max, expected.getEdgeScore(e));
+            }
+            Integer e = removals.next();
+            assertEquals(max, removals.getRemovedEdgeBetweenness(), 1e-6);
+            assertEquals(max, expected.getEdgeScore(e), 1e-6);
+            if (removals.isIncremental())
+                assertTrue(removals.getAffectedSourceCount() <= 40);
+            else
+                assertEquals(40, removals.getAffectedSourceCount());
+            copy.removeEdge(e);
+            Set<Set<Integer>> clusters = new WeakComponentClusterer<Integer,Integer>().transform(copy);
+            assertEquals(new HashSet<Set<Integer>>(clusters),
+                new HashSet<Set<Integer>>(removals.getClusters()));
+            assertEquals(clusters.size(), removals.getClusterCount());
+        }
+        assertEquals(80, graph.getEdgeCount());
+        assertEquals(80, removals.getEdgesRemoved().size());
+    }
+}
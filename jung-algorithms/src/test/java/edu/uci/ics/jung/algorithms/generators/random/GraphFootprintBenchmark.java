@@ -0,0 +1,148 @@
+package edu.uci.ics.jung.algorithms.generators.random;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.collections15.Factory;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Reports the heap retained by the sparse multigraph implementations for
+ * graphs produced by the random generators in this package, comparing the
+ * adaptive per-vertex adjacency sets that these implementations use with
+ * the <code>HashSet</code>s that they used previously.
+ *
+ * <p>Each generated graph is copied into each representation, and the heap
+ * retained by the copy is measured (after garbage collection) with
+ * <code>Runtime</code>; run with a fixed heap size (e.g. <code>-Xms1g -Xmx1g</code>)
+ * for stable results.
+ *
+ * <p>Not run as part of the test suite; usage:
+ * {@code GraphFootprintBenchmark [vertices]}
+ */
+public class GraphFootprintBenchmark {
+
+    private static Object sink;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        Factory<Integer> vertices = counter();
+        Factory<Integer> edges = counter();
+
+        ErdosRenyiGenerator<Integer,Integer> erdos_renyi = new ErdosRenyiGenerator<Integer,Integer>(
+            UndirectedSparseMultigraph.<Integer,Integer>getFactory(), vertices, edges, n, 4.0 / n);
+        erdos_renyi.setSeed(1);
+        report("ErdosRenyi", erdos_renyi.create());
+
+        EppsteinPowerLawGenerator<Integer,Integer> eppstein = new EppsteinPowerLawGenerator<Integer,Integer>(
+            SparseMultigraph.<Integer,Integer>getFactory(), vertices, edges, n, 3 * n, 10 * n);
+        eppstein.setSeed(1);
+        report("EppsteinPowerLaw", eppstein.create());
+
+        BarabasiAlbertGenerator<Integer,Integer> barabasi_albert = new BarabasiAlbertGenerator<Integer,Integer>(
+            SparseMultigraph.<Integer,Integer>getFactory(), vertices, edges, 4, 2, 1, new HashSet<Integer>());
+        barabasi_albert.evolveGraph(n / 4 - 4);
+        report("BarabasiAlbert", barabasi_albert.create());
+
+        int side = (int)Math.sqrt(n / 8);
+        KleinbergSmallWorldGenerator<Integer,Integer> kleinberg = new KleinbergSmallWorldGenerator<Integer,Integer>(
+            DirectedSparseMultigraph.<Integer,Integer>getFactory(), vertices, edges, side, 2);
+        kleinberg.setRandomSeed(1);
+        report("KleinbergSmallWorld", kleinberg.create());
+    }
+
+    private static void report(String name, Graph<Integer,Integer> g) {
+        System.out.println(String.format("%-20s %8d vertices %8d edges", name, g.getVertexCount(), g.getEdgeCount()));
+        if (g instanceof UndirectedGraph) {
+            measure("HashSet", g, new HashSetUndirectedSparseMultigraph<Integer,Integer>());
+            measure("UndirectedSparseMultigraph", g, new UndirectedSparseMultigraph<Integer,Integer>());
+        } else if (g instanceof DirectedSparseMultigraph) {
+            measure("HashSet", g, new HashSetDirectedSparseMultigraph<Integer,Integer>());
+            measure("DirectedSparseMultigraph", g, new DirectedSparseMultigraph<Integer,Integer>());
+        } else {
+            measure("HashSet", g, new HashSetSparseMultigraph<Integer,Integer>());
+            measure("SparseMultigraph", g, new SparseMultigraph<Integer,Integer>());
+        }
+    }
+
+    private static void measure(String name, Graph<Integer,Integer> g, Graph<Integer,Integer> copy) {
+        long before = usedMemory();
+        for (Integer v : g.getVertices())
+            copy.addVertex(v);
+        for (Integer e : g.getEdges())
+            copy.addEdge(e, g.getEndpoints(e), g.getEdgeType(e));
+        sink = copy;
+        long bytes = usedMemory() - before;
+        System.out.println(String.format("    %-28s %12d bytes  %8.1f bytes/vertex",
+            name, bytes, (double)bytes / g.getVertexCount()));
+        sink = null;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Factory<Integer> counter() {
+        return new Factory<Integer>() {
+            int count;
+            public Integer create() {
+                return count++;
+            }
+        };
+    }
+
+    private static <E> Pair<Set<E>> hashSets() {
+        return new Pair<Set<E>>(new HashSet<E>(), new HashSet<E>());
+    }
+
+    /**
+     * The representation used by <code>SparseMultigraph</code> before its
+     * adjacency sets became adaptive.
+     */
+    @SuppressWarnings("serial")
+    private static class HashSetSparseMultigraph<V,E> extends SparseMultigraph<V,E> {
+        @Override
+        public boolean addVertex(V vertex) {
+            if (containsVertex(vertex))
+                return false;
+            vertices.put(vertex, GraphFootprintBenchmark.<E>hashSets());
+            return true;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class HashSetDirectedSparseMultigraph<V,E> extends DirectedSparseMultigraph<V,E> {
+        @Override
+        public boolean addVertex(V vertex) {
+            if (containsVertex(vertex))
+                return false;
+            vertices.put(vertex, GraphFootprintBenchmark.<E>hashSets());
+            return true;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class HashSetUndirectedSparseMultigraph<V,E> extends UndirectedSparseMultigraph<V,E> {
+        @Override
+        public boolean addVertex(V vertex) {
+            if (containsVertex(vertex))
+                return false;
+            vertices.put(vertex, new HashSet<E>());
+            return true;
+        }
+    }
+}
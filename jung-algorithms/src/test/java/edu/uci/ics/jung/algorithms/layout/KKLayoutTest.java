@@ -0,0 +1,29 @@
+package edu.uci.ics.jung.algorithms.layout;
+
+import java.awt.Dimension;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.shortestpath.Distance;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class KKLayoutTest extends TestCase {
+
+	public void testDistancesReused() {
+		Graph<String,Number> graph = TestGraphs.getOneComponentGraph();
+
+		KKLayout<String,Number> layout = new KKLayout<String,Number>(graph);
+		layout.setSize(new Dimension(600,600));
+		layout.initialize();
+		Distance<String> distance = layout.distance;
+		assertNotNull(distance);
+		layout.initialize();
+		assertSame(distance, layout.distance);
+
+		// the distances are recomputed once the graph is modified
+		graph.addEdge(-1, "1", "21");
+		layout.initialize();
+		assertNotSame(distance, layout.distance);
+		assertEquals(1, layout.distance.getDistance("1", "21").intValue());
+	}
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestApproximateBetweennessCentrality extends TestCase
+{
+    public void testUniform()
+    {
+        Graph<Integer,Integer> directed = populate(new DirectedSparseMultigraph<Integer,Integer>(), 1);
+        Graph<Integer,Integer> undirected = populate(new UndirectedSparseMultigraph<Integer,Integer>(), 2);
+        compare(directed, null, ApproximateBetweennessCentrality.Sampling.UNIFORM);
+        compare(undirected, null, ApproximateBetweennessCentrality.Sampling.UNIFORM);
+    }
+
+    public void testDegree()
+    {
+        Graph<Integer,Integer> directed = populate(new DirectedSparseMultigraph<Integer,Integer>(), 3);
+        Random random = new Random(4);
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (int e = 0; e < 400; e++)
+            weights.put(e, 1 + random.nextInt(4));
+        compare(directed, null, ApproximateBetweennessCentrality.Sampling.DEGREE);
+        compare(directed, MapTransformer.getInstance(weights), ApproximateBetweennessCentrality.Sampling.DEGREE);
+    }
+
+    public void testSeed()
+    {
+        Graph<Integer,Integer> graph = populate(new UndirectedSparseMultigraph<Integer,Integer>(), 5);
+        ApproximateBetweennessCentrality<Integer,Integer> first =
+            new ApproximateBetweennessCentrality<Integer,Integer>(graph);
+        first.setSeed(6);
+        first.setThreads(1);
+        first.evaluate(50);
+        ApproximateBetweennessCentrality<Integer,Integer> second =
+            new ApproximateBetweennessCentrality<Integer,Integer>(graph);
+        second.setSeed(6);
+        second.setThreads(3);
+        second.evaluate(50);
+        assertEquals(50, second.getSampleCount());
+        for (Integer v : graph.getVertices())
+        {
+            assertEquals(first.getVertexScore(v), second.getVertexScore(v), 1e-9);
+            assertEquals(first.getVertexError(v), second.getVertexError(v), 1e-9);
+        }
+        for (Integer e : graph.getEdges())
+            assertEquals(first.getEdgeScore(e), second.getEdgeScore(e), 1e-9);
+
+        second.evaluate(1);
+        assertEquals(1, second.getSampleCount());
+        assertTrue(second.getVertexError(0).isNaN());
+        assertNull(second.getVertexScore(-1));
+    }
+
+    public void testUntilStable()
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 7);
+        BetweennessCentrality<Integer,Integer> exact = new BetweennessCentrality<Integer,Integer>(graph);
+        ApproximateBetweennessCentrality<Integer,Integer> approximate =
+            new ApproximateBetweennessCentrality<Integer,Integer>(graph);
+        approximate.setSeed(8);
+        int samples = approximate.evaluateUntilStable(3, 20, 3, 100000);
+        assertEquals(samples, approximate.getSampleCount());
+        assertTrue(samples >= 80);
+        assertTrue(samples < 100000);
+        assertEquals(0, samples % 20);
+
+        // the vertex with the highest exact score is among the estimated top three
+        Integer best = null;
+        for (Integer v : graph.getVertices())
+            if (best == null || exact.getVertexScore(v) > exact.getVertexScore(best))
+                best = v;
+        int higher = 0;
+        for (Integer v : graph.getVertices())
+            if (approximate.getVertexScore(v) > approximate.getVertexScore(best))
+                higher++;
+        assertTrue(higher < 3);
+
+        assertEquals(30, approximate.evaluateUntilStable(3, 20, 3, 30));
+    }
+
+    public void testInvalid()
+    {
+        ApproximateBetweennessCentrality<Integer,Integer> approximate =
+            new ApproximateBetweennessCentrality<Integer,Integer>(
+                populate(new DirectedSparseMultigraph<Integer,Integer>(), 9));
+        try
+        {
+            approximate.evaluate(0);
+            fail("a sample must not be empty");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            approximate.setThreads(0);
+            fail("number of threads must be positive");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    /**
+     * Adds 400 random edges, including parallel edges and self-loops,
+     * among 100 vertices.
+     */
+    private Graph<Integer,Integer> populate(Graph<Integer,Integer> graph, long seed)
+    {
+        Random random = new Random(seed);
+        for (int v = 0; v < 100; v++)
+            graph.addVertex(v);
+        for (int e = 0; e < 400; e++)
+            graph.addEdge(e, random.nextInt(100), random.nextInt(100));
+        return graph;
+    }
+
+    /**
+     * Checks that estimates from a large sample lie within a few estimated
+     * standard errors of the exact scores.
+     */
+    private void compare(Graph<Integer,Integer> graph, Transformer<Integer,Integer> weights,
+        ApproximateBetweennessCentrality.Sampling sampling)
+    {
+        BetweennessCentrality<Integer,Integer> expected = weights == null
+            ? new BetweennessCentrality<Integer,Integer>(graph)
+            : new BetweennessCentrality<Integer,Integer>(graph, weights);
+        ApproximateBetweennessCentrality<Integer,Integer> actual =
+            new ApproximateBetweennessCentrality<Integer,Integer>(graph, weights);
+        actual.setSampling(sampling);
+        actual.setSeed(10);
+        actual.setThreads(2);
+        actual.evaluate(2000);
+        for (Integer v : graph.getVertices())
+            assertEquals(expected.getVertexScore(v), actual.getVertexScore(v),
+                5 * actual.getVertexError(v) + 1e-9);
+        for (Integer e : graph.getEdges())
+            assertEquals(expected.getEdgeScore(e), actual.getEdgeScore(e),
+                5 * actual.getEdgeError(e) + 1e-9);
+    }
+}
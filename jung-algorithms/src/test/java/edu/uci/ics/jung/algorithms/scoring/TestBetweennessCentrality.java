@@ -140,4 +140,28 @@ public class TestBetweennessCentrality extends TestCase
     				edge_weights.transform(e), bc.getEdgeScore(e)));
     	}
     }
+
+    public void testShorterPathFoundLater()
+    {
+    	// 0 reaches 2 directly (weight 5) before it reaches it through 1 (weight 2)
+    	Graph<Integer, Character> graph = new DirectedSparseGraph<Integer, Character>();
+    	graph.addEdge('a', 0, 1);
+    	graph.addEdge('b', 0, 2);
+    	graph.addEdge('c', 1, 2);
+
+    	final int weights[] = {1, 5, 1};
+    	Transformer<Character, Integer> edge_weights = new Transformer<Character, Integer>()
+    	{
+			public Integer transform(Character arg0) { return weights[arg0 - 'a']; }
+    	};
+
+    	BetweennessCentrality<Integer,Character> bc = 
+    		new BetweennessCentrality<Integer,Character>(graph, edge_weights);
+
+    	// the only shortest path from 0 to 2 passes through 1
+    	Assert.assertEquals(1, bc.getVertexScore(1), .001);
+    	Assert.assertEquals(2, bc.getEdgeScore('a'), .001);
+    	Assert.assertEquals(0, bc.getEdgeScore('b'), .001);
+    	Assert.assertEquals(2, bc.getEdgeScore('c'), .001);
+    }
 }
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedCompactGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestParallelBetweennessCentrality extends TestCase
+{
+    public void testUnweighted()
+    {
+        Graph<Integer,Integer> directed = populate(new DirectedSparseMultigraph<Integer,Integer>(), 1);
+        Graph<Integer,Integer> undirected = populate(new UndirectedSparseMultigraph<Integer,Integer>(), 2);
+        for (int threads = 1; threads <= 4; threads += 3)
+        {
+            compare(directed, null, threads);
+            compare(undirected, null, threads);
+            compare(UndirectedCompactGraph.copyOf(undirected), null, threads);
+        }
+    }
+
+    public void testWeighted()
+    {
+        Graph<Integer,Integer> directed = populate(new DirectedSparseMultigraph<Integer,Integer>(), 3);
+        Graph<Integer,Integer> undirected = populate(new UndirectedSparseMultigraph<Integer,Integer>(), 4);
+        Random random = new Random(5);
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (int e = 0; e < 400; e++)
+            weights.put(e, 1 + random.nextInt(4));
+        for (int threads = 1; threads <= 4; threads += 3)
+        {
+            compare(directed, MapTransformer.getInstance(weights), threads);
+            compare(undirected, MapTransformer.getInstance(weights), threads);
+        }
+    }
+
+    public void testNegativeWeight()
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 6);
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (int e = 0; e < 400; e++)
+            weights.put(e, e == 17 ? -1 : 1);
+        try
+        {
+            new ParallelBetweennessCentrality<Integer,Integer>(graph, MapTransformer.getInstance(weights), 2);
+            fail("negative weights should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    /**
+     * Adds 400 random edges, including parallel edges and self-loops,
+     * among 100 vertices.
+     */
+    private Graph<Integer,Integer> populate(Graph<Integer,Integer> graph, long seed)
+    {
+        Random random = new Random(seed);
+        for (int v = 0; v < 100; v++)
+            graph.addVertex(v);
+        for (int e = 0; e < 400; e++)
+            graph.addEdge(e, random.nextInt(100), random.nextInt(100));
+        return graph;
+    }
+
+    private void compare(Graph<Integer,Integer> graph, Transformer<Integer,Integer> weights, int threads)
+    {
+        BetweennessCentrality<Integer,Integer> expected = weights == null
+            ? new BetweennessCentrality<Integer,Integer>(graph)
+            : new BetweennessCentrality<Integer,Integer>(graph, weights);
+        ParallelBetweennessCentrality<Integer,Integer> actual =
+            new ParallelBetweennessCentrality<Integer,Integer>(graph, weights, threads);
+        for (Integer v : graph.getVertices())
+            assertEquals(expected.getVertexScore(v), actual.getVertexScore(v), 1e-9);
+        for (Integer e : graph.getEdges())
+            assertEquals(expected.getEdgeScore(e), actual.getEdgeScore(e), 1e-9);
+        assertNull(actual.getVertexScore(-1));
+    }
+}
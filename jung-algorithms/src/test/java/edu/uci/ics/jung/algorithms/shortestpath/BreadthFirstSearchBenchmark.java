@@ -0,0 +1,114 @@
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+/**
+ * Compares the time taken by single-source searches of a small-world graph
+ * (a ring with random chords) by a plain top-down breadth-first search
+ * which fills <code>HashMap</code>s, by <code>ParallelBreadthFirstSearch</code>
+ * on one thread and on all processors, and by
+ * <code>UnweightedShortestPath</code>.
+ *
+ * <p>Not run as part of the test suite; usage:
+ * {@code BreadthFirstSearchBenchmark [vertices] [edges] [sources] [rounds]}
+ */
+public class BreadthFirstSearchBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 2000000;
+        int sources = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        Random random = new Random(1);
+        for (int v = 0; v < n; v++)
+            graph.addEdge(v, v, (v + 1) % n);
+        for (int e = n; graph.getEdgeCount() < m; e++) {
+            int v = random.nextInt(n);
+            int w = random.nextInt(n);
+            if (v != w && graph.findEdge(v, w) == null)
+                graph.addEdge(e, v, w);
+        }
+        IndexedGraph<Integer,Integer> indexed = Indexer.createIndexedGraph(graph);
+        IntGraph ints = indexed.getIntGraph();
+        int processors = Runtime.getRuntime().availableProcessors();
+        ParallelBreadthFirstSearch serial = new ParallelBreadthFirstSearch(ints, 1);
+        ParallelBreadthFirstSearch parallel = new ParallelBreadthFirstSearch(ints, processors);
+        // indexes the graph on its first search; each round uses new sources, as results are cached
+        UnweightedShortestPath<Integer,Integer> usp = new UnweightedShortestPath<Integer,Integer>(graph);
+        usp.getDistanceMap(n - 1);
+
+        for (int round = 0; round < rounds; round++) {
+            boolean last = round == rounds - 1;
+            long start = System.nanoTime();
+            long sum = 0;
+            for (int s = 0; s < sources; s++)
+                sum += topDown(indexed, s).size();
+            report("top-down, HashMap", System.nanoTime() - start, sources, sum, last);
+            start = System.nanoTime();
+            sum = 0;
+            for (int s = 0; s < sources; s++) {
+                serial.search(s);
+                sum += serial.getReachedCount();
+            }
+            report("direction-optimizing", System.nanoTime() - start, sources, sum, last);
+            start = System.nanoTime();
+            sum = 0;
+            for (int s = 0; s < sources; s++) {
+                parallel.search(s);
+                sum += parallel.getReachedCount();
+            }
+            report("... on " + processors + " threads", System.nanoTime() - start, sources, sum, last);
+            start = System.nanoTime();
+            sum = 0;
+            for (int s = 0; s < sources; s++)
+                sum += usp.getDistanceMap(round * sources + s).size();
+            report("UnweightedShortestPath", System.nanoTime() - start, sources, sum, last);
+        }
+    }
+
+    /**
+     * A top-down search of the <code>IntGraph</code> view, with the results
+     * copied into a map.
+     */
+    private static Map<Integer,Number> topDown(IndexedGraph<Integer,Integer> graph, int s) {
+        IntGraph g = graph.getIntGraph();
+        int n = g.getVertexCount();
+        int[] distance = new int[n];
+        int[] queue = new int[n];
+        for (int i = 0; i < n; i++)
+            distance[i] = -1;
+        distance[s] = 0;
+        int tail = 0;
+        queue[tail++] = s;
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            for (int i = 0, d = g.outDegree(v); i < d; i++) {
+                int w = g.getOpposite(v, g.getOutEdge(v, i));
+                if (distance[w] < 0) {
+                    distance[w] = distance[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        Map<Integer,Number> distances = new HashMap<Integer,Number>();
+        for (int i = 0; i < tail; i++)
+            distances.put(graph.getVertex(queue[i]), distance[queue[i]]);
+        return distances;
+    }
+
+    private static void report(String name, long nanos, int sources, long sum, boolean report) {
+        if (report)
+            System.out.println(String.format("%-24s ms/source: %8.3f  (checksum %d)",
+                name, nanos / 1e6 / sources, sum));
+    }
+}
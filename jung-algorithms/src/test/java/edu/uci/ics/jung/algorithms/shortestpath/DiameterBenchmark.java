@@ -0,0 +1,67 @@
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Random;
+
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+/**
+ * Compares the time taken to find the diameter of a scale-free graph
+ * (grown by preferential attachment, with each new vertex linked to one or
+ * three others; undirected, and directed with each edge in a random
+ * direction, plus a ring to keep it strongly connected) by
+ * <code>Eccentricity</code> and, for graphs of up to 20000 vertices, by a
+ * <code>DistanceMatrix</code>, and reports the number of searches run by
+ * <code>Eccentricity</code>.
+ *
+ * <p>Not run as part of the test suite; usage:
+ * {@code DiameterBenchmark [vertices]}
+ */
+public class DiameterBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        for (int directed = 0; directed <= 1; directed++) {
+            Graph<Integer,Integer> graph = directed == 1
+                ? new DirectedSparseGraph<Integer,Integer>()
+                : new UndirectedSparseGraph<Integer,Integer>();
+            Random random = new Random(1);
+            int[] ends = new int[8 * n];    // each vertex once for each incident edge
+            int ends_count = 0;
+            int e = 0;
+            if (directed == 1)
+                for (; e < n; e++)
+                    graph.addEdge(e, e, (e + 1) % n);
+            graph.addEdge(e++, 0, 1);
+            ends[ends_count++] = 0;
+            ends[ends_count++] = 1;
+            for (int v = 2; v < n; v++) {
+                int links = random.nextBoolean() ? 1 : 3;
+                for (int i = 0; i < links; i++) {
+                    int w = ends[random.nextInt(ends_count)];
+                    if (graph.findEdge(v, w) != null || graph.findEdge(w, v) != null)
+                        continue;
+                    if (random.nextBoolean())
+                        graph.addEdge(e++, v, w);
+                    else
+                        graph.addEdge(e++, w, v);
+                    ends[ends_count++] = v;
+                    ends[ends_count++] = w;
+                }
+            }
+            String kind = directed == 1 ? "directed" : "undirected";
+            long start = System.nanoTime();
+            Eccentricity<Integer,Integer> eccentricity = new Eccentricity<Integer,Integer>(graph);
+            double diameter = eccentricity.getDiameter(false);
+            System.out.println(String.format("%-10s Eccentricity:   %10.1f ms  (diameter %.0f, %d searches)",
+                kind, (System.nanoTime() - start) / 1e6, diameter, eccentricity.getSearchCount()));
+            if (n <= 20000) {
+                start = System.nanoTime();
+                diameter = new DistanceMatrix<Integer,Integer>(graph).getDiameter(false);
+                System.out.println(String.format("%-10s DistanceMatrix: %10.1f ms  (diameter %.0f)",
+                    kind, (System.nanoTime() - start) / 1e6, diameter));
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+/**
+ * Compares the time taken to find the weighted distances from a batch of
+ * sources in a random graph by calling
+ * <code>DijkstraDistance.getDistanceMap</code> for each source (without
+ * caching), and by <code>MultiSourceDijkstra</code> on one thread and on
+ * all processors, with a visitor which sums the distances.
+ *
+ * <p>Not run as part of the test suite; usage:
+ * {@code MultiSourceDijkstraBenchmark [vertices] [edges] [sources] [rounds]}
+ */
+public class MultiSourceDijkstraBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+        int batch = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        Map<Integer,Integer> weight_map = new HashMap<Integer,Integer>();
+        Random random = new Random(1);
+        for (int v = 0; v < n; v++) {
+            graph.addEdge(v, v, (v + 1) % n);
+            weight_map.put(v, 1 + random.nextInt(100));
+        }
+        for (int e = n; graph.getEdgeCount() < m; e++) {
+            int v = random.nextInt(n);
+            int w = random.nextInt(n);
+            if (v != w && graph.findEdge(v, w) == null) {
+                graph.addEdge(e, v, w);
+                weight_map.put(e, 1 + random.nextInt(100));
+            }
+        }
+        Transformer<Integer,Integer> weights = MapTransformer.getInstance(weight_map);
+        List<Integer> sources = new ArrayList<Integer>();
+        for (int i = 0; i < batch; i++)
+            sources.add(random.nextInt(n));
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        for (int round = 0; round < rounds; round++) {
+            boolean last = round == rounds - 1;
+            long start = System.nanoTime();
+            double sum = 0;
+            DijkstraDistance<Integer,Integer> dd = new DijkstraDistance<Integer,Integer>(graph, weights, false);
+            for (Integer s : sources)
+                for (Number d : dd.getDistanceMap(s).values())
+                    sum += d.doubleValue();
+            report("DijkstraDistance", System.nanoTime() - start, batch, sum, last);
+            for (int threads = 1; threads <= processors; threads = threads == 1 && processors > 1 ? processors : threads + processors) {
+                start = System.nanoTime();
+                Summer summer = new Summer();
+                new MultiSourceDijkstra<Integer,Integer>(graph, weights, threads).run(sources, summer);
+                report("MultiSourceDijkstra, " + threads, System.nanoTime() - start, batch, summer.sum, last);
+            }
+        }
+    }
+
+    private static class Summer implements MultiSourceDijkstra.Visitor {
+        double sum;
+
+        public synchronized void visit(int position, int source, int[] reached, int count, double[] distance) {
+            for (int i = 0; i < count; i++)
+                sum += distance[reached[i]];
+        }
+    }
+
+    private static void report(String name, long nanos, int sources, double sum, boolean report) {
+        if (report)
+            System.out.println(String.format("%-24s ms/source: %8.3f  (checksum %.0f)",
+                name, nanos / 1e6 / sources, sum));
+    }
+}
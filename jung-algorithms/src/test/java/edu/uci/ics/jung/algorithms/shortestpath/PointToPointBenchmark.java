@@ -0,0 +1,96 @@
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.awt.geom.Point2D;
+import java.util.Random;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+/**
+ * Compares the time taken by point-to-point queries on a road-like grid
+ * graph (with edge weights no less than their lengths) when they are
+ * answered by <code>DijkstraShortestPath</code> (without caching), by
+ * <code>BidirectionalDijkstraShortestPath</code>, by
+ * <code>AStarShortestPath</code> with a <code>EuclideanDistanceHeuristic</code>
+ * and by a <code>ContractionHierarchy</code> (whose build time is reported
+ * separately).
+ *
+ * <p>Not run as part of the test suite; usage:
+ * {@code PointToPointBenchmark [grid side] [queries] [rounds]}
+ */
+public class PointToPointBenchmark {
+
+    public static void main(String[] args) {
+        final int side = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        for (int v = 0; v < side * side; v++) {
+            if (v % side > 0)
+                graph.addEdge(graph.getEdgeCount(), v - 1, v);
+            if (v >= side)
+                graph.addEdge(graph.getEdgeCount(), v - side, v);
+        }
+        Transformer<Integer,Integer> weights = new Transformer<Integer,Integer>() {
+            public Integer transform(Integer e) {
+                return 10 + (e * 7919) % 10;
+            }
+        };
+        Transformer<Integer,Point2D> locations = new Transformer<Integer,Point2D>() {
+            public Point2D transform(Integer v) {
+                return new Point2D.Double(v % side, v / side);
+            }
+        };
+        DijkstraShortestPath<Integer,Integer> dijkstra =
+            new DijkstraShortestPath<Integer,Integer>(graph, weights, false);
+        BidirectionalDijkstraShortestPath<Integer,Integer> bidirectional =
+            new BidirectionalDijkstraShortestPath<Integer,Integer>(graph, weights);
+        AStarShortestPath<Integer,Integer> astar = new AStarShortestPath<Integer,Integer>(graph, weights,
+            new EuclideanDistanceHeuristic<Integer>(locations, 10));
+        long build = System.nanoTime();
+        ContractionHierarchy<Integer,Integer> hierarchy =
+            new ContractionHierarchy<Integer,Integer>(graph, weights);
+        System.out.println(String.format("ContractionHierarchy build ms: %.0f  (%d shortcuts)",
+            (System.nanoTime() - build) / 1e6, hierarchy.getShortcutCount()));
+
+        for (int round = 0; round < rounds; round++) {
+            boolean last = round == rounds - 1;
+            Random random = new Random(round);
+            int[] sources = new int[queries];
+            int[] targets = new int[queries];
+            for (int i = 0; i < queries; i++) {
+                sources[i] = random.nextInt(side * side);
+                targets[i] = random.nextInt(side * side);
+            }
+            long start = System.nanoTime();
+            double sum = 0;
+            for (int i = 0; i < queries; i++)
+                sum += dijkstra.getDistance(sources[i], targets[i]).doubleValue();
+            report("DijkstraShortestPath", System.nanoTime() - start, queries, sum, last);
+            start = System.nanoTime();
+            sum = 0;
+            for (int i = 0; i < queries; i++)
+                sum += bidirectional.getDistance(sources[i], targets[i]).doubleValue();
+            report("Bidirectional", System.nanoTime() - start, queries, sum, last);
+            start = System.nanoTime();
+            sum = 0;
+            for (int i = 0; i < queries; i++)
+                sum += astar.getDistance(sources[i], targets[i]).doubleValue();
+            report("A* (Euclidean)", System.nanoTime() - start, queries, sum, last);
+            start = System.nanoTime();
+            sum = 0;
+            for (int i = 0; i < queries; i++)
+                sum += hierarchy.getDistance(sources[i], targets[i]).doubleValue();
+            report("ContractionHierarchy", System.nanoTime() - start, queries, sum, last);
+        }
+    }
+
+    private static void report(String name, long nanos, int queries, double sum, boolean report) {
+        if (report)
+            System.out.println(String.format("%-22s ms/query: %8.3f  (checksum %.0f)",
+                name, nanos / 1e6 / queries, sum));
+    }
+}
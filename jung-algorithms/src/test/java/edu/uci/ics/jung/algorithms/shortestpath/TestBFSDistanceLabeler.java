@@ -64,4 +64,23 @@ public class TestBFSDistanceLabeler extends TestCase {
         Assert.assertEquals(labeler.getDistance(graph,5),1);
 
 	}
-}
\ No newline at end of file
+
+	public void testModified() {
+        Graph<Number,Number> graph = new UndirectedSparseMultigraph<Number,Number>();
+        graph.addEdge(0,0,1);
+        graph.addEdge(1,1,2);
+        BFSDistanceLabeler<Number,Number> labeler = new BFSDistanceLabeler<Number,Number>();
+        labeler.labelDistances(graph,0);
+        Assert.assertEquals(labeler.getDistance(graph,2),2);
+
+        // the graph's view must not be reused once it has been modified
+        graph.addEdge(2,2,3);
+        graph.addEdge(3,0,2);
+        labeler.labelDistances(graph,0);
+        Assert.assertEquals(labeler.getDistance(graph,2),1);
+        Assert.assertEquals(labeler.getDistance(graph,3),2);
+        graph.removeEdge(0);
+        labeler.labelDistances(graph,0);
+        Assert.assertEquals(labeler.getDistance(graph,1),2);
+	}
+}
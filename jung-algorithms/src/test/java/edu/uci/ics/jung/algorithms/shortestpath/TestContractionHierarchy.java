@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestContractionHierarchy extends TestCase
+{
+    public void testRandom()
+    {
+        for (int seed = 1; seed <= 2; seed++)
+        {
+            Graph<Integer,Integer> graph = populate(seed == 1
+                ? new DirectedSparseMultigraph<Integer,Integer>()
+                : new UndirectedSparseMultigraph<Integer,Integer>(), seed);
+            Transformer<Integer,Integer> weights = weights(graph, seed);
+            compare(graph, weights, new ContractionHierarchy<Integer,Integer>(graph, weights));
+            compare(graph, null, new ContractionHierarchy<Integer,Integer>(graph));
+        }
+    }
+
+    public void testGrid()
+    {
+        Graph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        int size = 20;
+        for (int v = 0; v < size * size; v++)
+        {
+            if (v % size > 0)
+                graph.addEdge(graph.getEdgeCount(), v - 1, v);
+            if (v >= size)
+                graph.addEdge(graph.getEdgeCount(), v - size, v);
+        }
+        Transformer<Integer,Integer> weights = weights(graph, 3);
+        ContractionHierarchy<Integer,Integer> hierarchy =
+            new ContractionHierarchy<Integer,Integer>(graph, weights);
+        DijkstraShortestPath<Integer,Integer> expected =
+            new DijkstraShortestPath<Integer,Integer>(graph, weights);
+        Random random = new Random(3);
+        int settled = 0;
+        for (int i = 0; i < 50; i++)
+        {
+            int s = random.nextInt(size * size);
+            int t = random.nextInt(size * size);
+            assertEquals(expected.getDistance(s, t).doubleValue(),
+                hierarchy.getDistance(s, t).doubleValue());
+            settled += hierarchy.getSettledCount();
+        }
+        // far fewer than the vertices a one-way search would settle
+        assertTrue(settled < 50 * size * size / 4);
+    }
+
+    public void testSaveAndLoad() throws IOException
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 4);
+        Transformer<Integer,Integer> weights = weights(graph, 4);
+        ContractionHierarchy<Integer,Integer> hierarchy =
+            new ContractionHierarchy<Integer,Integer>(graph, weights);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        hierarchy.save(out);
+        ContractionHierarchy<Integer,Integer> loaded = ContractionHierarchy.load(
+            new ByteArrayInputStream(out.toByteArray()), graph, weights);
+        assertEquals(hierarchy.getShortcutCount(), loaded.getShortcutCount());
+        compare(graph, weights, loaded);
+
+        Graph<Integer,Integer> other = populate(new DirectedSparseMultigraph<Integer,Integer>(), 4);
+        other.addVertex(100);
+        try
+        {
+            ContractionHierarchy.load(new ByteArrayInputStream(out.toByteArray()), other, weights);
+            fail("a hierarchy for a different graph should be rejected");
+        }
+        catch (IOException e)
+        {
+        }
+
+        try
+        {
+            ContractionHierarchy.load(new ByteArrayInputStream(out.toByteArray()), graph,
+                weights(graph, 5));
+            fail("a hierarchy for different weights should be rejected");
+        }
+        catch (IOException e)
+        {
+        }
+
+        // a modified graph is indexed again before saving
+        graph.removeEdge(0);
+        graph.addEdge(0, 0, 79);
+        out.reset();
+        hierarchy.save(out);
+        loaded = ContractionHierarchy.load(new ByteArrayInputStream(out.toByteArray()), graph, weights);
+        compare(graph, weights, loaded);
+    }
+
+    public void testModified()
+    {
+        Graph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+        graph.addEdge(0, 0, 1);
+        graph.addEdge(1, 1, 2);
+        ContractionHierarchy<Integer,Integer> hierarchy = new ContractionHierarchy<Integer,Integer>(graph);
+        assertEquals(2.0, hierarchy.getDistance(0, 2));
+        assertNull(hierarchy.getDistance(2, 0));
+        graph.addEdge(2, 2, 0);
+        assertEquals(1.0, hierarchy.getDistance(2, 0));
+        try
+        {
+            hierarchy.getDistance(0, 3);
+            fail("vertices not in the graph should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    /**
+     * Adds 200 random edges, including parallel edges and self-loops,
+     * among 80 vertices.
+     */
+    private Graph<Integer,Integer> populate(Graph<Integer,Integer> graph, long seed)
+    {
+        Random random = new Random(seed);
+        for (int v = 0; v < 80; v++)
+            graph.addVertex(v);
+        for (int e = 0; e < 200; e++)
+            graph.addEdge(e, random.nextInt(80), random.nextInt(80));
+        return graph;
+    }
+
+    private Transformer<Integer,Integer> weights(Graph<Integer,Integer> graph, long seed)
+    {
+        Random random = new Random(seed);
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (Integer e : graph.getEdges())
+            weights.put(e, random.nextInt(5));
+        return MapTransformer.getInstance(weights);
+    }
+
+    private void compare(Graph<Integer,Integer> graph, Transformer<Integer,Integer> weights,
+        ContractionHierarchy<Integer,Integer> actual)
+    {
+        Distance<Integer> expected = weights == null
+            ? new UnweightedShortestPath<Integer,Integer>(graph)
+            : new DijkstraDistance<Integer,Integer>(graph, weights);
+        for (Integer s : graph.getVertices())
+        {
+            for (Integer t : graph.getVertices())
+            {
+                Number d = expected.getDistance(s, t);
+                List<Integer> path = actual.getPath(s, t);
+                if (d == null)
+                {
+                    assertNull(actual.getDistance(s, t));
+                    assertTrue(path.isEmpty());
+                    continue;
+                }
+                assertEquals(d.doubleValue(), actual.getDistance(s, t).doubleValue());
+                // the path leads from s to t and has the right length
+                double length = 0;
+                Integer v = s;
+                for (Integer e : path)
+                {
+                    assertTrue(graph.getOutEdges(v).contains(e));
+                    v = graph.getOpposite(v, e);
+                    length += weights == null ? 1 : weights.transform(e);
+                }
+                assertEquals(t, v);
+                assertEquals(d.doubleValue(), length);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Map;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.util.BoundedEvictionPolicy;
+import edu.uci.ics.jung.algorithms.util.BoundedEvictionPolicy.Order;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestDijkstraCache extends TestCase
+{
+    private Graph<Integer,Integer> graph;
+
+    @Override
+    protected void setUp()
+    {
+        // a path 0 - 1 - ... - 19
+        graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 19; i++)
+            graph.addEdge(i, i, i + 1);
+    }
+
+    public void testLeastRecentlyUsed()
+    {
+        DijkstraShortestPath<Integer,Integer> dsp = new DijkstraShortestPath<Integer,Integer>(graph);
+        dsp.setEvictionPolicy(new BoundedEvictionPolicy<Integer>(Order.LEAST_RECENTLY_USED, 2));
+        Map<Integer,Number> from_0 = dsp.getDistanceMap(0);
+        dsp.getDistanceMap(1);
+        assertSame(from_0, dsp.getDistanceMap(0));
+        dsp.getDistanceMap(2);
+        // 1 was least recently used
+        assertEquals(2, dsp.sourceMap.size());
+        assertFalse(dsp.sourceMap.containsKey(1));
+        assertSame(from_0, dsp.getDistanceMap(0));
+        assertEquals(3, dsp.getPath(3, 0).size());
+        assertFalse(dsp.sourceMap.containsKey(2));
+
+        assertEquals(2, dsp.getCacheHits());
+        assertEquals(4, dsp.getCacheMisses());
+        assertEquals(2, dsp.getCacheEvictions());
+    }
+
+    public void testLeastFrequentlyUsed()
+    {
+        DijkstraDistance<Integer,Integer> dd = new DijkstraDistance<Integer,Integer>(graph);
+        dd.setEvictionPolicy(new BoundedEvictionPolicy<Integer>(Order.LEAST_FREQUENTLY_USED, 2));
+        for (int i = 0; i < 3; i++)
+            dd.getDistance(5, 0);
+        dd.getDistance(6, 0);
+        dd.getDistance(6, 0);
+        dd.getDistance(7, 0);
+        // the entry in use is never evicted
+        assertFalse(dd.sourceMap.containsKey(6));
+        assertTrue(dd.sourceMap.containsKey(7));
+        dd.getDistance(8, 0);
+        assertFalse(dd.sourceMap.containsKey(7));
+        assertTrue(dd.sourceMap.containsKey(5));
+        assertTrue(dd.sourceMap.containsKey(8));
+        assertEquals(2, dd.getCacheEvictions());
+    }
+
+    public void testBytes()
+    {
+        DijkstraDistance<Integer,Integer> dd = new DijkstraDistance<Integer,Integer>(graph);
+        dd.getDistanceMap(0);
+        long bytes = dd.sourceMap.get(0).estimateSize();
+        assertTrue(bytes > 0);
+
+        BoundedEvictionPolicy<Integer> policy =
+            new BoundedEvictionPolicy<Integer>(Order.LEAST_RECENTLY_USED, 100, 3 * bytes);
+        dd.setEvictionPolicy(policy);
+        for (int i = 1; i < 10; i++)
+            assertEquals((double)(19 - i), dd.getDistance(i, 19).doubleValue());
+        assertTrue(policy.getTotalBytes() <= 3 * bytes);
+        assertTrue(dd.sourceMap.size() <= 3);
+        assertEquals(policy.getTotalBytes(), totalBytes(dd));
+
+        // a partial search is resized as it proceeds
+        dd.reset();
+        assertEquals(0, policy.getTotalBytes());
+        dd.getDistanceMap(10, 2);
+        long partial = policy.getTotalBytes();
+        dd.getDistanceMap(10);
+        assertTrue(policy.getTotalBytes() > partial);
+        assertEquals(policy.getTotalBytes(), totalBytes(dd));
+        dd.reset(10);
+        assertEquals(0, policy.getTotalBytes());
+    }
+
+    public void testUncached()
+    {
+        DijkstraDistance<Integer,Integer> dd = new DijkstraDistance<Integer,Integer>(graph, false);
+        dd.getDistance(0, 5);
+        dd.getDistance(0, 5);
+        assertEquals(0, dd.getCacheHits());
+        assertEquals(2, dd.getCacheMisses());
+        assertTrue(dd.sourceMap.isEmpty());
+    }
+
+    private long totalBytes(DijkstraDistance<Integer,Integer> dd)
+    {
+        long total = 0;
+        for (DijkstraDistance<Integer,Integer>.SourceData sd : dd.sourceMap.values())
+            total += sd.estimateSize();
+        return total;
+    }
+}
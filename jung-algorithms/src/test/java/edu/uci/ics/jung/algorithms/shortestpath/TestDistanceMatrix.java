@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.algorithms.scoring.ClosenessCentrality;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestDistanceMatrix extends TestCase
+{
+    public void testUnweighted()
+    {
+        Graph<Integer,Integer> directed = populate(new DirectedSparseMultigraph<Integer,Integer>(), 1);
+        Graph<Integer,Integer> undirected = populate(new UndirectedSparseMultigraph<Integer,Integer>(), 2);
+        for (int threads = 1; threads <= 3; threads += 2)
+        {
+            compare(directed, new UnweightedShortestPath<Integer,Integer>(directed),
+                new DistanceMatrix<Integer,Integer>(directed, null, threads));
+            compare(undirected, new UnweightedShortestPath<Integer,Integer>(undirected),
+                new DistanceMatrix<Integer,Integer>(undirected, null, threads));
+        }
+    }
+
+    public void testWeighted()
+    {
+        Graph<Integer,Integer> directed = populate(new DirectedSparseMultigraph<Integer,Integer>(), 3);
+        Transformer<Integer,Integer> weights = weights(4);
+        for (int threads = 1; threads <= 3; threads += 2)
+            compare(directed, new DijkstraDistance<Integer,Integer>(directed, weights),
+                new DistanceMatrix<Integer,Integer>(directed, weights, threads));
+    }
+
+    public void testMapped() throws IOException
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 5);
+        Transformer<Integer,Integer> weights = weights(6);
+        File file = File.createTempFile("distances", ".bin");
+        file.deleteOnExit();
+        compare(graph, new UnweightedShortestPath<Integer,Integer>(graph),
+            new DistanceMatrix<Integer,Integer>(graph, null, 2, file));
+        assertEquals(2L * 60 * 60, file.length());
+        compare(graph, new DijkstraDistance<Integer,Integer>(graph, weights),
+            new DistanceMatrix<Integer,Integer>(graph, weights, 2, file));
+        assertEquals(4L * 60 * 60, file.length());
+    }
+
+    public void testDiameter()
+    {
+        Graph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 5; i++)
+            graph.addEdge(i, i, i + 1);
+        DistanceMatrix<Integer,Integer> matrix = new DistanceMatrix<Integer,Integer>(graph);
+        assertEquals(5.0, matrix.getDiameter(false));
+        assertEquals(5.0, DistanceStatistics.diameter(graph));
+        graph.addVertex(6);
+        matrix = new DistanceMatrix<Integer,Integer>(graph);
+        assertEquals(Double.POSITIVE_INFINITY, matrix.getDiameter(false));
+        assertEquals(5.0, matrix.getDiameter(true));
+        assertEquals(5.0, DistanceStatistics.diameter(graph, matrix, true));
+        assertNull(matrix.getDistance(0, 6));
+        assertEquals(Integer.valueOf(3), matrix.getDistance(1, 4));
+        // a matrix for another graph is only used for its distances
+        Graph<Integer,Integer> part = new UndirectedSparseMultigraph<Integer,Integer>();
+        part.addEdge(0, 0, 1);
+        part.addEdge(1, 1, 2);
+        assertEquals(2.0, DistanceStatistics.diameter(part, matrix, true));
+    }
+
+    public void testScores()
+    {
+        Graph<Integer,Integer> graph = populate(new UndirectedSparseMultigraph<Integer,Integer>(), 7);
+        ClosenessCentrality<Integer,Integer> expected = new ClosenessCentrality<Integer,Integer>(graph);
+        ClosenessCentrality<Integer,Integer> actual = new ClosenessCentrality<Integer,Integer>(graph,
+            new DistanceMatrix<Integer,Integer>(graph));
+        for (Integer v : graph.getVertices())
+            assertEquals(expected.getVertexScore(v), actual.getVertexScore(v));
+    }
+
+    public void testInvalid()
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 7);
+        DistanceMatrix<Integer,Integer> matrix = new DistanceMatrix<Integer,Integer>(graph);
+        try
+        {
+            matrix.getDistance(0, 100);
+            fail("vertices not in the graph should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (int e = 0; e < 150; e++)
+            weights.put(e, e == 10 ? -1 : 1);
+        try
+        {
+            new DistanceMatrix<Integer,Integer>(graph, MapTransformer.getInstance(weights));
+            fail("negative weights should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    /**
+     * Adds 150 random edges, including parallel edges and self-loops,
+     * among 60 vertices.
+     */
+    private Graph<Integer,Integer> populate(Graph<Integer,Integer> graph, long seed)
+    {
+        Random random = new Random(seed);
+        for (int v = 0; v < 60; v++)
+            graph.addVertex(v);
+        for (int e = 0; e < 150; e++)
+            graph.addEdge(e, random.nextInt(60), random.nextInt(60));
+        return graph;
+    }
+
+    private Transformer<Integer,Integer> weights(long seed)
+    {
+        Random random = new Random(seed);
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (int e = 0; e < 150; e++)
+            weights.put(e, random.nextInt(10));
+        return MapTransformer.getInstance(weights);
+    }
+
+    private void compare(Graph<Integer,Integer> graph, Distance<Integer> expected,
+        DistanceMatrix<Integer,Integer> actual)
+    {
+        double diameter = 0;
+        for (Integer v : graph.getVertices())
+        {
+            Map<Integer,Number> expected_map = expected.getDistanceMap(v);
+            assertEquals(expected_map.size(), actual.getDistanceMap(v).size());
+            for (Integer w : graph.getVertices())
+            {
+                Number d = expected.getDistance(v, w);
+                if (d == null)
+                    assertNull(actual.getDistance(v, w));
+                else
+                {
+                    assertEquals(d.doubleValue(), actual.getDistance(v, w).doubleValue());
+                    diameter = Math.max(diameter, d.doubleValue());
+                }
+            }
+        }
+        assertEquals(diameter, actual.getDiameter(true));
+    }
+}
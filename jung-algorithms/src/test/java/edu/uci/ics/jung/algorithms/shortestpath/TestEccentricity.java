@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestEccentricity extends TestCase
+{
+    public void testRandom()
+    {
+        for (int seed = 1; seed <= 8; seed++)
+        {
+            // sparse enough that some are disconnected, dense enough that some are not
+            int m = seed % 4 < 2 ? 70 : 200;
+            Graph<Integer,Integer> graph = populate(seed % 2 == 1
+                ? new DirectedSparseMultigraph<Integer,Integer>()
+                : new UndirectedSparseMultigraph<Integer,Integer>(), m, seed);
+            Transformer<Integer,Integer> weights = weights(m, seed);
+            for (int threads = 1; threads <= 3; threads += 2)
+            {
+                compare(graph, new DijkstraDistance<Integer,Integer>(graph, weights),
+                    new Eccentricity<Integer,Integer>(graph, weights, threads));
+                compare(graph, new UnweightedShortestPath<Integer,Integer>(graph),
+                    new Eccentricity<Integer,Integer>(graph, null, threads));
+            }
+        }
+    }
+
+    public void testFewSearches()
+    {
+        // a ring of 2000 vertices with random chords
+        Graph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        Random random = new Random(1);
+        for (int v = 0; v < 2000; v++)
+            graph.addEdge(v, v, (v + 1) % 2000);
+        for (int e = 2000; e < 2500; e++)
+            graph.addEdge(e, random.nextInt(2000), random.nextInt(2000));
+        // a path hanging from the ring, so that the diameter is unusual
+        for (int v = 2000; v < 2020; v++)
+            graph.addEdge(v + 1000, v - 1, v);
+        Eccentricity<Integer,Integer> eccentricity = new Eccentricity<Integer,Integer>(graph, null, 1);
+        double diameter = eccentricity.getDiameter(false);
+        assertTrue(eccentricity.getSearchCount() < 100);
+        assertEquals(new DistanceMatrix<Integer,Integer>(graph).getDiameter(false), diameter);
+        assertEquals(diameter, DistanceStatistics.diameter(graph));
+        assertEquals(diameter, DistanceStatistics.diameter(graph,
+            new UnweightedShortestPath<Integer,Integer>(graph), true));
+    }
+
+    public void testCycle()
+    {
+        // the worst case: every vertex has the same eccentricity
+        Graph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int v = 0; v < 101; v++)
+            graph.addEdge(v, v, (v + 1) % 101);
+        Eccentricity<Integer,Integer> eccentricity = new Eccentricity<Integer,Integer>(graph, null, 4);
+        assertEquals(100.0, eccentricity.getDiameter(false));
+        assertEquals(100.0, eccentricity.getEccentricity(7));
+        graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        for (int v = 0; v < 101; v++)
+            graph.addEdge(v, v, (v + 1) % 101);
+        eccentricity = new Eccentricity<Integer,Integer>(graph, null, 4);
+        assertEquals(50.0, eccentricity.getDiameter(false));
+        for (double e : eccentricity.getEccentricities().values())
+            assertEquals(50.0, e);
+    }
+
+    public void testInvalid()
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 100, 9);
+        Eccentricity<Integer,Integer> eccentricity = new Eccentricity<Integer,Integer>(graph, null, 2);
+        try
+        {
+            eccentricity.getEccentricity(100);
+            fail("vertices not in the graph should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            new Eccentricity<Integer,Integer>(graph, null, 0);
+            fail("a non-positive number of threads should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        assertEquals(0.0, new Eccentricity<Integer,Integer>(
+            new UndirectedSparseMultigraph<Integer,Integer>()).getDiameter(false));
+    }
+
+    /**
+     * Adds <code>m</code> random edges, including parallel edges and
+     * self-loops, among 50 vertices.
+     */
+    private Graph<Integer,Integer> populate(Graph<Integer,Integer> graph, int m, long seed)
+    {
+        Random random = new Random(seed);
+        for (int v = 0; v < 50; v++)
+            graph.addVertex(v);
+        for (int e = 0; e < m; e++)
+            graph.addEdge(e, random.nextInt(50), random.nextInt(50));
+        return graph;
+    }
+
+    private Transformer<Integer,Integer> weights(int m, long seed)
+    {
+        Random random = new Random(seed);
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (int e = 0; e < m; e++)
+            weights.put(e, random.nextInt(10));
+        return MapTransformer.getInstance(weights);
+    }
+
+    /**
+     * Checks the eccentricities and diameters against all distances.
+     */
+    private void compare(Graph<Integer,Integer> graph, Distance<Integer> expected,
+        Eccentricity<Integer,Integer> actual)
+    {
+        double diameter = 0;
+        double connected_diameter = 0;
+        Map<Integer,Double> eccentricities = actual.getEccentricities();
+        assertEquals(graph.getVertexCount(), eccentricities.size());
+        for (Integer s : graph.getVertices())
+        {
+            double e = 0;
+            for (Integer t : graph.getVertices())
+            {
+                Number d = expected.getDistance(s, t);
+                e = d == null ? Double.POSITIVE_INFINITY : Math.max(e, d.doubleValue());
+                if (d != null)
+                    connected_diameter = Math.max(connected_diameter, d.doubleValue());
+            }
+            assertEquals(e, actual.getEccentricity(s));
+            assertEquals(e, eccentricities.get(s));
+            diameter = Math.max(diameter, e);
+        }
+        assertEquals(diameter, actual.getDiameter(false));
+        assertEquals(connected_diameter, actual.getDiameter(true));
+        assertEquals(diameter, DistanceStatistics.diameter(graph, expected, false));
+        assertEquals(connected_diameter, DistanceStatistics.diameter(graph, expected, true));
+    }
+}
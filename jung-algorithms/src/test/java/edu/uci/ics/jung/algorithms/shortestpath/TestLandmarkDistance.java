@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestLandmarkDistance extends TestCase
+{
+    public void testBounds()
+    {
+        for (int seed = 1; seed <= 2; seed++)
+        {
+            Graph<Integer,Integer> graph = populate(seed == 1
+                ? new DirectedSparseMultigraph<Integer,Integer>()
+                : new UndirectedSparseMultigraph<Integer,Integer>(), seed);
+            Transformer<Integer,Integer> weights = weights(seed);
+            for (LandmarkDistance.Selection selection : LandmarkDistance.Selection.values())
+            {
+                for (int threads = 1; threads <= 3; threads += 2)
+                {
+                    compare(graph, new DijkstraDistance<Integer,Integer>(graph, weights),
+                        new LandmarkDistance<Integer,Integer>(graph, weights, 5, selection, threads));
+                    compare(graph, new UnweightedShortestPath<Integer,Integer>(graph),
+                        new LandmarkDistance<Integer,Integer>(graph, null, 5, selection, threads));
+                }
+            }
+        }
+    }
+
+    public void testRandom()
+    {
+        Graph<Integer,Integer> graph = populate(new UndirectedSparseMultigraph<Integer,Integer>(), 1);
+        List<Integer> chosen = new LandmarkDistance<Integer,Integer>(graph, null, 5,
+            new Random(7), 1).getLandmarks();
+        assertEquals(chosen, new LandmarkDistance<Integer,Integer>(graph, null, 5,
+            new Random(7), 3).getLandmarks());
+        assertEquals(5, new HashSet<Integer>(chosen).size());
+        compare(graph, new UnweightedShortestPath<Integer,Integer>(graph),
+            new LandmarkDistance<Integer,Integer>(graph, null, 5, new Random(8), 1));
+        try
+        {
+            new LandmarkDistance<Integer,Integer>(graph, null, 5, (Random)null, 1);
+            fail("null source of random numbers should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    public void testFarthest()
+    {
+        // a path 0-1-...-9: the landmarks are its two ends
+        Graph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 9; i++)
+            graph.addEdge(i, i, i + 1);
+        LandmarkDistance<Integer,Integer> landmarks =
+            new LandmarkDistance<Integer,Integer>(graph, null, 2);
+        assertEquals(Arrays.asList(9, 0), landmarks.getLandmarks());
+        // every shortest path lies on a shortest path from a landmark
+        assertEquals(4.0, landmarks.getLowerBound(3, 7));
+        // but the shortest path through a landmark is longer
+        assertEquals(8.0, landmarks.getDistance(7, 3));
+        assertEquals(6.0, landmarks.getDistance(9, 3));
+        assertEquals(10, landmarks.getDistanceMap(5).size());
+
+        // the landmarks cover each component
+        graph.addEdge(9, 10, 11);
+        landmarks = new LandmarkDistance<Integer,Integer>(graph, null, 2);
+        assertEquals(Arrays.asList(10, 0), landmarks.getLandmarks());
+        assertEquals(1.0, landmarks.getDistance(10, 11));
+        assertNull(landmarks.getDistance(0, 10));
+        assertEquals(Double.POSITIVE_INFINITY, landmarks.getLowerBound(0, 10));
+    }
+
+    public void testHeuristic()
+    {
+        // a 30 x 30 grid
+        Graph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        int size = 30;
+        for (int v = 0; v < size * size; v++)
+        {
+            if (v % size > 0)
+                graph.addEdge(graph.getEdgeCount(), v - 1, v);
+            if (v >= size)
+                graph.addEdge(graph.getEdgeCount(), v - size, v);
+        }
+        DistanceHeuristic<Integer> zero = new DistanceHeuristic<Integer>()
+        {
+            public double getLowerBound(Integer source, Integer target)
+            {
+                return 0;
+            }
+        };
+        AStarShortestPath<Integer,Integer> dijkstra =
+            new AStarShortestPath<Integer,Integer>(graph, null, zero);
+        AStarShortestPath<Integer,Integer> alt = new AStarShortestPath<Integer,Integer>(graph, null,
+            new LandmarkDistance<Integer,Integer>(graph, null, 4));
+        Random random = new Random(1);
+        int dijkstra_settled = 0;
+        int alt_settled = 0;
+        for (int i = 0; i < 20; i++)
+        {
+            int s = random.nextInt(size * size);
+            int t = random.nextInt(size * size);
+            assertEquals(dijkstra.getDistance(s, t), alt.getDistance(s, t));
+            dijkstra_settled += dijkstra.getSettledCount();
+            alt_settled += alt.getSettledCount();
+        }
+        assertTrue(alt_settled < dijkstra_settled / 2);
+    }
+
+    public void testInvalid()
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 3);
+        LandmarkDistance<Integer,Integer> landmarks =
+            new LandmarkDistance<Integer,Integer>(graph, null, 3);
+        try
+        {
+            landmarks.getDistance(0, 100);
+            fail("vertices not in the graph should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            new LandmarkDistance<Integer,Integer>(graph, null, 0);
+            fail("a non-positive number of landmarks should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            new LandmarkDistance<Integer,Integer>(graph, null, Arrays.asList(100), 1);
+            fail("landmarks not in the graph should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    /**
+     * Adds 150 random edges, including parallel edges and self-loops,
+     * among 60 vertices.
+     */
+    private Graph<Integer,Integer> populate(Graph<Integer,Integer> graph, long seed)
+    {
+        Random random = new Random(seed);
+        for (int v = 0; v < 60; v++)
+            graph.addVertex(v);
+        for (int e = 0; e < 150; e++)
+            graph.addEdge(e, random.nextInt(60), random.nextInt(60));
+        return graph;
+    }
+
+    private Transformer<Integer,Integer> weights(long seed)
+    {
+        Random random = new Random(seed);
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (int e = 0; e < 150; e++)
+            weights.put(e, random.nextInt(10));
+        return MapTransformer.getInstance(weights);
+    }
+
+    private void compare(Graph<Integer,Integer> graph, Distance<Integer> expected,
+        LandmarkDistance<Integer,Integer> actual)
+    {
+        for (Integer s : graph.getVertices())
+        {
+            for (Integer t : graph.getVertices())
+            {
+                Number d = expected.getDistance(s, t);
+                double lower = actual.getLowerBound(s, t);
+                double upper = actual.getUpperBound(s, t);
+                if (d == null)
+                {
+                    assertNull(actual.getDistance(s, t));
+                    assertEquals(Double.POSITIVE_INFINITY, upper);
+                    continue;
+                }
+                assertTrue(lower <= d.doubleValue());
+                assertTrue(upper >= d.doubleValue());
+                if (upper != Double.POSITIVE_INFINITY)
+                    assertEquals(upper, actual.getDistance(s, t).doubleValue());
+            }
+        }
+        // the distances to and from the landmarks are exact
+        for (Integer l : actual.getLandmarks())
+        {
+            for (Integer v : graph.getVertices())
+            {
+                if (expected.getDistance(l, v) == null)
+                    assertNull(actual.getDistance(l, v));
+                else
+                    assertEquals(expected.getDistance(l, v).doubleValue(), actual.getUpperBound(l, v));
+                if (expected.getDistance(v, l) != null)
+                    assertEquals(expected.getDistance(v, l).doubleValue(), actual.getUpperBound(v, l));
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestMultiSourceDijkstra extends TestCase
+{
+    public void testVisitor()
+    {
+        for (int seed = 1; seed <= 2; seed++)
+        {
+            Graph<Integer,Integer> graph = populate(seed == 1
+                ? new DirectedSparseMultigraph<Integer,Integer>()
+                : new UndirectedSparseMultigraph<Integer,Integer>(), seed);
+            Transformer<Integer,Integer> weights = weights(seed);
+            for (int threads = 1; threads <= 3; threads += 2)
+            {
+                compare(new DijkstraDistance<Integer,Integer>(graph, weights),
+                    new MultiSourceDijkstra<Integer,Integer>(graph, weights, threads));
+                compare(new UnweightedShortestPath<Integer,Integer>(graph),
+                    new MultiSourceDijkstra<Integer,Integer>(graph, null, threads));
+            }
+        }
+    }
+
+    public void testDistanceRows()
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 3);
+        Transformer<Integer,Integer> weights = weights(3);
+        DijkstraDistance<Integer,Integer> expected = new DijkstraDistance<Integer,Integer>(graph, weights);
+        MultiSourceDijkstra<Integer,Integer> batch =
+            new MultiSourceDijkstra<Integer,Integer>(graph, weights, 2);
+        IndexedGraph<Integer,Integer> indexed = batch.getIndexedGraph();
+        // sources may be repeated
+        List<Integer> sources = Arrays.asList(5, 0, 5, 59);
+        float[][] rows = batch.getDistanceRows(sources);
+        assertEquals(sources.size(), rows.length);
+        for (int i = 0; i < rows.length; i++)
+        {
+            for (int v = 0; v < rows[i].length; v++)
+            {
+                Number d = expected.getDistance(sources.get(i), indexed.getVertex(v));
+                assertEquals(d == null ? Float.POSITIVE_INFINITY : d.floatValue(), rows[i][v]);
+            }
+        }
+        assertEquals(0, batch.getDistanceRows(new int[0]).length);
+    }
+
+    public void testReuse()
+    {
+        Graph<Integer,Integer> graph = populate(new UndirectedSparseMultigraph<Integer,Integer>(), 5);
+        Transformer<Integer,Integer> weights = weights(5);
+        DijkstraDistance<Integer,Integer> expected = new DijkstraDistance<Integer,Integer>(graph, weights);
+        MultiSourceDijkstra<Integer,Integer> batch =
+            new MultiSourceDijkstra<Integer,Integer>(graph, weights, 3);
+        IndexedGraph<Integer,Integer> indexed = batch.getIndexedGraph();
+        for (int round = 0; round < 3; round++)
+        {
+            // batches of each size, including one which fails part way
+            if (round == 1)
+            {
+                try
+                {
+                    batch.run(new int[] {0, 1, 2, 3, 4}, new MultiSourceDijkstra.Visitor()
+                    {
+                        public void visit(int position, int source, int[] reached, int count, double[] distance)
+                        {
+                            throw new IllegalStateException();
+                        }
+                    });
+                    fail("exceptions thrown by the visitor should be rethrown");
+                }
+                catch (IllegalStateException e)
+                {
+                }
+            }
+            List<Integer> sources = new ArrayList<Integer>();
+            for (int v = 0; v <= round * 2; v++)
+                sources.add(v * 7);
+            float[][] rows = batch.getDistanceRows(sources);
+            for (int i = 0; i < rows.length; i++)
+            {
+                for (int v = 0; v < rows[i].length; v++)
+                {
+                    Number d = expected.getDistance(sources.get(i), indexed.getVertex(v));
+                    assertEquals(d == null ? Float.POSITIVE_INFINITY : d.floatValue(), rows[i][v]);
+                }
+            }
+        }
+    }
+
+    public void testInvalid()
+    {
+        Graph<Integer,Integer> graph = populate(new DirectedSparseMultigraph<Integer,Integer>(), 4);
+        MultiSourceDijkstra<Integer,Integer> batch =
+            new MultiSourceDijkstra<Integer,Integer>(graph, null, 2);
+        try
+        {
+            batch.getDistanceRows(Arrays.asList(0, 100));
+            fail("sources not in the graph should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            new MultiSourceDijkstra<Integer,Integer>(graph, null, 0);
+            fail("a non-positive number of threads should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            batch.run(new int[] {0, 1, 2, 3}, new MultiSourceDijkstra.Visitor()
+            {
+                public void visit(int position, int source, int[] reached, int count, double[] distance)
+                {
+                    if (position == 2)
+                        throw new IllegalStateException();
+                }
+            });
+            fail("exceptions thrown by the visitor should be rethrown");
+        }
+        catch (IllegalStateException e)
+        {
+        }
+    }
+
+    /**
+     * Adds 150 random edges, including parallel edges and self-loops,
+     * among 60 vertices.
+     */
+    private Graph<Integer,Integer> populate(Graph<Integer,Integer> graph, long seed)
+    {
+        Random random = new Random(seed);
+        for (int v = 0; v < 60; v++)
+            graph.addVertex(v);
+        for (int e = 0; e < 150; e++)
+            graph.addEdge(e, random.nextInt(60), random.nextInt(60));
+        return graph;
+    }
+
+    private Transformer<Integer,Integer> weights(long seed)
+    {
+        Random random = new Random(seed);
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        for (int e = 0; e < 150; e++)
+            weights.put(e, random.nextInt(10));
+        return MapTransformer.getInstance(weights);
+    }
+
+    private void compare(Distance<Integer> expected, MultiSourceDijkstra<Integer,Integer> actual)
+    {
+        final IndexedGraph<Integer,Integer> indexed = actual.getIndexedGraph();
+        List<Integer> sources = new ArrayList<Integer>();
+        // found up front, as the visitor runs on several threads
+        final List<Map<Integer,Number>> expected_maps = new ArrayList<Map<Integer,Number>>();
+        for (int v = 0; v < 60; v++)
+        {
+            sources.add(v);
+            expected_maps.add(new HashMap<Integer,Number>(expected.getDistanceMap(v)));
+        }
+        final int[] visits = new int[sources.size()];
+        actual.run(sources, new MultiSourceDijkstra.Visitor()
+        {
+            public void visit(int position, int source, int[] reached, int count, double[] distance)
+            {
+                synchronized (visits)
+                {
+                    visits[position]++;
+                }
+                Integer s = indexed.getVertex(source);
+                assertEquals(position, s.intValue());
+                Map<Integer,Number> distances = expected_maps.get(position);
+                assertEquals(distances.size(), count);
+                for (int i = 0; i < count; i++)
+                {
+                    Integer v = indexed.getVertex(reached[i]);
+                    assertEquals(distances.get(v).doubleValue(), distance[reached[i]]);
+                    if (i > 0)
+                        assertTrue(distance[reached[i - 1]] <= distance[reached[i]]);
+                }
+            }
+        });
+        for (int count : visits)
+            assertEquals(1, count);
+    }
+}
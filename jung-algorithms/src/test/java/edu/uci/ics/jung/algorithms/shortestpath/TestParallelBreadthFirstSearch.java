@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestParallelBreadthFirstSearch extends TestCase
+{
+    public void testSmallWorld()
+    {
+        for (int seed = 1; seed <= 2; seed++)
+        {
+            // large enough that the middle levels are split among threads
+            IntGraph graph = Indexer.createIndexedGraph(populate(seed == 1
+                ? new DirectedSparseMultigraph<Integer,Integer>()
+                : new UndirectedSparseMultigraph<Integer,Integer>(), 20000, 100000, seed)).getIntGraph();
+            for (int threads = 1; threads <= 4; threads += 3)
+            {
+                ParallelBreadthFirstSearch search = new ParallelBreadthFirstSearch(graph, threads);
+                search.search(0);
+                assertTrue(search.getBottomUpStepCount() > 0);
+                check(graph, search, 0);
+                search.search(1, 2, 1);
+                check(graph, search, 1, 2);
+            }
+        }
+    }
+
+    public void testExecutor() throws InterruptedException
+    {
+        IntGraph graph = Indexer.createIndexedGraph(populate(
+            new UndirectedSparseMultigraph<Integer,Integer>(), 20000, 100000, 5)).getIntGraph();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            ParallelBreadthFirstSearch search = new ParallelBreadthFirstSearch(graph, executor, 3);
+            // each search clears only what the previous one reached
+            for (int s = 0; s < 3; s++)
+            {
+                search.search(s);
+                check(graph, search, s);
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    public void testUnweightedShortestPath()
+    {
+        Graph<Integer,Integer> graph =
+            populate(new DirectedSparseMultigraph<Integer,Integer>(), 2000, 8000, 3);
+        UnweightedShortestPath<Integer,Integer> serial =
+            new UnweightedShortestPath<Integer,Integer>(graph, 1);
+        UnweightedShortestPath<Integer,Integer> parallel =
+            new UnweightedShortestPath<Integer,Integer>(graph, 4);
+        for (int v = 0; v < 20; v++)
+        {
+            Map<Integer,Number> distances = parallel.getDistanceMap(v);
+            assertEquals(serial.getDistanceMap(v), distances);
+            assertEquals(distances.size() - 1, parallel.getIncomingEdgeMap(v).size());
+            assertNull(parallel.getIncomingEdgeMap(v).get(v));
+            int previous = 0;
+            for (Map.Entry<Integer,Number> entry : distances.entrySet())
+            {
+                assertTrue(entry.getValue().intValue() >= previous);
+                previous = entry.getValue().intValue();
+            }
+        }
+        assertNull(parallel.getDistanceMap(0).get("0"));
+        assertFalse(parallel.getDistanceMap(0).containsKey(-1));
+        try
+        {
+            parallel.getDistanceMap(0).clear();
+            fail("the distance maps should be unmodifiable");
+        }
+        catch (UnsupportedOperationException e)
+        {
+        }
+    }
+
+    public void testLabeler()
+    {
+        Graph<Integer,Integer> graph =
+            populate(new UndirectedSparseMultigraph<Integer,Integer>(), 500, 1000, 4);
+        graph.addVertex(-1);
+        BFSDistanceLabeler<Integer,Integer> labeler = new BFSDistanceLabeler<Integer,Integer>(2);
+        labeler.labelDistances(graph, new HashSet<Integer>(Arrays.asList(0, 1)));
+        assertEquals(-1, labeler.getDistance(graph, -1));
+        assertTrue(labeler.getUnvisitedVertices().contains(-1));
+        int previous = 0;
+        for (Integer v : labeler.getVerticesInOrderVisited())
+        {
+            int distance = labeler.getDistance(graph, v);
+            assertTrue(distance >= previous);
+            previous = distance;
+            // the predecessors are exactly the neighbors one step closer
+            for (Integer u : graph.getNeighbors(v))
+                assertEquals(labeler.getDistance(graph, u) == distance - 1,
+                    labeler.getPredecessors(v).contains(u));
+        }
+    }
+
+    /**
+     * Adds random edges, including parallel edges and self-loops, to a ring
+     * of vertices.
+     */
+    private Graph<Integer,Integer> populate(Graph<Integer,Integer> graph, int n, int m, long seed)
+    {
+        Random random = new Random(seed);
+        for (int v = 0; v < n; v++)
+            graph.addEdge(v, v, (v + 1) % n);
+        for (int e = n; e < m; e++)
+            graph.addEdge(e, random.nextInt(n), random.nextInt(n));
+        return graph;
+    }
+
+    /**
+     * Checks the search results against a simple top-down search.
+     */
+    private void check(IntGraph graph, ParallelBreadthFirstSearch search, int... sources)
+    {
+        int n = graph.getVertexCount();
+        int[] expected = new int[n];
+        Arrays.fill(expected, -1);
+        int[] queue = new int[n];
+        int tail = 0;
+        for (int s : sources)
+        {
+            if (expected[s] < 0)
+            {
+                expected[s] = 0;
+                queue[tail++] = s;
+            }
+        }
+        for (int head = 0; head < tail; head++)
+        {
+            int v = queue[head];
+            for (int i = 0; i < graph.outDegree(v); i++)
+            {
+                int w = graph.getOpposite(v, graph.getOutEdge(v, i));
+                if (expected[w] < 0)
+                {
+                    expected[w] = expected[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        int[] distance = search.getDistances();
+        assertTrue(Arrays.equals(expected, distance));
+        assertEquals(tail, search.getReachedCount());
+
+        int[] order = search.getOrder();
+        boolean[] seen = new boolean[n];
+        for (int i = 0; i < tail; i++)
+        {
+            int v = order[i];
+            assertFalse(seen[v]);
+            seen[v] = true;
+            if (i > 0)
+                assertTrue(distance[order[i - 1]] <= distance[v]);
+            // each vertex is reached by an edge from a vertex one step closer
+            int e = search.getParentEdges()[v];
+            if (distance[v] == 0)
+                assertEquals(-1, e);
+            else
+            {
+                int u = graph.getOpposite(v, e);
+                assertEquals(distance[v] - 1, distance[u]);
+                boolean out_edge = false;
+                for (int j = 0; j < graph.outDegree(u); j++)
+                    out_edge |= graph.getOutEdge(u, j) == e;
+                assertTrue(out_edge);
+            }
+        }
+    }
+}
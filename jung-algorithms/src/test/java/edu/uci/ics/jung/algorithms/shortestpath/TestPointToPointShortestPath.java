@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.awt.geom.Point2D;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestPointToPointShortestPath extends TestCase
+{
+    private static final DistanceHeuristic<Integer> ZERO = new DistanceHeuristic<Integer>()
+    {
+        public double getLowerBound(Integer source, Integer target)
+        {
+            return 0;
+        }
+    };
+
+    public void testRandom()
+    {
+        for (int seed = 1; seed <= 2; seed++)
+        {
+            Graph<Integer,Integer> graph = seed == 1
+                ? new DirectedSparseMultigraph<Integer,Integer>()
+                : new UndirectedSparseMultigraph<Integer,Integer>();
+            Random random = new Random(seed);
+            Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+            for (int v = 0; v < 80; v++)
+                graph.addVertex(v);
+            for (int e = 0; e < 200; e++)
+            {
+                graph.addEdge(e, random.nextInt(80), random.nextInt(80));
+                weights.put(e, random.nextInt(5));
+            }
+            Transformer<Integer,Integer> edge_weights = MapTransformer.getInstance(weights);
+            final DijkstraShortestPath<Integer,Integer> expected =
+                new DijkstraShortestPath<Integer,Integer>(graph, edge_weights);
+
+            // admissible, but not consistent: a random fraction of the true distance
+            final Random noise = new Random(seed);
+            DistanceHeuristic<Integer> fraction = new DistanceHeuristic<Integer>()
+            {
+                public double getLowerBound(Integer source, Integer target)
+                {
+                    Number d = expected.getDistance(source, target);
+                    return d == null ? 0 : noise.nextDouble() * d.doubleValue();
+                }
+            };
+            compare(graph, edge_weights, expected,
+                new BidirectionalDijkstraShortestPath<Integer,Integer>(graph, edge_weights));
+            compare(graph, edge_weights, expected,
+                new AStarShortestPath<Integer,Integer>(graph, edge_weights, ZERO));
+            compare(graph, edge_weights, expected,
+                new AStarShortestPath<Integer,Integer>(graph, edge_weights, fraction));
+        }
+    }
+
+    public void testGrid()
+    {
+        // a 30 x 30 grid, with edge weights no less than their lengths
+        Graph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        Map<Integer,Integer> weights = new HashMap<Integer,Integer>();
+        Map<Integer,Point2D> locations = new HashMap<Integer,Point2D>();
+        Random random = new Random(3);
+        int size = 30;
+        for (int v = 0; v < size * size; v++)
+        {
+            locations.put(v, new Point2D.Double(v % size, v / size));
+            if (v % size > 0)
+            {
+                graph.addEdge(graph.getEdgeCount(), v - 1, v);
+                weights.put(graph.getEdgeCount() - 1, 1 + random.nextInt(2));
+            }
+            if (v >= size)
+            {
+                graph.addEdge(graph.getEdgeCount(), v - size, v);
+                weights.put(graph.getEdgeCount() - 1, 1 + random.nextInt(2));
+            }
+        }
+        Transformer<Integer,Integer> edge_weights = MapTransformer.getInstance(weights);
+        DijkstraShortestPath<Integer,Integer> expected =
+            new DijkstraShortestPath<Integer,Integer>(graph, edge_weights);
+        AStarShortestPath<Integer,Integer> dijkstra =
+            new AStarShortestPath<Integer,Integer>(graph, edge_weights, ZERO);
+        AStarShortestPath<Integer,Integer> euclidean =
+            new AStarShortestPath<Integer,Integer>(graph, edge_weights,
+                new EuclideanDistanceHeuristic<Integer>(MapTransformer.getInstance(locations)));
+        BidirectionalDijkstraShortestPath<Integer,Integer> bidirectional =
+            new BidirectionalDijkstraShortestPath<Integer,Integer>(graph, edge_weights);
+        int unidirectional_settled = 0;
+        int euclidean_settled = 0;
+        int bidirectional_settled = 0;
+        for (int i = 0; i < 20; i++)
+        {
+            int s = random.nextInt(size * size);
+            int t = random.nextInt(size * size);
+            double d = expected.getDistance(s, t).doubleValue();
+            assertEquals(d, dijkstra.getDistance(s, t).doubleValue());
+            assertEquals(d, euclidean.getDistance(s, t).doubleValue());
+            assertEquals(d, bidirectional.getDistance(s, t).doubleValue());
+            unidirectional_settled += dijkstra.getSettledCount();
+            euclidean_settled += euclidean.getSettledCount();
+            bidirectional_settled += bidirectional.getSettledCount();
+        }
+        assertTrue(euclidean_settled < unidirectional_settled);
+        assertTrue(bidirectional_settled < unidirectional_settled);
+    }
+
+    public void testModified()
+    {
+        Graph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+        graph.addEdge(0, 0, 1);
+        graph.addEdge(1, 1, 2);
+        BidirectionalDijkstraShortestPath<Integer,Integer> bidirectional =
+            new BidirectionalDijkstraShortestPath<Integer,Integer>(graph);
+        assertEquals(2.0, bidirectional.getDistance(0, 2));
+        assertNull(bidirectional.getDistance(2, 0));
+        assertEquals(0, bidirectional.getPath(2, 0).size());
+        graph.addEdge(2, 0, 2);
+        assertEquals(1.0, bidirectional.getDistance(0, 2));
+        assertEquals(Integer.valueOf(2), bidirectional.getPath(0, 2).get(0));
+        try
+        {
+            bidirectional.getDistance(0, 3);
+            fail("vertices not in the graph should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    private void compare(Graph<Integer,Integer> graph, Transformer<Integer,Integer> weights,
+        DijkstraShortestPath<Integer,Integer> expected, PointToPointShortestPath<Integer,Integer> actual)
+    {
+        for (Integer s : graph.getVertices())
+        {
+            assertEquals(expected.getDistanceMap(s), actual.getDistanceMap(s));
+            assertEquals(expected.getIncomingEdgeMap(s).keySet(), actual.getIncomingEdgeMap(s).keySet());
+            for (Integer t : graph.getVertices())
+            {
+                Number d = expected.getDistance(s, t);
+                List<Integer> path = actual.getPath(s, t);
+                if (d == null)
+                {
+                    assertNull(actual.getDistance(s, t));
+                    assertTrue(path.isEmpty());
+                    continue;
+                }
+                assertEquals(d.doubleValue(), actual.getDistance(s, t).doubleValue());
+                // the path leads from s to t and has the right length
+                double length = 0;
+                Integer v = s;
+                for (Integer e : path)
+                {
+                    assertTrue(graph.getOutEdges(v).contains(e));
+                    v = graph.getOpposite(v, e);
+                    length += weights.transform(e);
+                }
+                assertEquals(t, v);
+                assertEquals(d.doubleValue(), length);
+            }
+        }
+    }
+}
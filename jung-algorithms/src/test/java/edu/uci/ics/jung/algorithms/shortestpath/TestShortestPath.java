@@ -23,6 +23,7 @@ import edu.uci.ics.jung.algorithms.util.Indexer;
 import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedCompactGraph;
 import edu.uci.ics.jung.graph.UndirectedGraph;
 import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
 
@@ -499,6 +500,35 @@ public class TestShortestPath extends TestCase
         }
     }
 
+    @SuppressWarnings("deprecation")
+    public void testUnknownVerticesView()
+    {
+        // subclasses may still manipulate the queue as a MapBinaryHeap
+        for (Graph<String,Integer> g : new Graph[] {dg, UndirectedCompactGraph.copyOf(ug)})
+        {
+            DijkstraDistance<String,Integer> dd = new DijkstraDistance<String,Integer>(g);
+            String[] v = g.getVertices().toArray(new String[0]);
+            DijkstraDistance<String,Integer>.SourceData sd = dd.new SourceData(v[0]);
+            assertEquals(v[0], sd.unknownVertices.peek());
+            sd.estimatedDistances.put(v[1], 3.0);
+            sd.unknownVertices.add(v[1]);
+            sd.estimatedDistances.put(v[2], 2.0);
+            sd.unknownVertices.offer(v[2]);
+            assertTrue(sd.unknownVertices.contains(v[1]));
+            assertFalse(sd.unknownVertices.contains(v[3]));
+            Set<String> queued = new HashSet<String>();
+            for (String w : sd.unknownVertices)
+                queued.add(w);
+            assertEquals(3, queued.size());
+            assertEquals(v[0], sd.unknownVertices.remove());
+            sd.estimatedDistances.put(v[1], 1.0);
+            sd.unknownVertices.update(v[1]);
+            assertEquals(v[1], sd.getNextVertex().getKey());
+            assertEquals(v[2], sd.unknownVertices.poll());
+            assertTrue(sd.unknownVertices.isEmpty());
+            assertNull(sd.unknownVertices.poll());
+        }
+    }
     
 //    private class UserDataEdgeWeight implements NumberEdgeValue
 //    {
@@ -17,6 +17,7 @@ import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
 import edu.uci.ics.jung.graph.UndirectedGraph;
 import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.Graphs;
 
 /**
  * @author Scott White
@@ -92,4 +93,23 @@ public class TestUnweightedShortestPath extends TestCase
 			Assert.assertNotNull(usp.getIncomingEdgeMap(id.getKey(0)).get(id.getKey(3)));
 
 		}
+
+	public void testUnversionedGraph() {
+		// a wrapper which does not report modification versions
+		DirectedGraph<String,Integer> dg = 
+			Graphs.synchronizedDirectedGraph(new DirectedSparseMultigraph<String,Integer>());
+		dg.addEdge(edgeFactory.create(), "a", "b");
+		dg.addEdge(edgeFactory.create(), "b", "c");
+		UnweightedShortestPath<String,Integer> usp = 
+			new UnweightedShortestPath<String,Integer>(dg);
+		Assert.assertEquals(2, usp.getDistance("a", "c").intValue());
+
+		Integer shortcut = edgeFactory.create();
+		dg.addEdge(shortcut, "a", "c");
+		dg.addEdge(edgeFactory.create(), "c", "d");
+		usp.reset("a");
+		Assert.assertEquals(1, usp.getDistance("a", "c").intValue());
+		Assert.assertEquals(2, usp.getDistance("a", "d").intValue());
+		Assert.assertEquals(shortcut, usp.getIncomingEdgeMap("a").get("c"));
+	}
 }
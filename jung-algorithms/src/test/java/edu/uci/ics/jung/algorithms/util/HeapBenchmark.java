@@ -0,0 +1,113 @@
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares the time taken by Dijkstra's algorithm, run from several
+ * sources over a random graph stored in adjacency arrays, when its
+ * priority queue is a <code>MapBinaryHeap</code> of boxed vertices ordered
+ * by a distance map (as <code>DijkstraDistance</code> used to do) and when
+ * it is an <code>IndexedDaryHeap</code> of arity 2, 4 and 8.
+ *
+ * <p>Not run as part of the test suite; usage:
+ * {@code HeapBenchmark [vertices] [average degree] [sources] [rounds]}
+ */
+public class HeapBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int sources = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        // random directed graph with random integer weights
+        int[][] targets = new int[n][degree];
+        double[][] weights = new double[n][degree];
+        long x = 1;
+        for (int v = 0; v < n; v++) {
+            for (int i = 0; i < degree; i++) {
+                x = x * 6364136223846793005L + 1442695040888963407L;
+                targets[v][i] = (int)((x >>> 33) % n);
+                weights[v][i] = 1 + (x >>> 58);
+            }
+        }
+
+        for (int round = 0; round < rounds; round++) {
+            boolean last = round == rounds - 1;
+            long start = System.nanoTime();
+            double sum = 0;
+            for (int s = 0; s < sources; s++)
+                sum += mapHeap(targets, weights, s);
+            report("MapBinaryHeap", System.nanoTime() - start, sources, sum, last);
+            for (int arity = 2; arity <= 8; arity *= 2) {
+                start = System.nanoTime();
+                sum = 0;
+                for (int s = 0; s < sources; s++)
+                    sum += indexedHeap(targets, weights, s, arity);
+                report("IndexedDaryHeap(" + arity + ")", System.nanoTime() - start, sources, sum, last);
+            }
+        }
+    }
+
+    private static void report(String name, long nanos, int sources, double sum, boolean report) {
+        if (report)
+            System.out.println(String.format("%-20s ms/source: %8.2f  (checksum %.0f)",
+                name, nanos / 1e6 / sources, sum));
+    }
+
+    private static double mapHeap(int[][] targets, double[][] weights, int source) {
+        final Map<Integer,Double> estimates = new HashMap<Integer,Double>();
+        Map<Integer,Double> distances = new HashMap<Integer,Double>();
+        MapBinaryHeap<Integer> heap = new MapBinaryHeap<Integer>(new Comparator<Integer>() {
+            public int compare(Integer v1, Integer v2) {
+                return estimates.get(v1).compareTo(estimates.get(v2));
+            }
+        });
+        estimates.put(source, 0.0);
+        heap.add(source);
+        double sum = 0;
+        while (!heap.isEmpty()) {
+            Integer v = heap.remove();
+            double v_dist = estimates.remove(v);
+            distances.put(v, v_dist);
+            sum += v_dist;
+            for (int i = 0; i < targets[v].length; i++) {
+                Integer w = targets[v][i];
+                if (distances.containsKey(w))
+                    continue;
+                double new_dist = v_dist + weights[v][i];
+                Double w_dist = estimates.get(w);
+                if (w_dist == null) {
+                    estimates.put(w, new_dist);
+                    heap.add(w);
+                } else if (new_dist < w_dist) {
+                    estimates.put(w, new_dist);
+                    heap.update(w);
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static double indexedHeap(int[][] targets, double[][] weights, int source, int arity) {
+        int n = targets.length;
+        boolean[] settled = new boolean[n];
+        IndexedDaryHeap heap = new IndexedDaryHeap(arity, n);
+        heap.add(source, 0);
+        double sum = 0;
+        while (!heap.isEmpty()) {
+            double v_dist = heap.peekPriority();
+            int v = heap.poll();
+            settled[v] = true;
+            sum += v_dist;
+            for (int i = 0; i < targets[v].length; i++) {
+                int w = targets[v][i];
+                if (!settled[w])
+                    heap.offer(w, v_dist + weights[v][i]);
+            }
+        }
+        return sum;
+    }
+}
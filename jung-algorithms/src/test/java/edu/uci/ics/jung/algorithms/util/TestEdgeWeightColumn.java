@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.algorithms.scoring.BetweennessCentrality;
+import edu.uci.ics.jung.algorithms.scoring.PageRank;
+import edu.uci.ics.jung.algorithms.shortestpath.DijkstraDistance;
+import edu.uci.ics.jung.graph.DirectedCompactGraph;
+import edu.uci.ics.jung.graph.DirectedGraph;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+
+public class TestEdgeWeightColumn extends TestCase
+{
+    private DirectedGraph<String,Integer> graph;
+    private Map<Integer,Double> weight_map;
+    private Transformer<Integer,Double> weights;
+
+    @Override
+    protected void setUp()
+    {
+        graph = new DirectedSparseMultigraph<String,Integer>();
+        graph.addEdge(0, "a", "b");
+        graph.addEdge(1, "b", "c");
+        graph.addEdge(2, "a", "c");
+        graph.addEdge(3, "c", "d");
+        graph.addEdge(4, "d", "a");
+        graph.addEdge(5, "b", "d");
+        weight_map = new HashMap<Integer,Double>();
+        for (int e = 0; e < 6; e++)
+            weight_map.put(e, 1.0 + (e * 7) % 5);
+        weights = MapTransformer.getInstance(weight_map);
+    }
+
+    public void testColumn()
+    {
+        DirectedCompactGraph<String,Integer> compact = DirectedCompactGraph.copyOf(graph);
+        EdgeWeightColumn<Integer> column = new EdgeWeightColumn<Integer>(compact, weights);
+        for (Integer e : graph.getEdges())
+        {
+            assertEquals(weight_map.get(e), column.transform(e));
+            assertEquals(weight_map.get(e).doubleValue(), column.getWeight(e));
+            assertEquals(weight_map.get(e).doubleValue(), column.getWeight(compact.getEdgeIndex(e)));
+        }
+        column.set(3, 10.0);
+        assertEquals(10.0, column.getWeights()[compact.getEdgeIndex(3)]);
+        try
+        {
+            column.getWeight(-1);
+            fail("weight of an absent edge should be rejected");
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+        }
+        try
+        {
+            column.getWeight(Integer.valueOf(17));
+            fail("weight of an absent edge should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+
+        EdgeWeightColumn<Integer> ones = new EdgeWeightColumn<Integer>(compact, 1.0);
+        for (Integer e : graph.getEdges())
+            assertEquals(1.0, ones.getWeight(e));
+    }
+
+    public void testAdapt()
+    {
+        EdgeWeightColumn<Integer> column =
+            new EdgeWeightColumn<Integer>(DirectedCompactGraph.copyOf(graph), weights);
+        assertSame(column, EdgeWeights.adapt(column));
+        EdgeWeight<Integer> adapted = EdgeWeights.adapt(weights);
+        for (Integer e : graph.getEdges())
+            assertEquals(weight_map.get(e).doubleValue(), adapted.getWeight(e));
+    }
+
+    public void testNonNegativeWeights()
+    {
+        DirectedCompactGraph<String,Integer> compact = DirectedCompactGraph.copyOf(graph);
+        assertNull(EdgeWeightColumn.getNonNegativeWeights(compact, null));
+        double[] array = EdgeWeightColumn.getNonNegativeWeights(compact, weights);
+        for (Integer e : graph.getEdges())
+            assertEquals(weight_map.get(e).doubleValue(), array[compact.getEdgeIndex(e)]);
+        weight_map.put(4, -1.0);
+        try
+        {
+            EdgeWeightColumn.getNonNegativeWeights(compact, weights);
+            fail("negative weight should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    public void testAlgorithms()
+    {
+        DirectedCompactGraph<String,Integer> compact = DirectedCompactGraph.copyOf(graph);
+        EdgeWeightColumn<Integer> column = new EdgeWeightColumn<Integer>(compact, weights);
+
+        DijkstraDistance<String,Integer> expected_distance = new DijkstraDistance<String,Integer>(graph, weights);
+        DijkstraDistance<String,Integer> distance = new DijkstraDistance<String,Integer>(compact, column);
+        for (String s : graph.getVertices())
+            for (String t : graph.getVertices())
+                assertEquals(expected_distance.getDistance(s, t), distance.getDistance(s, t));
+
+        BetweennessCentrality<String,Integer> expected_bc = new BetweennessCentrality<String,Integer>(graph, weights);
+        BetweennessCentrality<String,Integer> bc = new BetweennessCentrality<String,Integer>(compact, column);
+        for (String v : graph.getVertices())
+            assertEquals(expected_bc.getVertexScore(v), bc.getVertexScore(v));
+
+        // PageRank requires the outgoing weights of each vertex to sum to 1
+        for (String v : graph.getVertices())
+            for (Integer e : graph.getOutEdges(v))
+                weight_map.put(e, 1.0 / graph.outDegree(v));
+        column = new EdgeWeightColumn<Integer>(compact, weights);
+        PageRank<String,Integer> expected_rank = new PageRank<String,Integer>(graph, weights, 0.15);
+        PageRank<String,Integer> rank = new PageRank<String,Integer>(compact, column, 0.15);
+        expected_rank.evaluate();
+        rank.evaluate();
+        for (String v : graph.getVertices())
+            assertEquals(expected_rank.getVertexScore(v), rank.getVertexScore(v), 1e-12);
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.shortestpath.DijkstraDistance;
+import edu.uci.ics.jung.algorithms.shortestpath.UnweightedShortestPath;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.ObservableGraph;
+import edu.uci.ics.jung.graph.UndirectedCompactGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+public class TestGraphChangeTracker extends TestCase
+{
+    private Graph<String,Integer> graph;
+
+    @Override
+    protected void setUp()
+    {
+        // two components: a-b-c and x-y
+        graph = new UndirectedSparseGraph<String,Integer>();
+        graph.addEdge(0, "a", "b");
+        graph.addEdge(1, "b", "c");
+        graph.addEdge(2, "x", "y");
+    }
+
+    public void testTracker()
+    {
+        GraphChangeTracker<String,Integer> tracker = new GraphChangeTracker<String,Integer>(graph);
+        assertTrue(tracker.getChangedVertices().isEmpty());
+        graph.addVertex("z");
+        assertNull(tracker.getChangedVertices());
+        assertTrue(tracker.getChangedVertices().isEmpty());
+
+        ObservableGraph<String,Integer> observable = new ObservableGraph<String,Integer>(graph);
+        observable.setJournalCapacity(3);
+        tracker = new GraphChangeTracker<String,Integer>(observable);
+        observable.addEdge(3, "y", "z");
+        observable.removeVertex("a");
+        assertEquals(new HashSet<String>(Arrays.asList("y", "z", "a", "b")), tracker.getChangedVertices());
+        for (int i = 0; i < 4; i++)
+            observable.addVertex("v" + i);
+        assertNull(tracker.getChangedVertices());
+
+        // immutable graphs never change
+        tracker = new GraphChangeTracker<String,Integer>(UndirectedCompactGraph.copyOf(graph));
+        assertTrue(tracker.getChangedVertices().isEmpty());
+    }
+
+    public void testDijkstra()
+    {
+        DijkstraDistance<String,Integer> distance = new DijkstraDistance<String,Integer>(graph);
+        assertEquals(2.0, distance.getDistance("a", "c"));
+        assertNull(distance.getDistance("a", "y"));
+        graph.addEdge(3, "c", "x");
+        assertEquals(4.0, distance.getDistance("a", "y"));
+        graph.removeEdge(3);
+        assertNull(distance.getDistance("a", "y"));
+
+        ObservableGraph<String,Integer> observable = new ObservableGraph<String,Integer>(graph);
+        observable.setJournalCapacity(10);
+        distance = new DijkstraDistance<String,Integer>(observable);
+        Map<String,Number> from_a = distance.getDistanceMap("a");
+        Map<String,Number> from_x = distance.getDistanceMap("x");
+        observable.addEdge(4, "y", "z");
+        assertSame(from_a, distance.getDistanceMap("a"));
+        assertNotSame(from_x, distance.getDistanceMap("x"));
+        assertEquals(2.0, distance.getDistance("x", "z"));
+        observable.removeEdge(1);
+        assertNull(distance.getDistance("a", "c"));
+    }
+
+    public void testUnweighted()
+    {
+        UnweightedShortestPath<String,Integer> usp = new UnweightedShortestPath<String,Integer>(graph);
+        assertEquals(2, usp.getDistance("a", "c"));
+        graph.addEdge(3, "a", "c");
+        assertEquals(1, usp.getDistance("a", "c"));
+        assertEquals(Integer.valueOf(3), usp.getIncomingEdgeMap("a").get("c"));
+
+        ObservableGraph<String,Integer> observable = new ObservableGraph<String,Integer>(graph);
+        observable.setJournalCapacity(10);
+        usp = new UnweightedShortestPath<String,Integer>(observable);
+        Map<String,Number> from_a = usp.getDistanceMap("a");
+        Map<String,Number> from_x = usp.getDistanceMap("x");
+        observable.removeVertex("y");
+        assertSame(from_a, usp.getDistanceMap("a"));
+        assertNotSame(from_x, usp.getDistanceMap("x"));
+        assertNull(usp.getDistance("x", "y"));
+    }
+}
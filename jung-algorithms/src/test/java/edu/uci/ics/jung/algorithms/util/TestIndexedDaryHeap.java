@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class TestIndexedDaryHeap extends TestCase
+{
+    public void testOperations()
+    {
+        for (int arity = 2; arity <= 5; arity++)
+            check(new IndexedDaryHeap(arity, 4), arity);
+    }
+
+    public void testInvalid()
+    {
+        IndexedDaryHeap heap = new IndexedDaryHeap(0);
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+        heap.add(3, 1.0);
+        try
+        {
+            heap.add(3, 2.0);
+            fail("duplicate elements should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        try
+        {
+            heap.update(2, 2.0);
+            fail("updates of absent elements should be rejected");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+        assertEquals(3, heap.poll());
+        try
+        {
+            heap.poll();
+            fail("an empty heap has no top");
+        }
+        catch (NoSuchElementException e)
+        {
+        }
+    }
+
+    /**
+     * Applies random operations to <code>heap</code>, checking the results
+     * against a linear scan of the priorities.
+     */
+    private void check(IndexedDaryHeap heap, int seed)
+    {
+        Random random = new Random(seed);
+        int n = 200;
+        double[] priorities = new double[n];
+        boolean[] present = new boolean[n];
+        int size = 0;
+        for (int i = 0; i < 20000; i++)
+        {
+            int element = random.nextInt(n);
+            double priority = random.nextInt(1000);
+            switch (random.nextInt(4))
+            {
+                case 0:
+                    if (present[element])
+                        heap.update(element, priority);
+                    else
+                    {
+                        heap.add(element, priority);
+                        present[element] = true;
+                        size++;
+                    }
+                    priorities[element] = priority;
+                    break;
+                case 1:
+                    boolean lower = !present[element] || priority < priorities[element];
+                    assertEquals(lower, heap.offer(element, priority));
+                    if (lower)
+                    {
+                        if (!present[element])
+                            size++;
+                        present[element] = true;
+                        priorities[element] = priority;
+                    }
+                    break;
+                case 2:
+                    assertEquals(present[element], heap.remove(element));
+                    if (present[element])
+                        size--;
+                    present[element] = false;
+                    break;
+                default:
+                    if (size == 0)
+                        break;
+                    double min = Double.POSITIVE_INFINITY;
+                    for (int v = 0; v < n; v++)
+                        if (present[v])
+                            min = Math.min(min, priorities[v]);
+                    assertEquals(min, heap.peekPriority());
+                    int top = heap.poll();
+                    assertTrue(present[top]);
+                    assertEquals(min, priorities[top]);
+                    present[top] = false;
+                    size--;
+            }
+            assertEquals(size, heap.size());
+            if (present[element])
+                assertEquals(priorities[element], heap.getPriority(element));
+            assertEquals(present[element], heap.contains(element));
+        }
+        boolean[] listed = new boolean[n];
+        for (int i = 0; i < heap.size(); i++)
+        {
+            int element = heap.get(i);
+            assertTrue(present[element]);
+            assertFalse(listed[element]);
+            listed[element] = true;
+        }
+        if (size > 0)
+            assertEquals(heap.peek(), heap.get(0));
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        for (int v = 0; v < n; v++)
+            assertFalse(heap.contains(v));
+    }
+}
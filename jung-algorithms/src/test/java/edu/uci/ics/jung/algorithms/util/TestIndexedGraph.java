@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University 
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.cluster.WeakComponentClusterer;
+import edu.uci.ics.jung.algorithms.shortestpath.UnweightedShortestPath;
+import edu.uci.ics.jung.graph.DirectedCompactGraph;
+import edu.uci.ics.jung.graph.DirectedGraph;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.IndexedGraph;
+import edu.uci.ics.jung.graph.IntGraph;
+import edu.uci.ics.jung.graph.MappedGraph;
+
+public class TestIndexedGraph extends TestCase 
+{
+    private DirectedGraph<String,Integer> graph;
+
+    @Override
+    protected void setUp()
+    {
+        graph = new DirectedSparseMultigraph<String,Integer>();
+        graph.addEdge(0, "a", "b");
+        graph.addEdge(1, "b", "c");
+        graph.addEdge(2, "a", "c");
+        graph.addEdge(3, "c", "d");
+        graph.addEdge(4, "c", "d");
+        graph.addEdge(5, "e", "f");
+        graph.addVertex("g");
+    }
+
+    public void testAdapter()
+    {
+        IndexedGraph<String,Integer> indexed = Indexer.createIndexedGraph(graph);
+        IntGraph g = indexed.getIntGraph();
+        assertEquals(graph.getVertexCount(), g.getVertexCount());
+        assertEquals(graph.getEdgeCount(), g.getEdgeCount());
+        for (String v : graph.getVertices())
+        {
+            int i = indexed.getVertexIndex(v);
+            assertEquals(v, indexed.getVertex(i));
+            assertEquals(graph.outDegree(v), g.outDegree(i));
+            assertEquals(graph.inDegree(v), g.inDegree(i));
+            for (int j = 0; j < g.outDegree(i); j++)
+            {
+                Integer e = indexed.getEdge(g.getOutEdge(i, j));
+                assertEquals(graph.getDest(e), indexed.getVertex(g.getOpposite(i, indexed.getEdgeIndex(e))));
+            }
+        }
+        assertEquals(-1, indexed.getVertexIndex("z"));
+    }
+
+    public void testIndexedGraphPassThrough()
+    {
+        DirectedCompactGraph<String,Integer> compact = DirectedCompactGraph.copyOf(graph);
+        assertSame(compact, Indexer.createIndexedGraph(compact));
+    }
+
+    public void testIntFastPaths()
+    {
+        DirectedCompactGraph<String,Integer> compact = DirectedCompactGraph.copyOf(graph);
+
+        assertEquals(new WeakComponentClusterer<String,Integer>().transform(graph),
+                new WeakComponentClusterer<String,Integer>().transform(compact));
+
+        UnweightedShortestPath<String,Integer> expected = new UnweightedShortestPath<String,Integer>(graph);
+        UnweightedShortestPath<String,Integer> actual = new UnweightedShortestPath<String,Integer>(compact);
+        for (String v : graph.getVertices())
+        {
+            assertEquals(expected.getDistanceMap(v), actual.getDistanceMap(v));
+            Map<String,Integer> incoming = actual.getIncomingEdgeMap(v);
+            assertEquals(expected.getIncomingEdgeMap(v).keySet(), incoming.keySet());
+            for (String w : incoming.keySet())
+                assertEquals(graph.getDest(incoming.get(w)), w);
+        }
+
+        DirectedCompactGraph<Integer,Integer> ints = 
+            DirectedCompactGraph.copyOf(Indexer.createIndexedGraph(graph).getIntGraph());
+        assertEquals(graph.getEdgeCount(), ints.getEdgeCount());
+        assertEquals(new HashSet<Integer>(ints.getEdges()).size(), graph.getEdgeCount());
+    }
+
+    public void testMappedGraph() throws IOException
+    {
+        File file = File.createTempFile("indexed", ".graph");
+        file.deleteOnExit();
+        MappedGraph.write(graph, file);
+        MappedGraph<String,Integer> mapped = MappedGraph.open(file,
+                MappedGraph.listMapping(new ArrayList<String>(graph.getVertices())),
+                MappedGraph.listMapping(new ArrayList<Integer>(graph.getEdges())));
+        assertSame(mapped, Indexer.createIndexedGraph(mapped));
+
+        assertEquals(new WeakComponentClusterer<String,Integer>().transform(graph),
+                new WeakComponentClusterer<String,Integer>().transform(mapped));
+        UnweightedShortestPath<String,Integer> expected = new UnweightedShortestPath<String,Integer>(graph);
+        UnweightedShortestPath<String,Integer> actual = new UnweightedShortestPath<String,Integer>(mapped);
+        for (String v : graph.getVertices())
+            assertEquals(expected.getDistanceMap(v), actual.getDistanceMap(v));
+    }
+}
@@ -4,6 +4,8 @@ import java.io.Serializable;
 import java.util.Collection;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Graphs;
 import edu.uci.ics.jung.graph.util.Pair;
 
 /**
@@ -13,7 +15,7 @@ import edu.uci.ics.jung.graph.util.Pair;
  * instance.
  */
 @SuppressWarnings("serial")
-public class GraphDecorator<V,E> implements Graph<V,E>, Serializable {
+public class GraphDecorator<V,E> implements Graph<V,E>, VisitableGraph<V,E>, Serializable, Versioned {
 	
 	protected Graph<V,E> delegate;
 
@@ -25,6 +27,14 @@ public class GraphDecorator<V,E> implements Graph<V,E>, Serializable {
 		this.delegate = delegate;
 	}
 
+	/**
+	 * Returns the version of the delegate, or -1 if it does not report one.
+	 * @see Versioned#getVersion()
+	 */
+	public long getVersion() {
+		return delegate instanceof Versioned ? ((Versioned)delegate).getVersion() : -1;
+	}
+
 	/**
 	 * @see edu.uci.ics.jung.graph.Hypergraph#addEdge(java.lang.Object, java.util.Collection)
 	 */
@@ -246,6 +256,34 @@ public class GraphDecorator<V,E> implements Graph<V,E>, Serializable {
 		return delegate.getSuccessors(vertex);
 	}
 
+	/**
+	 * @see edu.uci.ics.jung.graph.VisitableGraph#visitNeighbors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+	 */
+	public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor) {
+		return Graphs.visitNeighbors(delegate, vertex, visitor);
+	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.VisitableGraph#visitIncidentEdges(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+	 */
+	public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor) {
+		return Graphs.visitIncidentEdges(delegate, vertex, visitor);
+	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.VisitableGraph#visitPredecessors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+	 */
+	public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor) {
+		return Graphs.visitPredecessors(delegate, vertex, visitor);
+	}
+
+	/**
+	 * @see edu.uci.ics.jung.graph.VisitableGraph#visitSuccessors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+	 */
+	public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor) {
+		return Graphs.visitSuccessors(delegate, vertex, visitor);
+	}
+
 	/**
 	 * @see edu.uci.ics.jung.graph.Hypergraph#getVertexCount()
 	 */
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+/**
+ * A graph whose vertices and edges are assigned dense <code>int</code> indices,
+ * and whose topology is available in terms of those indices as an 
+ * <code>IntGraph</code>.
+ * Algorithms may use this interface to operate on primitive arrays 
+ * indexed by vertex or edge rather than on <code>Map</code>s keyed by vertex or edge.
+ * 
+ * <p>Indices are only guaranteed to be stable as long as the graph is not modified.
+ */
+public interface IndexedGraph<V,E>
+{
+    /**
+     * Returns the index of <code>vertex</code>, or -1 if <code>vertex</code>
+     * is not in this graph.
+     */
+    int getVertexIndex(V vertex);
+
+    /**
+     * Returns the vertex with the specified index.
+     */
+    V getVertex(int index);
+
+    /**
+     * Returns the index of <code>edge</code>, or -1 if <code>edge</code>
+     * is not in this graph.
+     */
+    int getEdgeIndex(E edge);
+
+    /**
+     * Returns the edge with the specified index.
+     */
+    E getEdge(int index);
+
+    /**
+     * Returns a view of this graph's topology in terms of vertex and edge indices.
+     */
+    IntGraph getIntGraph();
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * A primitive-specialized, read-only view of a graph's topology, in which 
+ * vertices are identified by the indices <code>0..getVertexCount()-1</code> and
+ * edges by the indices <code>0..getEdgeCount()-1</code>.
+ * 
+ * <p>The incoming and outgoing edges of each vertex are accessed by position, 
+ * which allows algorithms to traverse the graph without allocating iterators 
+ * or hashing vertex objects:
+ * <pre>
+ * for (int i = 0, d = g.outDegree(v); i &lt; d; i++)
+ *     visit(g.getOpposite(v, g.getOutEdge(v, i)));
+ * </pre>
+ * The outgoing (resp. incoming) edges of a vertex are those that would be returned by 
+ * <code>Graph.getOutEdges</code> (resp. <code>getInEdges</code>); in particular, 
+ * undirected edges are both incoming and outgoing.
+ * 
+ * @see IndexedGraph
+ */
+public interface IntGraph
+{
+    /**
+     * Returns the number of vertices in this graph.
+     */
+    int getVertexCount();
+
+    /**
+     * Returns the number of edges in this graph.
+     */
+    int getEdgeCount();
+
+    /**
+     * Returns the number of outgoing edges incident to vertex <code>v</code>.
+     */
+    int outDegree(int v);
+
+    /**
+     * Returns the number of incoming edges incident to vertex <code>v</code>.
+     */
+    int inDegree(int v);
+
+    /**
+     * Returns the <code>i</code>th outgoing edge of vertex <code>v</code>,
+     * where <code>0 &lt;= i &lt; outDegree(v)</code>.
+     */
+    int getOutEdge(int v, int i);
+
+    /**
+     * Returns the <code>i</code>th incoming edge of vertex <code>v</code>,
+     * where <code>0 &lt;= i &lt; inDegree(v)</code>.
+     */
+    int getInEdge(int v, int i);
+
+    /**
+     * Returns the endpoint of edge <code>e</code> which is opposite to vertex 
+     * <code>v</code>.  The result is undefined if <code>v</code> is not incident 
+     * to <code>e</code>.
+     */
+    int getOpposite(int v, int e);
+
+    /**
+     * Returns the first endpoint (the source, if <code>e</code> is directed)
+     * of edge <code>e</code>.
+     */
+    int getFirst(int e);
+
+    /**
+     * Returns the second endpoint (the destination, if <code>e</code> is directed)
+     * of edge <code>e</code>.
+     */
+    int getSecond(int e);
+
+    /**
+     * Returns the type of edge <code>e</code>.
+     */
+    EdgeType getEdgeType(int e);
+}
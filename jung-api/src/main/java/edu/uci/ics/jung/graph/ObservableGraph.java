@@ -3,16 +3,32 @@ package edu.uci.ics.jung.graph;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import edu.uci.ics.jung.graph.event.GraphEvent;
 import edu.uci.ics.jung.graph.event.GraphEventListener;
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
 
 /**
  * A decorator class for graphs which generates events 
  * 
+ * <p>Modifications made between {@code beginBatch()} and {@code commitBatch()}
+ * are reported to listeners as a single {@code GraphEvent.Batch} rather
+ * than as one event each.  {@code commitBatch()} should be called in a
+ * {@code finally} block, or the modifications made by a {@code Runnable}
+ * passed to {@code batch(Runnable)}, which does so.
+ * 
+ * <p>Each vertex or edge addition or removal increments this graph's
+ * version ({@code getVersion()}).  If a journal capacity is set, the most
+ * recent changes are also retained, so that consumers which maintain 
+ * state derived from the graph can find out what has changed since the
+ * version they last saw ({@code getChangesSince(long)}), and update that
+ * state incrementally.
+ * 
  * @author Joshua O'Madadhain
  */
 @SuppressWarnings("serial")
@@ -21,6 +37,16 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
 	List<GraphEventListener<V,E>> listenerList = 
 		Collections.synchronizedList(new LinkedList<GraphEventListener<V,E>>());
 
+	private int batch_depth;
+	private Set<V> added_vertices;
+	private Set<V> removed_vertices;
+	private Set<E> added_edges;
+	private Set<E> removed_edges;
+
+	private long version;
+	private GraphEvent<V,E>[] journal;   // journal[(k - 1) % journal.length] holds change k
+	private long journal_start;          // the version at which the journal was (re)started
+
     /**
      * Creates a new instance based on the provided {@code delegate}.
      */
@@ -42,12 +68,174 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
 		listenerList.remove(l);
 	}
 
+	/**
+	 * Starts a batch of modifications.  Until the matching call to
+	 * {@code commitBatch()}, no vertex or edge events are fired; instead
+	 * the net additions and removals are accumulated, and reported
+	 * when the batch is committed.  Batches may be nested, in which case
+	 * only the outermost one fires an event.
+	 * 
+	 * <p>A batch which is not committed leaves this graph silent
+	 * indefinitely, so the modifications should be made in a {@code try}
+	 * block whose {@code finally} block calls {@code commitBatch()}:
+	 * <pre>
+	 * graph.beginBatch();
+	 * try {
+	 *     ...
+	 * } finally {
+	 *     graph.commitBatch();
+	 * }
+	 * </pre>
+	 * @see #batch(Runnable)
+	 */
+	public void beginBatch() {
+		if (batch_depth++ == 0) {
+			added_vertices = new LinkedHashSet<V>();
+			removed_vertices = new LinkedHashSet<V>();
+			added_edges = new LinkedHashSet<E>();
+			removed_edges = new LinkedHashSet<E>();
+		}
+	}
+
+	/**
+	 * Ends the batch of modifications started by the matching call to
+	 * {@code beginBatch()}.  If this ends the outermost batch, and the
+	 * batch changed the graph, a single {@code GraphEvent.Batch} describing
+	 * the changes is fired.
+	 * @throws IllegalStateException if no batch has been started
+	 */
+	public void commitBatch() {
+		if (batch_depth == 0)
+			throw new IllegalStateException("no batch has been started");
+		if (--batch_depth > 0)
+			return;
+		GraphEvent<V,E> evt = new GraphEvent.Batch<V,E>(delegate, added_vertices, removed_vertices,
+				added_edges, removed_edges);
+		boolean changed = !(added_vertices.isEmpty() && removed_vertices.isEmpty() &&
+				added_edges.isEmpty() && removed_edges.isEmpty());
+		added_vertices = removed_vertices = null;
+		added_edges = removed_edges = null;
+		if (changed)
+			fireGraphEvent(evt);
+	}
+
+	/**
+	 * Runs {@code changes} as a batch: calls {@code beginBatch()}, runs
+	 * {@code changes}, and then calls {@code commitBatch()}, even if 
+	 * {@code changes} throws an exception, so that listeners are told of
+	 * the modifications made before the exception.
+	 */
+	public void batch(Runnable changes) {
+		beginBatch();
+		try {
+			changes.run();
+		} finally {
+			commitBatch();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if a batch of modifications has been started
+	 * and not yet committed.
+	 */
+	public boolean isBatching() {
+		return batch_depth > 0;
+	}
+
+	/**
+	 * Returns the number of vertex and edge additions and removals made 
+	 * through this graph since it was created.
+	 */
+	@Override
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Sets the number of changes that are retained for 
+	 * {@code getChangesSince}, discarding any changes already retained.
+	 * A capacity of 0 (the default) disables the journal.
+	 */
+	@SuppressWarnings("unchecked")
+	public void setJournalCapacity(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("journal capacity must be non-negative: " + capacity);
+		journal = capacity == 0 ? null : new GraphEvent[capacity];
+		journal_start = version;
+	}
+
+	/**
+	 * Returns the number of changes that are retained for {@code getChangesSince}.
+	 */
+	public int getJournalCapacity() {
+		return journal == null ? 0 : journal.length;
+	}
+
+	/**
+	 * Returns the changes made since the specified version, in the order 
+	 * in which they were made, as {@code GraphEvent.Vertex} and 
+	 * {@code GraphEvent.Edge} events; the event at position {@code i} of
+	 * the list took this graph to version {@code since + i + 1}.  Edge
+	 * events specify the edge's endpoints.
+	 * 
+	 * <p>Returns {@code null} if some of these changes are no longer in
+	 * the journal (or were made before it was enabled), in which case the
+	 * caller must rebuild its state from the current graph.
+	 * @param since a version previously returned by {@code getVersion()}
+	 */
+	public List<GraphEvent<V,E>> getChangesSince(long since) {
+		if (since < 0 || since > version)
+			throw new IllegalArgumentException("not a version of this graph: " + since);
+		int retained = journal == null ? 0 : (int)Math.min(journal.length, version - journal_start);
+		if (since < version - retained)
+			return null;
+		List<GraphEvent<V,E>> changes = new ArrayList<GraphEvent<V,E>>((int)(version - since));
+		for (long k = since + 1; k <= version; k++)
+			changes.add(journal[(int)((k - 1) % journal.length)]);
+		return Collections.unmodifiableList(changes);
+	}
+
 	protected void fireGraphEvent(GraphEvent<V,E> evt) {
-		for(GraphEventListener<V,E> listener : listenerList) {
+		if (evt instanceof GraphEvent.Vertex || evt instanceof GraphEvent.Edge) {
+			version++;
+			if (journal != null)
+				journal[(int)((version - 1) % journal.length)] = evt;
+		}
+		if (batch_depth > 0 && record(evt))
+			return;
+		// iterate over a copy, so that listeners may remove themselves
+		for(GraphEventListener<V,E> listener : new ArrayList<GraphEventListener<V,E>>(listenerList)) {
 			listener.handleGraphEvent(evt);
 		 }
 	 }
 
+	/**
+	 * Adds the change reported by {@code evt} to the current batch, and
+	 * returns {@code true} if it is a vertex or edge event.
+	 */
+	private boolean record(GraphEvent<V,E> evt) {
+		switch (evt.getType()) {
+			case VERTEX_ADDED:
+				added_vertices.add(((GraphEvent.Vertex<V,E>)evt).getVertex());
+				return true;
+			case VERTEX_REMOVED:
+				V vertex = ((GraphEvent.Vertex<V,E>)evt).getVertex();
+				if (!added_vertices.remove(vertex))
+					removed_vertices.add(vertex);
+				return true;
+			case EDGE_ADDED:
+				added_edges.add(((GraphEvent.Edge<V,E>)evt).getEdge());
+				return true;
+			case EDGE_REMOVED:
+				E edge = ((GraphEvent.Edge<V,E>)evt).getEdge();
+				if (!added_edges.remove(edge))
+					removed_edges.add(edge);
+				return true;
+			default:
+				return false;
+		}
+	}
+
 	/**
 	 * @see edu.uci.ics.jung.graph.Hypergraph#addEdge(java.lang.Object, java.util.Collection)
 	 */
@@ -55,7 +243,8 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
 	public boolean addEdge(E edge, Collection<? extends V> vertices) {
 		boolean state = super.addEdge(edge, vertices);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, edge);
+			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, edge,
+					delegate.getEndpoints(edge));
 			fireGraphEvent(evt);
 		}
 		return state;
@@ -68,7 +257,8 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
   public boolean addEdge(E e, V v1, V v2, EdgeType edgeType) {
 		boolean state = super.addEdge(e, v1, v2, edgeType);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, e);
+			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, e,
+					delegate.getEndpoints(e));
 			fireGraphEvent(evt);
 		}
 		return state;
@@ -81,7 +271,8 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
   public boolean addEdge(E e, V v1, V v2) {
 		boolean state = super.addEdge(e, v1, v2);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, e);
+			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_ADDED, e,
+					delegate.getEndpoints(e));
 			fireGraphEvent(evt);
 		}
 		return state;
@@ -105,9 +296,11 @@ public class ObservableGraph<V,E> extends GraphDecorator<V,E> {
 	 */
 	@Override
   public boolean removeEdge(E edge) {
+		Pair<V> endpoints = delegate.getEndpoints(edge);
 		boolean state = delegate.removeEdge(edge);
 		if(state) {
-			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_REMOVED, edge);
+			GraphEvent<V,E> evt = new GraphEvent.Edge<V,E>(delegate, GraphEvent.Type.EDGE_REMOVED, edge,
+					endpoints);
 			fireGraphEvent(evt);
 		}
 		return state;
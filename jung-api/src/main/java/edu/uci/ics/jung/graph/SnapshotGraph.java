@@ -0,0 +1,971 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A decorator class for graphs which provides readers with consistent,
+ * read-only snapshots of the graph while writers continue to modify it.
+ *
+ * <p>Each modification made through this decorator increments the graph's
+ * version, and each vertex and edge is recorded together with the versions
+ * at which it was added and removed.  {@link #snapshot()} returns a view of
+ * the graph as of the current version in constant time; its iterators never
+ * throw {@code ConcurrentModificationException} and never reflect later
+ * modifications.  Records of removed elements are discarded once no live
+ * snapshot can see them, so the bookkeeping is proportional to the
+ * modifications made since the oldest live snapshot was taken.
+ *
+ * <p>Modifications are serialized.  The methods inherited from
+ * {@code GraphDecorator} read the decorated graph directly, and are
+ * therefore only safe to call from threads that do not race with writers;
+ * concurrent readers should use snapshots.
+ */
+@SuppressWarnings("serial")
+public class SnapshotGraph<V,E> extends GraphDecorator<V,E> {
+
+    protected transient Map<V, VertexRecord<V,E>> vertex_records;
+    protected transient Map<E, EdgeRecord<V,E>> edge_records;
+    protected transient RecordList<VertexRecord<V,E>> vertex_list;
+    protected transient RecordList<EdgeRecord<V,E>> edge_list;
+    protected transient volatile State state;
+
+    private transient ReferenceQueue<Object> released;
+    private transient Map<Reference<?>, Long> live_snapshots;
+    private transient SortedMap<Long, Integer> live_versions;
+    private transient int tombstones;
+    private transient int next_prune;
+
+    /**
+     * The smallest number of removed elements that will trigger the
+     * discarding of records that no snapshot can see.
+     */
+    protected static final int MIN_PRUNE_INTERVAL = 64;
+
+    /**
+     * Creates a new instance based on the provided {@code delegate}.
+     */
+    public SnapshotGraph(Graph<V,E> delegate) {
+        super(delegate);
+        initialize();
+    }
+
+    /**
+     * If {@code graph} is a {@code SnapshotGraph}, or a chain of
+     * {@code GraphDecorator}s (such as an {@code ObservableGraph}) around
+     * one, returns a snapshot of that {@code SnapshotGraph}; otherwise
+     * returns {@code graph}.  The snapshot has the vertices and edges of
+     * {@code graph}, but not the behavior added by the decorators around
+     * the {@code SnapshotGraph}.
+     */
+    public static <V,E> Graph<V,E> snapshotOf(Graph<V,E> graph) {
+        for (Graph<V,E> g = graph; g instanceof GraphDecorator; g = ((GraphDecorator<V,E>)g).delegate)
+            if (g instanceof SnapshotGraph)
+                return ((SnapshotGraph<V,E>)g).snapshot();
+        return graph;
+    }
+
+    /**
+     * Returns a read-only view of this graph as of the current version.
+     */
+    public Snapshot snapshot() {
+        synchronized (live_snapshots) {
+            State current = state;
+            Snapshot snapshot = new Snapshot(current);
+            live_snapshots.put(new WeakReference<Object>(snapshot, released), current.version);
+            Integer count = live_versions.get(current.version);
+            live_versions.put(current.version, count == null ? 1 : count + 1);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Returns the number of modifications that have been made through this
+     * decorator.
+     */
+    @Override
+    public long getVersion() {
+        return state.version;
+    }
+
+    @Override
+    public synchronized boolean addVertex(V vertex) {
+        if (!delegate.addVertex(vertex))
+            return false;
+        long version = state.version + 1;
+        recordVertex(vertex, version);
+        commit(version);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addEdge(E edge, Collection<? extends V> vertices) {
+        if (!delegate.addEdge(edge, vertices))
+            return false;
+        edgeAdded(edge);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addEdge(E edge, Collection<? extends V> vertices,
+            EdgeType edge_type) {
+        if (!delegate.addEdge(edge, vertices, edge_type))
+            return false;
+        edgeAdded(edge);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addEdge(E e, V v1, V v2) {
+        if (!delegate.addEdge(e, v1, v2))
+            return false;
+        edgeAdded(e);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addEdge(E e, V v1, V v2, EdgeType edge_type) {
+        if (!delegate.addEdge(e, v1, v2, edge_type))
+            return false;
+        edgeAdded(e);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean removeEdge(E edge) {
+        if (!delegate.removeEdge(edge))
+            return false;
+        long version = state.version + 1;
+        markRemoved(edge_records.get(edge), version);
+        commit(version);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean removeVertex(V vertex) {
+        VertexRecord<V,E> record = vertex_records.get(vertex);
+        if (!delegate.removeVertex(vertex))
+            return false;
+        long version = state.version + 1;
+        for (EdgeRecord<V,E> edge : record.in.current())
+            markRemoved(edge, version);
+        for (EdgeRecord<V,E> edge : record.out.current())
+            markRemoved(edge, version);
+        markRemoved(record, version);
+        commit(version);
+        return true;
+    }
+
+    private void initialize() {
+        vertex_records = new ConcurrentHashMap<V, VertexRecord<V,E>>();
+        edge_records = new ConcurrentHashMap<E, EdgeRecord<V,E>>();
+        vertex_list = new RecordList<VertexRecord<V,E>>();
+        edge_list = new RecordList<EdgeRecord<V,E>>();
+        released = new ReferenceQueue<Object>();
+        live_snapshots = new HashMap<Reference<?>, Long>();
+        live_versions = new TreeMap<Long, Integer>();
+        for (V v : delegate.getVertices())
+            recordVertex(v, 0);
+        for (E e : delegate.getEdges())
+            recordEdge(e, 0);
+        tombstones = 0;
+        next_prune = MIN_PRUNE_INTERVAL;
+        state = new State(0, delegate.getVertexCount(), delegate.getEdgeCount());
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initialize();
+    }
+
+    private VertexRecord<V,E> recordVertex(V vertex, long version) {
+        VertexRecord<V,E> record = new VertexRecord<V,E>(vertex, version);
+        record.previous = vertex_records.get(vertex);
+        vertex_records.put(vertex, record);
+        vertex_list.add(record);
+        return record;
+    }
+
+    private void edgeAdded(E edge) {
+        long version = state.version + 1;
+        recordEdge(edge, version);
+        commit(version);
+    }
+
+    private void recordEdge(E edge, long version) {
+        Pair<V> endpoints = delegate.getEndpoints(edge);
+        EdgeType edge_type = delegate.getEdgeType(edge);
+        V v1 = endpoints.getFirst();
+        V v2 = endpoints.getSecond();
+
+        // the decorated graph may have added the endpoints
+        VertexRecord<V,E> r1 = currentRecord(vertex_records.get(v1));
+        if (r1 == null)
+            r1 = recordVertex(v1, version);
+        VertexRecord<V,E> r2 = currentRecord(vertex_records.get(v2));
+        if (r2 == null)
+            r2 = recordVertex(v2, version);
+
+        EdgeRecord<V,E> record = new EdgeRecord<V,E>(edge, endpoints, edge_type, version);
+        record.previous = edge_records.get(edge);
+        edge_records.put(edge, record);
+        edge_list.add(record);
+
+        r1.out.add(record);
+        r2.in.add(record);
+        if (edge_type == EdgeType.UNDIRECTED) {
+            if (r1 != r2) {
+                r1.in.add(record);
+                r2.out.add(record);
+            }
+        }
+    }
+
+    private <R extends Record<?>> R currentRecord(R record) {
+        return record != null && record.removed == Long.MAX_VALUE ? record : null;
+    }
+
+    private void markRemoved(Record<?> record, long version) {
+        if (record.removed == Long.MAX_VALUE) {
+            record.removed = version;
+            tombstones++;
+        }
+    }
+
+    private void commit(long version) {
+        state = new State(version, delegate.getVertexCount(), delegate.getEdgeCount());
+        if (tombstones >= next_prune)
+            prune();
+    }
+
+    /**
+     * Discards the records of elements that were removed at or before the
+     * version of the oldest live snapshot.
+     */
+    protected void prune() {
+        long horizon;
+        synchronized (live_snapshots) {
+            Reference<?> ref;
+            while ((ref = released.poll()) != null) {
+                Long version = live_snapshots.remove(ref);
+                int count = live_versions.get(version);
+                if (count == 1)
+                    live_versions.remove(version);
+                else
+                    live_versions.put(version, count - 1);
+            }
+            horizon = live_versions.isEmpty() ? state.version : live_versions.firstKey();
+        }
+
+        vertex_list.prune(horizon);
+        edge_list.prune(horizon);
+        for (VertexRecord<V,E> record : vertex_list.all()) {
+            record.in.prune(horizon);
+            record.out.prune(horizon);
+        }
+        pruneChains(vertex_records, horizon);
+        pruneChains(edge_records, horizon);
+
+        tombstones = vertex_list.countRemoved() + edge_list.countRemoved();
+        next_prune = tombstones + Math.max(MIN_PRUNE_INTERVAL,
+            (vertex_list.size() + edge_list.size()) / 2);
+    }
+
+    private <K, R extends Record<K>> void pruneChains(Map<K, R> records, long horizon) {
+        for (Iterator<R> iter = records.values().iterator(); iter.hasNext(); ) {
+            Record<K> record = iter.next();
+            if (record.removed <= horizon) {
+                iter.remove();
+                continue;
+            }
+            for (; record.previous != null; record = record.previous) {
+                if (record.previous.removed <= horizon) {
+                    record.previous = null;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * The version and element counts after a modification.
+     */
+    protected static final class State {
+        final long version;
+        final int vertex_count;
+        final int edge_count;
+
+        State(long version, int vertex_count, int edge_count) {
+            this.version = version;
+            this.vertex_count = vertex_count;
+            this.edge_count = edge_count;
+        }
+    }
+
+    /**
+     * An element together with the versions at which it was added and
+     * removed, and the record for the same element's previous incarnation.
+     */
+    protected static class Record<T> {
+        protected final T element;
+        protected final long added;
+        protected volatile long removed = Long.MAX_VALUE;
+        protected volatile Record<T> previous;
+
+        Record(T element, long added) {
+            this.element = element;
+            this.added = added;
+        }
+
+        boolean isVisible(long version) {
+            return added <= version && version < removed;
+        }
+
+        Record<T> at(long version) {
+            Record<T> record = this;
+            while (record != null && !record.isVisible(version))
+                record = record.previous;
+            return record;
+        }
+    }
+
+    protected static class VertexRecord<V,E> extends Record<V> {
+        protected final RecordList<EdgeRecord<V,E>> in = new RecordList<EdgeRecord<V,E>>();
+        protected final RecordList<EdgeRecord<V,E>> out = new RecordList<EdgeRecord<V,E>>();
+
+        VertexRecord(V vertex, long added) {
+            super(vertex, added);
+        }
+    }
+
+    protected static class EdgeRecord<V,E> extends Record<E> {
+        protected final Pair<V> endpoints;
+        protected final EdgeType edge_type;
+
+        EdgeRecord(E edge, Pair<V> endpoints, EdgeType edge_type, long added) {
+            super(edge, added);
+            this.endpoints = endpoints;
+            this.edge_type = edge_type;
+        }
+    }
+
+    /**
+     * An append-only list of records which may be read concurrently with
+     * appends by a single writer.  Pruning replaces the backing array.
+     */
+    protected static class RecordList<R extends Record<?>> {
+        private volatile Segment segment = new Segment(new Object[4], 0);
+
+        private static final class Segment {
+            final Object[] records;
+            volatile int size;
+
+            Segment(Object[] records, int size) {
+                this.records = records;
+                this.size = size;
+            }
+        }
+
+        void add(R record) {
+            Segment s = segment;
+            int size = s.size;
+            if (size == s.records.length) {
+                Object[] grown = new Object[size * 2];
+                System.arraycopy(s.records, 0, grown, 0, size);
+                s = new Segment(grown, size);
+                segment = s;
+            }
+            s.records[size] = record;
+            s.size = size + 1;
+        }
+
+        int size() {
+            return segment.size;
+        }
+
+        void prune(long horizon) {
+            Segment s = segment;
+            int size = s.size;
+            Object[] kept = new Object[Math.max(4, size)];
+            int count = 0;
+            for (int i = 0; i < size; i++)
+                if (((Record<?>)s.records[i]).removed > horizon)
+                    kept[count++] = s.records[i];
+            if (count < size)
+                segment = new Segment(kept, count);
+        }
+
+        int countRemoved() {
+            Segment s = segment;
+            int count = 0;
+            for (int i = 0; i < s.size; i++)
+                if (((Record<?>)s.records[i]).removed != Long.MAX_VALUE)
+                    count++;
+            return count;
+        }
+
+        Iterable<R> all() {
+            return visibleAt(-1);
+        }
+
+        Iterable<R> current() {
+            return visibleAt(Long.MAX_VALUE - 1);
+        }
+
+        /**
+         * Returns the records visible at {@code version}, or all records if
+         * {@code version} is negative.
+         */
+        Iterable<R> visibleAt(final long version) {
+            final Segment s = segment;
+            final int size = s.size;
+            return new Iterable<R>() {
+                public Iterator<R> iterator() {
+                    return new Iterator<R>() {
+                        int next = advance(0);
+
+                        private int advance(int i) {
+                            while (i < size && version >= 0 &&
+                                    !((Record<?>)s.records[i]).isVisible(version))
+                                i++;
+                            return i;
+                        }
+
+                        public boolean hasNext() {
+                            return next < size;
+                        }
+
+                        @SuppressWarnings("unchecked")
+                        public R next() {
+                            if (next >= size)
+                                throw new NoSuchElementException();
+                            R record = (R)s.records[next];
+                            next = advance(next + 1);
+                            return record;
+                        }
+
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /**
+     * A read-only view of the graph as of a particular version.  Methods
+     * which would modify the graph throw {@code UnsupportedOperationException}.
+     */
+    public class Snapshot implements Graph<V,E>, VisitableGraph<V,E> {
+        protected final long version;
+        protected final int vertex_count;
+        protected final int edge_count;
+
+        Snapshot(State state) {
+            this.version = state.version;
+            this.vertex_count = state.vertex_count;
+            this.edge_count = state.edge_count;
+        }
+
+        /**
+         * Returns the version of the graph that this snapshot shows.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        @SuppressWarnings("unchecked")
+        private VertexRecord<V,E> vertexAt(V vertex) {
+            VertexRecord<V,E> record = vertex_records.get(vertex);
+            return record == null ? null : (VertexRecord<V,E>)record.at(version);
+        }
+
+        @SuppressWarnings("unchecked")
+        private EdgeRecord<V,E> edgeAt(E edge) {
+            EdgeRecord<V,E> record = edge_records.get(edge);
+            return record == null ? null : (EdgeRecord<V,E>)record.at(version);
+        }
+
+        private V opposite(V vertex, EdgeRecord<V,E> edge) {
+            V first = edge.endpoints.getFirst();
+            return vertex.equals(first) ? edge.endpoints.getSecond() : first;
+        }
+
+        public Collection<V> getVertices() {
+            return new ElementView<V>(vertex_list, vertex_count) {
+                @Override
+                @SuppressWarnings("unchecked")
+                public boolean contains(Object o) {
+                    return containsVertex((V)o);
+                }
+            };
+        }
+
+        public Collection<E> getEdges() {
+            return new ElementView<E>(edge_list, edge_count) {
+                @Override
+                @SuppressWarnings("unchecked")
+                public boolean contains(Object o) {
+                    return containsEdge((E)o);
+                }
+            };
+        }
+
+        public boolean containsVertex(V vertex) {
+            return vertexAt(vertex) != null;
+        }
+
+        public boolean containsEdge(E edge) {
+            return edgeAt(edge) != null;
+        }
+
+        public int getVertexCount() {
+            return vertex_count;
+        }
+
+        public int getEdgeCount() {
+            return edge_count;
+        }
+
+        public Collection<E> getInEdges(V vertex) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            if (record == null)
+                return null;
+            return new ElementView<E>(record.in, -1);
+        }
+
+        public Collection<E> getOutEdges(V vertex) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            if (record == null)
+                return null;
+            return new ElementView<E>(record.out, -1);
+        }
+
+        public Collection<E> getIncidentEdges(V vertex) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            if (record == null)
+                return null;
+            Set<E> incident = new LinkedHashSet<E>();
+            for (EdgeRecord<V,E> edge : record.in.visibleAt(version))
+                incident.add(edge.element);
+            for (EdgeRecord<V,E> edge : record.out.visibleAt(version))
+                incident.add(edge.element);
+            return Collections.unmodifiableSet(incident);
+        }
+
+        public Collection<V> getPredecessors(V vertex) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            if (record == null)
+                return null;
+            Set<V> preds = new LinkedHashSet<V>();
+            for (EdgeRecord<V,E> edge : record.in.visibleAt(version))
+                preds.add(opposite(vertex, edge));
+            return Collections.unmodifiableSet(preds);
+        }
+
+        public Collection<V> getSuccessors(V vertex) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            if (record == null)
+                return null;
+            Set<V> succs = new LinkedHashSet<V>();
+            for (EdgeRecord<V,E> edge : record.out.visibleAt(version))
+                succs.add(opposite(vertex, edge));
+            return Collections.unmodifiableSet(succs);
+        }
+
+        public Collection<V> getNeighbors(V vertex) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            if (record == null)
+                return null;
+            Set<V> neighbors = new LinkedHashSet<V>();
+            for (EdgeRecord<V,E> edge : record.in.visibleAt(version))
+                neighbors.add(opposite(vertex, edge));
+            for (EdgeRecord<V,E> edge : record.out.visibleAt(version))
+                neighbors.add(opposite(vertex, edge));
+            return Collections.unmodifiableSet(neighbors);
+        }
+
+        public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            return record == null || visitOpposites(vertex, record.in, record.out, visitor);
+        }
+
+        public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            if (record == null)
+                return true;
+            for (EdgeRecord<V,E> edge : record.in.visibleAt(version))
+                if (!visitor.visit(edge.element))
+                    return false;
+            // undirected edges and self-loops are also incoming
+            for (EdgeRecord<V,E> edge : record.out.visibleAt(version))
+                if (edge.edge_type != EdgeType.UNDIRECTED && !vertex.equals(edge.endpoints.getSecond())
+                        && !visitor.visit(edge.element))
+                    return false;
+            return true;
+        }
+
+        public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            return record == null || visitOpposites(vertex, record.in, null, visitor);
+        }
+
+        public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            return record == null || visitOpposites(vertex, record.out, null, visitor);
+        }
+
+        /**
+         * Visits each distinct vertex opposite {@code vertex} across the
+         * edges in {@code first} and {@code second} (which may be
+         * {@code null}) that are visible in this snapshot.
+         */
+        @SuppressWarnings("unchecked")
+        private boolean visitOpposites(V vertex, RecordList<EdgeRecord<V,E>> first,
+                RecordList<EdgeRecord<V,E>> second, ElementVisitor<? super V> visitor) {
+            RecordList.Segment s1 = first.segment;
+            RecordList.Segment s2 = second == null ? null : second.segment;
+            int n1 = s1.size;
+            int n = n1 + (s2 == null ? 0 : s2.size);
+            VisitedSet visited = VisitedSet.acquire();
+            try {
+                for (int i = 0; i < n; i++) {
+                    EdgeRecord<V,E> edge = (EdgeRecord<V,E>)(i < n1 ? s1.records[i] : s2.records[i - n1]);
+                    if (!edge.isVisible(version))
+                        continue;
+                    V opposite = opposite(vertex, edge);
+                    if (visited.add(opposite) && !visitor.visit(opposite))
+                        return false;
+                }
+                return true;
+            } finally {
+                visited.release();
+            }
+        }
+
+        /**
+         * Returns the number of distinct vertices opposite {@code vertex}
+         * across the edges in {@code first} and {@code second} (which may be
+         * {@code null}) that are visible in this snapshot.
+         */
+        @SuppressWarnings("unchecked")
+        private int countOpposites(V vertex, RecordList<EdgeRecord<V,E>> first,
+                RecordList<EdgeRecord<V,E>> second) {
+            RecordList.Segment s1 = first.segment;
+            RecordList.Segment s2 = second == null ? null : second.segment;
+            int n1 = s1.size;
+            int n = n1 + (s2 == null ? 0 : s2.size);
+            int count = 0;
+            VisitedSet visited = VisitedSet.acquire();
+            try {
+                for (int i = 0; i < n; i++) {
+                    EdgeRecord<V,E> edge = (EdgeRecord<V,E>)(i < n1 ? s1.records[i] : s2.records[i - n1]);
+                    if (edge.isVisible(version) && visited.add(opposite(vertex, edge)))
+                        count++;
+                }
+                return count;
+            } finally {
+                visited.release();
+            }
+        }
+
+        /**
+         * Returns {@code true} if {@code other} is opposite {@code vertex}
+         * across an edge in {@code list} that is visible in this snapshot.
+         */
+        @SuppressWarnings("unchecked")
+        private boolean hasOpposite(V vertex, RecordList<EdgeRecord<V,E>> list, V other) {
+            RecordList.Segment s = list.segment;
+            for (int i = 0, n = s.size; i < n; i++) {
+                EdgeRecord<V,E> edge = (EdgeRecord<V,E>)s.records[i];
+                if (edge.isVisible(version) && opposite(vertex, edge).equals(other))
+                    return true;
+            }
+            return false;
+        }
+
+        /**
+         * Returns the number of records in {@code list} that are visible in
+         * this snapshot.
+         */
+        private int countVisible(RecordList<?> list) {
+            RecordList.Segment s = list.segment;
+            int count = 0;
+            for (int i = 0, n = s.size; i < n; i++)
+                if (((Record<?>)s.records[i]).isVisible(version))
+                    count++;
+            return count;
+        }
+
+        public int getNeighborCount(V vertex) {
+            VertexRecord<V,E> record = recordOf(vertex);
+            return countOpposites(vertex, record.in, record.out);
+        }
+
+        public int degree(V vertex) {
+            VertexRecord<V,E> record = recordOf(vertex);
+            int count = countVisible(record.in);
+            // undirected edges and self-loops are also incoming
+            RecordList.Segment s = record.out.segment;
+            for (int i = 0, n = s.size; i < n; i++) {
+                @SuppressWarnings("unchecked")
+                EdgeRecord<V,E> edge = (EdgeRecord<V,E>)s.records[i];
+                if (edge.isVisible(version) && edge.edge_type != EdgeType.UNDIRECTED
+                        && !vertex.equals(edge.endpoints.getSecond()))
+                    count++;
+            }
+            return count;
+        }
+
+        public int inDegree(V vertex) {
+            return countVisible(recordOf(vertex).in);
+        }
+
+        public int outDegree(V vertex) {
+            return countVisible(recordOf(vertex).out);
+        }
+
+        public int getPredecessorCount(V vertex) {
+            return countOpposites(vertex, recordOf(vertex).in, null);
+        }
+
+        public int getSuccessorCount(V vertex) {
+            return countOpposites(vertex, recordOf(vertex).out, null);
+        }
+
+        public boolean isPredecessor(V v1, V v2) {
+            return hasOpposite(v1, recordOf(v1).in, v2);
+        }
+
+        public boolean isSuccessor(V v1, V v2) {
+            return hasOpposite(v1, recordOf(v1).out, v2);
+        }
+
+        public boolean isNeighbor(V v1, V v2) {
+            VertexRecord<V,E> record = recordOf(v1);
+            checkVertex(v2);
+            return hasOpposite(v1, record.in, v2) || hasOpposite(v1, record.out, v2);
+        }
+
+        public boolean isIncident(V vertex, E edge) {
+            checkVertex(vertex);
+            EdgeRecord<V,E> record = edgeAt(edge);
+            if (record == null)
+                throw new IllegalArgumentException(edge + " is not an edge in this graph");
+            return record.endpoints.contains(vertex);
+        }
+
+        public Pair<V> getEndpoints(E edge) {
+            EdgeRecord<V,E> record = edgeAt(edge);
+            return record == null ? null : record.endpoints;
+        }
+
+        public Collection<V> getIncidentVertices(E edge) {
+            EdgeRecord<V,E> record = edgeAt(edge);
+            if (record == null)
+                return null;
+            Collection<V> incident = new ArrayList<V>(2);
+            incident.add(record.endpoints.getFirst());
+            incident.add(record.endpoints.getSecond());
+            return Collections.unmodifiableCollection(incident);
+        }
+
+        public int getIncidentCount(E edge) {
+            EdgeRecord<V,E> record = edgeAt(edge);
+            if (record == null)
+                return 0;
+            return record.endpoints.getFirst() == record.endpoints.getSecond() ? 1 : 2;
+        }
+
+        public V getOpposite(V vertex, E edge) {
+            EdgeRecord<V,E> record = edgeAt(edge);
+            if (record == null || !record.endpoints.contains(vertex))
+                throw new IllegalArgumentException(vertex + " is not incident to " + edge + " in this graph");
+            return opposite(vertex, record);
+        }
+
+        public E findEdge(V v1, V v2) {
+            VertexRecord<V,E> record = vertexAt(v1);
+            if (record == null || !containsVertex(v2))
+                return null;
+            for (EdgeRecord<V,E> edge : record.out.visibleAt(version))
+                if (opposite(v1, edge).equals(v2))
+                    return edge.element;
+            return null;
+        }
+
+        public Collection<E> findEdgeSet(V v1, V v2) {
+            VertexRecord<V,E> record = vertexAt(v1);
+            if (record == null)
+                throw new IllegalArgumentException(v1 + " is not an element of this graph");
+            checkVertex(v2);
+            Collection<E> edges = new ArrayList<E>();
+            for (EdgeRecord<V,E> edge : record.out.visibleAt(version))
+                if (opposite(v1, edge).equals(v2))
+                    edges.add(edge.element);
+            return Collections.unmodifiableCollection(edges);
+        }
+
+        public EdgeType getEdgeType(E edge) {
+            EdgeRecord<V,E> record = edgeAt(edge);
+            return record == null ? null : record.edge_type;
+        }
+
+        public EdgeType getDefaultEdgeType() {
+            return delegate.getDefaultEdgeType();
+        }
+
+        public Collection<E> getEdges(EdgeType edge_type) {
+            Collection<E> edges = new ArrayList<E>();
+            for (EdgeRecord<V,E> edge : edge_list.visibleAt(version))
+                if (edge.edge_type == edge_type)
+                    edges.add(edge.element);
+            return Collections.unmodifiableCollection(edges);
+        }
+
+        public int getEdgeCount(EdgeType edge_type) {
+            int count = 0;
+            for (EdgeRecord<V,E> edge : edge_list.visibleAt(version))
+                if (edge.edge_type == edge_type)
+                    count++;
+            return count;
+        }
+
+        public V getSource(E directed_edge) {
+            EdgeRecord<V,E> record = edgeAt(directed_edge);
+            if (record == null || record.edge_type != EdgeType.DIRECTED)
+                return null;
+            return record.endpoints.getFirst();
+        }
+
+        public V getDest(E directed_edge) {
+            EdgeRecord<V,E> record = edgeAt(directed_edge);
+            if (record == null || record.edge_type != EdgeType.DIRECTED)
+                return null;
+            return record.endpoints.getSecond();
+        }
+
+        public boolean isSource(V vertex, E edge) {
+            V source = getSource(edge);
+            return source != null && source.equals(vertex);
+        }
+
+        public boolean isDest(V vertex, E edge) {
+            V dest = getDest(edge);
+            return dest != null && dest.equals(vertex);
+        }
+
+        public boolean addVertex(V vertex) {
+            throw new UnsupportedOperationException("Snapshots are read-only");
+        }
+
+        public boolean addEdge(E edge, Collection<? extends V> vertices) {
+            throw new UnsupportedOperationException("Snapshots are read-only");
+        }
+
+        public boolean addEdge(E edge, Collection<? extends V> vertices, EdgeType edge_type) {
+            throw new UnsupportedOperationException("Snapshots are read-only");
+        }
+
+        public boolean addEdge(E e, V v1, V v2) {
+            throw new UnsupportedOperationException("Snapshots are read-only");
+        }
+
+        public boolean addEdge(E e, V v1, V v2, EdgeType edgeType) {
+            throw new UnsupportedOperationException("Snapshots are read-only");
+        }
+
+        public boolean removeVertex(V vertex) {
+            throw new UnsupportedOperationException("Snapshots are read-only");
+        }
+
+        public boolean removeEdge(E edge) {
+            throw new UnsupportedOperationException("Snapshots are read-only");
+        }
+
+        private void checkVertex(V vertex) {
+            recordOf(vertex);
+        }
+
+        private VertexRecord<V,E> recordOf(V vertex) {
+            VertexRecord<V,E> record = vertexAt(vertex);
+            if (record == null)
+                throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+            return record;
+        }
+
+        /**
+         * The elements of the records in a list that are visible to this
+         * snapshot.  If {@code size} is negative, the size is computed.
+         */
+        private class ElementView<T> extends AbstractCollection<T> {
+            private final Iterable<? extends Record<T>> records;
+            private int size;
+
+            @SuppressWarnings("unchecked")
+            ElementView(RecordList<? extends Record<?>> list, int size) {
+                this.records = (Iterable<? extends Record<T>>)list.visibleAt(version);
+                this.size = size;
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                final Iterator<? extends Record<T>> iter = records.iterator();
+                return new Iterator<T>() {
+                    public boolean hasNext() {
+                        return iter.hasNext();
+                    }
+
+                    public T next() {
+                        return iter.next().element;
+                    }
+
+                    public void remove() {
+                        throw new UnsupportedOperationException("Snapshots are read-only");
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                if (size < 0) {
+                    int count = 0;
+                    for (Iterator<? extends Record<T>> iter = records.iterator(); iter.hasNext(); iter.next())
+                        count++;
+                    size = count;
+                }
+                return size;
+            }
+        }
+    }
+}
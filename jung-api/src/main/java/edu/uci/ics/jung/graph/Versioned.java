@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+/**
+ * A graph which reports a modification version: a number which is 
+ * incremented each time a vertex or edge is added to or removed from the 
+ * graph.  Algorithms which cache results derived from a graph may record 
+ * the version for which the results were computed, and compare it with the
+ * current version to find out whether the results may be stale.
+ * 
+ * <p>A graph which cannot detect its own modifications (for instance a 
+ * decorator whose delegate does not report versions) returns -1.
+ */
+public interface Versioned
+{
+    /**
+     * Returns the current modification version of this graph, or -1 if 
+     * modifications are not tracked.
+     */
+    long getVersion();
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Graphs;
+
+/**
+ * A hypergraph which can pass the elements of a neighborhood to an
+ * <code>ElementVisitor</code> without building a collection to hold them.
+ *
+ * <p>Implementing this interface is optional.  Algorithms should call the
+ * static <code>visit</code> methods of <code>Graphs</code>, which use these
+ * methods if the graph implements this interface, and otherwise iterate
+ * over the collection returned by the corresponding <code>get</code> method.
+ *
+ * @see Graphs#visitNeighbors(Hypergraph, Object, ElementVisitor)
+ */
+public interface VisitableGraph<V, E> extends Hypergraph<V, E>
+{
+    /**
+     * Passes each vertex in <code>getNeighbors(vertex)</code> to <code>visitor</code>,
+     * stopping early if <code>visitor</code> returns <code>false</code>.
+     * Unlike <code>getNeighbors</code>, implementations should not allocate
+     * a collection to hold the neighbors.
+     * Does nothing if <code>vertex</code> is not present.
+     *
+     * @param vertex the vertex whose neighbors are to be visited
+     * @param visitor the visitor to which each neighbor is passed
+     * @return <code>false</code> if <code>visitor</code> stopped the traversal,
+     * <code>true</code> otherwise
+     */
+    boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor);
+
+    /**
+     * Passes each edge in <code>getIncidentEdges(vertex)</code> to <code>visitor</code>,
+     * stopping early if <code>visitor</code> returns <code>false</code>.
+     * Does nothing if <code>vertex</code> is not present.
+     *
+     * @param vertex the vertex whose incident edges are to be visited
+     * @param visitor the visitor to which each incident edge is passed
+     * @return <code>false</code> if <code>visitor</code> stopped the traversal,
+     * <code>true</code> otherwise
+     * @see #visitNeighbors(Object, ElementVisitor)
+     */
+    boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor);
+
+    /**
+     * Passes each vertex in <code>getPredecessors(vertex)</code> to <code>visitor</code>,
+     * stopping early if <code>visitor</code> returns <code>false</code>.
+     * Does nothing if <code>vertex</code> is not present.
+     *
+     * @param vertex the vertex whose predecessors are to be visited
+     * @param visitor the visitor to which each predecessor is passed
+     * @return <code>false</code> if <code>visitor</code> stopped the traversal,
+     * <code>true</code> otherwise
+     * @see #visitNeighbors(Object, ElementVisitor)
+     */
+    boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor);
+
+    /**
+     * Passes each vertex in <code>getSuccessors(vertex)</code> to <code>visitor</code>,
+     * stopping early if <code>visitor</code> returns <code>false</code>.
+     * Does nothing if <code>vertex</code> is not present.
+     *
+     * @param vertex the vertex whose successors are to be visited
+     * @param visitor the visitor to which each successor is passed
+     * @return <code>false</code> if <code>visitor</code> stopped the traversal,
+     * <code>true</code> otherwise
+     * @see #visitNeighbors(Object, ElementVisitor)
+     */
+    boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+/**
+ * The vertices already passed to a visitor during one neighbor visit, so
+ * that a vertex reached by several edges is visited once.  Each thread
+ * reuses one instance from one visit to the next, and emptying it clears
+ * only the slots that the visit used, so that visits do not allocate
+ * once the table has grown to the largest degree visited by that thread.
+ *
+ * <p>Used by the <code>visit</code> methods of the graph implementations
+ * in this package; a visit must <code>release</code> the set that it
+ * <code>acquire</code>s, in a <code>finally</code> block.
+ */
+final class VisitedSet
+{
+    private static final ThreadLocal<VisitedSet> SETS = new ThreadLocal<VisitedSet>()
+    {
+        @Override
+        protected VisitedSet initialValue()
+        {
+            return new VisitedSet();
+        }
+    };
+
+    private Object[] table = new Object[64];    // open addressing, linear probing
+    private int[] used = new int[32];           // the occupied slots of table
+    private int size;
+    private boolean in_use;
+
+    private VisitedSet()
+    {
+    }
+
+    /**
+     * Returns an empty set for the calling thread.  If that thread's set is
+     * already in use (by a visitor which itself starts a visit), returns a
+     * new one.
+     */
+    static VisitedSet acquire()
+    {
+        VisitedSet set = SETS.get();
+        if (set.in_use)
+            return new VisitedSet();
+        set.in_use = true;
+        return set;
+    }
+
+    /**
+     * Empties this set, and makes it available to the next visit.
+     */
+    void release()
+    {
+        for (int i = 0; i < size; i++)
+            table[used[i]] = null;
+        size = 0;
+        in_use = false;
+    }
+
+    /**
+     * Adds <code>element</code> to this set, and returns <code>true</code>
+     * if it was not already present.
+     */
+    boolean add(Object element)
+    {
+        int mask = table.length - 1;
+        int i = hash(element) & mask;
+        Object present;
+        while ((present = table[i]) != null)
+        {
+            if (present.equals(element))
+                return false;
+            i = (i + 1) & mask;
+        }
+        table[i] = element;
+        if (size == used.length)
+        {
+            int[] grown = new int[used.length * 2];
+            System.arraycopy(used, 0, grown, 0, size);
+            used = grown;
+        }
+        used[size++] = i;
+        if (size * 2 > table.length)
+            rehash();
+        return true;
+    }
+
+    private void rehash()
+    {
+        Object[] old = table;
+        table = new Object[old.length * 2];
+        int mask = table.length - 1;
+        for (int k = 0; k < size; k++)
+        {
+            Object element = old[used[k]];
+            int i = hash(element) & mask;
+            while (table[i] != null)
+                i = (i + 1) & mask;
+            table[i] = element;
+            used[k] = i;
+        }
+    }
+
+    private static int hash(Object element)
+    {
+        int h = element.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
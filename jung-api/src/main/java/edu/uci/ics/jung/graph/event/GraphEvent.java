@@ -1,6 +1,10 @@
 package edu.uci.ics.jung.graph.event;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.Pair;
 
 /**
  * 
@@ -31,7 +35,8 @@ public abstract class GraphEvent<V,E> {
 		VERTEX_ADDED,
 		VERTEX_REMOVED,
 		EDGE_ADDED,
-		EDGE_REMOVED
+		EDGE_REMOVED,
+		BATCH
 	}
 	
     /**
@@ -67,13 +72,23 @@ public abstract class GraphEvent<V,E> {
 	 */
 	public static class Edge<V,E> extends GraphEvent<V,E> {
 		protected E edge;
+		protected Pair<V> endpoints;
 		
         /**
          * Creates a graph event for the specified graph, edge, and type.
          */
 		public Edge(Graph<V,E> source, Type type, E edge) {
+			this(source, type, edge, null);
+		}
+		
+        /**
+         * Creates a graph event for the specified graph, edge, type, and
+         * edge endpoints.
+         */
+		public Edge(Graph<V,E> source, Type type, E edge, Pair<V> endpoints) {
 			super(source,type);
 			this.edge = edge;
+			this.endpoints = endpoints;
 		}
 		
 		/**
@@ -83,6 +98,15 @@ public abstract class GraphEvent<V,E> {
 			return edge;
 		}
 		
+		/**
+		 * Retrieves the endpoints that the edge had when the event occurred
+		 * (which for a removed edge can no longer be obtained from the graph),
+		 * or {@code null} if they were not specified.
+		 */
+		public Pair<V> getEndpoints() {
+			return endpoints;
+		}
+		
 		@Override
     	public String toString() {
 			return "GraphEvent type:"+type+" for "+edge;
@@ -90,6 +114,69 @@ public abstract class GraphEvent<V,E> {
 		
 	}
 	
+	/**
+	 * An event which summarizes the net effect of a batch of modifications.
+	 * An element which was added and then removed during the batch appears
+	 * in neither the added nor the removed elements; one which was removed
+	 * and then added again appears in both, and listeners should process
+	 * the removals first.
+	 * 
+	 * @see edu.uci.ics.jung.graph.ObservableGraph#beginBatch()
+	 */
+	public static class Batch<V,E> extends GraphEvent<V,E> {
+		protected Collection<V> added_vertices;
+		protected Collection<V> removed_vertices;
+		protected Collection<E> added_edges;
+		protected Collection<E> removed_edges;
+
+		/**
+		 * Creates a batch event for the specified graph and elements.
+		 */
+		public Batch(Graph<V,E> source, Collection<V> added_vertices, Collection<V> removed_vertices,
+				Collection<E> added_edges, Collection<E> removed_edges) {
+			super(source, Type.BATCH);
+			this.added_vertices = Collections.unmodifiableCollection(added_vertices);
+			this.removed_vertices = Collections.unmodifiableCollection(removed_vertices);
+			this.added_edges = Collections.unmodifiableCollection(added_edges);
+			this.removed_edges = Collections.unmodifiableCollection(removed_edges);
+		}
+
+		/**
+		 * Retrieves the vertices added by this batch.
+		 */
+		public Collection<V> getAddedVertices() {
+			return added_vertices;
+		}
+
+		/**
+		 * Retrieves the vertices removed by this batch.
+		 */
+		public Collection<V> getRemovedVertices() {
+			return removed_vertices;
+		}
+
+		/**
+		 * Retrieves the edges added by this batch.
+		 */
+		public Collection<E> getAddedEdges() {
+			return added_edges;
+		}
+
+		/**
+		 * Retrieves the edges removed by this batch.
+		 */
+		public Collection<E> getRemovedEdges() {
+			return removed_edges;
+		}
+
+		@Override
+		public String toString() {
+			return "GraphEvent type:"+type+" adding "+added_vertices.size()+" vertices and "+
+				added_edges.size()+" edges, removing "+removed_vertices.size()+" vertices and "+
+				removed_edges.size()+" edges";
+		}
+	}
+
 	/**
 	 * @return the source
 	 */
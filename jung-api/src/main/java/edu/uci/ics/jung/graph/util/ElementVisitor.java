@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph.util;
+
+/**
+ * A callback that is passed the elements of a neighborhood, one at a time,
+ * by the <code>visit</code> methods of <code>VisitableGraph</code> and
+ * <code>Graphs</code>.
+ *
+ * <p>Unlike the corresponding <code>get</code> methods, which may build a new
+ * collection on each call, the <code>visit</code> methods of a
+ * <code>VisitableGraph</code> walk the graph's internal structures directly;
+ * a visitor instance may be reused across calls, so that algorithms which
+ * examine many neighborhoods need not allocate anything per vertex.  A visitor must not modify the graph that is
+ * calling it.
+ *
+ * @param <T> the type of element (vertex or edge) being visited
+ * @see edu.uci.ics.jung.graph.VisitableGraph#visitNeighbors(Object, ElementVisitor)
+ */
+public interface ElementVisitor<T>
+{
+    /**
+     * Called once for each element visited.
+     * @param element the element being visited
+     * @return <code>true</code> if the traversal should continue,
+     * <code>false</code> if it should stop
+     */
+    boolean visit(T element);
+}
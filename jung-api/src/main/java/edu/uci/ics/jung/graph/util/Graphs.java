@@ -6,11 +6,15 @@ import java.util.Collection;
 import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.Forest;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Hypergraph;
 import edu.uci.ics.jung.graph.Tree;
 import edu.uci.ics.jung.graph.UndirectedGraph;
+import edu.uci.ics.jung.graph.VisitableGraph;
 /**
  * Provides specialized implementations of <code>GraphDecorator</code>.  Currently these 
  * wrapper types include "synchronized" and "unmodifiable".
+ * Also provides <code>visit</code> methods which pass the elements of a
+ * neighborhood to an <code>ElementVisitor</code>, for any graph.
  *
  * <p>The methods of this class may each throw a <code>NullPointerException</code>
  * if the graphs or class objects provided to them are null.
@@ -130,9 +134,87 @@ public class Graphs {
 		return new UnmodifiableForest<V,E>(forest);
 	}
 	
+	/**
+	 * Passes each vertex in <code>graph.getNeighbors(vertex)</code> to <code>visitor</code>,
+	 * stopping early if <code>visitor</code> returns <code>false</code>.
+	 * If <code>graph</code> is a <code>VisitableGraph</code> no collection is
+	 * built; otherwise this iterates over <code>getNeighbors</code>.
+	 * Does nothing if <code>vertex</code> is not present.
+	 * @param <V> the vertex type
+	 * @param <E> the edge type
+	 * @param graph the graph whose neighborhood is to be visited
+	 * @param vertex the vertex whose neighbors are to be visited
+	 * @param visitor the visitor to which each neighbor is passed
+	 * @return <code>false</code> if <code>visitor</code> stopped the traversal,
+	 * <code>true</code> otherwise
+	 * @see VisitableGraph#visitNeighbors(Object, ElementVisitor)
+	 */
+	public static <V,E> boolean visitNeighbors(Hypergraph<V,E> graph, V vertex,
+			ElementVisitor<? super V> visitor) {
+		if (graph instanceof VisitableGraph)
+			return ((VisitableGraph<V,E>)graph).visitNeighbors(vertex, visitor);
+		if (!graph.containsVertex(vertex))
+			return true;
+		return visit(graph.getNeighbors(vertex), visitor);
+	}
+
+	/**
+	 * Passes each edge in <code>graph.getIncidentEdges(vertex)</code> to <code>visitor</code>,
+	 * stopping early if <code>visitor</code> returns <code>false</code>.
+	 * @see #visitNeighbors(Hypergraph, Object, ElementVisitor)
+	 * @see VisitableGraph#visitIncidentEdges(Object, ElementVisitor)
+	 */
+	public static <V,E> boolean visitIncidentEdges(Hypergraph<V,E> graph, V vertex,
+			ElementVisitor<? super E> visitor) {
+		if (graph instanceof VisitableGraph)
+			return ((VisitableGraph<V,E>)graph).visitIncidentEdges(vertex, visitor);
+		if (!graph.containsVertex(vertex))
+			return true;
+		return visit(graph.getIncidentEdges(vertex), visitor);
+	}
+
+	/**
+	 * Passes each vertex in <code>graph.getPredecessors(vertex)</code> to <code>visitor</code>,
+	 * stopping early if <code>visitor</code> returns <code>false</code>.
+	 * @see #visitNeighbors(Hypergraph, Object, ElementVisitor)
+	 * @see VisitableGraph#visitPredecessors(Object, ElementVisitor)
+	 */
+	public static <V,E> boolean visitPredecessors(Hypergraph<V,E> graph, V vertex,
+			ElementVisitor<? super V> visitor) {
+		if (graph instanceof VisitableGraph)
+			return ((VisitableGraph<V,E>)graph).visitPredecessors(vertex, visitor);
+		if (!graph.containsVertex(vertex))
+			return true;
+		return visit(graph.getPredecessors(vertex), visitor);
+	}
+
+	/**
+	 * Passes each vertex in <code>graph.getSuccessors(vertex)</code> to <code>visitor</code>,
+	 * stopping early if <code>visitor</code> returns <code>false</code>.
+	 * @see #visitNeighbors(Hypergraph, Object, ElementVisitor)
+	 * @see VisitableGraph#visitSuccessors(Object, ElementVisitor)
+	 */
+	public static <V,E> boolean visitSuccessors(Hypergraph<V,E> graph, V vertex,
+			ElementVisitor<? super V> visitor) {
+		if (graph instanceof VisitableGraph)
+			return ((VisitableGraph<V,E>)graph).visitSuccessors(vertex, visitor);
+		if (!graph.containsVertex(vertex))
+			return true;
+		return visit(graph.getSuccessors(vertex), visitor);
+	}
+
+	private static <T> boolean visit(Collection<? extends T> elements,
+			ElementVisitor<? super T> visitor) {
+		if (elements == null)
+			return true;
+		for (T element : elements)
+			if (!visitor.visit(element))
+				return false;
+		return true;
+	}
 	
 	@SuppressWarnings("serial")
-	static abstract class SynchronizedAbstractGraph<V,E> implements Graph<V,E>, Serializable {
+	static abstract class SynchronizedAbstractGraph<V,E> implements Graph<V,E>, VisitableGraph<V,E>, Serializable {
 		protected Graph<V,E> delegate;
 
 		private SynchronizedAbstractGraph(Graph<V, E> delegate) {
@@ -293,6 +375,34 @@ public class Graphs {
 			return delegate.getSuccessors(vertex);
 		}
 
+		/**
+		 * @see edu.uci.ics.jung.graph.VisitableGraph#visitNeighbors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+		 */
+		public synchronized boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor) {
+			return Graphs.visitNeighbors(delegate, vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.VisitableGraph#visitIncidentEdges(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+		 */
+		public synchronized boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor) {
+			return Graphs.visitIncidentEdges(delegate, vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.VisitableGraph#visitPredecessors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+		 */
+		public synchronized boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor) {
+			return Graphs.visitPredecessors(delegate, vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.VisitableGraph#visitSuccessors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+		 */
+		public synchronized boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor) {
+			return Graphs.visitSuccessors(delegate, vertex, visitor);
+		}
+
 		/**
 		 * @see edu.uci.ics.jung.graph.Hypergraph#getVertices()
 		 */
@@ -562,7 +672,7 @@ public class Graphs {
 	}
 	
 	@SuppressWarnings("serial")
-	static abstract class UnmodifiableAbstractGraph<V,E> implements Graph<V,E>, Serializable {
+	static abstract class UnmodifiableAbstractGraph<V,E> implements Graph<V,E>, VisitableGraph<V,E>, Serializable {
 		protected Graph<V,E> delegate;
 
 
@@ -746,6 +856,34 @@ public class Graphs {
 			return delegate.getSuccessors(vertex);
 		}
 
+		/**
+		 * @see edu.uci.ics.jung.graph.VisitableGraph#visitNeighbors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+		 */
+		public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor) {
+			return Graphs.visitNeighbors(delegate, vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.VisitableGraph#visitIncidentEdges(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+		 */
+		public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor) {
+			return Graphs.visitIncidentEdges(delegate, vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.VisitableGraph#visitPredecessors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+		 */
+		public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor) {
+			return Graphs.visitPredecessors(delegate, vertex, visitor);
+		}
+
+		/**
+		 * @see edu.uci.ics.jung.graph.VisitableGraph#visitSuccessors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+		 */
+		public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor) {
+			return Graphs.visitSuccessors(delegate, vertex, visitor);
+		}
+
 		/**
 		 * @see edu.uci.ics.jung.graph.Hypergraph#getVertices()
 		 */
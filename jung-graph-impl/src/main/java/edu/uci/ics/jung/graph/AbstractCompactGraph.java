@@ -0,0 +1,936 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * An immutable graph whose topology is stored in compressed sparse row (CSR)
+ * form: each vertex and edge is assigned an <code>int</code> index, and the
+ * incident edges, successors, predecessors and neighbors of each vertex are
+ * stored as contiguous ranges of <code>int</code> arrays, sorted by the index
+ * of the opposite vertex.
+ *
+ * <p>Instances are built as snapshots of an existing <code>Graph</code>,
+ * and preserve its vertex and edge iteration order.  Compared to the
+ * <code>Map</code>-based sparse graph implementations, this representation
+ * uses far less memory and provides much faster traversals;
+ * the collections returned are lightweight views over the underlying arrays.
+ * All mutating methods throw <code>UnsupportedOperationException</code>.
+ *
+ * <p>The vertex and edge indices are exposed via the <code>IndexedGraph</code>
+ * interface, so that algorithms can traverse this graph's arrays directly.
+ *
+ * @see DirectedCompactGraph
+ * @see UndirectedCompactGraph
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractCompactGraph<V,E> extends AbstractTypedGraph<V,E>
+    implements IndexedGraph<V,E>
+{
+    protected Object[] vertex_array;          // vertices by index
+    protected Map<V,Integer> vertex_indices;  // map of vertices to indices
+    protected Object[] edge_array;            // edges by index
+    protected Map<E,Integer> edge_indices;    // map of edges to indices
+    protected int[] sources;                  // edge index -> index of first endpoint
+    protected int[] dests;                    // edge index -> index of second endpoint
+
+    // offsets of each vertex's range in the corresponding arrays; for undirected
+    // graphs the incoming and outgoing arrays are the same (incident) arrays
+    protected int[] out_offsets;
+    protected int[] out_edges;
+    protected int[] in_offsets;
+    protected int[] in_edges;
+    protected int[] succ_offsets;
+    protected int[] succs;
+    protected int[] pred_offsets;
+    protected int[] preds;
+    protected int[] neighbor_offsets;
+    protected int[] neighbors;
+    protected int[] self_loops;               // number of self-loops per vertex
+
+    private transient IntGraph int_graph;
+
+    /**
+     * Creates a snapshot of <code>graph</code>, all of whose edges must be
+     * of type <code>edge_type</code>.
+     * @throws IllegalArgumentException if <code>graph</code> contains an edge
+     * whose type is not <code>edge_type</code>
+     */
+    protected AbstractCompactGraph(Graph<V,E> graph, EdgeType edge_type)
+    {
+        super(edge_type);
+        int n = graph.getVertexCount();
+        int m = graph.getEdgeCount();
+
+        Object[] vertices = new Object[n];
+        vertex_indices = new HashMap<V,Integer>(capacityFor(n));
+        int i = 0;
+        for (V v : graph.getVertices())
+        {
+            vertices[i] = v;
+            vertex_indices.put(v, i++);
+        }
+
+        Object[] edges = new Object[m];
+        edge_indices = new HashMap<E,Integer>(capacityFor(m));
+        int[] firsts = new int[m];
+        int[] seconds = new int[m];
+        int j = 0;
+        for (E e : graph.getEdges())
+        {
+            if (graph.getEdgeType(e) != edge_type)
+                throw new IllegalArgumentException("Edge " + e + " has type " +
+                        graph.getEdgeType(e) + "; all edges in this graph must be " + edge_type);
+            Pair<V> endpoints = graph.getEndpoints(e);
+            edges[j] = e;
+            edge_indices.put(e, j);
+            firsts[j] = vertex_indices.get(endpoints.getFirst());
+            seconds[j] = vertex_indices.get(endpoints.getSecond());
+            j++;
+        }
+        initialize(vertices, edges, firsts, seconds);
+    }
+
+    /**
+     * Creates a snapshot of <code>graph</code>, all of whose edges must be
+     * of type <code>edge_type</code>.  The vertices and edges of the new graph
+     * are the <code>Integer</code> indices of the vertices and edges of <code>graph</code>.
+     * @throws IllegalArgumentException if <code>graph</code> contains an edge
+     * whose type is not <code>edge_type</code>
+     */
+    @SuppressWarnings("unchecked")
+    protected AbstractCompactGraph(IntGraph graph, EdgeType edge_type)
+    {
+        super(edge_type);
+        int n = graph.getVertexCount();
+        int m = graph.getEdgeCount();
+
+        Object[] vertices = new Object[n];
+        vertex_indices = new HashMap<V,Integer>(capacityFor(n));
+        for (int i = 0; i < n; i++)
+        {
+            vertices[i] = i;
+            vertex_indices.put((V)vertices[i], i);
+        }
+
+        Object[] edges = new Object[m];
+        edge_indices = new HashMap<E,Integer>(capacityFor(m));
+        int[] firsts = new int[m];
+        int[] seconds = new int[m];
+        for (int e = 0; e < m; e++)
+        {
+            if (graph.getEdgeType(e) != edge_type)
+                throw new IllegalArgumentException("Edge " + e + " has type " +
+                        graph.getEdgeType(e) + "; all edges in this graph must be " + edge_type);
+            edges[e] = e;
+            edge_indices.put((E)edges[e], e);
+            firsts[e] = graph.getFirst(e);
+            seconds[e] = graph.getSecond(e);
+        }
+        initialize(vertices, edges, firsts, seconds);
+    }
+
+    /**
+     * Builds the adjacency arrays for the specified vertices and edges, 
+     * where edge <code>e</code> connects the vertices with indices 
+     * <code>firsts[e]</code> and <code>seconds[e]</code>.
+     */
+    private void initialize(Object[] vertices, Object[] edges, int[] firsts, int[] seconds)
+    {
+        int n = vertices.length;
+        int m = edges.length;
+        vertex_array = vertices;
+        edge_array = edges;
+        sources = firsts;
+        dests = seconds;
+        self_loops = new int[n];
+        for (int e = 0; e < m; e++)
+            if (sources[e] == dests[e])
+                self_loops[sources[e]]++;
+
+        if (edge_type == EdgeType.DIRECTED)
+        {
+            int[] order = identity(m);
+            out_offsets = new int[n + 1];
+            out_edges = countingSort(countingSort(order, dests, new int[n + 1]), sources, out_offsets);
+            in_offsets = new int[n + 1];
+            in_edges = countingSort(countingSort(order, sources, new int[n + 1]), dests, in_offsets);
+
+            succ_offsets = new int[n + 1];
+            succs = distinctOpposites(out_offsets, out_edges, succ_offsets);
+            pred_offsets = new int[n + 1];
+            preds = distinctOpposites(in_offsets, in_edges, pred_offsets);
+            neighbor_offsets = new int[n + 1];
+            neighbors = merge(succ_offsets, succs, pred_offsets, preds, neighbor_offsets);
+        }
+        else
+        {
+            // each edge appears in the incidence list of each of its endpoints
+            // (self-loops appear only once)
+            int entries = 2 * m;
+            for (int k = 0; k < n; k++)
+                entries -= self_loops[k];
+            int[] entry_vertex = new int[entries];
+            int[] entry_opposite = new int[entries];
+            int[] entry_edge = new int[entries];
+            int k = 0;
+            for (int e = 0; e < m; e++)
+            {
+                entry_vertex[k] = sources[e];
+                entry_opposite[k] = dests[e];
+                entry_edge[k++] = e;
+                if (sources[e] != dests[e])
+                {
+                    entry_vertex[k] = dests[e];
+                    entry_opposite[k] = sources[e];
+                    entry_edge[k++] = e;
+                }
+            }
+            out_offsets = new int[n + 1];
+            int[] sorted = countingSort(countingSort(identity(entries), entry_opposite,
+                    new int[n + 1]), entry_vertex, out_offsets);
+            out_edges = new int[entries];
+            for (k = 0; k < entries; k++)
+                out_edges[k] = entry_edge[sorted[k]];
+            in_offsets = out_offsets;
+            in_edges = out_edges;
+
+            succ_offsets = new int[n + 1];
+            succs = distinctOpposites(out_offsets, out_edges, succ_offsets);
+            pred_offsets = succ_offsets;
+            preds = succs;
+            neighbor_offsets = succ_offsets;
+            neighbors = succs;
+        }
+    }
+
+    private static int capacityFor(int size)
+    {
+        return Math.max((int)(size / .75f) + 1, 16);
+    }
+
+    private static int[] identity(int size)
+    {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++)
+            order[i] = i;
+        return order;
+    }
+
+    /**
+     * Stably sorts the elements of <code>order</code> by their values in
+     * <code>keys</code>, and records the start of each key's range in
+     * <code>offsets</code>.
+     */
+    private static int[] countingSort(int[] order, int[] keys, int[] offsets)
+    {
+        int n = offsets.length - 1;
+        for (int x : order)
+            offsets[keys[x] + 1]++;
+        for (int i = 0; i < n; i++)
+            offsets[i + 1] += offsets[i];
+        int[] next = offsets.clone();
+        int[] sorted = new int[order.length];
+        for (int x : order)
+            sorted[next[keys[x]]++] = x;
+        return sorted;
+    }
+
+    /**
+     * Returns, for each vertex, the distinct opposite endpoints of the edges
+     * in its range of <code>edge_ids</code> (which are sorted by opposite endpoint).
+     */
+    private int[] distinctOpposites(int[] offsets, int[] edge_ids, int[] new_offsets)
+    {
+        int n = offsets.length - 1;
+        int[] result = new int[edge_ids.length];
+        int k = 0;
+        for (int v = 0; v < n; v++)
+        {
+            new_offsets[v] = k;
+            int previous = -1;
+            for (int i = offsets[v]; i < offsets[v + 1]; i++)
+            {
+                int w = opposite(v, edge_ids[i]);
+                if (w != previous)
+                    result[k++] = w;
+                previous = w;
+            }
+        }
+        new_offsets[n] = k;
+        return trim(result, k);
+    }
+
+    /**
+     * Returns, for each vertex, the sorted union of its ranges in <code>a</code>
+     * and <code>b</code>.
+     */
+    private static int[] merge(int[] a_offsets, int[] a, int[] b_offsets, int[] b, int[] new_offsets)
+    {
+        int n = a_offsets.length - 1;
+        int[] result = new int[a.length + b.length];
+        int k = 0;
+        for (int v = 0; v < n; v++)
+        {
+            new_offsets[v] = k;
+            int i = a_offsets[v];
+            int j = b_offsets[v];
+            while (i < a_offsets[v + 1] || j < b_offsets[v + 1])
+            {
+                int w;
+                if (j >= b_offsets[v + 1] || (i < a_offsets[v + 1] && a[i] < b[j]))
+                    w = a[i++];
+                else if (i >= a_offsets[v + 1] || b[j] < a[i])
+                    w = b[j++];
+                else
+                {
+                    w = a[i++];
+                    j++;
+                }
+                result[k++] = w;
+            }
+        }
+        new_offsets[n] = k;
+        return trim(result, k);
+    }
+
+    private static int[] trim(int[] array, int length)
+    {
+        if (array.length == length)
+            return array;
+        int[] trimmed = new int[length];
+        System.arraycopy(array, 0, trimmed, 0, length);
+        return trimmed;
+    }
+
+    /**
+     * Returns the index of the endpoint of edge <code>e</code> opposite
+     * to the vertex with index <code>v</code>.
+     */
+    protected int opposite(int v, int e)
+    {
+        return sources[e] == v ? dests[e] : sources[e];
+    }
+
+    /**
+     * Returns the index of the first position <code>i</code> in
+     * <code>[from, to)</code> for which the opposite endpoint of
+     * <code>edge_ids[i]</code> is at least <code>w</code>.
+     */
+    protected int lowerBound(int[] edge_ids, int from, int to, int v, int w)
+    {
+        while (from < to)
+        {
+            int mid = (from + to) >>> 1;
+            if (opposite(v, edge_ids[mid]) < w)
+                from = mid + 1;
+            else
+                to = mid;
+        }
+        return from;
+    }
+
+    protected static boolean containsIndex(int[] ids, int from, int to, int id)
+    {
+        to--;
+        while (from <= to)
+        {
+            int mid = (from + to) >>> 1;
+            if (ids[mid] < id)
+                from = mid + 1;
+            else if (ids[mid] > id)
+                to = mid - 1;
+            else
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of <code>vertex</code> in this graph, or -1 if
+     * <code>vertex</code> is not present.
+     */
+    public int getVertexIndex(V vertex)
+    {
+        Integer i = vertex_indices.get(vertex);
+        return i == null ? -1 : i.intValue();
+    }
+
+    /**
+     * Returns the index of <code>edge</code> in this graph, or -1 if
+     * <code>edge</code> is not present.
+     */
+    public int getEdgeIndex(E edge)
+    {
+        Integer i = edge_indices.get(edge);
+        return i == null ? -1 : i.intValue();
+    }
+
+    /**
+     * Returns the vertex with the specified index.
+     */
+    @SuppressWarnings("unchecked")
+    public V getVertex(int index)
+    {
+        return (V)vertex_array[index];
+    }
+
+    /**
+     * Returns the edge with the specified index.
+     */
+    @SuppressWarnings("unchecked")
+    public E getEdge(int index)
+    {
+        return (E)edge_array[index];
+    }
+
+    public IntGraph getIntGraph()
+    {
+        if (int_graph == null)
+            int_graph = new CompactIntGraph();
+        return int_graph;
+    }
+
+    public Collection<E> getEdges()
+    {
+        return new ElementView<E>(edge_array, edge_indices);
+    }
+
+    public Collection<V> getVertices()
+    {
+        return new ElementView<V>(vertex_array, vertex_indices);
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return vertex_indices.containsKey(vertex);
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        return edge_indices.containsKey(edge);
+    }
+
+    public int getEdgeCount()
+    {
+        return edge_array.length;
+    }
+
+    public int getVertexCount()
+    {
+        return vertex_array.length;
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new EdgeView(v, in_edges, in_offsets[v], in_offsets[v + 1], null, 0, 0);
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new EdgeView(v, out_edges, out_offsets[v], out_offsets[v + 1], null, 0, 0);
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new VertexView(preds, pred_offsets[v], pred_offsets[v + 1]);
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new VertexView(succs, succ_offsets[v], succ_offsets[v + 1]);
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new VertexView(neighbors, neighbor_offsets[v], neighbor_offsets[v + 1]);
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        if (out_edges == in_edges)
+            return new EdgeView(v, out_edges, out_offsets[v], out_offsets[v + 1], null, 0, 0);
+        return new EdgeView(v, out_edges, out_offsets[v], out_offsets[v + 1],
+                in_edges, in_offsets[v], in_offsets[v + 1]);
+    }
+
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        int v = getVertexIndex(vertex);
+        return v < 0 || visitVertices(neighbors, neighbor_offsets[v], neighbor_offsets[v + 1], visitor);
+    }
+
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return true;
+        for (int i = out_offsets[v]; i < out_offsets[v + 1]; i++)
+            if (!visitor.visit(getEdge(out_edges[i])))
+                return false;
+        if (out_edges == in_edges)
+            return true;
+        // self-loops are also outgoing edges
+        for (int i = in_offsets[v]; i < in_offsets[v + 1]; i++)
+        {
+            int e = in_edges[i];
+            if (sources[e] != dests[e] && !visitor.visit(getEdge(e)))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        int v = getVertexIndex(vertex);
+        return v < 0 || visitVertices(preds, pred_offsets[v], pred_offsets[v + 1], visitor);
+    }
+
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        int v = getVertexIndex(vertex);
+        return v < 0 || visitVertices(succs, succ_offsets[v], succ_offsets[v + 1], visitor);
+    }
+
+    private boolean visitVertices(int[] ids, int from, int to, ElementVisitor<? super V> visitor)
+    {
+        for (int i = from; i < to; i++)
+            if (!visitor.visit(getVertex(ids[i])))
+                return false;
+        return true;
+    }
+
+    @Override
+    public Collection<V> getIncidentVertices(E edge)
+    {
+        return getEndpoints(edge);
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        int e = getEdgeIndex(edge);
+        if (e < 0)
+            return null;
+        return new Pair<V>(getVertex(sources[e]), getVertex(dests[e]));
+    }
+
+    @Override
+    public V getOpposite(V vertex, E edge)
+    {
+        int v = getVertexIndex(vertex);
+        int e = getEdgeIndex(edge);
+        if (v < 0 || e < 0 || (sources[e] != v && dests[e] != v))
+            throw new IllegalArgumentException(vertex + " is not incident to " + edge + " in this graph");
+        return getVertex(opposite(v, e));
+    }
+
+    @Override
+    public int inDegree(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return in_offsets[v + 1] - in_offsets[v];
+    }
+
+    @Override
+    public int outDegree(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return out_offsets[v + 1] - out_offsets[v];
+    }
+
+    @Override
+    public int degree(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        if (out_edges == in_edges)
+            return out_offsets[v + 1] - out_offsets[v];
+        return out_offsets[v + 1] - out_offsets[v] + in_offsets[v + 1] - in_offsets[v] - self_loops[v];
+    }
+
+    @Override
+    public int getPredecessorCount(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return pred_offsets[v + 1] - pred_offsets[v];
+    }
+
+    @Override
+    public int getSuccessorCount(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return succ_offsets[v + 1] - succ_offsets[v];
+    }
+
+    @Override
+    public int getNeighborCount(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return neighbor_offsets[v + 1] - neighbor_offsets[v];
+    }
+
+    @Override
+    public E findEdge(V v1, V v2)
+    {
+        int v = getVertexIndex(v1);
+        int w = getVertexIndex(v2);
+        if (v < 0 || w < 0)
+            return null;
+        int i = lowerBound(out_edges, out_offsets[v], out_offsets[v + 1], v, w);
+        if (i < out_offsets[v + 1] && opposite(v, out_edges[i]) == w)
+            return getEdge(out_edges[i]);
+        return null;
+    }
+
+    @Override
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        int v = getVertexIndex(v1);
+        int w = getVertexIndex(v2);
+        if (v < 0 || w < 0)
+            return null;
+        Collection<E> edges = new ArrayList<E>(1);
+        for (int i = lowerBound(out_edges, out_offsets[v], out_offsets[v + 1], v, w);
+             i < out_offsets[v + 1] && opposite(v, out_edges[i]) == w; i++)
+            edges.add(getEdge(out_edges[i]));
+        return Collections.unmodifiableCollection(edges);
+    }
+
+    /**
+     * This graph is immutable; throws <code>UnsupportedOperationException</code>.
+     */
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("This graph is immutable");
+    }
+
+    /**
+     * This graph is immutable; throws <code>UnsupportedOperationException</code>.
+     */
+    @Override
+    public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
+    {
+        throw new UnsupportedOperationException("This graph is immutable");
+    }
+
+    /**
+     * This graph is immutable; throws <code>UnsupportedOperationException</code>.
+     */
+    public boolean removeVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("This graph is immutable");
+    }
+
+    /**
+     * This graph is immutable; throws <code>UnsupportedOperationException</code>.
+     */
+    public boolean removeEdge(E edge)
+    {
+        throw new UnsupportedOperationException("This graph is immutable");
+    }
+
+    /**
+     * A view of this graph's arrays as an <code>IntGraph</code>.
+     */
+    private class CompactIntGraph implements IntGraph
+    {
+        public int getVertexCount()
+        {
+            return vertex_array.length;
+        }
+
+        public int getEdgeCount()
+        {
+            return edge_array.length;
+        }
+
+        public int outDegree(int v)
+        {
+            return out_offsets[v + 1] - out_offsets[v];
+        }
+
+        public int inDegree(int v)
+        {
+            return in_offsets[v + 1] - in_offsets[v];
+        }
+
+        public int getOutEdge(int v, int i)
+        {
+            return out_edges[out_offsets[v] + i];
+        }
+
+        public int getInEdge(int v, int i)
+        {
+            return in_edges[in_offsets[v] + i];
+        }
+
+        public int getOpposite(int v, int e)
+        {
+            return opposite(v, e);
+        }
+
+        public int getFirst(int e)
+        {
+            return sources[e];
+        }
+
+        public int getSecond(int e)
+        {
+            return dests[e];
+        }
+
+        public EdgeType getEdgeType(int e)
+        {
+            return edge_type;
+        }
+    }
+
+    /**
+     * A read-only view of all vertices or all edges of this graph.
+     */
+    private static class ElementView<T> extends AbstractCollection<T>
+    {
+        private final Object[] elements;
+        private final Map<T,Integer> indices;
+
+        ElementView(Object[] elements, Map<T,Integer> indices)
+        {
+            this.elements = elements;
+            this.indices = indices;
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new Iterator<T>()
+            {
+                private int i = 0;
+
+                public boolean hasNext()
+                {
+                    return i < elements.length;
+                }
+
+                @SuppressWarnings("unchecked")
+                public T next()
+                {
+                    if (i >= elements.length)
+                        throw new NoSuchElementException();
+                    return (T)elements[i++];
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return indices.containsKey(o);
+        }
+    }
+
+    /**
+     * A read-only view of a range of vertex indices, sorted in increasing order.
+     */
+    private class VertexView extends AbstractCollection<V>
+    {
+        private final int[] ids;
+        private final int from;
+        private final int to;
+
+        VertexView(int[] ids, int from, int to)
+        {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new Iterator<V>()
+            {
+                private int i = from;
+
+                public boolean hasNext()
+                {
+                    return i < to;
+                }
+
+                public V next()
+                {
+                    if (i >= to)
+                        throw new NoSuchElementException();
+                    return getVertex(ids[i++]);
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            Integer w = vertex_indices.get(o);
+            return w != null && containsIndex(ids, from, to, w.intValue());
+        }
+    }
+
+    /**
+     * A read-only view of the edges in one or two ranges of edge indices
+     * which are incident to a specified vertex.  If a second range is specified,
+     * self-loops in that range are skipped (since they also appear in the first).
+     */
+    private class EdgeView extends AbstractCollection<E>
+    {
+        private final int vertex;
+        private final int[] ids;
+        private final int from;
+        private final int to;
+        private final int[] ids2;
+        private final int from2;
+        private final int to2;
+
+        EdgeView(int vertex, int[] ids, int from, int to, int[] ids2, int from2, int to2)
+        {
+            this.vertex = vertex;
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+            this.ids2 = ids2;
+            this.from2 = from2;
+            this.to2 = to2;
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new Iterator<E>()
+            {
+                private int i = from;
+                private int j = advance(from2);
+
+                private int advance(int k)
+                {
+                    while (k < to2 && sources[ids2[k]] == dests[ids2[k]])
+                        k++;
+                    return k;
+                }
+
+                public boolean hasNext()
+                {
+                    return i < to || j < to2;
+                }
+
+                public E next()
+                {
+                    if (i < to)
+                        return getEdge(ids[i++]);
+                    if (j >= to2)
+                        throw new NoSuchElementException();
+                    E e = getEdge(ids2[j]);
+                    j = advance(j + 1);
+                    return e;
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            if (ids2 == null)
+                return to - from;
+            return to - from + to2 - from2 - self_loops[vertex];
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            Integer index = edge_indices.get(o);
+            if (index == null)
+                return false;
+            int e = index.intValue();
+            if (ids2 != null || ids == in_edges && ids == out_edges)
+                return sources[e] == vertex || dests[e] == vertex;
+            if (ids == out_edges)
+                return sources[e] == vertex;
+            return dests[e] == vertex;
+        }
+    }
+}
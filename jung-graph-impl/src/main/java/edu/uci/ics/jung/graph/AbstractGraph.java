@@ -15,19 +15,27 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 import edu.uci.ics.jung.graph.util.Pair;
 
 /**
  * Abstract implementation of the <code>Graph</code> interface.  
  * Designed to simplify implementation of new graph classes.
  * 
+ * <p>Subclasses which can be modified should call 
+ * <code>incrementVersion_internal</code> whenever a vertex or edge is added
+ * or removed, so that <code>getVersion</code> reflects the modification.
+ * 
  * @author Joshua O'Madadhain
  */
 @SuppressWarnings("serial")
-public abstract class AbstractGraph<V, E> implements Graph<V,E>, Serializable 
+public abstract class AbstractGraph<V, E> implements Graph<V,E>, VisitableGraph<V,E>, Serializable, Versioned 
 {
+    private long version;
+
 	public boolean addEdge(E edge, Collection<? extends V> vertices) 
 	{
 		return addEdge(edge, vertices, this.getDefaultEdgeType());
@@ -99,7 +107,175 @@ public abstract class AbstractGraph<V, E> implements Graph<V,E>, Serializable
         }
         return new_endpoints;
     }
-    
+
+    /**
+     * Prepares this graph's internal storage to receive approximately
+     * {@code vertex_count} additional vertices and {@code edge_count}
+     * additional edges.  Used by {@code SparseGraphBuilder}; the default
+     * implementation does nothing.
+     */
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+    }
+
+    /**
+     * Adds {@code edge} to this graph, connecting the endpoints in
+     * {@code endpoints}, without the validation performed by
+     * {@code addEdge}: the caller is responsible for having checked that
+     * {@code edge} and both endpoints are non-null and that {@code edge_type}
+     * is acceptable to this graph.  Endpoints which are not yet in the
+     * graph are added.  Used by {@code SparseGraphBuilder}; the default
+     * implementation delegates to {@code addEdge}.
+     * @return {@code true} iff the graph was modified as a result of this call
+     */
+    protected boolean addEdge_internal(E edge, Pair<V> endpoints, EdgeType edge_type)
+    {
+        return addEdge(edge, endpoints, edge_type);
+    }
+
+    /**
+     * Restores the previous mapping for {@code edge} after an
+     * {@code addEdge_internal} call found it already present.
+     * Throws an {@code IllegalArgumentException} if the existing
+     * endpoints do not match {@code endpoints}, as {@code addEdge} does.
+     */
+    protected void restoreEdge_internal(Map<E, Pair<V>> edge_map, E edge,
+            Pair<V> existing, Pair<V> endpoints)
+    {
+        edge_map.put(edge, existing);
+        if (!existing.equals(endpoints))
+            throw new IllegalArgumentException("edge " + edge +
+                    " already exists in this graph with endpoints " + existing +
+                    " and cannot be added with endpoints " + endpoints);
+    }
+
+    /**
+     * Returns the number of vertex and edge additions and removals that 
+     * have been made to this graph.
+     * @see Versioned#getVersion()
+     */
+    public long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Records a modification of this graph; called by subclasses after 
+     * each vertex or edge addition or removal.
+     */
+    protected void incrementVersion_internal()
+    {
+        version++;
+    }
+
+    /**
+     * Returns an initial capacity for a hash table that will hold
+     * {@code size} entries without being rehashed.
+     */
+    protected static int hashCapacity(int size)
+    {
+        return Math.max(16, (int)(size / .75f) + 1);
+    }
+
+    /**
+     * Returns {@code true} if some edge makes {@code v2} a successor of
+     * {@code v1}, where {@code out_edges} are the edges leaving {@code v1}
+     * and {@code in_edges} are the edges entering {@code v2}.  Only the
+     * smaller of the two collections is scanned, so this takes time
+     * proportional to the smaller of their sizes.
+     */
+    protected boolean isLinked_internal(V v1, Collection<E> out_edges, V v2, Collection<E> in_edges)
+    {
+        if (out_edges.size() <= in_edges.size())
+        {
+            for (E edge : out_edges)
+                if (v2.equals(getOpposite(v1, edge)))
+                    return true;
+        }
+        else
+        {
+            for (E edge : in_edges)
+                if (v1.equals(getOpposite(v2, edge)))
+                    return true;
+        }
+        return false;
+    }
+
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        return visit_internal(getNeighbors(vertex), visitor);
+    }
+
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor)
+    {
+        return visit_internal(getIncidentEdges(vertex), visitor);
+    }
+
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        return visit_internal(getPredecessors(vertex), visitor);
+    }
+
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        return visit_internal(getSuccessors(vertex), visitor);
+    }
+
+    /**
+     * Passes each element of {@code elements} to {@code visitor} until 
+     * {@code visitor} returns {@code false}.  Does nothing if 
+     * {@code elements} is {@code null}.
+     * @return {@code false} iff {@code visitor} stopped the traversal
+     */
+    protected static <T> boolean visit_internal(Collection<? extends T> elements, 
+            ElementVisitor<? super T> visitor)
+    {
+        if (elements == null)
+            return true;
+        for (T element : elements)
+            if (!visitor.visit(element))
+                return false;
+        return true;
+    }
+
+    /**
+     * Passes to {@code visitor} each distinct vertex opposite {@code vertex}
+     * across an edge in {@code first} or in {@code second} (which may be 
+     * {@code null}), in iteration order, until {@code visitor} returns 
+     * {@code false}.  A vertex reached by more than one edge is visited 
+     * once; repeats are found with a set which each thread reuses from one
+     * visit to the next.
+     * @return {@code false} iff {@code visitor} stopped the traversal
+     */
+    protected boolean visitOpposites_internal(V vertex, Collection<E> first, 
+            Collection<E> second, ElementVisitor<? super V> visitor)
+    {
+        VisitedSet visited = VisitedSet.acquire();
+        try
+        {
+            for (E edge : first)
+            {
+                V opposite = getOpposite(vertex, edge);
+                if (visited.add(opposite) && !visitor.visit(opposite))
+                    return false;
+            }
+            if (second != null)
+            {
+                for (E edge : second)
+                {
+                    V opposite = getOpposite(vertex, edge);
+                    if (visited.add(opposite) && !visitor.visit(opposite))
+                        return false;
+                }
+            }
+            return true;
+        }
+        finally
+        {
+            visited.release();
+        }
+    }
+
     public int inDegree(V vertex)
     {
         return this.getInEdges(vertex).size();
@@ -134,7 +310,7 @@ public abstract class AbstractGraph<V, E> implements Graph<V,E>, Serializable
     {
         if (!containsVertex(v1) || !containsVertex(v2))
             throw new IllegalArgumentException("At least one of these not in this graph: " + v1 + ", " + v2);
-        return this.getNeighbors(v1).contains(v2);
+        return findEdge(v1, v2) != null || findEdge(v2, v1) != null;
     }
 
     public boolean isIncident(V vertex, E edge)
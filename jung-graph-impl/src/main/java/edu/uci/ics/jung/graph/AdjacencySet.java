@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A <code>Set</code> of the edges incident to a vertex, whose storage adapts
+ * to the vertex's degree.  Small sets keep their elements in an array, which
+ * is searched linearly; a set that grows beyond <code>INLINE_LIMIT</code>
+ * elements is promoted to a <code>HashSet</code>, and is moved back into an
+ * array if it shrinks to half that size.
+ *
+ * <p>Most vertices in sparse (and especially in power-law) graphs have
+ * very few incident edges; for these, an array takes a small fraction of the
+ * space of a <code>HashSet</code>, whose table and entries dominate the
+ * memory used by the sparse multigraph implementations.  No space at all is
+ * allocated for an empty set.
+ *
+ * <p>Like <code>HashSet</code>, this class does not guarantee any particular
+ * iteration order.  Its iterators are fail-fast.
+ */
+@SuppressWarnings("serial")
+class AdjacencySet<E> extends AbstractSet<E> implements Serializable
+{
+    /**
+     * The largest number of elements that are stored in an array.
+     */
+    static final int INLINE_LIMIT = 8;
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    private Object[] elements;      // array storage; null if empty or promoted
+    private int size;               // number of elements in array storage
+    private HashSet<E> set;         // hash storage; null unless promoted
+    private int mod_count;
+
+    /**
+     * Creates an empty set.
+     */
+    AdjacencySet()
+    {
+    }
+
+    @Override
+    public int size()
+    {
+        return set == null ? size : set.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (set != null)
+            return set.contains(o);
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean add(E e)
+    {
+        if (set != null)
+        {
+            if (!set.add(e))
+                return false;
+            mod_count++;
+            return true;
+        }
+        if (indexOf(e) >= 0)
+            return false;
+        if (size == INLINE_LIMIT)
+        {
+            set = new HashSet<E>(4 * INLINE_LIMIT);
+            for (int i = 0; i < size; i++)
+                set.add(element(i));
+            set.add(e);
+            elements = null;
+            size = 0;
+        }
+        else
+        {
+            if (elements == null)
+                elements = new Object[INITIAL_CAPACITY];
+            else if (size == elements.length)
+            {
+                Object[] grown = new Object[Math.min(2 * size, INLINE_LIMIT)];
+                System.arraycopy(elements, 0, grown, 0, size);
+                elements = grown;
+            }
+            elements[size++] = e;
+        }
+        mod_count++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        if (set != null)
+        {
+            if (!set.remove(o))
+                return false;
+            mod_count++;
+            if (set.size() <= INLINE_LIMIT / 2)
+                demote();
+            return true;
+        }
+        int i = indexOf(o);
+        if (i < 0)
+            return false;
+        removeAt(i);
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        elements = null;
+        size = 0;
+        set = null;
+        mod_count++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c)
+    {
+        if (set == null && size + c.size() > INLINE_LIMIT)
+        {
+            // promote once rather than filling the array first
+            HashSet<E> promoted = new HashSet<E>(Math.max(2 * (size + c.size()), 4 * INLINE_LIMIT));
+            for (int i = 0; i < size; i++)
+                promoted.add(element(i));
+            set = promoted;
+            elements = null;
+            size = 0;
+            mod_count++;
+        }
+        return super.addAll(c);
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        if (set != null)
+            return new HashIterator();
+        return new ArrayIterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private E element(int i)
+    {
+        return (E)elements[i];
+    }
+
+    private int indexOf(Object o)
+    {
+        for (int i = 0; i < size; i++)
+            if (o == null ? elements[i] == null : o.equals(elements[i]))
+                return i;
+        return -1;
+    }
+
+    /**
+     * Removes the element at index <code>i</code> of the array, replacing it
+     * with the last element.
+     */
+    private void removeAt(int i)
+    {
+        size--;
+        elements[i] = elements[size];
+        elements[size] = null;
+        if (size == 0)
+            elements = null;
+        mod_count++;
+    }
+
+    private void demote()
+    {
+        Object[] array = new Object[INLINE_LIMIT];
+        int i = 0;
+        for (E e : set)
+            array[i++] = e;
+        set = null;
+        elements = i == 0 ? null : array;
+        size = i;
+    }
+
+    private class ArrayIterator implements Iterator<E>
+    {
+        private int next = 0;
+        private boolean removable = false;
+        private int expected_mod_count = mod_count;
+
+        public boolean hasNext()
+        {
+            return next < size;
+        }
+
+        public E next()
+        {
+            if (mod_count != expected_mod_count)
+                throw new ConcurrentModificationException();
+            if (next >= size)
+                throw new NoSuchElementException();
+            removable = true;
+            return element(next++);
+        }
+
+        public void remove()
+        {
+            if (!removable)
+                throw new IllegalStateException();
+            if (mod_count != expected_mod_count)
+                throw new ConcurrentModificationException();
+            // the last element is moved into the vacated slot, which is visited next
+            removeAt(--next);
+            expected_mod_count = mod_count;
+            removable = false;
+        }
+    }
+
+    /**
+     * Iterates over the promoted <code>HashSet</code>.  Removals through this
+     * iterator do not demote the set, since that would invalidate the iteration.
+     */
+    private class HashIterator implements Iterator<E>
+    {
+        private final Iterator<E> iterator = set.iterator();
+        private int expected_mod_count = mod_count;
+
+        public boolean hasNext()
+        {
+            return iterator.hasNext();
+        }
+
+        public E next()
+        {
+            if (mod_count != expected_mod_count)
+                throw new ConcurrentModificationException();
+            return iterator.next();
+        }
+
+        public void remove()
+        {
+            if (mod_count != expected_mod_count)
+                throw new ConcurrentModificationException();
+            iterator.remove();
+            expected_mod_count = ++mod_count;
+        }
+    }
+}
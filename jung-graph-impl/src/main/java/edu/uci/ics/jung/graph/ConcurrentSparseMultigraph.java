@@ -0,0 +1,630 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.collections15.Factory;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A thread-safe implementation of <code>Graph</code> that is suitable for
+ * sparse graphs and permits directed, undirected, and parallel edges.
+ *
+ * <p>Vertices, edges and adjacency sets are held in
+ * {@code ConcurrentHashMap}s.  Read operations take no locks, and the
+ * collections returned by {@code getVertices}, {@code getEdges},
+ * {@code getInEdges} and {@code getOutEdges} are live views whose iterators
+ * are weakly consistent: they never throw
+ * {@code ConcurrentModificationException}, and reflect some (not necessarily
+ * all) modifications made after they were created.  Structural
+ * modifications lock the stripes for the vertices involved, so that
+ * modifications to disjoint parts of the graph proceed in parallel.
+ *
+ * <p>Operations that combine several reads, such as {@code getNeighbors} or
+ * {@code degree}, are not atomic with respect to concurrent modifications.
+ *
+ * <p>Neighbor counts are maintained under the stripe locks, so
+ * {@code getNeighborCount} and its relatives take constant time, while
+ * {@code addEdge} and {@code removeEdge} scan the incident edges of the
+ * endpoint with the smaller degree while holding the stripes of both.
+ */
+@SuppressWarnings("serial")
+public class ConcurrentSparseMultigraph<V,E>
+    extends AbstractGraph<V,E>
+    implements MultiGraph<V,E>
+{
+    /**
+     * Returns a {@code Factory} that creates an instance of this graph type.
+     * @param <V> the vertex type for the graph factory
+     * @param <E> the edge type for the graph factory
+     */
+    public static <V,E> Factory<Graph<V,E>> getFactory() {
+        return new Factory<Graph<V,E>> () {
+            public Graph<V,E> create() {
+                return new ConcurrentSparseMultigraph<V,E>();
+            }
+        };
+    }
+
+    /**
+     * The default number of lock stripes.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 64;
+
+    protected ConcurrentMap<V, Adjacency<E>> vertices;  // Map of vertices to adjacency sets {incoming, outgoing}
+    protected ConcurrentMap<E, Pair<V>> edges;          // Map of edges to incident vertex pairs
+    protected ConcurrentMap<E, Boolean> directed_edges;
+    protected ReentrantLock[] stripes;
+    NeighborCounts<V> neighbor_counts;                  // guarded by the stripe of each vertex
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Creates a new instance with the default number of lock stripes.
+     */
+    public ConcurrentSparseMultigraph()
+    {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a new instance with at least {@code concurrency_level} lock
+     * stripes.
+     * @param concurrency_level the expected number of concurrently modifying threads
+     */
+    public ConcurrentSparseMultigraph(int concurrency_level)
+    {
+        if (concurrency_level < 1)
+            throw new IllegalArgumentException("concurrency level must be positive: " + concurrency_level);
+        int stripe_count = 1;
+        while (stripe_count < concurrency_level)
+            stripe_count <<= 1;
+        stripes = new ReentrantLock[stripe_count];
+        for (int i = 0; i < stripe_count; i++)
+            stripes[i] = new ReentrantLock();
+        vertices = new ConcurrentHashMap<V, Adjacency<E>>();
+        edges = new ConcurrentHashMap<E, Pair<V>>();
+        directed_edges = new ConcurrentHashMap<E, Boolean>();
+        neighbor_counts = new NeighborCounts<V>(new ConcurrentHashMap<V,int[]>());
+    }
+
+    public Collection<E> getEdges()
+    {
+        return Collections.unmodifiableCollection(edges.keySet());
+    }
+
+    public Collection<V> getVertices()
+    {
+        return Collections.unmodifiableCollection(vertices.keySet());
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return vertices.containsKey(vertex);
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        return edges.containsKey(edge);
+    }
+
+    public boolean addVertex(V vertex)
+    {
+        if (vertex == null)
+            throw new IllegalArgumentException("vertex may not be null");
+        if (vertices.containsKey(vertex))
+            return false;
+        ReentrantLock lock = getStripe(vertex);
+        lock.lock();
+        try {
+            if (vertices.putIfAbsent(vertex, new Adjacency<E>()) != null)
+                return false;
+            version.incrementAndGet();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes {@code vertex} and its incident edges.  Edges which are
+     * concurrently added to {@code vertex} are also removed.
+     */
+    public boolean removeVertex(V vertex)
+    {
+        ReentrantLock lock = getStripe(vertex);
+        while (true)
+        {
+            Adjacency<E> adjacency = vertices.get(vertex);
+            if (adjacency == null)
+                return false;
+            for (E edge : adjacency.incoming.keySet())
+                removeEdge(edge);
+            for (E edge : adjacency.outgoing.keySet())
+                removeEdge(edge);
+
+            // edges are only added to this vertex while its stripe is held,
+            // so if there are none now, it can be removed
+            lock.lock();
+            try {
+                if (adjacency.incoming.isEmpty() && adjacency.outgoing.isEmpty())
+                {
+                    if (!vertices.remove(vertex, adjacency))
+                        return false;
+                    version.incrementAndGet();
+                    return true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
+    {
+        if (edge == null)
+            throw new IllegalArgumentException("input edge may not be null");
+        if (endpoints == null)
+            throw new IllegalArgumentException("endpoints may not be null");
+        if (edgeType == null)
+            throw new IllegalArgumentException("edge type may not be null");
+        return addEdge_internal(edge, new Pair<V>(endpoints.getFirst(), endpoints.getSecond()),
+            edgeType);
+    }
+
+    @Override
+    protected boolean addEdge_internal(E edge, Pair<V> endpoints, EdgeType edgeType)
+    {
+        V v1 = endpoints.getFirst();
+        V v2 = endpoints.getSecond();
+        ReentrantLock[] locks = getStripes(v1, v2);
+        lockAll(locks);
+        try {
+            Adjacency<E> v1_sets = getAdjacency_internal(v1);
+            Adjacency<E> v2_sets = getAdjacency_internal(v2);
+            // another call may be adding the same edge under other stripes, so
+            // the type is marked only once this call's put has won; the edge
+            // joins the adjacency sets after that
+            Pair<V> existing = edges.putIfAbsent(edge, endpoints);
+            if (existing != null)
+            {
+                if (!existing.equals(endpoints))
+                    throw new IllegalArgumentException("edge " + edge +
+                        " already exists in this graph with endpoints " + existing +
+                        " and cannot be added with endpoints " + endpoints);
+                return false;
+            }
+            if (edgeType == EdgeType.DIRECTED)
+                directed_edges.put(edge, Boolean.TRUE);
+            countEdge_internal(v1, v1_sets, v2, v2_sets, edgeType != EdgeType.DIRECTED, 1);
+            v1_sets.outgoing.put(edge, Boolean.TRUE);
+            v2_sets.incoming.put(edge, Boolean.TRUE);
+            if (edgeType != EdgeType.DIRECTED)
+            {
+                v1_sets.incoming.put(edge, Boolean.TRUE);
+                v2_sets.outgoing.put(edge, Boolean.TRUE);
+            }
+            version.incrementAndGet();
+            return true;
+        } finally {
+            unlockAll(locks);
+        }
+    }
+
+    public boolean removeEdge(E edge)
+    {
+        Pair<V> endpoints = edges.get(edge);
+        if (endpoints == null)
+            return false;
+        V v1 = endpoints.getFirst();
+        V v2 = endpoints.getSecond();
+        ReentrantLock[] locks = getStripes(v1, v2);
+        lockAll(locks);
+        try {
+            if (!edges.remove(edge, endpoints))
+                return false;
+            Adjacency<E> v1_sets = vertices.get(v1);
+            Adjacency<E> v2_sets = vertices.get(v2);
+            v1_sets.outgoing.remove(edge);
+            v2_sets.incoming.remove(edge);
+            boolean undirected = directed_edges.remove(edge) == null;
+            if (undirected)
+            {
+                v1_sets.incoming.remove(edge);
+                v2_sets.outgoing.remove(edge);
+            }
+            countEdge_internal(v1, v1_sets, v2, v2_sets, undirected, -1);
+            version.incrementAndGet();
+            return true;
+        } finally {
+            unlockAll(locks);
+        }
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version.get();
+    }
+
+    @Override
+    protected void incrementVersion_internal()
+    {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Updates the neighbor counts of {@code v1} and {@code v2} for an edge
+     * between them which is about to be added ({@code delta == 1}) or has
+     * just been removed ({@code delta == -1}).  The caller must hold the
+     * stripes for both vertices, which also guard every edge between them.
+     */
+    private void countEdge_internal(V v1, Adjacency<E> v1_sets, V v2, Adjacency<E> v2_sets,
+        boolean undirected, int delta)
+    {
+        boolean forward = isLinked(v1, v1_sets, v2, v2_sets);
+        boolean backward = v1.equals(v2) ? forward : isLinked(v2, v2_sets, v1, v1_sets);
+        neighbor_counts.update(v1, v2, undirected, forward, backward, delta);
+    }
+
+    /**
+     * Returns {@code true} if some edge makes {@code v2} a successor of
+     * {@code v1}, scanning the smaller of the relevant adjacency sets.
+     */
+    private boolean isLinked(V v1, Adjacency<E> v1_sets, V v2, Adjacency<E> v2_sets)
+    {
+        boolean from_v1 = v1_sets.outgoing.size() <= v2_sets.incoming.size();
+        V vertex = from_v1 ? v1 : v2;
+        V target = from_v1 ? v2 : v1;
+        for (E edge : (from_v1 ? v1_sets.outgoing : v2_sets.incoming).keySet())
+        {
+            // edges to other vertices may be removed concurrently
+            Pair<V> endpoints = edges.get(edge);
+            if (endpoints != null && opposite(vertex, endpoints).equals(target))
+                return true;
+        }
+        return false;
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        return Collections.unmodifiableCollection(adjacency.incoming.keySet());
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        return Collections.unmodifiableCollection(adjacency.outgoing.keySet());
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        Set<V> preds = new HashSet<V>();
+        addOpposites(vertex, adjacency.incoming.keySet(), preds);
+        return Collections.unmodifiableCollection(preds);
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        Set<V> succs = new HashSet<V>();
+        addOpposites(vertex, adjacency.outgoing.keySet(), succs);
+        return Collections.unmodifiableCollection(succs);
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        Set<V> neighbors = new HashSet<V>();
+        addOpposites(vertex, adjacency.incoming.keySet(), neighbors);
+        addOpposites(vertex, adjacency.outgoing.keySet(), neighbors);
+        return Collections.unmodifiableCollection(neighbors);
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return null;
+        Set<E> incident = new HashSet<E>(adjacency.incoming.keySet());
+        incident.addAll(adjacency.outgoing.keySet());
+        return Collections.unmodifiableCollection(incident);
+    }
+
+    /**
+     * Visits the incoming edges of {@code vertex}, then those outgoing 
+     * edges that are not also incoming, without copying either set.
+     * (The vertex visits inherited from {@code AbstractGraph} collect the 
+     * distinct opposites first, since the weakly consistent adjacency 
+     * iterators cannot be rescanned to detect repeats.)
+     */
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return true;
+        if (!visit_internal(adjacency.incoming.keySet(), visitor))
+            return false;
+        for (E edge : adjacency.outgoing.keySet())
+            if (!adjacency.incoming.containsKey(edge) && !visitor.visit(edge))
+                return false;
+        return true;
+    }
+
+    @Override
+    public int getNeighborCount(V vertex)
+    {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.NEIGHBORS);
+    }
+
+    @Override
+    public int getPredecessorCount(V vertex)
+    {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.PREDECESSORS);
+    }
+
+    @Override
+    public int getSuccessorCount(V vertex)
+    {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.SUCCESSORS);
+    }
+
+    @Override
+    public int degree(V vertex)
+    {
+        Adjacency<E> adjacency = checkVertex_internal(vertex);
+        // undirected edges and directed self-loops are both incoming and outgoing
+        return adjacency.incoming.size() + adjacency.outgoing.size() -
+            neighbor_counts.get(vertex, NeighborCounts.SHARED);
+    }
+
+    @Override
+    public int inDegree(V vertex)
+    {
+        return checkVertex_internal(vertex).incoming.size();
+    }
+
+    @Override
+    public int outDegree(V vertex)
+    {
+        return checkVertex_internal(vertex).outgoing.size();
+    }
+
+    private Adjacency<E> checkVertex_internal(V vertex)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return adjacency;
+    }
+
+    @Override
+    public E findEdge(V v1, V v2)
+    {
+        Adjacency<E> adjacency = vertices.get(v1);
+        if (adjacency == null || !vertices.containsKey(v2))
+            return null;
+        for (E edge : adjacency.outgoing.keySet())
+        {
+            Pair<V> endpoints = edges.get(edge);
+            if (endpoints != null && opposite(v1, endpoints).equals(v2))
+                return edge;
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        Adjacency<E> adjacency = vertices.get(v1);
+        if (adjacency == null || !vertices.containsKey(v2))
+            throw new IllegalArgumentException("At least one of these not in this graph: " + v1 + ", " + v2);
+        Collection<E> found = new ArrayList<E>();
+        for (E edge : adjacency.outgoing.keySet())
+        {
+            Pair<V> endpoints = edges.get(edge);
+            if (endpoints != null && opposite(v1, endpoints).equals(v2))
+                found.add(edge);
+        }
+        return Collections.unmodifiableCollection(found);
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        return edges.get(edge);
+    }
+
+    public V getSource(E edge)
+    {
+        Pair<V> endpoints = edges.get(edge);
+        if (endpoints == null || !directed_edges.containsKey(edge))
+            return null;
+        return endpoints.getFirst();
+    }
+
+    public V getDest(E edge)
+    {
+        Pair<V> endpoints = edges.get(edge);
+        if (endpoints == null || !directed_edges.containsKey(edge))
+            return null;
+        return endpoints.getSecond();
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        if (!containsVertex(vertex))
+            return false;
+        V source = getSource(edge);
+        return source != null && source.equals(vertex);
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        if (!containsVertex(vertex))
+            return false;
+        V dest = getDest(edge);
+        return dest != null && dest.equals(vertex);
+    }
+
+    public EdgeType getEdgeType(E edge)
+    {
+        return directed_edges.containsKey(edge) ? EdgeType.DIRECTED : EdgeType.UNDIRECTED;
+    }
+
+    public Collection<E> getEdges(EdgeType edge_type)
+    {
+        if (edge_type == EdgeType.DIRECTED)
+            return Collections.unmodifiableCollection(directed_edges.keySet());
+        if (edge_type == EdgeType.UNDIRECTED)
+        {
+            Collection<E> undirected = new HashSet<E>();
+            for (E edge : edges.keySet())
+                if (!directed_edges.containsKey(edge))
+                    undirected.add(edge);
+            return Collections.unmodifiableCollection(undirected);
+        }
+        return Collections.emptySet();
+    }
+
+    public int getEdgeCount()
+    {
+        return edges.size();
+    }
+
+    public int getVertexCount()
+    {
+        return vertices.size();
+    }
+
+    public int getEdgeCount(EdgeType edge_type)
+    {
+        return getEdges(edge_type).size();
+    }
+
+    public EdgeType getDefaultEdgeType()
+    {
+        return EdgeType.UNDIRECTED;
+    }
+
+    /**
+     * Returns the lock stripe which guards the adjacency sets of {@code vertex}.
+     */
+    protected ReentrantLock getStripe(V vertex)
+    {
+        return stripes[stripeIndex(vertex)];
+    }
+
+    private int stripeIndex(V vertex)
+    {
+        int h = vertex.hashCode();
+        h ^= (h >>> 20) ^ (h >>> 12);
+        h ^= (h >>> 7) ^ (h >>> 4);
+        return h & (stripes.length - 1);
+    }
+
+    /**
+     * Returns the distinct stripes for {@code v1} and {@code v2}, in the
+     * order in which they must be locked.
+     */
+    private ReentrantLock[] getStripes(V v1, V v2)
+    {
+        int i1 = stripeIndex(v1);
+        int i2 = stripeIndex(v2);
+        if (i1 == i2)
+            return new ReentrantLock[] {stripes[i1]};
+        // always lock stripes in index order to avoid deadlock
+        if (i1 > i2)
+            return new ReentrantLock[] {stripes[i2], stripes[i1]};
+        return new ReentrantLock[] {stripes[i1], stripes[i2]};
+    }
+
+    private static void lockAll(ReentrantLock[] locks)
+    {
+        for (ReentrantLock lock : locks)
+            lock.lock();
+    }
+
+    private static void unlockAll(ReentrantLock[] locks)
+    {
+        for (int i = locks.length - 1; i >= 0; i--)
+            locks[i].unlock();
+    }
+
+    /**
+     * Returns the adjacency sets for {@code vertex}, adding it if necessary.
+     * The caller must hold the stripe for {@code vertex}.
+     */
+    private Adjacency<E> getAdjacency_internal(V vertex)
+    {
+        Adjacency<E> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+        {
+            adjacency = new Adjacency<E>();
+            vertices.put(vertex, adjacency);
+        }
+        return adjacency;
+    }
+
+    private void addOpposites(V vertex, Collection<E> incident, Collection<V> opposites)
+    {
+        for (E edge : incident)
+        {
+            // skip edges removed since the iterator was created
+            Pair<V> endpoints = edges.get(edge);
+            if (endpoints != null)
+                opposites.add(opposite(vertex, endpoints));
+        }
+    }
+
+    private V opposite(V vertex, Pair<V> endpoints)
+    {
+        return vertex.equals(endpoints.getFirst()) ? endpoints.getSecond() : endpoints.getFirst();
+    }
+
+    /**
+     * The incoming and outgoing edges of a vertex, held as the key sets of
+     * concurrent maps.
+     */
+    @SuppressWarnings("serial")
+    protected static class Adjacency<E> implements Serializable
+    {
+        protected final ConcurrentMap<E, Boolean> incoming = new ConcurrentHashMap<E, Boolean>();
+        protected final ConcurrentMap<E, Boolean> outgoing = new ConcurrentHashMap<E, Boolean>();
+    }
+}
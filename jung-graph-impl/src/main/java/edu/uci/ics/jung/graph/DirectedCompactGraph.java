@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * An immutable, compact implementation of <code>DirectedGraph</code>, built as a
+ * snapshot of another graph.  Parallel edges and self-loops in the original
+ * graph are preserved.
+ *
+ * @see AbstractCompactGraph
+ */
+@SuppressWarnings("serial")
+public class DirectedCompactGraph<V,E> extends AbstractCompactGraph<V,E>
+    implements DirectedGraph<V,E>
+{
+    /**
+     * Creates a snapshot of <code>graph</code>, all of whose edges must be directed.
+     * @throws IllegalArgumentException if <code>graph</code> contains undirected edges
+     */
+    public DirectedCompactGraph(Graph<V,E> graph)
+    {
+        super(graph, EdgeType.DIRECTED);
+    }
+
+    /**
+     * Returns a compact snapshot of <code>graph</code>, all of whose edges must be directed.
+     */
+    public static <V,E> DirectedCompactGraph<V,E> copyOf(Graph<V,E> graph)
+    {
+        return new DirectedCompactGraph<V,E>(graph);
+    }
+
+    /**
+     * Creates a snapshot of <code>graph</code>, all of whose edges must be directed.
+     * The vertices and edges of the new graph are the <code>Integer</code> 
+     * indices of the vertices and edges of <code>graph</code>.
+     * @throws IllegalArgumentException if <code>graph</code> contains undirected edges
+     */
+    public static DirectedCompactGraph<Integer,Integer> copyOf(IntGraph graph)
+    {
+        return new DirectedCompactGraph<Integer,Integer>(graph);
+    }
+
+    protected DirectedCompactGraph(IntGraph graph)
+    {
+        super(graph, EdgeType.DIRECTED);
+    }
+
+    public V getSource(E directed_edge)
+    {
+        int e = getEdgeIndex(directed_edge);
+        if (e < 0)
+            return null;
+        return getVertex(sources[e]);
+    }
+
+    public V getDest(E directed_edge)
+    {
+        int e = getEdgeIndex(directed_edge);
+        if (e < 0)
+            return null;
+        return getVertex(dests[e]);
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        int v = getVertexIndex(vertex);
+        int e = getEdgeIndex(edge);
+        return v >= 0 && e >= 0 && sources[e] == v;
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        int v = getVertexIndex(vertex);
+        int e = getEdgeIndex(edge);
+        return v >= 0 && e >= 0 && dests[e] == v;
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.collections15.Factory;
@@ -60,12 +61,25 @@ public class DirectedOrderedSparseMultigraph<V,E>
     	}
         if (!containsVertex(vertex)) {
             vertices.put(vertex, new Pair<Set<E>>(new LinkedHashSet<E>(), new LinkedHashSet<E>()));
+            incrementVersion_internal();
             return true;
         } else {
             return false;
         }
     }
 
+    @Override
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+        Map<V, Pair<Set<E>>> new_vertices =
+            new LinkedHashMap<V, Pair<Set<E>>>(hashCapacity(vertices.size() + vertex_count));
+        new_vertices.putAll(vertices);
+        vertices = new_vertices;
+        Map<E, Pair<V>> new_edges = new LinkedHashMap<E, Pair<V>>(hashCapacity(edges.size() + edge_count));
+        new_edges.putAll(edges);
+        edges = new_edges;
+    }
+
     @Override
     public Collection<V> getPredecessors(V vertex) {
         if (!containsVertex(vertex)) 
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.apache.commons.collections15.Factory;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 import edu.uci.ics.jung.graph.util.Pair;
 
 /**
@@ -83,6 +84,57 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         vertices.get(source).getSecond().put(dest, edge);
         vertices.get(dest).getFirst().put(source, edge);
 
+        incrementVersion_internal();
+        return true;
+    }
+
+    @Override
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+        Map<V, Pair<Map<V,E>>> new_vertices =
+            new HashMap<V, Pair<Map<V,E>>>(hashCapacity(vertices.size() + vertex_count));
+        new_vertices.putAll(vertices);
+        vertices = new_vertices;
+        Map<E, Pair<V>> new_edges = new HashMap<E, Pair<V>>(hashCapacity(edges.size() + edge_count));
+        new_edges.putAll(edges);
+        edges = new_edges;
+    }
+
+    @Override
+    protected boolean addEdge_internal(E edge, Pair<V> endpoints, EdgeType edgeType)
+    {
+        Pair<V> existing = edges.put(edge, endpoints);
+        if (existing != null)
+        {
+            restoreEdge_internal(edges, edge, existing, endpoints);
+            return false;
+        }
+
+        V source = endpoints.getFirst();
+        V dest = endpoints.getSecond();
+        Pair<Map<V,E>> source_maps = vertices.get(source);
+        if (source_maps == null)
+        {
+            addVertex(source);
+            source_maps = vertices.get(source);
+        }
+        Pair<Map<V,E>> dest_maps = vertices.get(dest);
+        if (dest_maps == null)
+        {
+            addVertex(dest);
+            dest_maps = vertices.get(dest);
+        }
+
+        // a previous mapping means that this would be a parallel edge
+        E parallel = source_maps.getSecond().put(dest, edge);
+        if (parallel != null)
+        {
+            source_maps.getSecond().put(dest, parallel);
+            edges.remove(edge);
+            return false;
+        }
+        dest_maps.getFirst().put(source, edge);
+        incrementVersion_internal();
         return true;
     }
 
@@ -242,6 +294,54 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         return Collections.unmodifiableCollection(incident_edges);
     }
 
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        Pair<Map<V,E>> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return true;
+        Map<V,E> succs = adjacency.getSecond();
+        for (V succ : succs.keySet())
+            if (!visitor.visit(succ))
+                return false;
+        for (V pred : adjacency.getFirst().keySet())
+            if (!succs.containsKey(pred) && !visitor.visit(pred))
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor)
+    {
+        Pair<Map<V,E>> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return true;
+        for (E edge : adjacency.getSecond().values())
+            if (!visitor.visit(edge))
+                return false;
+        // a self-loop is in both maps, keyed by 'vertex'
+        for (Map.Entry<V,E> entry : adjacency.getFirst().entrySet())
+            if (!vertex.equals(entry.getKey()) && !visitor.visit(entry.getValue()))
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return true;
+        return visit_internal(getPreds_internal(vertex), visitor);
+    }
+
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        if (!containsVertex(vertex))
+            return true;
+        return visit_internal(getSuccs_internal(vertex), visitor);
+    }
+
     public boolean addVertex(V vertex)
     {
         if(vertex == null) {
@@ -249,6 +349,7 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         }
         if (!containsVertex(vertex)) {
             vertices.put(vertex, new Pair<Map<V,E>>(new HashMap<V,E>(), new HashMap<V,E>()));
+            incrementVersion_internal();
             return true;
         } else {
             return false;
@@ -268,6 +369,7 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         
         vertices.remove(vertex);
         
+        incrementVersion_internal();
         return true;
     }
     
@@ -284,6 +386,7 @@ public class DirectedSparseGraph<V,E> extends AbstractTypedGraph<V, E> implement
         vertices.get(dest).getFirst().remove(source);
         
         edges.remove(edge);
+        incrementVersion_internal();
         return true;
     }
 }
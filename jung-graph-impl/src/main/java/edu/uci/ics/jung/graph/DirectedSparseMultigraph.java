@@ -21,12 +21,19 @@ import java.util.Set;
 import org.apache.commons.collections15.Factory;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 import edu.uci.ics.jung.graph.util.Pair;
 
 
 /**
  * An implementation of <code>DirectedGraph</code>, suitable for sparse graphs,
  * that permits parallel edges.
+ *
+ * <p>Neighbor counts and degrees are kept up to date, and take constant
+ * time to query; to find out whether another edge already joins the same
+ * pair, <code>addEdge</code> and <code>removeEdge</code> scan the edges of
+ * whichever endpoint has fewer, and so take time proportional to that
+ * number.
  */
 @SuppressWarnings("serial")
 public class DirectedSparseMultigraph<V,E> 
@@ -48,6 +55,7 @@ public class DirectedSparseMultigraph<V,E>
 
 	protected Map<V, Pair<Set<E>>> vertices; // Map of vertices to Pair of adjacency sets {incoming, outgoing}
     protected Map<E, Pair<V>> edges;            // Map of edges to incident vertex pairs
+    NeighborCounts<V> neighbor_counts;          // distinct neighbors and self-loops of each vertex
 
     /**
      * Creates a new instance.
@@ -56,6 +64,7 @@ public class DirectedSparseMultigraph<V,E>
     	super(EdgeType.DIRECTED);
         vertices = new HashMap<V, Pair<Set<E>>>();
         edges = new HashMap<E, Pair<V>>();
+        neighbor_counts = new NeighborCounts<V>(new HashMap<V,int[]>());
     }
     
     public Collection<E> getEdges() {
@@ -89,7 +98,8 @@ public class DirectedSparseMultigraph<V,E>
     		throw new IllegalArgumentException("vertex may not be null");
     	}
         if (!containsVertex(vertex)) {
-            vertices.put(vertex, new Pair<Set<E>>(new HashSet<E>(), new HashSet<E>()));
+            vertices.put(vertex, new Pair<Set<E>>(new AdjacencySet<E>(), new AdjacencySet<E>()));
+            incrementVersion_internal();
             return true;
         } else {
             return false;
@@ -109,6 +119,7 @@ public class DirectedSparseMultigraph<V,E>
         
         vertices.remove(vertex);
         
+        incrementVersion_internal();
         return true;
     }
     
@@ -125,6 +136,8 @@ public class DirectedSparseMultigraph<V,E>
         getIncoming_internal(dest).remove(edge);
         
         edges.remove(edge);
+        countEdge_internal(source, dest, -1);
+        incrementVersion_internal();
         return true;
     }
 
@@ -187,6 +200,84 @@ public class DirectedSparseMultigraph<V,E>
         return incident;
     }
 
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor) {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        return adjacency == null || 
+            visitOpposites_internal(vertex, adjacency.getFirst(), adjacency.getSecond(), visitor);
+    }
+
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor) {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return true;
+        Set<E> incoming = adjacency.getFirst();
+        if (!visit_internal(incoming, visitor))
+            return false;
+        for (E edge : adjacency.getSecond())
+            if (!incoming.contains(edge) && !visitor.visit(edge))
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor) {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        return adjacency == null || 
+            visitOpposites_internal(vertex, adjacency.getFirst(), null, visitor);
+    }
+
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor) {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        return adjacency == null || 
+            visitOpposites_internal(vertex, adjacency.getSecond(), null, visitor);
+    }
+
+    @Override
+    public int getNeighborCount(V vertex) {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.NEIGHBORS);
+    }
+
+    @Override
+    public int getPredecessorCount(V vertex) {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.PREDECESSORS);
+    }
+
+    @Override
+    public int getSuccessorCount(V vertex) {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.SUCCESSORS);
+    }
+
+    @Override
+    public int degree(V vertex) {
+        Pair<Set<E>> adjacency = checkVertex_internal(vertex);
+        // self-loops are both incoming and outgoing
+        return adjacency.getFirst().size() + adjacency.getSecond().size() -
+            neighbor_counts.get(vertex, NeighborCounts.SHARED);
+    }
+
+    @Override
+    public int inDegree(V vertex) {
+        return checkVertex_internal(vertex).getFirst().size();
+    }
+
+    @Override
+    public int outDegree(V vertex) {
+        return checkVertex_internal(vertex).getSecond().size();
+    }
+
+    private Pair<Set<E>> checkVertex_internal(V vertex) {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return adjacency;
+    }
+
     @Override
     public E findEdge(V v1, V v2) {
         if (!containsVertex(v1) || !containsVertex(v2))
@@ -217,12 +308,71 @@ public class DirectedSparseMultigraph<V,E>
         if (!containsVertex(dest))
             this.addVertex(dest);
         
+        countEdge_internal(source, dest, 1);
         getIncoming_internal(dest).add(edge);
         getOutgoing_internal(source).add(edge);
 
+        incrementVersion_internal();
         return true;
 	}
 
+    @Override
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+        Map<V, Pair<Set<E>>> new_vertices =
+            new HashMap<V, Pair<Set<E>>>(hashCapacity(vertices.size() + vertex_count));
+        new_vertices.putAll(vertices);
+        vertices = new_vertices;
+        Map<E, Pair<V>> new_edges = new HashMap<E, Pair<V>>(hashCapacity(edges.size() + edge_count));
+        new_edges.putAll(edges);
+        edges = new_edges;
+    }
+
+    @Override
+    protected boolean addEdge_internal(E edge, Pair<V> endpoints, EdgeType edgeType)
+    {
+        Pair<V> existing = edges.put(edge, endpoints);
+        if (existing != null)
+        {
+            restoreEdge_internal(edges, edge, existing, endpoints);
+            return false;
+        }
+
+        V source = endpoints.getFirst();
+        V dest = endpoints.getSecond();
+        Pair<Set<E>> source_sets = vertices.get(source);
+        if (source_sets == null)
+        {
+            addVertex(source);
+            source_sets = vertices.get(source);
+        }
+        Pair<Set<E>> dest_sets = vertices.get(dest);
+        if (dest_sets == null)
+        {
+            addVertex(dest);
+            dest_sets = vertices.get(dest);
+        }
+        countEdge_internal(source, dest, 1);
+        source_sets.getSecond().add(edge);
+        dest_sets.getFirst().add(edge);
+        incrementVersion_internal();
+        return true;
+    }
+
+    /**
+     * Updates the neighbor counts of {@code source} and {@code dest} for an
+     * edge between them which is about to be added ({@code delta == 1}) or
+     * has just been removed ({@code delta == -1}).
+     */
+    private void countEdge_internal(V source, V dest, int delta)
+    {
+        boolean forward = isLinked_internal(source, getOutgoing_internal(source),
+            dest, getIncoming_internal(dest));
+        boolean backward = source.equals(dest) ? forward : 
+            isLinked_internal(dest, getOutgoing_internal(dest), source, getIncoming_internal(source));
+        neighbor_counts.update(source, dest, false, forward, backward, delta);
+    }
+
     
     public V getSource(E edge) {
         if (!containsEdge(edge))
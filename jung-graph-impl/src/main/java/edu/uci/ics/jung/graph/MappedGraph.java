@@ -0,0 +1,1281 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * An immutable graph whose topology is stored outside the Java heap, in a
+ * memory-mapped file.  The file holds the same compressed sparse row (CSR)
+ * arrays as <code>AbstractCompactGraph</code>: the endpoints of each edge,
+ * and the incoming and outgoing edges of each vertex as contiguous ranges
+ * sorted by the index of the opposite vertex.
+ *
+ * <p>Files are created by the <code>write</code> methods, and are mapped
+ * (not read) by the <code>open</code> methods, so that opening a graph takes
+ * constant time regardless of its size, and the operating system's page cache
+ * decides which parts of the topology are resident.  The heap requirements
+ * of a graph opened in this way do not depend on its number of edges.
+ *
+ * <p>Vertices and edges are identified in the file only by their indices;
+ * the objects that represent them are supplied when the graph is opened,
+ * by an <code>ElementMapping</code> for each.  The default mappings represent
+ * each vertex and edge by its <code>Integer</code> index.
+ *
+ * <p>The successors, predecessors and neighbors of each vertex are not stored,
+ * but computed from its (sorted) edge ranges; the corresponding counts
+ * therefore take time proportional to the vertex's degree.
+ * The vertex and edge indices are exposed via the <code>IndexedGraph</code>
+ * interface, so that algorithms can traverse the mapped arrays directly.
+ * All mutating methods throw <code>UnsupportedOperationException</code>.
+ *
+ * <p>Instances cannot be serialized, since their topology is not on the
+ * heap; the file should be opened again instead.
+ *
+ * @see AbstractCompactGraph
+ */
+public class MappedGraph<V,E> extends AbstractTypedGraph<V,E>
+    implements IndexedGraph<V,E>
+{
+    /**
+     * Associates the vertices (or edges) of a <code>MappedGraph</code> with
+     * their indices in the graph's file.
+     * @param <T> the vertex or edge type
+     */
+    public interface ElementMapping<T>
+    {
+        /**
+         * Returns the index of <code>element</code>, or -1 if it is not mapped.
+         */
+        int getIndex(Object element);
+
+        /**
+         * Returns the element with the specified index.
+         */
+        T getElement(int index);
+    }
+
+    private static final int MAGIC = 0x4a554e47;      // "JUNG"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+
+    private static final ElementMapping<Integer> INTEGER_MAPPING = new ElementMapping<Integer>()
+    {
+        public int getIndex(Object element)
+        {
+            return element instanceof Integer ? ((Integer)element).intValue() : -1;
+        }
+
+        public Integer getElement(int index)
+        {
+            return index;
+        }
+    };
+
+    private final int vertex_count;
+    private final int edge_count;
+    private final transient ElementMapping<V> vertex_mapping;
+    private final transient ElementMapping<E> edge_mapping;
+    private final transient IntRegion sources;      // edge index -> index of first endpoint
+    private final transient IntRegion dests;        // edge index -> index of second endpoint
+
+    // offsets of each vertex's range in the corresponding arrays; for undirected
+    // graphs the incoming and outgoing arrays are the same (incident) arrays
+    private final transient IntRegion out_offsets;
+    private final transient IntRegion out_edges;
+    private final transient IntRegion in_offsets;
+    private final transient IntRegion in_edges;
+
+    private transient IntGraph int_graph;
+
+    private MappedGraph(EdgeType edge_type, int vertex_count, int edge_count, int entries,
+            FileChannel channel, ElementMapping<V> vertex_mapping, ElementMapping<E> edge_mapping)
+        throws IOException
+    {
+        super(edge_type);
+        if (vertex_mapping == null || edge_mapping == null)
+            throw new IllegalArgumentException("Vertex and edge mappings must not be null");
+        this.vertex_count = vertex_count;
+        this.edge_count = edge_count;
+        this.vertex_mapping = vertex_mapping;
+        this.edge_mapping = edge_mapping;
+        FileChannel.MapMode mode = FileChannel.MapMode.READ_ONLY;
+        long position = HEADER_SIZE;
+        sources = new IntRegion(channel, mode, position, edge_count);
+        position += 4L * edge_count;
+        dests = new IntRegion(channel, mode, position, edge_count);
+        position += 4L * edge_count;
+        out_offsets = new IntRegion(channel, mode, position, vertex_count + 1);
+        position += 4L * (vertex_count + 1);
+        out_edges = new IntRegion(channel, mode, position, entries);
+        position += 4L * entries;
+        if (edge_type == EdgeType.DIRECTED)
+        {
+            in_offsets = new IntRegion(channel, mode, position, vertex_count + 1);
+            position += 4L * (vertex_count + 1);
+            in_edges = new IntRegion(channel, mode, position, entries);
+        }
+        else
+        {
+            in_offsets = out_offsets;
+            in_edges = out_edges;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException
+    {
+        throw new NotSerializableException(getClass().getName() + 
+            " is backed by a mapped file, which should be opened again instead");
+    }
+
+    /**
+     * Maps the graph stored in <code>file</code>, whose vertices and edges
+     * are the <code>Integer</code> indices stored in the file.
+     * @throws IOException if <code>file</code> cannot be read or is not
+     * a graph file created by <code>write</code>
+     */
+    public static MappedGraph<Integer,Integer> open(File file) throws IOException
+    {
+        return open(file, INTEGER_MAPPING, INTEGER_MAPPING);
+    }
+
+    /**
+     * Maps the graph stored in <code>file</code>, using the specified mappings
+     * to convert between vertex and edge indices and the corresponding objects.
+     * @throws IOException if <code>file</code> cannot be read or is not
+     * a graph file created by <code>write</code>
+     */
+    public static <V,E> MappedGraph<V,E> open(File file,
+            ElementMapping<V> vertex_mapping, ElementMapping<E> edge_mapping) throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            // mapped regions remain valid after the channel is closed
+            FileChannel channel = raf.getChannel();
+            if (channel.size() < HEADER_SIZE)
+                throw new IOException(file + " is not a graph file");
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC)
+                throw new IOException(file + " is not a graph file");
+            int version = header.getInt();
+            if (version != VERSION)
+                throw new IOException(file + " has unsupported version " + version);
+            EdgeType edge_type = header.getInt() == 0 ? EdgeType.DIRECTED : EdgeType.UNDIRECTED;
+            int n = header.getInt();
+            int m = header.getInt();
+            int entries = header.getInt();
+            if (channel.size() != fileSize(edge_type, n, m, entries))
+                throw new IOException(file + " is truncated or corrupt");
+            return new MappedGraph<V,E>(edge_type, n, m, entries, channel, vertex_mapping, edge_mapping);
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    /**
+     * Writes the topology of <code>graph</code>, all of whose edges must be
+     * of the same type, to <code>file</code>.  Vertices and edges are indexed
+     * in the order in which they are returned by <code>getVertices()</code>
+     * and <code>getEdges()</code>; a mapping which preserves this order may be
+     * created with <code>listMapping</code>.
+     * @throws IllegalArgumentException if <code>graph</code> contains both
+     * directed and undirected edges
+     * @throws IOException if <code>file</code> cannot be written
+     */
+    public static <V,E> void write(Graph<V,E> graph, File file) throws IOException
+    {
+        int n = graph.getVertexCount();
+        int m = graph.getEdgeCount();
+        EdgeType edge_type = m == 0 ? graph.getDefaultEdgeType() :
+            graph.getEdgeType(graph.getEdges().iterator().next());
+        Map<V,Integer> vertex_indices = new HashMap<V,Integer>();
+        for (V v : graph.getVertices())
+            vertex_indices.put(v, vertex_indices.size());
+
+        GraphFileWriter writer = new GraphFileWriter(file, edge_type, n, m);
+        try
+        {
+            int e = 0;
+            for (E edge : graph.getEdges())
+            {
+                checkEdgeType(edge, graph.getEdgeType(edge), edge_type);
+                Pair<V> endpoints = graph.getEndpoints(edge);
+                writer.setEndpoints(e++, vertex_indices.get(endpoints.getFirst()),
+                        vertex_indices.get(endpoints.getSecond()));
+            }
+            writer.finish();
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the topology of <code>graph</code>, all of whose edges must be
+     * of the same type, to <code>file</code>.  Only the edge endpoints are read
+     * from <code>graph</code>, so that it may itself be backed by external storage.
+     * @throws IllegalArgumentException if <code>graph</code> contains both
+     * directed and undirected edges
+     * @throws IOException if <code>file</code> cannot be written
+     */
+    public static void write(IntGraph graph, File file) throws IOException
+    {
+        int m = graph.getEdgeCount();
+        EdgeType edge_type = m == 0 ? EdgeType.DIRECTED : graph.getEdgeType(0);
+        GraphFileWriter writer = new GraphFileWriter(file, edge_type, graph.getVertexCount(), m);
+        try
+        {
+            for (int e = 0; e < m; e++)
+            {
+                checkEdgeType(e, graph.getEdgeType(e), edge_type);
+                writer.setEndpoints(e, graph.getFirst(e), graph.getSecond(e));
+            }
+            writer.finish();
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+
+    private static void checkEdgeType(Object edge, EdgeType type, EdgeType edge_type)
+    {
+        if (type != edge_type)
+            throw new IllegalArgumentException("Edge " + edge + " has type " +
+                    type + "; all edges in this graph must be " + edge_type);
+    }
+
+    /**
+     * Returns the identity mapping between <code>Integer</code>s and indices.
+     */
+    public static ElementMapping<Integer> integerMapping()
+    {
+        return INTEGER_MAPPING;
+    }
+
+    /**
+     * Returns a mapping which assigns to each element of <code>elements</code>
+     * its position in the list.  The list and the inverse mapping are kept
+     * on the heap.
+     */
+    public static <T> ElementMapping<T> listMapping(List<? extends T> elements)
+    {
+        final List<T> list = new ArrayList<T>(elements);
+        final Map<T,Integer> indices = new HashMap<T,Integer>();
+        for (T element : list)
+            indices.put(element, indices.size());
+        return new ElementMapping<T>()
+        {
+            public int getIndex(Object element)
+            {
+                Integer i = indices.get(element);
+                return i == null ? -1 : i.intValue();
+            }
+
+            public T getElement(int index)
+            {
+                return list.get(index);
+            }
+        };
+    }
+
+    private static long fileSize(EdgeType edge_type, int n, int m, int entries)
+    {
+        long ints = 2L * m + (n + 1L) + entries;
+        if (edge_type == EdgeType.DIRECTED)
+            ints += (n + 1L) + entries;
+        return HEADER_SIZE + 4 * ints;
+    }
+
+    /**
+     * Returns the index of the endpoint of edge <code>e</code> opposite
+     * to the vertex with index <code>v</code>.
+     */
+    protected int opposite(int v, int e)
+    {
+        int source = sources.get(e);
+        return source == v ? dests.get(e) : source;
+    }
+
+    /**
+     * Returns the index of the first position <code>i</code> in
+     * <code>[from, to)</code> for which the opposite endpoint of
+     * <code>edge_ids[i]</code> is at least <code>w</code>.
+     */
+    private int lowerBound(IntRegion edge_ids, int from, int to, int v, int w)
+    {
+        while (from < to)
+        {
+            int mid = (from + to) >>> 1;
+            if (opposite(v, edge_ids.get(mid)) < w)
+                from = mid + 1;
+            else
+                to = mid;
+        }
+        return from;
+    }
+
+    /**
+     * Returns the number of self-loops incident to the vertex with index <code>v</code>.
+     */
+    private int selfLoops(int v)
+    {
+        int from = out_offsets.get(v);
+        int to = out_offsets.get(v + 1);
+        int i = lowerBound(out_edges, from, to, v, v);
+        return lowerBound(out_edges, i, to, v, v + 1) - i;
+    }
+
+    /**
+     * Returns the index of <code>vertex</code> in this graph, or -1 if
+     * <code>vertex</code> is not present.
+     */
+    public int getVertexIndex(V vertex)
+    {
+        int i = vertex_mapping.getIndex(vertex);
+        return i >= 0 && i < vertex_count ? i : -1;
+    }
+
+    /**
+     * Returns the index of <code>edge</code> in this graph, or -1 if
+     * <code>edge</code> is not present.
+     */
+    public int getEdgeIndex(E edge)
+    {
+        int i = edge_mapping.getIndex(edge);
+        return i >= 0 && i < edge_count ? i : -1;
+    }
+
+    /**
+     * Returns the vertex with the specified index.
+     */
+    public V getVertex(int index)
+    {
+        return vertex_mapping.getElement(index);
+    }
+
+    /**
+     * Returns the edge with the specified index.
+     */
+    public E getEdge(int index)
+    {
+        return edge_mapping.getElement(index);
+    }
+
+    public IntGraph getIntGraph()
+    {
+        if (int_graph == null)
+            int_graph = new MappedIntGraph();
+        return int_graph;
+    }
+
+    public Collection<E> getEdges()
+    {
+        return new ElementView<E>(edge_mapping, edge_count);
+    }
+
+    public Collection<V> getVertices()
+    {
+        return new ElementView<V>(vertex_mapping, vertex_count);
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return getVertexIndex(vertex) >= 0;
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        return getEdgeIndex(edge) >= 0;
+    }
+
+    public int getEdgeCount()
+    {
+        return edge_count;
+    }
+
+    public int getVertexCount()
+    {
+        return vertex_count;
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new EdgeView(v, in_edges, in_offsets.get(v), in_offsets.get(v + 1), null, 0, 0);
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new EdgeView(v, out_edges, out_offsets.get(v), out_offsets.get(v + 1), null, 0, 0);
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        if (out_edges == in_edges)
+            return new EdgeView(v, out_edges, out_offsets.get(v), out_offsets.get(v + 1), null, 0, 0);
+        return new EdgeView(v, out_edges, out_offsets.get(v), out_offsets.get(v + 1),
+                in_edges, in_offsets.get(v), in_offsets.get(v + 1));
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new VertexView(v, in_edges, in_offsets.get(v), in_offsets.get(v + 1), null, 0, 0);
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        return new VertexView(v, out_edges, out_offsets.get(v), out_offsets.get(v + 1), null, 0, 0);
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return null;
+        if (out_edges == in_edges)
+            return getSuccessors(vertex);
+        return new VertexView(v, out_edges, out_offsets.get(v), out_offsets.get(v + 1),
+                in_edges, in_offsets.get(v), in_offsets.get(v + 1));
+    }
+
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return true;
+        if (out_edges == in_edges)
+            return visitSuccessors(vertex, visitor);
+        return visitOpposites(new OppositeCursor(v, out_edges, out_offsets.get(v), out_offsets.get(v + 1),
+                in_edges, in_offsets.get(v), in_offsets.get(v + 1)), visitor);
+    }
+
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            return true;
+        for (int i = out_offsets.get(v), to = out_offsets.get(v + 1); i < to; i++)
+            if (!visitor.visit(getEdge(out_edges.get(i))))
+                return false;
+        if (out_edges == in_edges)
+            return true;
+        // self-loops are also outgoing edges
+        for (int i = in_offsets.get(v), to = in_offsets.get(v + 1); i < to; i++)
+        {
+            int e = in_edges.get(i);
+            if (sources.get(e) != dests.get(e) && !visitor.visit(getEdge(e)))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        int v = getVertexIndex(vertex);
+        return v < 0 || visitOpposites(new OppositeCursor(v, in_edges, in_offsets.get(v),
+                in_offsets.get(v + 1), null, 0, 0), visitor);
+    }
+
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        int v = getVertexIndex(vertex);
+        return v < 0 || visitOpposites(new OppositeCursor(v, out_edges, out_offsets.get(v),
+                out_offsets.get(v + 1), null, 0, 0), visitor);
+    }
+
+    private boolean visitOpposites(OppositeCursor cursor, ElementVisitor<? super V> visitor)
+    {
+        while (cursor.hasNext())
+            if (!visitor.visit(getVertex(cursor.next())))
+                return false;
+        return true;
+    }
+
+    @Override
+    public EdgeType getEdgeType(E edge)
+    {
+        return containsEdge(edge) ? edge_type : null;
+    }
+
+    @Override
+    public Collection<V> getIncidentVertices(E edge)
+    {
+        return getEndpoints(edge);
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        int e = getEdgeIndex(edge);
+        if (e < 0)
+            return null;
+        return new Pair<V>(getVertex(sources.get(e)), getVertex(dests.get(e)));
+    }
+
+    public V getSource(E directed_edge)
+    {
+        int e = getEdgeIndex(directed_edge);
+        if (e < 0 || edge_type != EdgeType.DIRECTED)
+            return null;
+        return getVertex(sources.get(e));
+    }
+
+    public V getDest(E directed_edge)
+    {
+        int e = getEdgeIndex(directed_edge);
+        if (e < 0 || edge_type != EdgeType.DIRECTED)
+            return null;
+        return getVertex(dests.get(e));
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        int v = getVertexIndex(vertex);
+        int e = getEdgeIndex(edge);
+        return v >= 0 && e >= 0 && edge_type == EdgeType.DIRECTED && sources.get(e) == v;
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        int v = getVertexIndex(vertex);
+        int e = getEdgeIndex(edge);
+        return v >= 0 && e >= 0 && edge_type == EdgeType.DIRECTED && dests.get(e) == v;
+    }
+
+    @Override
+    public V getOpposite(V vertex, E edge)
+    {
+        int v = getVertexIndex(vertex);
+        int e = getEdgeIndex(edge);
+        if (v < 0 || e < 0 || (sources.get(e) != v && dests.get(e) != v))
+            throw new IllegalArgumentException(vertex + " is not incident to " + edge + " in this graph");
+        return getVertex(opposite(v, e));
+    }
+
+    @Override
+    public int inDegree(V vertex)
+    {
+        int v = checkedIndex(vertex);
+        return in_offsets.get(v + 1) - in_offsets.get(v);
+    }
+
+    @Override
+    public int outDegree(V vertex)
+    {
+        int v = checkedIndex(vertex);
+        return out_offsets.get(v + 1) - out_offsets.get(v);
+    }
+
+    @Override
+    public int degree(V vertex)
+    {
+        int v = checkedIndex(vertex);
+        int out_degree = out_offsets.get(v + 1) - out_offsets.get(v);
+        if (out_edges == in_edges)
+            return out_degree;
+        return out_degree + in_offsets.get(v + 1) - in_offsets.get(v) - selfLoops(v);
+    }
+
+    @Override
+    public int getPredecessorCount(V vertex)
+    {
+        int v = checkedIndex(vertex);
+        return new OppositeCursor(v, in_edges, in_offsets.get(v), in_offsets.get(v + 1), null, 0, 0).count();
+    }
+
+    @Override
+    public int getSuccessorCount(V vertex)
+    {
+        int v = checkedIndex(vertex);
+        return new OppositeCursor(v, out_edges, out_offsets.get(v), out_offsets.get(v + 1), null, 0, 0).count();
+    }
+
+    @Override
+    public int getNeighborCount(V vertex)
+    {
+        if (out_edges == in_edges)
+            return getSuccessorCount(vertex);
+        int v = checkedIndex(vertex);
+        return new OppositeCursor(v, out_edges, out_offsets.get(v), out_offsets.get(v + 1),
+                in_edges, in_offsets.get(v), in_offsets.get(v + 1)).count();
+    }
+
+    private int checkedIndex(V vertex)
+    {
+        int v = getVertexIndex(vertex);
+        if (v < 0)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return v;
+    }
+
+    @Override
+    public E findEdge(V v1, V v2)
+    {
+        int v = getVertexIndex(v1);
+        int w = getVertexIndex(v2);
+        if (v < 0 || w < 0)
+            return null;
+        int to = out_offsets.get(v + 1);
+        int i = lowerBound(out_edges, out_offsets.get(v), to, v, w);
+        if (i < to && opposite(v, out_edges.get(i)) == w)
+            return getEdge(out_edges.get(i));
+        return null;
+    }
+
+    @Override
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        int v = getVertexIndex(v1);
+        int w = getVertexIndex(v2);
+        if (v < 0 || w < 0)
+            return null;
+        Collection<E> edges = new ArrayList<E>(1);
+        int to = out_offsets.get(v + 1);
+        for (int i = lowerBound(out_edges, out_offsets.get(v), to, v, w);
+             i < to && opposite(v, out_edges.get(i)) == w; i++)
+            edges.add(getEdge(out_edges.get(i)));
+        return Collections.unmodifiableCollection(edges);
+    }
+
+    /**
+     * This graph is immutable; throws <code>UnsupportedOperationException</code>.
+     */
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("This graph is immutable");
+    }
+
+    /**
+     * This graph is immutable; throws <code>UnsupportedOperationException</code>.
+     */
+    @Override
+    public boolean addEdge(E edge, Pair<? extends V> endpoints, EdgeType edgeType)
+    {
+        throw new UnsupportedOperationException("This graph is immutable");
+    }
+
+    /**
+     * This graph is immutable; throws <code>UnsupportedOperationException</code>.
+     */
+    public boolean removeVertex(V vertex)
+    {
+        throw new UnsupportedOperationException("This graph is immutable");
+    }
+
+    /**
+     * This graph is immutable; throws <code>UnsupportedOperationException</code>.
+     */
+    public boolean removeEdge(E edge)
+    {
+        throw new UnsupportedOperationException("This graph is immutable");
+    }
+
+    /**
+     * A region of a mapped file viewed as an array of <code>int</code>s.
+     * Since a single mapping is limited to 2GB, the region is mapped in chunks.
+     */
+    private static class IntRegion
+    {
+        private static final int CHUNK_BITS = 28;
+        private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+        private final MappedByteBuffer[] mapped;
+        private final IntBuffer[] chunks;
+
+        IntRegion(FileChannel channel, FileChannel.MapMode mode, long position, int length)
+            throws IOException
+        {
+            mapped = new MappedByteBuffer[(int)(((long)length + CHUNK_MASK) >>> CHUNK_BITS)];
+            chunks = new IntBuffer[mapped.length];
+            for (int c = 0; c < chunks.length; c++)
+            {
+                long start = (long)c << CHUNK_BITS;
+                long size = Math.min(length - start, 1L << CHUNK_BITS);
+                mapped[c] = channel.map(mode, position + 4 * start, 4 * size);
+                chunks[c] = mapped[c].asIntBuffer();
+            }
+        }
+
+        /**
+         * Writes any changes to this region to the file.
+         */
+        void force()
+        {
+            for (MappedByteBuffer chunk : mapped)
+                chunk.force();
+        }
+
+        int get(int i)
+        {
+            return chunks[i >>> CHUNK_BITS].get(i & CHUNK_MASK);
+        }
+
+        void put(int i, int value)
+        {
+            chunks[i >>> CHUNK_BITS].put(i & CHUNK_MASK, value);
+        }
+    }
+
+    /**
+     * Writes the file for a graph with a specified number of vertices and edges:
+     * the endpoints of each edge are set first, and <code>finish</code> then
+     * sorts the edges into the adjacency ranges of each vertex.  Only
+     * per-vertex counters are kept on the heap; the edge arrays are built
+     * in place in the file.
+     */
+    private static class GraphFileWriter
+    {
+        private final File file;
+        private final RandomAccessFile raf;
+        private final FileChannel channel;
+        private final EdgeType edge_type;
+        private final int n;
+        private final int m;
+        private final IntRegion sources;
+        private final IntRegion dests;
+        private long self_loops;
+
+        GraphFileWriter(File file, EdgeType edge_type, int n, int m) throws IOException
+        {
+            this.file = file;
+            this.edge_type = edge_type;
+            this.n = n;
+            this.m = m;
+            raf = new RandomAccessFile(file, "rw");
+            try
+            {
+                raf.setLength(0);
+                channel = raf.getChannel();
+                FileChannel.MapMode mode = FileChannel.MapMode.READ_WRITE;
+                sources = new IntRegion(channel, mode, HEADER_SIZE, m);
+                dests = new IntRegion(channel, mode, HEADER_SIZE + 4L * m, m);
+            }
+            catch (IOException e)
+            {
+                raf.close();
+                throw e;
+            }
+        }
+
+        void setEndpoints(int e, int first, int second)
+        {
+            if (first < 0 || first >= n || second < 0 || second >= n)
+                throw new IllegalArgumentException("Edge " + e + " has an endpoint that is not a vertex");
+            sources.put(e, first);
+            dests.put(e, second);
+            if (first == second)
+                self_loops++;
+        }
+
+        void finish() throws IOException
+        {
+            FileChannel.MapMode mode = FileChannel.MapMode.READ_WRITE;
+            long position = HEADER_SIZE + 8L * m;
+            int entries;
+            if (edge_type == EdgeType.DIRECTED)
+            {
+                entries = m;
+                int[] out_counts = new int[n + 1];
+                int[] in_counts = new int[n + 1];
+                for (int e = 0; e < m; e++)
+                {
+                    out_counts[sources.get(e) + 1]++;
+                    in_counts[dests.get(e) + 1]++;
+                }
+                IntRegion out_offsets = offsets(out_counts, position);
+                position += 4L * (n + 1);
+                IntRegion out_edges = new IntRegion(channel, mode, position, entries);
+                position += 4L * entries;
+                IntRegion in_offsets = offsets(in_counts, position);
+                position += 4L * (n + 1);
+                IntRegion in_edges = new IntRegion(channel, mode, position, entries);
+
+                // three stable bucket passes: by destination, then by source
+                // (leaving each outgoing range sorted by destination), then by
+                // destination again (leaving each incoming range sorted by source)
+                int[] next = in_counts.clone();
+                for (int e = 0; e < m; e++)
+                    in_edges.put(next[dests.get(e)]++, e);
+                next = out_counts.clone();
+                for (int i = 0; i < m; i++)
+                {
+                    int e = in_edges.get(i);
+                    out_edges.put(next[sources.get(e)]++, e);
+                }
+                next = in_counts.clone();
+                for (int i = 0; i < m; i++)
+                {
+                    int e = out_edges.get(i);
+                    in_edges.put(next[dests.get(e)]++, e);
+                }
+                out_offsets.force();
+                out_edges.force();
+                in_offsets.force();
+                in_edges.force();
+            }
+            else
+            {
+                // each edge appears in the incidence range of each of its endpoints
+                // (self-loops appear only once)
+                long incidences = 2L * m - self_loops;
+                if (incidences > Integer.MAX_VALUE)
+                    throw new IllegalArgumentException("Too many edges for an undirected graph: " + m);
+                entries = (int)incidences;
+                int[] counts = new int[n + 1];
+                for (int e = 0; e < m; e++)
+                {
+                    int first = sources.get(e);
+                    int second = dests.get(e);
+                    counts[first + 1]++;
+                    if (first != second)
+                        counts[second + 1]++;
+                }
+                IntRegion offsets = offsets(counts, position);
+                position += 4L * (n + 1);
+                IntRegion incident = new IntRegion(channel, mode, position, entries);
+
+                // two bucket passes: the first groups the incidences by the
+                // opposite endpoint, which the second then visits in order
+                File scratch_file = File.createTempFile("jung", ".tmp", file.getAbsoluteFile().getParentFile());
+                RandomAccessFile scratch_raf = new RandomAccessFile(scratch_file, "rw");
+                try
+                {
+                    IntRegion scratch = new IntRegion(scratch_raf.getChannel(), mode, 0, entries);
+                    int[] next = counts.clone();
+                    for (int e = 0; e < m; e++)
+                    {
+                        int first = sources.get(e);
+                        int second = dests.get(e);
+                        scratch.put(next[second]++, e);
+                        if (first != second)
+                            scratch.put(next[first]++, e);
+                    }
+                    next = counts.clone();
+                    for (int w = 0; w < n; w++)
+                    {
+                        for (int i = counts[w]; i < counts[w + 1]; i++)
+                        {
+                            int e = scratch.get(i);
+                            int first = sources.get(e);
+                            incident.put(next[first == w ? dests.get(e) : first]++, e);
+                        }
+                    }
+                    offsets.force();
+                    incident.force();
+                }
+                finally
+                {
+                    scratch_raf.close();
+                    if (!scratch_file.delete())
+                        scratch_file.deleteOnExit();
+                }
+            }
+
+            // the header is written, and written out, only once the rest of
+            // the file has been, so that a file left incomplete by a crash is
+            // rejected
+            sources.force();
+            dests.force();
+            MappedByteBuffer header = channel.map(mode, 0, HEADER_SIZE);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putInt(edge_type == EdgeType.DIRECTED ? 0 : 1);
+            header.putInt(n);
+            header.putInt(m);
+            header.putInt(entries);
+            header.force();
+        }
+
+        /**
+         * Converts <code>counts</code> in place to running totals (so that
+         * <code>counts[v]</code> is the start of <code>v</code>'s range), and
+         * writes them to the file at <code>position</code>.
+         */
+        private IntRegion offsets(int[] counts, long position) throws IOException
+        {
+            for (int v = 0; v < n; v++)
+                counts[v + 1] += counts[v];
+            IntRegion offsets = new IntRegion(channel, FileChannel.MapMode.READ_WRITE, position, n + 1);
+            for (int v = 0; v <= n; v++)
+                offsets.put(v, counts[v]);
+            return offsets;
+        }
+
+        void close() throws IOException
+        {
+            raf.close();
+        }
+    }
+
+    /**
+     * A view of this graph's arrays as an <code>IntGraph</code>.
+     */
+    private class MappedIntGraph implements IntGraph
+    {
+        public int getVertexCount()
+        {
+            return vertex_count;
+        }
+
+        public int getEdgeCount()
+        {
+            return edge_count;
+        }
+
+        public int outDegree(int v)
+        {
+            return out_offsets.get(v + 1) - out_offsets.get(v);
+        }
+
+        public int inDegree(int v)
+        {
+            return in_offsets.get(v + 1) - in_offsets.get(v);
+        }
+
+        public int getOutEdge(int v, int i)
+        {
+            return out_edges.get(out_offsets.get(v) + i);
+        }
+
+        public int getInEdge(int v, int i)
+        {
+            return in_edges.get(in_offsets.get(v) + i);
+        }
+
+        public int getOpposite(int v, int e)
+        {
+            return opposite(v, e);
+        }
+
+        public int getFirst(int e)
+        {
+            return sources.get(e);
+        }
+
+        public int getSecond(int e)
+        {
+            return dests.get(e);
+        }
+
+        public EdgeType getEdgeType(int e)
+        {
+            return edge_type;
+        }
+    }
+
+    /**
+     * Walks the distinct opposite endpoints of the edges in one or two ranges
+     * of edge indices (each sorted by opposite endpoint), in increasing order.
+     */
+    private class OppositeCursor
+    {
+        private final int vertex;
+        private final IntRegion ids;
+        private final int to;
+        private final IntRegion ids2;
+        private final int to2;
+        private int i;
+        private int j;
+
+        OppositeCursor(int vertex, IntRegion ids, int from, int to, IntRegion ids2, int from2, int to2)
+        {
+            this.vertex = vertex;
+            this.ids = ids;
+            this.i = from;
+            this.to = to;
+            this.ids2 = ids2;
+            this.j = from2;
+            this.to2 = to2;
+        }
+
+        boolean hasNext()
+        {
+            return i < to || j < to2;
+        }
+
+        int next()
+        {
+            int w = Integer.MAX_VALUE;
+            if (i < to)
+                w = opposite(vertex, ids.get(i));
+            if (j < to2)
+                w = Math.min(w, opposite(vertex, ids2.get(j)));
+            if (w == Integer.MAX_VALUE && !hasNext())
+                throw new NoSuchElementException();
+            while (i < to && opposite(vertex, ids.get(i)) == w)
+                i++;
+            while (j < to2 && opposite(vertex, ids2.get(j)) == w)
+                j++;
+            return w;
+        }
+
+        int count()
+        {
+            int count = 0;
+            for (; hasNext(); next())
+                count++;
+            return count;
+        }
+    }
+
+    /**
+     * A read-only view of all vertices or all edges of this graph.
+     */
+    private static class ElementView<T> extends AbstractCollection<T>
+    {
+        private final ElementMapping<T> mapping;
+        private final int size;
+
+        ElementView(ElementMapping<T> mapping, int size)
+        {
+            this.mapping = mapping;
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new Iterator<T>()
+            {
+                private int i = 0;
+
+                public boolean hasNext()
+                {
+                    return i < size;
+                }
+
+                public T next()
+                {
+                    if (i >= size)
+                        throw new NoSuchElementException();
+                    return mapping.getElement(i++);
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            int i = mapping.getIndex(o);
+            return i >= 0 && i < size;
+        }
+    }
+
+    /**
+     * A read-only view of the distinct opposite endpoints of the edges in
+     * one or two ranges of edge indices incident to a specified vertex.
+     */
+    private class VertexView extends AbstractCollection<V>
+    {
+        private final int vertex;
+        private final IntRegion ids;
+        private final int from;
+        private final int to;
+        private final IntRegion ids2;
+        private final int from2;
+        private final int to2;
+
+        VertexView(int vertex, IntRegion ids, int from, int to, IntRegion ids2, int from2, int to2)
+        {
+            this.vertex = vertex;
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+            this.ids2 = ids2;
+            this.from2 = from2;
+            this.to2 = to2;
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new Iterator<V>()
+            {
+                private final OppositeCursor cursor = new OppositeCursor(vertex, ids, from, to, ids2, from2, to2);
+
+                public boolean hasNext()
+                {
+                    return cursor.hasNext();
+                }
+
+                public V next()
+                {
+                    return getVertex(cursor.next());
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return new OppositeCursor(vertex, ids, from, to, ids2, from2, to2).count();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            int w = vertex_mapping.getIndex(o);
+            if (w < 0 || w >= vertex_count)
+                return false;
+            int i = lowerBound(ids, from, to, vertex, w);
+            if (i < to && opposite(vertex, ids.get(i)) == w)
+                return true;
+            if (ids2 == null)
+                return false;
+            i = lowerBound(ids2, from2, to2, vertex, w);
+            return i < to2 && opposite(vertex, ids2.get(i)) == w;
+        }
+    }
+
+    /**
+     * A read-only view of the edges in one or two ranges of edge indices
+     * which are incident to a specified vertex.  If a second range is specified,
+     * self-loops in that range are skipped (since they also appear in the first).
+     */
+    private class EdgeView extends AbstractCollection<E>
+    {
+        private final int vertex;
+        private final IntRegion ids;
+        private final int from;
+        private final int to;
+        private final IntRegion ids2;
+        private final int from2;
+        private final int to2;
+
+        EdgeView(int vertex, IntRegion ids, int from, int to, IntRegion ids2, int from2, int to2)
+        {
+            this.vertex = vertex;
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+            this.ids2 = ids2;
+            this.from2 = from2;
+            this.to2 = to2;
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            return new Iterator<E>()
+            {
+                private int i = from;
+                private int j = advance(from2);
+
+                private int advance(int k)
+                {
+                    while (k < to2 && sources.get(ids2.get(k)) == dests.get(ids2.get(k)))
+                        k++;
+                    return k;
+                }
+
+                public boolean hasNext()
+                {
+                    return i < to || j < to2;
+                }
+
+                public E next()
+                {
+                    if (i < to)
+                        return getEdge(ids.get(i++));
+                    if (j >= to2)
+                        throw new NoSuchElementException();
+                    E e = getEdge(ids2.get(j));
+                    j = advance(j + 1);
+                    return e;
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            if (ids2 == null)
+                return to - from;
+            return to - from + to2 - from2 - selfLoops(vertex);
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            int e = edge_mapping.getIndex(o);
+            if (e < 0 || e >= edge_count)
+                return false;
+            if (ids2 != null || ids == in_edges && ids == out_edges)
+                return sources.get(e) == vertex || dests.get(e) == vertex;
+            if (ids == out_edges)
+                return sources.get(e) == vertex;
+            return dests.get(e) == vertex;
+        }
+    }
+}
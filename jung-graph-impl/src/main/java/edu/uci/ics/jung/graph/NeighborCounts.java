@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Maintains, for each vertex of a multigraph, the number of its distinct
+ * predecessors, successors and neighbors, and the number of its incident
+ * edges which are both incoming and outgoing (undirected edges and directed
+ * self-loops), so that the corresponding queries take constant time.
+ *
+ * <p>The graph reports each edge that it adds or removes, together with
+ * whether its endpoints are linked by other edges; finding this out takes
+ * a scan of the smaller of the two endpoints' edge sets (see
+ * <code>AbstractGraph.isLinked_internal</code>).  No counts are stored for
+ * vertices which have no incident edges.
+ *
+ * <p>This makes adding or removing an edge take time proportional to the
+ * smaller degree of its endpoints, rather than constant time: cheap when
+ * either endpoint has few edges, but linear in the degree when an edge
+ * joins two hubs.  A map from each linked pair of vertices to the number
+ * of edges joining them would keep updates constant, but would add an
+ * entry per linked pair to every graph, roughly doubling the memory held
+ * for edges; the scan was preferred because typical graphs are built once
+ * and queried many times, and most of their edges touch a low-degree
+ * vertex.
+ */
+@SuppressWarnings("serial")
+class NeighborCounts<V> implements Serializable
+{
+    static final int PREDECESSORS = 0;
+    static final int SUCCESSORS = 1;
+    static final int NEIGHBORS = 2;
+    static final int SHARED = 3;
+
+    private Map<V,int[]> counts;
+
+    /**
+     * Creates an instance which stores its counts in <code>counts</code>,
+     * which must be empty, and whose key equality must match that of the
+     * graph's vertex map.
+     */
+    NeighborCounts(Map<V,int[]> counts)
+    {
+        this.counts = counts;
+    }
+
+    /**
+     * Returns the specified count (<code>PREDECESSORS</code>,
+     * <code>SUCCESSORS</code>, <code>NEIGHBORS</code> or <code>SHARED</code>)
+     * for <code>vertex</code>.
+     */
+    int get(V vertex, int which)
+    {
+        int[] c = counts.get(vertex);
+        return c == null ? 0 : c[which];
+    }
+
+    /**
+     * Records the addition (if <code>delta</code> is 1) or removal (if
+     * <code>delta</code> is -1) of an edge from <code>v1</code> to
+     * <code>v2</code>, or between them if <code>undirected</code>.
+     * @param linked12 whether some other edge makes <code>v2</code> a successor of <code>v1</code>
+     * @param linked21 whether some other edge makes <code>v1</code> a successor of <code>v2</code>
+     */
+    void update(V v1, V v2, boolean undirected, boolean linked12, boolean linked21, int delta)
+    {
+        int[] c1 = countsFor(v1);
+        int[] c2 = v1.equals(v2) ? c1 : countsFor(v2);
+        if (!linked12)
+        {
+            c1[SUCCESSORS] += delta;
+            c2[PREDECESSORS] += delta;
+        }
+        if (undirected && c1 != c2 && !linked21)
+        {
+            c2[SUCCESSORS] += delta;
+            c1[PREDECESSORS] += delta;
+        }
+        if (!linked12 && !linked21)
+        {
+            c1[NEIGHBORS] += delta;
+            if (c2 != c1)
+                c2[NEIGHBORS] += delta;
+        }
+        if (undirected || c1 == c2)
+        {
+            c1[SHARED] += delta;
+            if (c2 != c1)
+                c2[SHARED] += delta;
+        }
+        // every vertex with an incident edge has a neighbor
+        if (c1[NEIGHBORS] == 0)
+            counts.remove(v1);
+        if (c2[NEIGHBORS] == 0)
+            counts.remove(v2);
+    }
+
+    /**
+     * Moves the counts into <code>new_counts</code>, which must be empty.
+     */
+    void rehash(Map<V,int[]> new_counts)
+    {
+        new_counts.putAll(counts);
+        counts = new_counts;
+    }
+
+    private int[] countsFor(V vertex)
+    {
+        int[] c = counts.get(vertex);
+        if (c == null)
+        {
+            c = new int[4];
+            counts.put(vertex, c);
+        }
+        return c;
+    }
+}
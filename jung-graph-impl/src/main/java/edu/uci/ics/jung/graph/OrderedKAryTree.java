@@ -22,6 +22,7 @@ import org.apache.commons.collections15.CollectionUtils;
 import org.apache.commons.collections15.Factory;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 import edu.uci.ics.jung.graph.util.Pair;
 
 /**
@@ -258,6 +259,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     	height = child_data.depth > height ? child_data.depth : height;
     	edge_vpairs.put(e, endpoints);
     	
+    	incrementVersion_internal();
     	return true;
     }
 
@@ -527,6 +529,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
 			this.root = vertex;
 			vertex_data.put(vertex, new VertexData(null, 0));
 			this.height = 0;
+			incrementVersion_internal();
 			return true;
 		} 
 		else 
@@ -719,6 +722,62 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     	return Collections.unmodifiableCollection(vertices);
     }
   
+    /**
+     * @see edu.uci.ics.jung.graph.VisitableGraph#visitNeighbors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+     */
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor) 
+    {
+    	return visitPredecessors(vertex, visitor) && visitSuccessors(vertex, visitor);
+    }
+  
+    /**
+     * @see edu.uci.ics.jung.graph.VisitableGraph#visitIncidentEdges(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+     */
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor) 
+    {
+    	VertexData v_data = vertex_data.get(vertex);
+    	if (v_data == null)
+    		return true;
+    	if (v_data.parent_edge != null && !visitor.visit(v_data.parent_edge))
+    		return false;
+    	if (v_data.child_edges != null)
+    	{
+    		for (E edge : v_data.child_edges)
+    			if (edge != null && !visitor.visit(edge))
+    				return false;
+    	}
+    	return true;
+    }
+  
+    /**
+     * @see edu.uci.ics.jung.graph.VisitableGraph#visitPredecessors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+     */
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor) 
+    {
+    	VertexData v_data = vertex_data.get(vertex);
+    	if (v_data == null || v_data.parent_edge == null)
+    		return true;
+    	return visitor.visit(edge_vpairs.get(v_data.parent_edge).getFirst());
+    }
+  
+    /**
+     * @see edu.uci.ics.jung.graph.VisitableGraph#visitSuccessors(java.lang.Object, edu.uci.ics.jung.graph.util.ElementVisitor)
+     */
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor) 
+    {
+    	VertexData v_data = vertex_data.get(vertex);
+    	if (v_data == null || v_data.child_edges == null)
+    		return true;
+    	for (E edge : v_data.child_edges)
+    		if (edge != null && !visitor.visit(edge_vpairs.get(edge).getSecond()))
+    			return false;
+    	return true;
+    }
+  
     /**
      * @see edu.uci.ics.jung.graph.Hypergraph#getVertexCount()
      */
@@ -746,6 +805,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
     	removeVertex(edge_vpairs.get(edge).getSecond());
     	edge_vpairs.remove(edge);
     	
+    	incrementVersion_internal();
     	return true;
     }
 
@@ -769,6 +829,7 @@ public class OrderedKAryTree<V, E> extends AbstractTypedGraph<V, E> implements T
 				edge_vpairs.remove(edge);
 		vertex_data.remove(vertex);
 		
+		incrementVersion_internal();
 		return true;
     }
 	
@@ -23,6 +23,7 @@ import java.util.Set;
 import org.apache.commons.collections15.Factory;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 
 /**
  * An implementation of <code>Hypergraph</code> that is suitable for sparse graphs and 
@@ -30,10 +31,11 @@ import edu.uci.ics.jung.graph.util.EdgeType;
  */
 @SuppressWarnings("serial")
 public class SetHypergraph<V,H> 
-	implements Hypergraph<V,H>, MultiGraph<V,H>, Serializable
+	implements VisitableGraph<V,H>, MultiGraph<V,H>, Serializable, Versioned
 {
     protected Map<V, Set<H>> vertices; // Map of vertices to incident hyperedge sets
     protected Map<H, Set<V>> edges;    // Map of hyperedges to incident vertex sets
+    private long version;
  
     /**
      * Returns a <code>Factory</code> which creates instances of this class.
@@ -97,6 +99,7 @@ public class SetHypergraph<V,H>
             // associate v with hyperedge
             vertices.get(v).add(hyperedge);
         }
+        version++;
         return true;
     }
     
@@ -202,6 +205,14 @@ public class SetHypergraph<V,H>
         return Collections.unmodifiableCollection(edges);
     }
     
+    /**
+     * @see Versioned#getVersion()
+     */
+    public long getVersion()
+    {
+        return version;
+    }
+    
     public boolean addVertex(V vertex)
     {
     	if(vertex == null) 
@@ -209,6 +220,7 @@ public class SetHypergraph<V,H>
         if (containsVertex(vertex))
             return false;
         vertices.put(vertex, new HashSet<H>());
+        version++;
         return true;
     }
     
@@ -221,6 +233,7 @@ public class SetHypergraph<V,H>
             edges.get(hyperedge).remove(vertex);
         }
         vertices.remove(vertex);
+        version++;
         return true;
     }
     
@@ -233,6 +246,7 @@ public class SetHypergraph<V,H>
             vertices.get(vertex).remove(hyperedge);
         }
         edges.remove(hyperedge);
+        version++;
         return true;
     }
     
@@ -341,4 +355,50 @@ public class SetHypergraph<V,H>
 	{
 		return getNeighbors(vertex);
 	}
+
+	/**
+	 * Visits each vertex that shares a hyperedge with <code>vertex</code>
+	 * (including <code>vertex</code> itself), once.  Repeats are found with
+	 * a set which each thread reuses from one visit to the next.
+	 */
+	public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor)
+	{
+		Set<H> incident = vertices.get(vertex);
+		if (incident == null)
+			return true;
+		VisitedSet visited = VisitedSet.acquire();
+		try
+		{
+			for (H hyperedge : incident)
+				for (V v : edges.get(hyperedge))
+					if (visited.add(v) && !visitor.visit(v))
+						return false;
+			return true;
+		}
+		finally
+		{
+			visited.release();
+		}
+	}
+
+	public boolean visitIncidentEdges(V vertex, ElementVisitor<? super H> visitor)
+	{
+		Set<H> incident = vertices.get(vertex);
+		if (incident == null)
+			return true;
+		for (H hyperedge : incident)
+			if (!visitor.visit(hyperedge))
+				return false;
+		return true;
+	}
+
+	public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor)
+	{
+		return visitNeighbors(vertex, visitor);
+	}
+
+	public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor)
+	{
+		return visitNeighbors(vertex, visitor);
+	}
 }
@@ -74,6 +74,7 @@ public class SortedSparseMultigraph<V,E>
         vertices = new TreeMap<V, Pair<Set<E>>>(vertex_comparator);
         edges = new TreeMap<E, Pair<V>>(edge_comparator);
         directedEdges = new TreeSet<E>(edge_comparator);
+        neighbor_counts = new NeighborCounts<V>(new TreeMap<V,int[]>(vertex_comparator));
     }
     
     /**
@@ -97,6 +98,7 @@ public class SortedSparseMultigraph<V,E>
         for (Map.Entry<V, Pair<Set<E>>> entry : vertices.entrySet())
             tmp_vertices.put(entry.getKey(), entry.getValue());
         this.vertices = tmp_vertices;
+        neighbor_counts.rehash(new TreeMap<V,int[]>(vertex_comparator));
     }
     
     @Override
@@ -108,6 +110,7 @@ public class SortedSparseMultigraph<V,E>
         {
             vertices.put(vertex, new Pair<Set<E>>(new TreeSet<E>(edge_comparator), 
                 new TreeSet<E>(edge_comparator)));
+            incrementVersion_internal();
             return true;
         } 
         else 
@@ -115,4 +118,12 @@ public class SortedSparseMultigraph<V,E>
         	return false;
         }
     }
+
+    /**
+     * Does nothing: sorted maps cannot be presized.
+     */
+    @Override
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+    }
 }
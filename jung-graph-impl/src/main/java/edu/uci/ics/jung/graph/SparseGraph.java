@@ -21,6 +21,7 @@ import java.util.Map;
 import org.apache.commons.collections15.Factory;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 import edu.uci.ics.jung.graph.util.Pair;
 
 /**
@@ -129,6 +130,7 @@ public class SparseGraph<V,E>
             undirected_edges.put(edge, new_endpoints);
         }
         
+        incrementVersion_internal();
         return true;
     }
 
@@ -301,6 +303,71 @@ public class SparseGraph<V,E>
         return Collections.unmodifiableCollection(incident);
     }
 
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        if (maps == null)
+            return true;
+        for (V neighbor : maps[INCIDENT].keySet())
+            if (!visitor.visit(neighbor))
+                return false;
+        for (V succ : maps[OUTGOING].keySet())
+            if (!maps[INCIDENT].containsKey(succ) && !visitor.visit(succ))
+                return false;
+        for (V pred : maps[INCOMING].keySet())
+            if (!maps[INCIDENT].containsKey(pred) && !maps[OUTGOING].containsKey(pred) 
+                    && !visitor.visit(pred))
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor)
+    {
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        if (maps == null)
+            return true;
+        if (!visit_internal(maps[INCIDENT].values(), visitor) 
+                || !visit_internal(maps[OUTGOING].values(), visitor))
+            return false;
+        // a directed self-loop is in both the incoming and outgoing maps
+        for (Map.Entry<V,E> entry : maps[INCOMING].entrySet())
+            if (!vertex.equals(entry.getKey()) && !visitor.visit(entry.getValue()))
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        return maps == null || visitKeys(maps[INCOMING], maps[INCIDENT], visitor);
+    }
+
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        Map<V,E>[] maps = vertex_maps.get(vertex);
+        return maps == null || visitKeys(maps[OUTGOING], maps[INCIDENT], visitor);
+    }
+
+    /**
+     * Visits the keys of {@code directed}, then those keys of 
+     * {@code undirected} that are not also keys of {@code directed}.
+     */
+    private boolean visitKeys(Map<V,E> directed, Map<V,E> undirected, 
+            ElementVisitor<? super V> visitor)
+    {
+        for (V v : directed.keySet())
+            if (!visitor.visit(v))
+                return false;
+        for (V v : undirected.keySet())
+            if (!directed.containsKey(v) && !visitor.visit(v))
+                return false;
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     public boolean addVertex(V vertex)
     {
@@ -309,6 +376,7 @@ public class SparseGraph<V,E>
         }
         if (!containsVertex(vertex)) {
             vertex_maps.put(vertex, new HashMap[]{new HashMap<V,E>(), new HashMap<V,E>(), new HashMap<V,E>()});
+            incrementVersion_internal();
             return true;
         } else {
             return false;
@@ -328,6 +396,7 @@ public class SparseGraph<V,E>
         
         vertex_maps.remove(vertex);
         
+        incrementVersion_internal();
         return true;
     }
 
@@ -354,6 +423,7 @@ public class SparseGraph<V,E>
             undirected_edges.remove(edge);
         }
 
+        incrementVersion_internal();
         return true;
     }
     
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Loads vertices and edges into a graph in bulk.
+ *
+ * <p>Vertices and edges are collected by the {@code add} methods and
+ * inserted by {@link #build()}.  If the target graph extends
+ * {@code AbstractGraph}, its internal maps are presized for the number of
+ * elements supplied and edges are inserted without the per-edge lookups
+ * that {@code addEdge} performs; edge types are validated once per batch.
+ * For other graphs the builder falls back on {@code addVertex} and
+ * {@code addEdge}.
+ *
+ * <p>As with {@code addEdge}, an edge which would duplicate an edge already
+ * in the graph, or (for graphs that are not {@code MultiGraph}s) connect
+ * two vertices that are already connected, is not added; such edges are
+ * reported by {@link #getRejectedEdges()}.  If {@link #checkDuplicates(int)}
+ * has been called, the input is checked for such duplicates, and for edges
+ * that are supplied twice with different endpoints, before the graph is
+ * modified; the check is partitioned across the specified number of threads.
+ * In either case the first occurrence of an edge or vertex pair wins.
+ */
+public class SparseGraphBuilder<V,E>
+{
+    protected Graph<V,E> graph;
+    protected List<Collection<? extends V>> vertex_batches;
+    protected List<EdgeBatch> edge_batches;
+    protected int vertex_count;
+    protected int edge_count;
+    protected int duplicate_check_threads;
+    protected List<E> rejected;
+
+    /**
+     * Creates an instance which will load elements into {@code graph}.
+     */
+    public SparseGraphBuilder(Graph<V,E> graph)
+    {
+        if (graph == null)
+            throw new IllegalArgumentException("graph may not be null");
+        this.graph = graph;
+        this.vertex_batches = new ArrayList<Collection<? extends V>>();
+        this.edge_batches = new ArrayList<EdgeBatch>();
+        this.rejected = new ArrayList<E>();
+    }
+
+    /**
+     * Adds {@code vertices} to the elements to be loaded.
+     */
+    public SparseGraphBuilder<V,E> addVertices(Collection<? extends V> vertices)
+    {
+        vertex_batches.add(vertices);
+        vertex_count += vertices.size();
+        return this;
+    }
+
+    /**
+     * Adds the edges in {@code edges}, each connecting the vertices at the
+     * same position in {@code firsts} and {@code seconds}, to the elements
+     * to be loaded, with the graph's default edge type.
+     */
+    public SparseGraphBuilder<V,E> addEdges(E[] edges, V[] firsts, V[] seconds)
+    {
+        return addEdges(edges, firsts, seconds, graph.getDefaultEdgeType());
+    }
+
+    /**
+     * Adds the edges in {@code edges}, each connecting the vertices at the
+     * same position in {@code firsts} and {@code seconds}, to the elements
+     * to be loaded, with the specified edge type.
+     */
+    public SparseGraphBuilder<V,E> addEdges(E[] edges, V[] firsts, V[] seconds,
+            EdgeType edge_type)
+    {
+        if (edges.length != firsts.length || edges.length != seconds.length)
+            throw new IllegalArgumentException("edge and endpoint arrays must have the same length");
+        addEdgeBatch(new EdgeBatch(edges, firsts, seconds, edge_type));
+        return this;
+    }
+
+    /**
+     * Adds the edges in {@code edges}, with their specified endpoints, to the
+     * elements to be loaded, with the specified edge type.
+     */
+    public SparseGraphBuilder<V,E> addEdges(Map<? extends E, ? extends Pair<? extends V>> edges,
+            EdgeType edge_type)
+    {
+        int size = edges.size();
+        Object[] edge_array = new Object[size];
+        Object[] firsts = new Object[size];
+        Object[] seconds = new Object[size];
+        int i = 0;
+        for (Map.Entry<? extends E, ? extends Pair<? extends V>> entry : edges.entrySet())
+        {
+            if (entry.getValue() == null)
+                throw new IllegalArgumentException("endpoints may not be null");
+            edge_array[i] = entry.getKey();
+            firsts[i] = entry.getValue().getFirst();
+            seconds[i] = entry.getValue().getSecond();
+            i++;
+        }
+        addEdgeBatch(new EdgeBatch(edge_array, firsts, seconds, edge_type));
+        return this;
+    }
+
+    /**
+     * Specifies that the input should be checked for duplicate edges before
+     * the graph is modified, using {@code threads} threads.
+     */
+    public SparseGraphBuilder<V,E> checkDuplicates(int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("thread count must be positive: " + threads);
+        this.duplicate_check_threads = threads;
+        return this;
+    }
+
+    /**
+     * Loads the collected vertices and edges into the graph, and returns it.
+     * @throws IllegalArgumentException if an edge or endpoint is {@code null},
+     * or if an edge is supplied (or already present) with different endpoints
+     */
+    public Graph<V,E> build()
+    {
+        boolean[] skip = null;
+        if (duplicate_check_threads > 0)
+            skip = findDuplicates();
+
+        AbstractGraph<V,E> fast = null;
+        if (graph instanceof AbstractGraph)
+        {
+            fast = (AbstractGraph<V,E>)graph;
+            fast.presize_internal(vertex_count, edge_count);
+        }
+
+        for (Collection<? extends V> vertices : vertex_batches)
+            for (V v : vertices)
+                graph.addVertex(v);
+
+        int i = 0;
+        for (EdgeBatch batch : edge_batches)
+        {
+            for (int j = 0; j < batch.edges.length; j++, i++)
+            {
+                E e = batch.getEdge(j);
+                if (skip != null && skip[i])
+                {
+                    rejected.add(e);
+                    continue;
+                }
+                V v1 = batch.getFirst(j);
+                V v2 = batch.getSecond(j);
+                if (e == null)
+                    throw new IllegalArgumentException("input edge may not be null");
+                if (v1 == null || v2 == null)
+                    throw new IllegalArgumentException("endpoints may not be null");
+                boolean added = fast != null
+                    ? fast.addEdge_internal(e, new Pair<V>(v1, v2), batch.edge_type)
+                    : graph.addEdge(e, v1, v2, batch.edge_type);
+                if (!added)
+                    rejected.add(e);
+            }
+        }
+        vertex_batches.clear();
+        edge_batches.clear();
+        vertex_count = 0;
+        edge_count = 0;
+        return graph;
+    }
+
+    /**
+     * Returns the edges that were not added by {@link #build()} because they
+     * duplicated edges already in the graph or earlier in the input.
+     */
+    public List<E> getRejectedEdges()
+    {
+        return rejected;
+    }
+
+    protected void addEdgeBatch(EdgeBatch batch)
+    {
+        if (graph instanceof AbstractTypedGraph)
+            ((AbstractTypedGraph<V,E>)graph).validateEdgeType(batch.edge_type);
+        edge_batches.add(batch);
+        edge_count += batch.edges.length;
+    }
+
+    /**
+     * Returns an array which is {@code true} at the position of each edge
+     * that is preceded in the input by the same edge or, for graphs that are
+     * not {@code MultiGraph}s, by an edge with the same endpoints.  Each
+     * thread handles the edges and endpoint pairs whose hash codes fall into
+     * its partition, so the first occurrence is retained without any
+     * coordination between threads.
+     */
+    protected boolean[] findDuplicates()
+    {
+        final int partitions = duplicate_check_threads;
+        final boolean check_endpoints = !(graph instanceof MultiGraph);
+        final boolean[] duplicate = new boolean[edge_count];
+        final int[] edge_hashes = new int[edge_count];
+        final int[] pair_hashes = new int[edge_count];
+
+        List<Callable<Void>> hashers = new ArrayList<Callable<Void>>();
+        for (int t = 0; t < partitions; t++)
+        {
+            final int lo = (int)((long)edge_count * t / partitions);
+            final int hi = (int)((long)edge_count * (t + 1) / partitions);
+            hashers.add(new Callable<Void>() {
+                public Void call()
+                {
+                    int offset = 0;
+                    for (EdgeBatch batch : edge_batches)
+                    {
+                        int from = Math.max(lo - offset, 0);
+                        int to = Math.min(hi - offset, batch.edges.length);
+                        for (int j = from; j < to; j++)
+                        {
+                            Object e = batch.edges[j];
+                            Object v1 = batch.firsts[j];
+                            Object v2 = batch.seconds[j];
+                            if (e == null)
+                                throw new IllegalArgumentException("input edge may not be null");
+                            if (v1 == null || v2 == null)
+                                throw new IllegalArgumentException("endpoints may not be null");
+                            edge_hashes[offset + j] = e.hashCode();
+                            pair_hashes[offset + j] = EndpointKey.hash(v1, v2, batch.edge_type);
+                        }
+                        offset += batch.edges.length;
+                    }
+                    return null;
+                }
+            });
+        }
+        run(hashers);
+
+        List<Callable<Void>> checkers = new ArrayList<Callable<Void>>();
+        for (int t = 0; t < partitions; t++)
+        {
+            final int partition = t;
+            checkers.add(new Callable<Void>() {
+                public Void call()
+                {
+                    Map<Object, Integer> first_edges = new HashMap<Object, Integer>();
+                    Map<EndpointKey, EndpointKey> first_pairs = new HashMap<EndpointKey, EndpointKey>();
+                    int i = 0;
+                    for (EdgeBatch batch : edge_batches)
+                    {
+                        for (int j = 0; j < batch.edges.length; j++, i++)
+                        {
+                            if (partition(edge_hashes[i], partitions) == partition)
+                            {
+                                Integer first = first_edges.get(batch.edges[j]);
+                                if (first == null)
+                                    first_edges.put(batch.edges[j], i);
+                                else
+                                {
+                                    checkSameEndpoints(first.intValue(), batch.edges[j],
+                                        batch.firsts[j], batch.seconds[j]);
+                                    duplicate[i] = true;
+                                }
+                            }
+                            if (check_endpoints && partition(pair_hashes[i], partitions) == partition)
+                            {
+                                EndpointKey key = new EndpointKey(batch.firsts[j], batch.seconds[j],
+                                    batch.edge_type, pair_hashes[i]);
+                                if (first_pairs.get(key) == null)
+                                    first_pairs.put(key, key);
+                                else
+                                    duplicate[i] = true;
+                            }
+                        }
+                    }
+                    return null;
+                }
+            });
+        }
+        run(checkers);
+        return duplicate;
+    }
+
+    private void checkSameEndpoints(int index, Object edge, Object v1, Object v2)
+    {
+        for (EdgeBatch batch : edge_batches)
+        {
+            if (index < batch.edges.length)
+            {
+                if (!batch.firsts[index].equals(v1) || !batch.seconds[index].equals(v2))
+                    throw new IllegalArgumentException("edge " + edge +
+                        " is supplied with endpoints <" + batch.firsts[index] + ", " +
+                        batch.seconds[index] + "> and <" + v1 + ", " + v2 + ">");
+                return;
+            }
+            index -= batch.edges.length;
+        }
+    }
+
+    private static int partition(int hash, int partitions)
+    {
+        return (hash & 0x7fffffff) % partitions;
+    }
+
+    private void run(List<Callable<Void>> tasks)
+    {
+        if (tasks.size() == 1)
+        {
+            try {
+                tasks.get(0).call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks))
+                future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException)e.getCause();
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A batch of edges and their endpoints, all of the same type.
+     */
+    protected class EdgeBatch
+    {
+        protected Object[] edges;
+        protected Object[] firsts;
+        protected Object[] seconds;
+        protected EdgeType edge_type;
+
+        protected EdgeBatch(Object[] edges, Object[] firsts, Object[] seconds,
+                EdgeType edge_type)
+        {
+            if (edge_type == null)
+                throw new IllegalArgumentException("edge type may not be null");
+            this.edges = edges;
+            this.firsts = firsts;
+            this.seconds = seconds;
+            this.edge_type = edge_type;
+        }
+
+        @SuppressWarnings("unchecked")
+        protected E getEdge(int i)
+        {
+            return (E)edges[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        protected V getFirst(int i)
+        {
+            return (V)firsts[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        protected V getSecond(int i)
+        {
+            return (V)seconds[i];
+        }
+    }
+
+    /**
+     * The endpoints of an edge, compared without regard to order if the
+     * edge is undirected.
+     */
+    private static final class EndpointKey
+    {
+        private final Object first;
+        private final Object second;
+        private final EdgeType edge_type;
+        private final int hash;
+
+        EndpointKey(Object first, Object second, EdgeType edge_type, int hash)
+        {
+            this.first = first;
+            this.second = second;
+            this.edge_type = edge_type;
+            this.hash = hash;
+        }
+
+        static int hash(Object first, Object second, EdgeType edge_type)
+        {
+            if (edge_type == EdgeType.DIRECTED)
+                return 31 * first.hashCode() + second.hashCode();
+            return first.hashCode() + second.hashCode();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof EndpointKey))
+                return false;
+            EndpointKey other = (EndpointKey)o;
+            if (other.edge_type != edge_type)
+                return false;
+            if (first.equals(other.first) && second.equals(other.second))
+                return true;
+            return edge_type == EdgeType.UNDIRECTED &&
+                first.equals(other.second) && second.equals(other.first);
+        }
+    }
+}
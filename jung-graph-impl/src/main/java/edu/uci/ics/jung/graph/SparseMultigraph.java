@@ -21,11 +21,19 @@ import java.util.Set;
 import org.apache.commons.collections15.Factory;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 import edu.uci.ics.jung.graph.util.Pair;
 
 /**
  * An implementation of <code>Graph</code> that is suitable for sparse graphs
  * and permits directed, undirected, and parallel edges.
+ *
+ * <p>The numbers of distinct neighbors, predecessors and successors of each
+ * vertex, and its degree, are maintained as edges are added and removed,
+ * so that the corresponding queries take constant time.  In exchange,
+ * <code>addEdge</code> and <code>removeEdge</code> take time proportional
+ * to the smaller degree of the edge's endpoints, since they scan that
+ * endpoint's edges for another edge joining the same pair.
  */
 @SuppressWarnings("serial")
 public class SparseMultigraph<V,E> 
@@ -50,6 +58,7 @@ public class SparseMultigraph<V,E>
     protected Map<V, Pair<Set<E>>> vertices; // Map of vertices to Pair of adjacency sets {incoming, outgoing}
     protected Map<E, Pair<V>> edges;            // Map of edges to incident vertex pairs
     protected Set<E> directedEdges;
+    NeighborCounts<V> neighbor_counts;  // distinct neighbors and shared edges of each vertex
 
     /**
      * Creates a new instance.
@@ -59,6 +68,7 @@ public class SparseMultigraph<V,E>
         vertices = new HashMap<V, Pair<Set<E>>>();
         edges = new HashMap<E, Pair<V>>();
         directedEdges = new HashSet<E>();
+        neighbor_counts = new NeighborCounts<V>(new HashMap<V,int[]>());
     }
 
     public Collection<E> getEdges()
@@ -94,7 +104,8 @@ public class SparseMultigraph<V,E>
             throw new IllegalArgumentException("vertex may not be null");
         }
         if (!vertices.containsKey(vertex)) {
-            vertices.put(vertex, new Pair<Set<E>>(new HashSet<E>(), new HashSet<E>()));
+            vertices.put(vertex, new Pair<Set<E>>(new AdjacencySet<E>(), new AdjacencySet<E>()));
+            incrementVersion_internal();
             return true;
         } else {
         	return false;
@@ -114,6 +125,7 @@ public class SparseMultigraph<V,E>
         
         vertices.remove(vertex);
         
+        incrementVersion_internal();
         return true;
     }
     
@@ -133,7 +145,7 @@ public class SparseMultigraph<V,E>
         if (!vertices.containsKey(v2))
             this.addVertex(v2);
         
-
+        countEdge_internal(v1, v2, edgeType != EdgeType.DIRECTED, 1);
         vertices.get(v1).getSecond().add(edge);        
         vertices.get(v2).getFirst().add(edge);        
         edges.put(edge, new_endpoints);
@@ -143,8 +155,73 @@ public class SparseMultigraph<V,E>
           vertices.get(v1).getFirst().add(edge);        
           vertices.get(v2).getSecond().add(edge);        
         }
+        incrementVersion_internal();
+        return true;
+    }
+
+    @Override
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+        Map<V, Pair<Set<E>>> new_vertices =
+            new HashMap<V, Pair<Set<E>>>(hashCapacity(vertices.size() + vertex_count));
+        new_vertices.putAll(vertices);
+        vertices = new_vertices;
+        Map<E, Pair<V>> new_edges = new HashMap<E, Pair<V>>(hashCapacity(edges.size() + edge_count));
+        new_edges.putAll(edges);
+        edges = new_edges;
+        Set<E> new_directed = new HashSet<E>(hashCapacity(directedEdges.size() + edge_count));
+        new_directed.addAll(directedEdges);
+        directedEdges = new_directed;
+    }
+
+    @Override
+    protected boolean addEdge_internal(E edge, Pair<V> endpoints, EdgeType edgeType)
+    {
+        Pair<V> existing = edges.put(edge, endpoints);
+        if (existing != null)
+        {
+            restoreEdge_internal(edges, edge, existing, endpoints);
+            return false;
+        }
+
+        Pair<Set<E>> v1_sets = getAdjacency_internal(endpoints.getFirst());
+        Pair<Set<E>> v2_sets = getAdjacency_internal(endpoints.getSecond());
+        countEdge_internal(endpoints.getFirst(), endpoints.getSecond(), edgeType != EdgeType.DIRECTED, 1);
+        v1_sets.getSecond().add(edge);
+        v2_sets.getFirst().add(edge);
+        if (edgeType == EdgeType.DIRECTED) {
+            directedEdges.add(edge);
+        } else {
+            v1_sets.getFirst().add(edge);
+            v2_sets.getSecond().add(edge);
+        }
+        incrementVersion_internal();
         return true;
     }
+
+    /**
+     * Updates the neighbor counts of {@code v1} and {@code v2} for an edge
+     * between them which is about to be added ({@code delta == 1}) or has
+     * just been removed ({@code delta == -1}).
+     */
+    private void countEdge_internal(V v1, V v2, boolean undirected, int delta)
+    {
+        boolean forward = isLinked_internal(v1, getOutgoing_internal(v1), v2, getIncoming_internal(v2));
+        boolean backward = v1.equals(v2) ? forward :
+            isLinked_internal(v2, getOutgoing_internal(v2), v1, getIncoming_internal(v1));
+        neighbor_counts.update(v1, v2, undirected, forward, backward, delta);
+    }
+
+    private Pair<Set<E>> getAdjacency_internal(V vertex)
+    {
+        Pair<Set<E>> sets = vertices.get(vertex);
+        if (sets == null)
+        {
+            addVertex(vertex);
+            sets = vertices.get(vertex);
+        }
+        return sets;
+    }
     
     public boolean removeEdge(E edge)
     {
@@ -160,13 +237,16 @@ public class SparseMultigraph<V,E>
         vertices.get(v1).getSecond().remove(edge);
         vertices.get(v2).getFirst().remove(edge);
 
-        if(directedEdges.remove(edge) == false) {
+        boolean undirected = directedEdges.remove(edge) == false;
+        if(undirected) {
         	
         	// its an undirected edge, remove the other ends
             vertices.get(v2).getSecond().remove(edge);
             vertices.get(v1).getFirst().remove(edge);
         }
         edges.remove(edge);
+        countEdge_internal(v1, v2, undirected, -1);
+        incrementVersion_internal();
         return true;
     }
     
@@ -237,6 +317,95 @@ public class SparseMultigraph<V,E>
         return out;
     }
 
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        return adjacency == null || 
+            visitOpposites_internal(vertex, adjacency.getFirst(), adjacency.getSecond(), visitor);
+    }
+
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor)
+    {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            return true;
+        Set<E> incoming = adjacency.getFirst();
+        if (!visit_internal(incoming, visitor))
+            return false;
+        for (E edge : adjacency.getSecond())
+            if (!incoming.contains(edge) && !visitor.visit(edge))
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        return adjacency == null || 
+            visitOpposites_internal(vertex, adjacency.getFirst(), null, visitor);
+    }
+
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        return adjacency == null || 
+            visitOpposites_internal(vertex, adjacency.getSecond(), null, visitor);
+    }
+
+    @Override
+    public int getNeighborCount(V vertex)
+    {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.NEIGHBORS);
+    }
+
+    @Override
+    public int getPredecessorCount(V vertex)
+    {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.PREDECESSORS);
+    }
+
+    @Override
+    public int getSuccessorCount(V vertex)
+    {
+        checkVertex_internal(vertex);
+        return neighbor_counts.get(vertex, NeighborCounts.SUCCESSORS);
+    }
+
+    @Override
+    public int degree(V vertex)
+    {
+        Pair<Set<E>> adjacency = checkVertex_internal(vertex);
+        // undirected edges and directed self-loops are both incoming and outgoing
+        return adjacency.getFirst().size() + adjacency.getSecond().size() -
+            neighbor_counts.get(vertex, NeighborCounts.SHARED);
+    }
+
+    @Override
+    public int inDegree(V vertex)
+    {
+        return checkVertex_internal(vertex).getFirst().size();
+    }
+
+    @Override
+    public int outDegree(V vertex)
+    {
+        return checkVertex_internal(vertex).getSecond().size();
+    }
+
+    private Pair<Set<E>> checkVertex_internal(V vertex)
+    {
+        Pair<Set<E>> adjacency = vertices.get(vertex);
+        if (adjacency == null)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return adjacency;
+    }
+
     @Override
     public E findEdge(V v1, V v2)
     {
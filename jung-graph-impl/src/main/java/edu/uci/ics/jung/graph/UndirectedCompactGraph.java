@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.graph;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * An immutable, compact implementation of <code>UndirectedGraph</code>, built as a
+ * snapshot of another graph.  Parallel edges and self-loops in the original
+ * graph are preserved.
+ *
+ * @see AbstractCompactGraph
+ */
+@SuppressWarnings("serial")
+public class UndirectedCompactGraph<V,E> extends AbstractCompactGraph<V,E>
+    implements UndirectedGraph<V,E>
+{
+    /**
+     * Creates a snapshot of <code>graph</code>, all of whose edges must be undirected.
+     * @throws IllegalArgumentException if <code>graph</code> contains directed edges
+     */
+    public UndirectedCompactGraph(Graph<V,E> graph)
+    {
+        super(graph, EdgeType.UNDIRECTED);
+    }
+
+    /**
+     * Returns a compact snapshot of <code>graph</code>, all of whose edges must be undirected.
+     */
+    public static <V,E> UndirectedCompactGraph<V,E> copyOf(Graph<V,E> graph)
+    {
+        return new UndirectedCompactGraph<V,E>(graph);
+    }
+
+    /**
+     * Creates a snapshot of <code>graph</code>, all of whose edges must be undirected.
+     * The vertices and edges of the new graph are the <code>Integer</code> 
+     * indices of the vertices and edges of <code>graph</code>.
+     * @throws IllegalArgumentException if <code>graph</code> contains directed edges
+     */
+    public static UndirectedCompactGraph<Integer,Integer> copyOf(IntGraph graph)
+    {
+        return new UndirectedCompactGraph<Integer,Integer>(graph);
+    }
+
+    protected UndirectedCompactGraph(IntGraph graph)
+    {
+        super(graph, EdgeType.UNDIRECTED);
+    }
+
+    public V getSource(E directed_edge)
+    {
+        return null;
+    }
+
+    public V getDest(E directed_edge)
+    {
+        return null;
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        return false;
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        return false;
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.collections15.Factory;
@@ -60,12 +61,25 @@ public class UndirectedOrderedSparseMultigraph<V,E>
         if (!containsVertex(vertex))
         {
             vertices.put(vertex, new LinkedHashSet<E>());
+            incrementVersion_internal();
             return true;
         } else {
             return false;
         }
     }
 
+    @Override
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+        Map<V, Set<E>> new_vertices =
+            new LinkedHashMap<V, Set<E>>(hashCapacity(vertices.size() + vertex_count));
+        new_vertices.putAll(vertices);
+        vertices = new_vertices;
+        Map<E, Pair<V>> new_edges = new LinkedHashMap<E, Pair<V>>(hashCapacity(edges.size() + edge_count));
+        new_edges.putAll(edges);
+        edges = new_edges;
+    }
+
     @Override
     public Collection<V> getNeighbors(V vertex) {
         if (!containsVertex(vertex))
@@ -20,6 +20,7 @@ import java.util.Map;
 import org.apache.commons.collections15.Factory;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 import edu.uci.ics.jung.graph.util.Pair;
 
 /**
@@ -83,6 +84,57 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
         vertices.get(v1).put(v2, edge);
         vertices.get(v2).put(v1, edge);
 
+        incrementVersion_internal();
+        return true;
+    }
+
+    @Override
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+        Map<V, Map<V,E>> new_vertices =
+            new HashMap<V, Map<V,E>>(hashCapacity(vertices.size() + vertex_count));
+        new_vertices.putAll(vertices);
+        vertices = new_vertices;
+        Map<E, Pair<V>> new_edges = new HashMap<E, Pair<V>>(hashCapacity(edges.size() + edge_count));
+        new_edges.putAll(edges);
+        edges = new_edges;
+    }
+
+    @Override
+    protected boolean addEdge_internal(E edge, Pair<V> endpoints, EdgeType edgeType)
+    {
+        Pair<V> existing = edges.put(edge, endpoints);
+        if (existing != null)
+        {
+            restoreEdge_internal(edges, edge, existing, endpoints);
+            return false;
+        }
+
+        V v1 = endpoints.getFirst();
+        V v2 = endpoints.getSecond();
+        Map<V,E> v1_map = vertices.get(v1);
+        if (v1_map == null)
+        {
+            addVertex(v1);
+            v1_map = vertices.get(v1);
+        }
+        Map<V,E> v2_map = vertices.get(v2);
+        if (v2_map == null)
+        {
+            addVertex(v2);
+            v2_map = vertices.get(v2);
+        }
+
+        // a previous mapping means that this would be a parallel edge
+        E parallel = v1_map.put(v2, edge);
+        if (parallel != null)
+        {
+            v1_map.put(v2, parallel);
+            edges.remove(edge);
+            return false;
+        }
+        v2_map.put(v1, edge);
+        incrementVersion_internal();
         return true;
     }
 
@@ -198,6 +250,32 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
         return Collections.unmodifiableCollection(vertices.get(vertex).values());
     }
 
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        Map<V,E> adjacency = vertices.get(vertex);
+        return adjacency == null || visit_internal(adjacency.keySet(), visitor);
+    }
+
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor)
+    {
+        Map<V,E> adjacency = vertices.get(vertex);
+        return adjacency == null || visit_internal(adjacency.values(), visitor);
+    }
+
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        return visitNeighbors(vertex, visitor);
+    }
+
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor)
+    {
+        return visitNeighbors(vertex, visitor);
+    }
+
     public boolean addVertex(V vertex)
     {
         if(vertex == null) {
@@ -205,6 +283,7 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
         }
         if (!containsVertex(vertex)) {
             vertices.put(vertex, new HashMap<V,E>());
+            incrementVersion_internal();
             return true;
         } else {
             return false;
@@ -221,6 +300,7 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
             removeEdge(edge);
         
         vertices.remove(vertex);
+        incrementVersion_internal();
         return true;
     }
 
@@ -238,6 +318,7 @@ public class UndirectedSparseGraph<V, E> extends AbstractTypedGraph<V, E>
         vertices.get(v2).remove(v1);
 
         edges.remove(edge);
+        incrementVersion_internal();
         return true;
     }
 }
@@ -33,11 +33,18 @@ import java.util.Set;
 import org.apache.commons.collections15.Factory;
 
 import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
 import edu.uci.ics.jung.graph.util.Pair;
 
 /**
  * An implementation of <code>UndirectedGraph</code> that is suitable for 
  * sparse graphs and permits parallel edges.
+ *
+ * <p><code>getNeighborCount</code> and <code>degree</code> take constant
+ * time.  <code>addEdge</code> and <code>removeEdge</code> keep the
+ * neighbor counts current by looking for a parallel edge among the
+ * incident edges of the endpoint with the smaller degree, and so take
+ * time proportional to that degree.
  */
 @SuppressWarnings("serial")
 public class UndirectedSparseMultigraph<V,E> 
@@ -60,6 +67,7 @@ public class UndirectedSparseMultigraph<V,E>
 
     protected Map<V, Set<E>> vertices; // Map of vertices to adjacency sets
     protected Map<E, Pair<V>> edges;    // Map of edges to incident vertex sets
+    NeighborCounts<V> neighbor_counts;  // distinct neighbors of each vertex
 
     /**
      * Creates a new instance.
@@ -68,6 +76,7 @@ public class UndirectedSparseMultigraph<V,E>
     	super(EdgeType.UNDIRECTED);
         vertices = new HashMap<V, Set<E>>();
         edges = new HashMap<E, Pair<V>>();
+        neighbor_counts = new NeighborCounts<V>(new HashMap<V,int[]>());
     }
 
     public Collection<E> getEdges() {
@@ -97,7 +106,8 @@ public class UndirectedSparseMultigraph<V,E>
         }
         if (!containsVertex(vertex))
         {
-            vertices.put(vertex, new HashSet<E>());
+            vertices.put(vertex, new AdjacencySet<E>());
+            incrementVersion_internal();
             return true;
         } else {
             return false;
@@ -112,6 +122,7 @@ public class UndirectedSparseMultigraph<V,E>
             removeEdge(edge);
         
         vertices.remove(vertex);
+        incrementVersion_internal();
         return true;
     }
     
@@ -140,12 +151,68 @@ public class UndirectedSparseMultigraph<V,E>
         if (!containsVertex(v2))
             this.addVertex(v2);
 
+        countEdge_internal(v1, v2, 1);
         vertices.get(v1).add(edge);
         vertices.get(v2).add(edge);        
         
+        incrementVersion_internal();
+        return true;
+    }
+
+    @Override
+    protected void presize_internal(int vertex_count, int edge_count)
+    {
+        Map<V, Set<E>> new_vertices =
+            new HashMap<V, Set<E>>(hashCapacity(vertices.size() + vertex_count));
+        new_vertices.putAll(vertices);
+        vertices = new_vertices;
+        Map<E, Pair<V>> new_edges = new HashMap<E, Pair<V>>(hashCapacity(edges.size() + edge_count));
+        new_edges.putAll(edges);
+        edges = new_edges;
+    }
+
+    @Override
+    protected boolean addEdge_internal(E edge, Pair<V> endpoints, EdgeType edgeType)
+    {
+        Pair<V> existing = edges.put(edge, endpoints);
+        if (existing != null)
+        {
+            restoreEdge_internal(edges, edge, existing, endpoints);
+            return false;
+        }
+
+        V v1 = endpoints.getFirst();
+        V v2 = endpoints.getSecond();
+        Set<E> v1_edges = vertices.get(v1);
+        if (v1_edges == null)
+        {
+            addVertex(v1);
+            v1_edges = vertices.get(v1);
+        }
+        Set<E> v2_edges = vertices.get(v2);
+        if (v2_edges == null)
+        {
+            addVertex(v2);
+            v2_edges = vertices.get(v2);
+        }
+        countEdge_internal(v1, v2, 1);
+        v1_edges.add(edge);
+        v2_edges.add(edge);
+        incrementVersion_internal();
         return true;
     }
 
+    /**
+     * Updates the neighbor counts of {@code v1} and {@code v2} for an edge
+     * between them which is about to be added ({@code delta == 1}) or has
+     * just been removed ({@code delta == -1}).
+     */
+    private void countEdge_internal(V v1, V v2, int delta)
+    {
+        boolean linked = isLinked_internal(v1, vertices.get(v1), v2, vertices.get(v2));
+        neighbor_counts.update(v1, v2, true, linked, linked, delta);
+    }
+
     public boolean removeEdge(E edge) {
         if (!containsEdge(edge))
             return false;
@@ -159,6 +226,8 @@ public class UndirectedSparseMultigraph<V,E>
         vertices.get(v2).remove(edge);
 
         edges.remove(edge);
+        countEdge_internal(v1, v2, -1);
+        incrementVersion_internal();
         return true;
     }
     
@@ -204,6 +273,63 @@ public class UndirectedSparseMultigraph<V,E>
         return Collections.unmodifiableCollection(getIncident_internal(vertex));
     }
 
+    @Override
+    public boolean visitNeighbors(V vertex, ElementVisitor<? super V> visitor) {
+        Set<E> incident = vertices.get(vertex);
+        return incident == null || visitOpposites_internal(vertex, incident, null, visitor);
+    }
+
+    @Override
+    public boolean visitIncidentEdges(V vertex, ElementVisitor<? super E> visitor) {
+        Set<E> incident = vertices.get(vertex);
+        return incident == null || visit_internal(incident, visitor);
+    }
+
+    @Override
+    public boolean visitPredecessors(V vertex, ElementVisitor<? super V> visitor) {
+        return visitNeighbors(vertex, visitor);
+    }
+
+    @Override
+    public boolean visitSuccessors(V vertex, ElementVisitor<? super V> visitor) {
+        return visitNeighbors(vertex, visitor);
+    }
+
+    @Override
+    public int getNeighborCount(V vertex) {
+        if (!containsVertex(vertex))
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return neighbor_counts.get(vertex, NeighborCounts.NEIGHBORS);
+    }
+
+    @Override
+    public int getPredecessorCount(V vertex) {
+        return getNeighborCount(vertex);
+    }
+
+    @Override
+    public int getSuccessorCount(V vertex) {
+        return getNeighborCount(vertex);
+    }
+
+    @Override
+    public int degree(V vertex) {
+        Set<E> incident = vertices.get(vertex);
+        if (incident == null)
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+        return incident.size();
+    }
+
+    @Override
+    public int inDegree(V vertex) {
+        return degree(vertex);
+    }
+
+    @Override
+    public int outDegree(V vertex) {
+        return degree(vertex);
+    }
+
     @Override
     public E findEdge(V v1, V v2) {
         if (!containsVertex(v1) || !containsVertex(v2))
@@ -0,0 +1,76 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+public class AdjacencySetTest extends TestCase {
+
+    public void testMatchesHashSet() {
+        Random random = new Random(17);
+        Set<Integer> expected = new HashSet<Integer>();
+        AdjacencySet<Integer> actual = new AdjacencySet<Integer>();
+        for (int i = 0; i < 5000; i++) {
+            // drift between the array and hash representations
+            int range = 2 + (i / 250) % 4 * 8;
+            Integer x = random.nextInt(range);
+            if (random.nextBoolean())
+                assertEquals(expected.add(x), actual.add(x));
+            else
+                assertEquals(expected.remove(x), actual.remove(x));
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, actual);
+            assertEquals(expected.hashCode(), actual.hashCode());
+        }
+        actual.clear();
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.iterator().hasNext());
+    }
+
+    public void testIteratorRemove() {
+        for (int size : new int[] {1, 5, AdjacencySet.INLINE_LIMIT, 3 * AdjacencySet.INLINE_LIMIT}) {
+            AdjacencySet<Integer> set = new AdjacencySet<Integer>();
+            for (int i = 0; i < size; i++)
+                set.add(i);
+            Set<Integer> seen = new HashSet<Integer>();
+            for (Iterator<Integer> it = set.iterator(); it.hasNext(); ) {
+                Integer x = it.next();
+                assertTrue(seen.add(x));
+                if (x % 2 == 0)
+                    it.remove();
+            }
+            assertEquals(size, seen.size());
+            for (int i = 0; i < size; i++)
+                assertEquals(i % 2 == 1, set.contains(i));
+        }
+    }
+
+    public void testFailFast() {
+        AdjacencySet<Integer> set = new AdjacencySet<Integer>();
+        set.add(1);
+        set.add(2);
+        Iterator<Integer> it = set.iterator();
+        it.next();
+        set.add(3);
+        try {
+            it.next();
+            fail("modification during iteration should be detected");
+        } catch (ConcurrentModificationException e) {
+        }
+    }
+
+    public void testAddAll() {
+        AdjacencySet<Integer> set = new AdjacencySet<Integer>();
+        set.add(0);
+        Set<Integer> more = new HashSet<Integer>();
+        for (int i = 0; i < 3 * AdjacencySet.INLINE_LIMIT; i++)
+            more.add(i);
+        assertTrue(set.addAll(more));
+        assertEquals(more, set);
+        assertFalse(set.addAll(more));
+    }
+}
@@ -0,0 +1,107 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+import junit.framework.TestCase;
+
+public class CompactGraphTest extends TestCase {
+
+    public void testDirectedSnapshot() {
+        DirectedSparseMultigraph<Integer,String> g = new DirectedSparseMultigraph<Integer,String>();
+        for (int i = 0; i < 6; i++)
+            g.addVertex(i);
+        g.addEdge("a", 0, 1);
+        g.addEdge("b", 0, 1);
+        g.addEdge("c", 1, 0);
+        g.addEdge("d", 1, 2);
+        g.addEdge("e", 2, 2);
+        g.addEdge("f", 3, 0);
+        g.addEdge("g", 2, 4);
+
+        DirectedCompactGraph<Integer,String> c = DirectedCompactGraph.copyOf(g);
+        assertSameTopology(g, c);
+        assertEquals("a", c.findEdge(0, 1));
+        assertEquals(2, c.findEdgeSet(0, 1).size());
+        assertEquals("d", c.findEdge(1, 2));
+        assertNull(c.findEdge(2, 1));
+        assertEquals(Integer.valueOf(1), c.getSource("d"));
+        assertEquals(Integer.valueOf(2), c.getDest("d"));
+        assertTrue(c.isSource(2, "e") && c.isDest(2, "e"));
+    }
+
+    public void testUndirectedSnapshot() {
+        UndirectedSparseMultigraph<Integer,String> g = new UndirectedSparseMultigraph<Integer,String>();
+        for (int i = 0; i < 5; i++)
+            g.addVertex(i);
+        g.addEdge("a", 0, 1);
+        g.addEdge("b", 1, 0);
+        g.addEdge("c", 1, 2);
+        g.addEdge("d", 2, 2);
+        g.addEdge("e", 3, 1);
+
+        UndirectedCompactGraph<Integer,String> c = UndirectedCompactGraph.copyOf(g);
+        assertSameTopology(g, c);
+        assertEquals(2, c.findEdgeSet(1, 0).size());
+        assertEquals("e", c.findEdge(1, 3));
+        assertNull(c.getSource("a"));
+    }
+
+    public void testImmutable() {
+        UndirectedCompactGraph<Integer,String> c =
+            UndirectedCompactGraph.copyOf(new UndirectedSparseGraph<Integer,String>());
+        try {
+            c.addVertex(1);
+            fail("compact graphs should be immutable");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    public void testEdgeTypeMismatch() {
+        SparseGraph<Integer,String> g = new SparseGraph<Integer,String>();
+        g.addEdge("a", 0, 1);
+        try {
+            DirectedCompactGraph.copyOf(g);
+            fail("undirected edges should be rejected");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    private <V,E> void assertSameTopology(Graph<V,E> g, Graph<V,E> c) {
+        assertEquals(g.getVertexCount(), c.getVertexCount());
+        assertEquals(g.getEdgeCount(), c.getEdgeCount());
+        assertEquals(new HashSet<V>(g.getVertices()), new HashSet<V>(c.getVertices()));
+        assertEquals(new HashSet<E>(g.getEdges()), new HashSet<E>(c.getEdges()));
+        for (V v : g.getVertices()) {
+            assertTrue(c.containsVertex(v));
+            assertCollection(g.getInEdges(v), c.getInEdges(v));
+            assertCollection(g.getOutEdges(v), c.getOutEdges(v));
+            assertCollection(g.getIncidentEdges(v), c.getIncidentEdges(v));
+            assertCollection(g.getPredecessors(v), c.getPredecessors(v));
+            assertCollection(g.getSuccessors(v), c.getSuccessors(v));
+            assertCollection(g.getNeighbors(v), c.getNeighbors(v));
+            assertEquals(g.degree(v), c.degree(v));
+            assertEquals(g.inDegree(v), c.inDegree(v));
+            assertEquals(g.outDegree(v), c.outDegree(v));
+            assertEquals(g.getNeighborCount(v), c.getNeighborCount(v));
+            assertEquals(g.getPredecessorCount(v), c.getPredecessorCount(v));
+            assertEquals(g.getSuccessorCount(v), c.getSuccessorCount(v));
+            for (V w : g.getVertices()) {
+                assertEquals(g.findEdge(v, w) != null, c.findEdge(v, w) != null);
+                assertEquals(new HashSet<E>(g.findEdgeSet(v, w)), new HashSet<E>(c.findEdgeSet(v, w)));
+                assertEquals(g.isNeighbor(v, w), c.isNeighbor(v, w));
+            }
+        }
+        for (E e : g.getEdges()) {
+            assertEquals(g.getEndpoints(e), c.getEndpoints(e));
+            assertEquals(g.getEdgeType(e), c.getEdgeType(e));
+        }
+    }
+
+    private <T> void assertCollection(Collection<T> expected, Collection<T> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new HashSet<T>(expected), new HashSet<T>(actual));
+        for (T t : expected)
+            assertTrue(actual.contains(t));
+    }
+}
@@ -0,0 +1,114 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.uci.ics.jung.graph.util.Graphs;
+
+/**
+ * Compares the throughput of {@code ConcurrentSparseMultigraph} with that of
+ * a {@code SparseMultigraph} wrapped by {@code Graphs.synchronizedGraph},
+ * with writer threads adding and removing edges while reader threads
+ * iterate over vertex neighborhoods.
+ *
+ * <p>Not run as part of the test suite; usage:
+ * {@code ConcurrentGraphBenchmark [writers] [readers] [seconds]}
+ */
+public class ConcurrentGraphBenchmark {
+
+    private static final int VERTEX_COUNT = 10000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int writers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        long millis = 1000L * (args.length > 2 ? Integer.parseInt(args[2]) : 5);
+
+        for (int round = 0; round < 2; round++) {
+            run("synchronized", Graphs.<Integer,Long>synchronizedGraph(
+                new SparseMultigraph<Integer,Long>()), writers, readers, millis);
+            run("concurrent", new ConcurrentSparseMultigraph<Integer,Long>(),
+                writers, readers, millis);
+        }
+    }
+
+    private static void run(String name, final Graph<Integer,Long> graph,
+            int writers, int readers, final long millis) throws InterruptedException {
+        for (int v = 0; v < VERTEX_COUNT; v++)
+            graph.addVertex(v);
+        final AtomicLong writes = new AtomicLong();
+        final AtomicLong reads = new AtomicLong();
+        final AtomicLong failed_reads = new AtomicLong();
+        final AtomicLong next_edge = new AtomicLong();
+        final CountDownLatch start = new CountDownLatch(1);
+        final long[] deadline = new long[1];
+        Thread[] threads = new Thread[writers + readers];
+
+        for (int t = 0; t < writers; t++) {
+            final int seed = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    await(start);
+                    long x = seed + 1;
+                    long count = 0;
+                    while (System.currentTimeMillis() < deadline[0]) {
+                        x = x * 6364136223846793005L + 1442695040888963407L;
+                        long e = next_edge.getAndIncrement();
+                        int v1 = (int)((x >>> 33) % VERTEX_COUNT);
+                        int v2 = (int)((x >>> 17) % VERTEX_COUNT);
+                        graph.addEdge(e, v1, v2);
+                        if (e > 50000)
+                            graph.removeEdge(e - 50000);
+                        count++;
+                    }
+                    writes.addAndGet(count);
+                }
+            };
+        }
+        for (int t = 0; t < readers; t++) {
+            final int seed = t;
+            threads[writers + t] = new Thread() {
+                public void run() {
+                    await(start);
+                    long x = seed + 101;
+                    long count = 0;
+                    long failures = 0;
+                    while (System.currentTimeMillis() < deadline[0]) {
+                        x = x * 6364136223846793005L + 1442695040888963407L;
+                        int v = (int)((x >>> 33) % VERTEX_COUNT);
+                        try {
+                            int sum = 0;
+                            for (Long e : graph.getOutEdges(v))
+                                sum += e.intValue();
+                            sum += graph.getNeighborCount(v);
+                            count += sum >= 0 ? 1 : 0;
+                        } catch (ConcurrentModificationException cme) {
+                            failures++;
+                        }
+                    }
+                    reads.addAndGet(count);
+                    failed_reads.addAndGet(failures);
+                }
+            };
+        }
+
+        for (Thread thread : threads)
+            thread.start();
+        deadline[0] = System.currentTimeMillis() + millis;
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        double seconds = millis / 1000.0;
+        System.out.println(String.format("%-12s writes/s: %10.0f  reads/s: %10.0f  failed reads: %d",
+            name, writes.get() / seconds, reads.get() / seconds, failed_reads.get()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
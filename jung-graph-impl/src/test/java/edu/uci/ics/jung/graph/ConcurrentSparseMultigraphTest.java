@@ -0,0 +1,154 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class ConcurrentSparseMultigraphTest 
+	extends AbstractSparseMultigraphTest {
+
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        Set<Number> seeds = new HashSet<Number>();
+        seeds.add(1);
+        seeds.add(5);
+        graph = new ConcurrentSparseMultigraph<Number,Number>();
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(2, 1, 2);
+        graph.addEdge(3, 0, 2);
+        graph.addEdge(4, 2, 1);
+        graph.addEdge(5, 3, 1);
+        graph.addEdge(6, 0, 4, EdgeType.DIRECTED);
+        graph.addEdge(7, 0, 5, EdgeType.DIRECTED);
+        graph.addEdge(8, 5, 1, EdgeType.DIRECTED);
+        graph.addEdge(9, 6, 1, EdgeType.DIRECTED);
+        graph.addEdge(10, 4, 3, EdgeType.DIRECTED);
+        graph.addEdge(11, 2, 7);
+        graph.addEdge(12, 1, 5);
+        graph.addEdge(13, 2, 6);
+        graph.addEdge(14, 6, 4);
+        graph.addEdge(15, 7, 8);
+        graph.addEdge(16, 8, 3);
+        graph.addEdge(17, 5, 7);
+
+        smallGraph = new ConcurrentSparseMultigraph<Integer,Number>();
+        smallGraph.addVertex(v0);
+        smallGraph.addVertex(v1);
+        smallGraph.addVertex(v2);
+        smallGraph.addEdge(e01, v0, v1);
+        smallGraph.addEdge(e10, v1, v0);
+        smallGraph.addEdge(e12, v1, v2);
+        smallGraph.addEdge(e21, v2, v1, EdgeType.DIRECTED);
+
+    }
+
+    public void testConcurrentModification() throws Exception {
+        final ConcurrentSparseMultigraph<Integer,Integer> g =
+            new ConcurrentSparseMultigraph<Integer,Integer>(4);
+        final int writers = 4;
+        final int edges_per_writer = 2000;
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        Thread[] threads = new Thread[writers + 1];
+        for (int t = 0; t < writers; t++) {
+            final int offset = t * edges_per_writer;
+            threads[t] = new Thread() {
+                public void run() {
+                    for (int i = 0; i < edges_per_writer; i++) {
+                        int e = offset + i;
+                        g.addEdge(e, e % 97, (e * 31) % 97,
+                            e % 2 == 0 ? EdgeType.DIRECTED : EdgeType.UNDIRECTED);
+                        if (i % 3 == 0)
+                            g.removeEdge(e);
+                    }
+                }
+            };
+        }
+        threads[writers] = new Thread() {
+            public void run() {
+                try {
+                    for (int i = 0; i < 200; i++)
+                        for (Integer v : g.getVertices()) {
+                            Collection<Integer> out = g.getOutEdges(v);
+                            for (Integer e : out)
+                                e.intValue();
+                            g.getNeighbors(v);
+                        }
+                } catch (ConcurrentModificationException e) {
+                    failures.add(e);
+                }
+            }
+        };
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        assertTrue(failures.isEmpty());
+
+        int expected = writers * (edges_per_writer - (edges_per_writer + 2) / 3);
+        assertEquals(expected, g.getEdgeCount());
+        int degree_sum = 0;
+        for (Integer v : g.getVertices())
+            degree_sum += g.getIncidentEdges(v).size();
+        int self_loops = 0;
+        for (Integer e : g.getEdges()) {
+            assertTrue(g.getOutEdges(g.getEndpoints(e).getFirst()).contains(e));
+            assertTrue(g.getInEdges(g.getEndpoints(e).getSecond()).contains(e));
+            assertEquals(e % 2 == 0 ? EdgeType.DIRECTED : EdgeType.UNDIRECTED, g.getEdgeType(e));
+            if (g.getEndpoints(e).getFirst().equals(g.getEndpoints(e).getSecond()))
+                self_loops++;
+        }
+        assertEquals(2 * expected - self_loops, degree_sum);
+
+        for (int v = 0; v < 97; v++)
+            g.removeVertex(v);
+        assertEquals(0, g.getEdgeCount());
+        assertEquals(0, g.getVertexCount());
+    }
+
+    public void testConcurrentDuplicateAdds() throws Exception {
+        // each edge is added by two threads, with endpoints in different
+        // stripes and different types; exactly one add must win, and the
+        // edge must keep the winner's type
+        final ConcurrentSparseMultigraph<Integer,Integer> g =
+            new ConcurrentSparseMultigraph<Integer,Integer>(16);
+        final int edge_count = 5000;
+        final EdgeType[][] winners = new EdgeType[2][edge_count];
+        Thread[] threads = new Thread[2];
+        for (int t = 0; t < 2; t++) {
+            final int thread = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    EdgeType type = thread == 0 ? EdgeType.DIRECTED : EdgeType.UNDIRECTED;
+                    for (int e = 0; e < edge_count; e++) {
+                        try {
+                            if (g.addEdge(e, 2 * thread, 2 * thread + 1, type))
+                                winners[thread][e] = type;
+                        } catch (IllegalArgumentException ex) {
+                            // the other thread won
+                        }
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        assertEquals(edge_count, g.getEdgeCount());
+        for (int e = 0; e < edge_count; e++) {
+            EdgeType winner = winners[0][e] != null ? winners[0][e] : winners[1][e];
+            assertNotNull(winner);
+            assertTrue(winners[0][e] == null || winners[1][e] == null);
+            assertEquals(winner, g.getEdgeType(e));
+        }
+        assertEquals(g.getEdgeCount(EdgeType.DIRECTED) + g.getEdgeCount(EdgeType.UNDIRECTED),
+            edge_count);
+    }
+}
@@ -0,0 +1,199 @@
+package edu.uci.ics.jung.graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Graphs;
+
+public class ElementVisitorTest extends TestCase {
+
+    private static final EdgeType[] DIRECTED = {EdgeType.DIRECTED};
+    private static final EdgeType[] UNDIRECTED = {EdgeType.UNDIRECTED};
+    private static final EdgeType[] MIXED = {EdgeType.DIRECTED, EdgeType.UNDIRECTED};
+
+    public void testSparseGraphs() {
+        checkVisits(populate(new DirectedSparseGraph<Integer,String>(), DIRECTED));
+        checkVisits(populate(new UndirectedSparseGraph<Integer,String>(), UNDIRECTED));
+        checkVisits(populate(new SparseGraph<Integer,String>(), MIXED));
+    }
+
+    public void testMultigraphs() {
+        checkVisits(populate(new SparseMultigraph<Integer,String>(), MIXED));
+        checkVisits(populate(new OrderedSparseMultigraph<Integer,String>(), MIXED));
+        checkVisits(populate(new SortedSparseMultigraph<Integer,String>(), MIXED));
+        checkVisits(populate(new DirectedSparseMultigraph<Integer,String>(), DIRECTED));
+        checkVisits(populate(new DirectedOrderedSparseMultigraph<Integer,String>(), DIRECTED));
+        checkVisits(populate(new UndirectedSparseMultigraph<Integer,String>(), UNDIRECTED));
+        checkVisits(populate(new UndirectedOrderedSparseMultigraph<Integer,String>(), UNDIRECTED));
+        checkVisits(populate(new ConcurrentSparseMultigraph<Integer,String>(), MIXED));
+    }
+
+    public void testCompactGraphs() {
+        checkVisits(DirectedCompactGraph.copyOf(
+            populate(new DirectedSparseMultigraph<Integer,String>(), DIRECTED)));
+        checkVisits(UndirectedCompactGraph.copyOf(
+            populate(new UndirectedSparseMultigraph<Integer,String>(), UNDIRECTED)));
+    }
+
+    public void testMappedGraphs() throws IOException {
+        File file = File.createTempFile("visits", ".graph");
+        file.deleteOnExit();
+        MappedGraph.write(populate(new DirectedSparseMultigraph<Integer,String>(), DIRECTED), file);
+        checkVisits(MappedGraph.open(file));
+        MappedGraph.write(populate(new UndirectedSparseMultigraph<Integer,String>(), UNDIRECTED), file);
+        checkVisits(MappedGraph.open(file));
+    }
+
+    public void testDecorators() {
+        SnapshotGraph<Integer,String> snapshots = new SnapshotGraph<Integer,String>(
+            new SparseMultigraph<Integer,String>());
+        populate(snapshots, MIXED);
+        checkVisits(snapshots);
+        checkVisits(snapshots.snapshot());
+        checkVisits(Graphs.synchronizedGraph(populate(new SparseMultigraph<Integer,String>(), MIXED)));
+        checkVisits(Graphs.unmodifiableGraph(populate(new SparseMultigraph<Integer,String>(), MIXED)));
+    }
+
+    public void testHypergraph() {
+        SetHypergraph<Integer,String> h = new SetHypergraph<Integer,String>();
+        for (int i = 0; i < 30; i++)
+            h.addEdge("h" + i, Arrays.asList(0, i % 7, (i * 3) % 11));
+        h.addEdge("x", Arrays.asList(1, 2));
+        h.addVertex(99);
+        checkVisits(h);
+    }
+
+    public void testNestedVisits() {
+        // a visitor which itself visits the same graph, on the same thread
+        final Graph<Integer,String> g = populate(new SparseMultigraph<Integer,String>(), MIXED);
+        for (Integer v : g.getVertices()) {
+            final List<Integer> visited = new ArrayList<Integer>();
+            Graphs.visitNeighbors(g, v, new ElementVisitor<Integer>() {
+                public boolean visit(Integer w) {
+                    visited.add(w);
+                    assertSameElements(g.getNeighbors(w), new Recorder<Integer>(g, w, 0).neighbors());
+                    return true;
+                }
+            });
+            assertSameElements(g.getNeighbors(v), visited);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testNotVisitable() {
+        // a graph which implements only Hypergraph is walked through its collections
+        final Graph<Integer,String> delegate = populate(new SparseMultigraph<Integer,String>(), MIXED);
+        Hypergraph<Integer,String> g = (Hypergraph<Integer,String>)Proxy.newProxyInstance(
+            Hypergraph.class.getClassLoader(), new Class<?>[] {Hypergraph.class},
+            new InvocationHandler() {
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    return method.invoke(delegate, args);
+                }
+            });
+        assertFalse(g instanceof VisitableGraph);
+        checkVisits(g);
+    }
+
+    /**
+     * Adds parallel edges, self-loops and antiparallel edges to {@code g},
+     * with one vertex whose degree is large enough that neighbor visits
+     * cannot rescan.
+     */
+    private <G extends Graph<Integer,String>> G populate(G g, EdgeType[] types) {
+        int i = 0;
+        for (int v = 1; v <= 20; v++)
+            g.addEdge("hub" + v, 0, v, types[i++ % types.length]);
+        g.addEdge("p1", 0, 5, types[i++ % types.length]);
+        g.addEdge("p2", 5, 0, types[i++ % types.length]);
+        g.addEdge("s0", 0, 0, types[i++ % types.length]);
+        g.addEdge("a", 1, 2, types[i++ % types.length]);
+        g.addEdge("b", 2, 1, types[i++ % types.length]);
+        g.addEdge("c", 1, 2, types[i++ % types.length]);
+        g.addEdge("d", 2, 3, types[i++ % types.length]);
+        g.addEdge("s1", 3, 3, types[i++ % types.length]);
+        g.addEdge("s2", 3, 3, types[i++ % types.length]);
+        g.addEdge("e", 3, 21, types[i++ % types.length]);
+        g.addVertex(22);
+        return g;
+    }
+
+    private <V,E> void checkVisits(Hypergraph<V,E> g) {
+        for (V v : g.getVertices()) {
+            assertSameElements(g.getNeighbors(v), new Recorder<V>(g, v, 0).neighbors());
+            assertSameElements(g.getIncidentEdges(v), new Recorder<E>(g, v, 0).incidentEdges());
+            assertSameElements(g.getPredecessors(v), new Recorder<V>(g, v, 0).predecessors());
+            assertSameElements(g.getSuccessors(v), new Recorder<V>(g, v, 0).successors());
+
+            // stopping after the first element
+            Recorder<V> stopped = new Recorder<V>(g, v, 1);
+            assertEquals(g.getNeighbors(v).isEmpty(), stopped.visitNeighbors());
+            assertEquals(Math.min(1, g.getNeighbors(v).size()), stopped.visited.size());
+        }
+        Recorder<V> absent = new Recorder<V>(g, null, 0);
+        assertTrue(absent.visitNeighbors());
+        assertTrue(absent.visited.isEmpty());
+    }
+
+    private <T> void assertSameElements(Collection<T> expected, List<T> visited) {
+        assertEquals("duplicates in " + visited, visited.size(), new HashSet<T>(visited).size());
+        assertEquals(new HashSet<T>(expected), new HashSet<T>(visited));
+    }
+
+    /**
+     * Records the elements passed to it, optionally stopping after a
+     * fixed number of them.
+     */
+    @SuppressWarnings("unchecked")
+    private static class Recorder<T> implements ElementVisitor<T> {
+        private final Hypergraph g;
+        private final Object vertex;
+        private final int limit;
+        final List<T> visited = new ArrayList<T>();
+
+        Recorder(Hypergraph<?,?> g, Object vertex, int limit) {
+            this.g = g;
+            this.vertex = vertex == null ? Integer.valueOf(-1) : vertex;
+            this.limit = limit;
+        }
+
+        public boolean visit(T element) {
+            visited.add(element);
+            return limit == 0 || visited.size() < limit;
+        }
+
+        boolean visitNeighbors() {
+            return Graphs.visitNeighbors(g, vertex, (ElementVisitor)this);
+        }
+
+        List<T> neighbors() {
+            assertTrue(Graphs.visitNeighbors(g, vertex, (ElementVisitor)this));
+            return visited;
+        }
+
+        List<T> incidentEdges() {
+            assertTrue(Graphs.visitIncidentEdges(g, vertex, (ElementVisitor)this));
+            return visited;
+        }
+
+        List<T> predecessors() {
+            assertTrue(Graphs.visitPredecessors(g, vertex, (ElementVisitor)this));
+            return visited;
+        }
+
+        List<T> successors() {
+            assertTrue(Graphs.visitSuccessors(g, vertex, (ElementVisitor)this));
+            return visited;
+        }
+    }
+}
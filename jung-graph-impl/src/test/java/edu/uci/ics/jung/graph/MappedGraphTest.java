@@ -0,0 +1,168 @@
+package edu.uci.ics.jung.graph;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class MappedGraphTest extends TestCase {
+
+    private File file;
+
+    @Override
+    protected void setUp() throws IOException {
+        file = File.createTempFile("mapped", ".graph");
+        file.deleteOnExit();
+    }
+
+    public void testDirected() throws IOException {
+        DirectedSparseMultigraph<Integer,String> g = new DirectedSparseMultigraph<Integer,String>();
+        for (int i = 0; i < 6; i++)
+            g.addVertex(i);
+        g.addEdge("a", 0, 1);
+        g.addEdge("b", 0, 1);
+        g.addEdge("c", 1, 0);
+        g.addEdge("d", 1, 2);
+        g.addEdge("e", 2, 2);
+        g.addEdge("f", 3, 0);
+        g.addEdge("g", 2, 4);
+
+        MappedGraph<Integer,String> c = writeAndOpen(g);
+        assertSameTopology(g, c);
+        assertEquals("a", c.findEdge(0, 1));
+        assertEquals(2, c.findEdgeSet(0, 1).size());
+        assertNull(c.findEdge(2, 1));
+        assertEquals(Integer.valueOf(1), c.getSource("d"));
+        assertEquals(Integer.valueOf(2), c.getDest("d"));
+        assertTrue(c.isSource(2, "e") && c.isDest(2, "e"));
+    }
+
+    public void testUndirected() throws IOException {
+        UndirectedSparseMultigraph<Integer,String> g = new UndirectedSparseMultigraph<Integer,String>();
+        for (int i = 0; i < 5; i++)
+            g.addVertex(i);
+        g.addEdge("a", 0, 1);
+        g.addEdge("b", 1, 0);
+        g.addEdge("c", 1, 2);
+        g.addEdge("d", 2, 2);
+        g.addEdge("e", 3, 1);
+
+        MappedGraph<Integer,String> c = writeAndOpen(g);
+        assertSameTopology(g, c);
+        assertEquals(2, c.findEdgeSet(1, 0).size());
+        assertEquals("e", c.findEdge(1, 3));
+        assertNull(c.getSource("a"));
+    }
+
+    public void testIntegerMapping() throws IOException {
+        DirectedGraph<Integer,Integer> g = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 50; i++)
+            g.addEdge(i, i % 7, (i * 3) % 11);
+        MappedGraph.write(DirectedCompactGraph.copyOf(g).getIntGraph(), file);
+        MappedGraph<Integer,Integer> c = MappedGraph.open(file);
+        assertEquals(g.getVertexCount(), c.getVertexCount());
+        assertEquals(g.getEdgeCount(), c.getEdgeCount());
+        assertFalse(c.containsVertex(-1));
+        assertFalse(c.containsVertex(g.getVertexCount()));
+        assertEquals(-1, c.getVertexIndex(-2));
+        assertNull(c.getEdgeType(g.getEdgeCount()));
+        for (int e = 0; e < c.getEdgeCount(); e++)
+            assertEquals(c.getIntGraph().getFirst(e), c.getSource(e).intValue());
+    }
+
+    public void testImmutable() throws IOException {
+        MappedGraph<Integer,String> c = writeAndOpen(new UndirectedSparseGraph<Integer,String>());
+        assertEquals(0, c.getVertexCount());
+        try {
+            c.addVertex(1);
+            fail("mapped graphs should be immutable");
+        } catch (UnsupportedOperationException e) {
+        }
+        try {
+            new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(c);
+            fail("mapped graphs should not be serializable");
+        } catch (NotSerializableException e) {
+        }
+    }
+
+    public void testEdgeTypeMismatch() throws IOException {
+        SparseGraph<Integer,String> g = new SparseGraph<Integer,String>();
+        g.addEdge("a", 0, 1);
+        g.addEdge("b", 1, 2, EdgeType.DIRECTED);
+        try {
+            MappedGraph.write(g, file);
+            fail("mixed edge types should be rejected");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testInvalidFile() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.writeInt(0x12345678);
+        raf.setLength(64);
+        raf.close();
+        try {
+            MappedGraph.open(file);
+            fail("files without a header should be rejected");
+        } catch (IOException e) {
+        }
+
+        MappedGraph.write(UndirectedCompactGraph.copyOf(new UndirectedSparseGraph<Integer,String>()), file);
+        raf = new RandomAccessFile(file, "rw");
+        raf.setLength(raf.length() + 4);
+        raf.close();
+        try {
+            MappedGraph.open(file);
+            fail("files of the wrong length should be rejected");
+        } catch (IOException e) {
+        }
+    }
+
+    private <V,E> MappedGraph<V,E> writeAndOpen(Graph<V,E> g) throws IOException {
+        MappedGraph.write(g, file);
+        return MappedGraph.open(file, MappedGraph.listMapping(new ArrayList<V>(g.getVertices())),
+            MappedGraph.listMapping(new ArrayList<E>(g.getEdges())));
+    }
+
+    private <V,E> void assertSameTopology(Graph<V,E> g, Graph<V,E> c) {
+        assertEquals(g.getVertexCount(), c.getVertexCount());
+        assertEquals(g.getEdgeCount(), c.getEdgeCount());
+        assertEquals(new HashSet<V>(g.getVertices()), new HashSet<V>(c.getVertices()));
+        assertEquals(new HashSet<E>(g.getEdges()), new HashSet<E>(c.getEdges()));
+        for (V v : g.getVertices()) {
+            assertTrue(c.containsVertex(v));
+            assertCollection(g.getInEdges(v), c.getInEdges(v));
+            assertCollection(g.getOutEdges(v), c.getOutEdges(v));
+            assertCollection(g.getIncidentEdges(v), c.getIncidentEdges(v));
+            assertCollection(g.getPredecessors(v), c.getPredecessors(v));
+            assertCollection(g.getSuccessors(v), c.getSuccessors(v));
+            assertCollection(g.getNeighbors(v), c.getNeighbors(v));
+            assertEquals(g.degree(v), c.degree(v));
+            assertEquals(g.inDegree(v), c.inDegree(v));
+            assertEquals(g.outDegree(v), c.outDegree(v));
+            assertEquals(g.getNeighborCount(v), c.getNeighborCount(v));
+            assertEquals(g.getPredecessorCount(v), c.getPredecessorCount(v));
+            assertEquals(g.getSuccessorCount(v), c.getSuccessorCount(v));
+        }
+        for (E e : g.getEdges()) {
+            assertTrue(c.containsEdge(e));
+            assertEquals(g.getEndpoints(e), c.getEndpoints(e));
+            assertEquals(g.getEdgeType(e), c.getEdgeType(e));
+        }
+    }
+
+    private <T> void assertCollection(Collection<T> expected, Collection<T> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new HashSet<T>(expected), new HashSet<T>(actual));
+        for (T t : expected)
+            assertTrue(actual.contains(t));
+    }
+}
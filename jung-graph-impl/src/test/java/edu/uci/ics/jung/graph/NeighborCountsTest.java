@@ -0,0 +1,95 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class NeighborCountsTest extends TestCase {
+
+    public void testSparseMultigraphs() {
+        check(new SparseMultigraph<Integer,Integer>(), true, true);
+        check(new OrderedSparseMultigraph<Integer,Integer>(), true, true);
+        check(new SortedSparseMultigraph<Integer,Integer>(), true, true);
+        check(new ConcurrentSparseMultigraph<Integer,Integer>(), true, true);
+    }
+
+    public void testDirectedSparseMultigraphs() {
+        check(new DirectedSparseMultigraph<Integer,Integer>(), true, false);
+        check(new DirectedOrderedSparseMultigraph<Integer,Integer>(), true, false);
+    }
+
+    public void testUndirectedSparseMultigraphs() {
+        check(new UndirectedSparseMultigraph<Integer,Integer>(), false, true);
+        check(new UndirectedOrderedSparseMultigraph<Integer,Integer>(), false, true);
+    }
+
+    public void testSortedVertexComparator() {
+        SortedSparseMultigraph<Integer,Integer> graph = new SortedSparseMultigraph<Integer,Integer>();
+        graph.addEdge(0, 1, 2, EdgeType.DIRECTED);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 3, EdgeType.DIRECTED);
+        graph.setVertexComparator(Collections.<Integer>reverseOrder());
+        assertEquals(1, graph.getNeighborCount(1));
+        assertEquals(1, graph.getSuccessorCount(1));
+        assertEquals(2, graph.degree(1));
+        assertEquals(1, graph.getNeighborCount(3));
+        assertEquals(1, graph.degree(3));
+        graph.removeEdge(1);
+        assertEquals(1, graph.getNeighborCount(2));
+        assertEquals(0, graph.getSuccessorCount(2));
+    }
+
+    public void testAbsentVertex() {
+        Graph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+        graph.addVertex(0);
+        assertEquals(0, graph.getNeighborCount(0));
+        assertEquals(0, graph.degree(0));
+        try {
+            graph.getNeighborCount(-1);
+            fail("counts of an absent vertex should be rejected");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    /**
+     * Adds and removes random edges, including parallel edges and self-loops,
+     * checking the counts against the corresponding collections.
+     */
+    private void check(Graph<Integer,Integer> graph, boolean directed, boolean undirected) {
+        Random random = new Random(11);
+        int n = 12;
+        for (int v = 0; v < n; v++)
+            graph.addVertex(v);
+        List<Integer> edges = new ArrayList<Integer>();
+        int next_edge = 0;
+        for (int i = 0; i < 3000; i++) {
+            if (edges.isEmpty() || random.nextInt(5) < 3) {
+                EdgeType type = !undirected || (directed && random.nextBoolean())
+                    ? EdgeType.DIRECTED : EdgeType.UNDIRECTED;
+                assertTrue(graph.addEdge(next_edge, random.nextInt(n), random.nextInt(n), type));
+                edges.add(next_edge++);
+            } else {
+                Integer edge = edges.remove(random.nextInt(edges.size()));
+                assertTrue(graph.removeEdge(edge));
+            }
+            if (i % 500 == 250) {
+                Integer v = random.nextInt(n);
+                edges.removeAll(graph.getIncidentEdges(v));
+                graph.removeVertex(v);
+                graph.addVertex(v);
+            }
+            for (Integer v : graph.getVertices()) {
+                assertEquals(graph.getNeighbors(v).size(), graph.getNeighborCount(v));
+                assertEquals(graph.getPredecessors(v).size(), graph.getPredecessorCount(v));
+                assertEquals(graph.getSuccessors(v).size(), graph.getSuccessorCount(v));
+                assertEquals(graph.getIncidentEdges(v).size(), graph.degree(v));
+                assertEquals(graph.getInEdges(v).size(), graph.inDegree(v));
+                assertEquals(graph.getOutEdges(v).size(), graph.outDegree(v));
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package edu.uci.ics.jung.graph;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+import edu.uci.ics.jung.graph.util.ElementVisitor;
+import edu.uci.ics.jung.graph.util.Graphs;
+
+/**
+ * Compares the time taken and the memory allocated by walking each vertex's
+ * neighbors and incident edges through {@code getNeighbors} and
+ * {@code getIncidentEdges} with the same walks through
+ * {@code visitNeighbors} and {@code visitIncidentEdges}.
+ *
+ * <p>Allocation is measured with the per-thread allocation counter of the
+ * HotSpot {@code ThreadMXBean}; on other virtual machines only times are
+ * reported.
+ *
+ * <p>Not run as part of the test suite; usage:
+ * {@code NeighborVisitBenchmark [vertices] [average degree] [rounds]}
+ */
+public class NeighborVisitBenchmark {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final Method ALLOCATED_BYTES = allocatedBytesMethod();
+
+    public static void main(String[] args) {
+        int vertex_count = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        Graph<Integer,Integer>[] graphs = new Graph[] {
+            new DirectedSparseGraph<Integer,Integer>(),
+            new DirectedSparseMultigraph<Integer,Integer>(),
+            new SparseMultigraph<Integer,Integer>(),
+            new UndirectedSparseMultigraph<Integer,Integer>() };
+        for (Graph<Integer,Integer> graph : graphs) {
+            populate(graph, vertex_count, degree);
+            for (int round = 0; round < rounds; round++) {
+                boolean last = round == rounds - 1;
+                run(graph, "getNeighbors", new Walk() {
+                    long walk(Graph<Integer,Integer> g, Integer v) {
+                        long sum = 0;
+                        for (Integer w : g.getNeighbors(v))
+                            sum += w.intValue();
+                        for (Integer e : g.getIncidentEdges(v))
+                            sum += e.intValue();
+                        return sum;
+                    }
+                }, last);
+                final Summer summer = new Summer();
+                run(graph, "visitNeighbors", new Walk() {
+                    long walk(Graph<Integer,Integer> g, Integer v) {
+                        summer.sum = 0;
+                        Graphs.visitNeighbors(g, v, summer);
+                        Graphs.visitIncidentEdges(g, v, summer);
+                        return summer.sum;
+                    }
+                }, last);
+            }
+        }
+    }
+
+    private static void populate(Graph<Integer,Integer> graph, int vertex_count, int degree) {
+        for (int v = 0; v < vertex_count; v++)
+            graph.addVertex(v);
+        long x = 1;
+        int edge_count = vertex_count * degree / 2;
+        for (int e = 0; e < edge_count; e++) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+            graph.addEdge(e, (int)((x >>> 33) % vertex_count), (int)((x >>> 13) % vertex_count));
+        }
+    }
+
+    private static void run(Graph<Integer,Integer> graph, String name, Walk walk, boolean report) {
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        long sum = 0;
+        for (Integer v : graph.getVertices())
+            sum += walk.walk(graph, v);
+        long nanos = System.nanoTime() - start;
+        bytes = allocatedBytes() - bytes;
+        if (!report)
+            return;
+        int n = graph.getVertexCount();
+        System.out.println(String.format("%-28s %-16s ns/vertex: %8.1f  bytes/vertex: %8s  (checksum %d)",
+            graph.getClass().getSimpleName(), name, (double)nanos / n,
+            ALLOCATED_BYTES == null ? "n/a" : String.format("%.1f", (double)bytes / n), sum));
+    }
+
+    private static Method allocatedBytesMethod() {
+        try {
+            Method method = Class.forName("com.sun.management.ThreadMXBean")
+                .getMethod("getThreadAllocatedBytes", long.class);
+            if (method.getDeclaringClass().isInstance(THREADS))
+                return method;
+        } catch (Exception e) {
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread,
+     * or -1 if this cannot be measured.
+     */
+    private static long allocatedBytes() {
+        if (ALLOCATED_BYTES == null)
+            return -1;
+        try {
+            return ((Long)ALLOCATED_BYTES.invoke(THREADS, Thread.currentThread().getId())).longValue();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static abstract class Walk {
+        abstract long walk(Graph<Integer,Integer> g, Integer v);
+    }
+
+    private static class Summer implements ElementVisitor<Integer> {
+        long sum;
+
+        public boolean visit(Integer element) {
+            sum += element.intValue();
+            return true;
+        }
+    }
+}
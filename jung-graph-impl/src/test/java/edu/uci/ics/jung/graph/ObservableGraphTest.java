@@ -0,0 +1,170 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.event.GraphEvent;
+import edu.uci.ics.jung.graph.event.GraphEventListener;
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class ObservableGraphTest extends TestCase {
+
+    private ObservableGraph<Integer,Integer> graph;
+    private List<GraphEvent<Integer,Integer>> events;
+
+    @Override
+    protected void setUp() {
+        graph = new ObservableGraph<Integer,Integer>(new SparseMultigraph<Integer,Integer>());
+        events = new ArrayList<GraphEvent<Integer,Integer>>();
+        graph.addGraphEventListener(new GraphEventListener<Integer,Integer>() {
+            public void handleGraphEvent(GraphEvent<Integer,Integer> evt) {
+                events.add(evt);
+            }
+        });
+    }
+
+    public void testSingleEvents() {
+        graph.addVertex(1);
+        graph.addEdge(0, 1, 2);
+        assertEquals(2, events.size());
+        assertEquals(GraphEvent.Type.VERTEX_ADDED, events.get(0).getType());
+        assertEquals(GraphEvent.Type.EDGE_ADDED, events.get(1).getType());
+    }
+
+    public void testBatch() {
+        graph.addEdge(0, 1, 2);
+        graph.addVertex(9);
+        events.clear();
+
+        graph.beginBatch();
+        assertTrue(graph.isBatching());
+        for (int i = 1; i < 1000; i++) {
+            graph.addVertex(i + 1);
+            graph.addEdge(i, i, i + 1);
+        }
+        graph.removeVertex(9);
+        graph.removeEdge(0);
+        graph.removeEdge(500);
+        graph.addVertex(2000);
+        graph.removeVertex(2000);
+        assertTrue(events.isEmpty());
+        graph.commitBatch();
+        assertFalse(graph.isBatching());
+
+        assertEquals(1, events.size());
+        GraphEvent.Batch<Integer,Integer> batch = (GraphEvent.Batch<Integer,Integer>)events.get(0);
+        assertEquals(GraphEvent.Type.BATCH, batch.getType());
+        // edges 8 and 9 are removed with vertex 9
+        assertEquals(996, batch.getAddedEdges().size());
+        assertFalse(batch.getAddedEdges().contains(8));
+        assertFalse(batch.getAddedEdges().contains(500));
+        assertEquals(new HashSet<Integer>(Arrays.asList(0)), new HashSet<Integer>(batch.getRemovedEdges()));
+        // vertices 2 and 9 already existed
+        assertEquals(997, batch.getAddedVertices().size());
+        assertFalse(batch.getAddedVertices().contains(2000));
+        assertEquals(new HashSet<Integer>(Arrays.asList(9)), new HashSet<Integer>(batch.getRemovedVertices()));
+    }
+
+    public void testRemoveAndAddAgain() {
+        graph.addEdge(0, 1, 2);
+        events.clear();
+        graph.beginBatch();
+        graph.removeEdge(0);
+        graph.addVertex(3);
+        graph.addEdge(0, 2, 3);
+        graph.commitBatch();
+        GraphEvent.Batch<Integer,Integer> batch = (GraphEvent.Batch<Integer,Integer>)events.get(0);
+        assertTrue(batch.getRemovedEdges().contains(0));
+        assertTrue(batch.getAddedEdges().contains(0));
+        assertTrue(batch.getAddedVertices().contains(3));
+    }
+
+    public void testNestedAndEmptyBatches() {
+        graph.beginBatch();
+        graph.beginBatch();
+        graph.addVertex(1);
+        graph.commitBatch();
+        assertTrue(events.isEmpty());
+        graph.commitBatch();
+        assertEquals(1, events.size());
+
+        events.clear();
+        graph.beginBatch();
+        graph.addVertex(2);
+        graph.removeVertex(2);
+        graph.commitBatch();
+        assertTrue(events.isEmpty());
+
+        try {
+            graph.commitBatch();
+            fail("commit without a batch should be rejected");
+        } catch (IllegalStateException e) {
+        }
+    }
+
+    public void testScopedBatch() {
+        try {
+            graph.batch(new Runnable() {
+                public void run() {
+                    graph.addVertex(1);
+                    graph.addEdge(0, 1, 2);
+                    throw new IllegalStateException("failed part way");
+                }
+            });
+            fail("the exception should be rethrown");
+        } catch (IllegalStateException e) {
+        }
+        assertFalse(graph.isBatching());
+        assertEquals(1, events.size());
+        GraphEvent.Batch<Integer,Integer> batch = (GraphEvent.Batch<Integer,Integer>)events.get(0);
+        assertTrue(batch.getAddedVertices().contains(1));
+        assertTrue(batch.getAddedEdges().contains(0));
+
+        graph.addVertex(3);
+        assertEquals(2, events.size());
+    }
+
+    public void testJournal() {
+        graph.addVertex(1);
+        long start = graph.getVersion();
+        assertEquals(1, start);
+        assertNull(graph.getChangesSince(0));
+
+        graph.setJournalCapacity(4);
+        graph.addVertex(2);
+        graph.addEdge(0, 1, 2);
+        assertEquals(3, graph.getVersion());
+        assertNull(graph.getChangesSince(0));
+        List<GraphEvent<Integer,Integer>> changes = graph.getChangesSince(start);
+        assertEquals(2, changes.size());
+        assertEquals(GraphEvent.Type.VERTEX_ADDED, changes.get(0).getType());
+        assertEquals(Integer.valueOf(2), ((GraphEvent.Vertex<Integer,Integer>)changes.get(0)).getVertex());
+        assertEquals(0, graph.getChangesSince(graph.getVersion()).size());
+
+        // changes within a batch are journaled individually
+        graph.beginBatch();
+        graph.removeVertex(2);
+        graph.commitBatch();
+        changes = graph.getChangesSince(3);
+        assertEquals(2, changes.size());
+        GraphEvent.Edge<Integer,Integer> removal = (GraphEvent.Edge<Integer,Integer>)changes.get(0);
+        assertEquals(GraphEvent.Type.EDGE_REMOVED, removal.getType());
+        assertEquals(new Pair<Integer>(1, 2), removal.getEndpoints());
+        assertEquals(GraphEvent.Type.VERTEX_REMOVED, changes.get(1).getType());
+
+        // only the last four changes are retained
+        graph.addVertex(3);
+        assertEquals(6, graph.getVersion());
+        assertNull(graph.getChangesSince(start));
+        assertEquals(4, graph.getChangesSince(start + 1).size());
+
+        try {
+            graph.getChangesSince(7);
+            fail("future versions should be rejected");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+}
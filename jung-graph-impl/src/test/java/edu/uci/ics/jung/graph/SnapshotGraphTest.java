@@ -0,0 +1,179 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class SnapshotGraphTest extends TestCase {
+
+    protected SnapshotGraph<Integer,String> graph;
+
+    @Override
+    protected void setUp() {
+        graph = new SnapshotGraph<Integer,String>(new SparseMultigraph<Integer,String>());
+        graph.addEdge("a", 0, 1);
+        graph.addEdge("b", 1, 2, EdgeType.DIRECTED);
+        graph.addEdge("c", 2, 2);
+        graph.addVertex(3);
+    }
+
+    public void testSnapshotMatchesGraph() {
+        assertSameGraph(graph, graph.snapshot());
+    }
+
+    public void testSnapshotIsolation() {
+        Graph<Integer,String> before = copy(graph);
+        SnapshotGraph<Integer,String>.Snapshot snapshot = graph.snapshot();
+
+        graph.removeVertex(1);
+        graph.addEdge("d", 3, 4, EdgeType.DIRECTED);
+        graph.removeEdge("c");
+        graph.addEdge("c", 3, 0);
+        graph.addEdge("a", 0, 3);
+
+        assertSameGraph(before, snapshot);
+        assertSameGraph(graph, graph.snapshot());
+        assertEquals(5, graph.getVersion() - snapshot.getVersion());
+        try {
+            snapshot.addVertex(7);
+            fail("snapshots should be read-only");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    public void testSnapshotOfDecorator() {
+        Graph<Integer,String> observable = new ObservableGraph<Integer,String>(graph);
+        Graph<Integer,String> snapshot = SnapshotGraph.snapshotOf(observable);
+        assertTrue(snapshot instanceof SnapshotGraph.Snapshot);
+        observable.removeVertex(1);
+        assertEquals(4, snapshot.getVertexCount());
+        assertTrue(snapshot.containsEdge("a"));
+
+        Graph<Integer,String> plain = new ObservableGraph<Integer,String>(new SparseMultigraph<Integer,String>());
+        assertSame(plain, SnapshotGraph.snapshotOf(plain));
+    }
+
+    public void testIterationDuringModification() {
+        Graph<Integer,String> snapshot = graph.snapshot();
+        int count = 0;
+        for (Integer v : snapshot.getVertices()) {
+            graph.addEdge("e" + v, v, v + 10);
+            graph.removeVertex(v);
+            count++;
+        }
+        assertEquals(4, count);
+        assertEquals(4, snapshot.getVertexCount());
+        assertEquals(3, snapshot.getEdgeCount());
+        assertFalse(graph.containsVertex(0));
+    }
+
+    public void testPruning() {
+        for (int i = 0; i < 10000; i++) {
+            graph.addEdge("x" + i, i, i + 1);
+            graph.removeVertex(i);
+        }
+        int retained = graph.vertex_list.size() + graph.edge_list.size();
+        assertTrue("retained " + retained + " records", retained < 500);
+        assertSameGraph(graph, graph.snapshot());
+
+        // records visible to a live snapshot are kept
+        Graph<Integer,String> before = copy(graph);
+        Graph<Integer,String> snapshot = graph.snapshot();
+        for (int i = 10000; i < 11000; i++) {
+            graph.addEdge("x" + i, i, i + 1);
+            graph.removeVertex(i);
+        }
+        assertSameGraph(before, snapshot);
+    }
+
+    public void testConcurrentReaders() throws Exception {
+        final List<Throwable> failures = new ArrayList<Throwable>();
+        Thread writer = new Thread() {
+            public void run() {
+                for (int i = 0; i < 5000; i++) {
+                    graph.addEdge("w" + i, i % 50, (i * 7) % 50);
+                    if (i % 2 == 0)
+                        graph.removeEdge("w" + (i / 2));
+                    if (i % 100 == 0)
+                        graph.removeVertex((i / 100) % 50);
+                }
+            }
+        };
+        Thread reader = new Thread() {
+            public void run() {
+                try {
+                    for (int i = 0; i < 500; i++) {
+                        Graph<Integer,String> snapshot = graph.snapshot();
+                        int vertices = 0;
+                        int degrees = 0;
+                        for (Integer v : snapshot.getVertices()) {
+                            vertices++;
+                            degrees += snapshot.getOutEdges(v).size();
+                        }
+                        int edges = 0;
+                        for (String e : snapshot.getEdges()) {
+                            edges++;
+                            assertTrue(snapshot.containsVertex(snapshot.getEndpoints(e).getFirst()));
+                        }
+                        assertEquals(snapshot.getVertexCount(), vertices);
+                        assertEquals(snapshot.getEdgeCount(), edges);
+                        assertTrue(degrees >= edges);
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }
+        };
+        writer.start();
+        reader.start();
+        writer.join();
+        reader.join();
+        assertTrue(failures.toString(), failures.isEmpty());
+    }
+
+    private Graph<Integer,String> copy(Graph<Integer,String> g) {
+        Graph<Integer,String> copy = new SparseMultigraph<Integer,String>();
+        for (Integer v : g.getVertices())
+            copy.addVertex(v);
+        for (String e : g.getEdges())
+            copy.addEdge(e, g.getEndpoints(e), g.getEdgeType(e));
+        return copy;
+    }
+
+    private void assertSameGraph(Graph<Integer,String> expected, Graph<Integer,String> actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        assertEquals(new HashSet<Integer>(expected.getVertices()), new HashSet<Integer>(actual.getVertices()));
+        assertEquals(new HashSet<String>(expected.getEdges()), new HashSet<String>(actual.getEdges()));
+        for (Integer v : expected.getVertices()) {
+            assertTrue(actual.containsVertex(v));
+            assertEquals(new HashSet<String>(expected.getInEdges(v)), new HashSet<String>(actual.getInEdges(v)));
+            assertEquals(new HashSet<String>(expected.getOutEdges(v)), new HashSet<String>(actual.getOutEdges(v)));
+            assertEquals(new HashSet<String>(expected.getIncidentEdges(v)),
+                new HashSet<String>(actual.getIncidentEdges(v)));
+            assertEquals(new HashSet<Integer>(expected.getNeighbors(v)), new HashSet<Integer>(actual.getNeighbors(v)));
+            assertEquals(new HashSet<Integer>(expected.getSuccessors(v)), new HashSet<Integer>(actual.getSuccessors(v)));
+            assertEquals(expected.degree(v), actual.degree(v));
+            assertEquals(expected.inDegree(v), actual.inDegree(v));
+            assertEquals(expected.outDegree(v), actual.outDegree(v));
+            assertEquals(expected.getNeighborCount(v), actual.getNeighborCount(v));
+            assertEquals(expected.getPredecessorCount(v), actual.getPredecessorCount(v));
+            assertEquals(expected.getSuccessorCount(v), actual.getSuccessorCount(v));
+            for (Integer w : expected.getVertices()) {
+                assertEquals(expected.isNeighbor(v, w), actual.isNeighbor(v, w));
+                assertEquals(expected.isPredecessor(v, w), actual.isPredecessor(v, w));
+                assertEquals(expected.isSuccessor(v, w), actual.isSuccessor(v, w));
+            }
+        }
+        for (String e : expected.getEdges()) {
+            assertEquals(expected.getEndpoints(e), actual.getEndpoints(e));
+            assertEquals(expected.getEdgeType(e), actual.getEdgeType(e));
+            assertEquals(expected.getSource(e), actual.getSource(e));
+        }
+        assertEquals(expected.getEdgeCount(EdgeType.DIRECTED), actual.getEdgeCount(EdgeType.DIRECTED));
+        assertEquals(expected.getEdgeCount(EdgeType.UNDIRECTED), actual.getEdgeCount(EdgeType.UNDIRECTED));
+    }
+}
@@ -0,0 +1,140 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class SparseGraphBuilderTest extends TestCase {
+
+    private static final String[] EDGES = {"a", "b", "c", "d", "e", "f"};
+    private static final Integer[] FIRSTS = {0, 1, 0, 2, 3, 3};
+    private static final Integer[] SECONDS = {1, 2, 1, 2, 0, 4};
+
+    public void testDirectedSparseGraph() {
+        DirectedSparseGraph<Integer,String> g = new DirectedSparseGraph<Integer,String>();
+        SparseGraphBuilder<Integer,String> builder = new SparseGraphBuilder<Integer,String>(g);
+        builder.addVertices(Arrays.asList(7, 8)).addEdges(EDGES, FIRSTS, SECONDS).build();
+        assertEquals(7, g.getVertexCount());
+        assertEquals(5, g.getEdgeCount());
+        assertEquals(Arrays.asList("c"), builder.getRejectedEdges());
+        assertEquals("a", g.findEdge(0, 1));
+        assertEquals("d", g.findEdge(2, 2));
+        assertEquals(1, g.inDegree(1));
+        assertTrue(g.getPredecessors(0).contains(3));
+    }
+
+    public void testUndirectedSparseGraph() {
+        UndirectedSparseGraph<Integer,String> g = new UndirectedSparseGraph<Integer,String>();
+        g.addEdge("x", 1, 0);
+        SparseGraphBuilder<Integer,String> builder = new SparseGraphBuilder<Integer,String>(g);
+        builder.addEdges(EDGES, FIRSTS, SECONDS).build();
+        assertEquals(5, g.getEdgeCount());
+        assertEquals(Arrays.asList("a", "c"), builder.getRejectedEdges());
+        assertEquals("x", g.findEdge(0, 1));
+        assertEquals(2, g.degree(3));
+    }
+
+    public void testMultigraphs() {
+        Graph<Integer,String>[] graphs = new Graph[] {
+            new SparseMultigraph<Integer,String>(),
+            new OrderedSparseMultigraph<Integer,String>(),
+            new DirectedSparseMultigraph<Integer,String>(),
+            new DirectedOrderedSparseMultigraph<Integer,String>(),
+            new UndirectedSparseMultigraph<Integer,String>(),
+            new UndirectedOrderedSparseMultigraph<Integer,String>(),
+            new SortedSparseMultigraph<Integer,String>() };
+        for (Graph<Integer,String> g : graphs) {
+            Graph<Integer,String> expected = copyByAddEdge(g);
+            new SparseGraphBuilder<Integer,String>(g).addEdges(EDGES, FIRSTS, SECONDS)
+                .checkDuplicates(2).build();
+            assertEquals(6, g.getEdgeCount());
+            for (Integer v : expected.getVertices()) {
+                assertEquals(asSet(expected.getInEdges(v)), asSet(g.getInEdges(v)));
+                assertEquals(asSet(expected.getOutEdges(v)), asSet(g.getOutEdges(v)));
+                assertEquals(asSet(expected.getNeighbors(v)), asSet(g.getNeighbors(v)));
+            }
+        }
+    }
+
+    public void testOrderPreserved() {
+        OrderedSparseMultigraph<Integer,String> g = new OrderedSparseMultigraph<Integer,String>();
+        new SparseGraphBuilder<Integer,String>(g).addVertices(Arrays.asList(9, 5))
+            .addEdges(EDGES, FIRSTS, SECONDS, EdgeType.UNDIRECTED).build();
+        assertEquals(Arrays.asList(9, 5, 0, 1, 2, 3, 4), Arrays.asList(g.getVertices().toArray()));
+        assertEquals(Arrays.asList(EDGES), Arrays.asList(g.getEdges().toArray()));
+    }
+
+    public void testParallelDuplicateCheck() {
+        int n = 2000;
+        Integer[] edges = new Integer[2 * n];
+        Integer[] firsts = new Integer[2 * n];
+        Integer[] seconds = new Integer[2 * n];
+        for (int i = 0; i < n; i++) {
+            edges[i] = i;
+            firsts[i] = i % 100;
+            seconds[i] = (i * 7) % 100;
+            edges[n + i] = n + i;
+            firsts[n + i] = seconds[i];
+            seconds[n + i] = firsts[i];
+        }
+        UndirectedSparseGraph<Integer,Integer> checked = new UndirectedSparseGraph<Integer,Integer>();
+        SparseGraphBuilder<Integer,Integer> builder = new SparseGraphBuilder<Integer,Integer>(checked);
+        builder.addEdges(edges, firsts, seconds).checkDuplicates(4).build();
+
+        UndirectedSparseGraph<Integer,Integer> expected = new UndirectedSparseGraph<Integer,Integer>();
+        for (int i = 0; i < edges.length; i++)
+            expected.addEdge(edges[i], firsts[i], seconds[i]);
+        assertEquals(expected.getEdgeCount(), checked.getEdgeCount());
+        assertEquals(edges.length - expected.getEdgeCount(), builder.getRejectedEdges().size());
+        for (Integer e : expected.getEdges())
+            assertEquals(expected.getEndpoints(e), checked.getEndpoints(e));
+    }
+
+    public void testConflictingEndpoints() {
+        DirectedSparseGraph<Integer,String> g = new DirectedSparseGraph<Integer,String>();
+        Map<String, Pair<Integer>> edges = new LinkedHashMap<String, Pair<Integer>>();
+        edges.put("a", new Pair<Integer>(0, 1));
+        SparseGraphBuilder<Integer,String> builder = new SparseGraphBuilder<Integer,String>(g)
+            .addEdges(edges, EdgeType.DIRECTED)
+            .addEdges(new String[] {"a"}, new Integer[] {1}, new Integer[] {0})
+            .checkDuplicates(2);
+        try {
+            builder.build();
+            fail("conflicting endpoints should be rejected");
+        } catch (IllegalArgumentException e) {
+        }
+        assertEquals(0, g.getVertexCount());
+    }
+
+    public void testWrongEdgeType() {
+        try {
+            new SparseGraphBuilder<Integer,String>(new DirectedSparseGraph<Integer,String>())
+                .addEdges(EDGES, FIRSTS, SECONDS, EdgeType.UNDIRECTED);
+            fail("undirected edges should be rejected");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    private <T> Set<T> asSet(Collection<T> c) {
+        return new HashSet<T>(c);
+    }
+
+    private Graph<Integer,String> copyByAddEdge(Graph<Integer,String> g) {
+        Graph<Integer,String> copy;
+        try {
+            copy = g.getClass().newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        for (int i = 0; i < EDGES.length; i++)
+            copy.addEdge(EDGES[i], FIRSTS[i], SECONDS[i]);
+        return copy;
+    }
+}
@@ -0,0 +1,62 @@
+package edu.uci.ics.jung.graph;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class VersionTest extends TestCase {
+
+    public void testGraphs() {
+        check(new SparseMultigraph<Integer,Integer>());
+        check(new SortedSparseMultigraph<Integer,Integer>());
+        check(new DirectedSparseMultigraph<Integer,Integer>());
+        check(new UndirectedOrderedSparseMultigraph<Integer,Integer>());
+        check(new SparseGraph<Integer,Integer>());
+        check(new DirectedSparseGraph<Integer,Integer>());
+        check(new UndirectedSparseGraph<Integer,Integer>());
+        check(new ConcurrentSparseMultigraph<Integer,Integer>());
+    }
+
+    public void testDecorators() {
+        DirectedSparseGraph<Integer,Integer> graph = new DirectedSparseGraph<Integer,Integer>();
+        GraphDecorator<Integer,Integer> decorator = new GraphDecorator<Integer,Integer>(graph);
+        decorator.addEdge(0, 1, 2);
+        assertEquals(graph.getVersion(), decorator.getVersion());
+
+        DelegateTree<Integer,Integer> tree = new DelegateTree<Integer,Integer>();
+        tree.addVertex(0);
+        tree.addEdge(0, 0, 1);
+        assertEquals(3, tree.getVersion());
+        tree.removeVertex(1);
+        assertEquals(5, tree.getVersion());
+    }
+
+    public void testHypergraph() {
+        SetHypergraph<Integer,Integer> hypergraph = new SetHypergraph<Integer,Integer>();
+        hypergraph.addEdge(0, Arrays.asList(1, 2, 3));
+        assertEquals(4, hypergraph.getVersion());
+        assertFalse(hypergraph.addVertex(1));
+        hypergraph.removeEdge(0);
+        assertEquals(5, hypergraph.getVersion());
+    }
+
+    private void check(Graph<Integer,Integer> graph) {
+        Versioned versioned = (Versioned)graph;
+        assertEquals(0, versioned.getVersion());
+        graph.addVertex(0);
+        assertEquals(1, versioned.getVersion());
+        graph.addVertex(0);
+        assertEquals(1, versioned.getVersion());
+        graph.addEdge(0, 0, 1);
+        long version = versioned.getVersion();
+        assertTrue(version > 1);
+        assertFalse(graph.addEdge(0, 0, 1));
+        assertFalse(graph.removeEdge(1));
+        assertEquals(version, versioned.getVersion());
+        graph.removeEdge(0);
+        assertEquals(version + 1, versioned.getVersion());
+        graph.addEdge(1, 0, 1);
+        graph.removeVertex(0);
+        assertEquals(version + 4, versioned.getVersion());
+    }
+}
@@ -11,6 +11,7 @@
 package edu.uci.ics.jung.visualization.layout;
 
 import java.awt.geom.Point2D;
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,6 +26,9 @@ import edu.uci.ics.jung.algorithms.layout.Layout;
 import edu.uci.ics.jung.algorithms.layout.LayoutDecorator;
 import edu.uci.ics.jung.algorithms.util.IterativeContext;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.ObservableGraph;
+import edu.uci.ics.jung.graph.event.GraphEvent;
+import edu.uci.ics.jung.graph.event.GraphEventListener;
 import edu.uci.ics.jung.visualization.util.Caching;
 import edu.uci.ics.jung.visualization.util.ChangeEventSupport;
 import edu.uci.ics.jung.visualization.util.DefaultChangeEventSupport;
@@ -34,21 +38,33 @@ import edu.uci.ics.jung.visualization.util.DefaultChangeEventSupport;
  * are called. Used to wrap a Layout so that the visualization
  * components can be notified of changes.
  * 
+ * <p>If the layout's graph is an {@code ObservableGraph}, this instance
+ * also listens to it: it drops the cached locations of removed vertices
+ * and fires a ChangeEvent for each graph event, so a batch of 
+ * modifications (see {@code ObservableGraph.beginBatch()}) results in a 
+ * single ChangeEvent.  The graph holds this instance only weakly, so that
+ * a discarded layout need not be detached from a graph which outlives it;
+ * the listener is moved when the graph or the delegate is replaced.
+ * 
  * @see LayoutDecorator
  * @author Tom Nelson 
  *
  */
-public class ObservableCachingLayout<V, E> extends LayoutDecorator<V,E> implements ChangeEventSupport, Caching {
+public class ObservableCachingLayout<V, E> extends LayoutDecorator<V,E> 
+    implements ChangeEventSupport, Caching, GraphEventListener<V,E> {
     
     protected ChangeEventSupport changeSupport =
         new DefaultChangeEventSupport(this);
     
     protected Map<V,Point2D> locationMap;
 
+    private final GraphListener<V,E> graphListener = new GraphListener<V,E>(this);
+
     public ObservableCachingLayout(Layout<V, E> delegate) {
     	super(delegate);
     	this.locationMap = LazyMap.<V,Point2D>decorate(new HashMap<V,Point2D>(), 
     			new ChainedTransformer<V, Point2D>(new Transformer[]{delegate, CloneTransformer.<Point2D>getInstance()}));
+    	listenTo(delegate.getGraph());
     }
     
     /**
@@ -112,6 +128,46 @@ public class ObservableCachingLayout<V, E> extends LayoutDecorator<V,E> implemen
     @Override
     public void setGraph(Graph<V, E> graph) {
         delegate.setGraph(graph);
+        listenTo(graph);
+    }
+
+    @Override
+    public void setDelegate(Layout<V, E> delegate) {
+        super.setDelegate(delegate);
+        listenTo(delegate.getGraph());
+    }
+
+    /**
+     * Moves the graph listener from the graph previously listened to (if any)
+     * to {@code graph}, if it is an {@code ObservableGraph}.
+     */
+    private void listenTo(Graph<V,E> graph) {
+        if (graph == graphListener.graph)
+            return;
+        if (graphListener.graph != null)
+            graphListener.graph.removeGraphEventListener(graphListener);
+        graphListener.graph = graph instanceof ObservableGraph ? (ObservableGraph<V,E>)graph : null;
+        if (graphListener.graph != null)
+            graphListener.graph.addGraphEventListener(graphListener);
+    }
+
+    /**
+     * Discards the cached locations of the vertices removed by {@code evt},
+     * and fires a single ChangeEvent.
+     */
+    public void handleGraphEvent(GraphEvent<V,E> evt) {
+        switch (evt.getType()) {
+            case VERTEX_REMOVED:
+                locationMap.remove(((GraphEvent.Vertex<V,E>)evt).getVertex());
+                break;
+            case BATCH:
+                for (V v : ((GraphEvent.Batch<V,E>)evt).getRemovedVertices())
+                    locationMap.remove(v);
+                break;
+            default:
+                break;
+        }
+        fireStateChanged();
     }
 
 	public void clear() {
@@ -128,4 +184,25 @@ public class ObservableCachingLayout<V, E> extends LayoutDecorator<V,E> implemen
 	public Point2D transform(V v) {
 		return locationMap.get(v);
 	}
+
+	/**
+	 * Passes graph events to a layout while it is reachable, and removes 
+	 * itself from the graph once the layout has been garbage collected.
+	 */
+	private static class GraphListener<V,E> implements GraphEventListener<V,E> {
+		private final WeakReference<ObservableCachingLayout<V,E>> layout;
+		private ObservableGraph<V,E> graph;     // the graph this is registered with, if any
+
+		GraphListener(ObservableCachingLayout<V,E> layout) {
+			this.layout = new WeakReference<ObservableCachingLayout<V,E>>(layout);
+		}
+
+		public void handleGraphEvent(GraphEvent<V,E> evt) {
+			ObservableCachingLayout<V,E> l = layout.get();
+			if (l != null)
+				l.handleGraphEvent(evt);
+			else if (graph != null)
+				graph.removeGraphEventListener(this);
+		}
+	}
 }
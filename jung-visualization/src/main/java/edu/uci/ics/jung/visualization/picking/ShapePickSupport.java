@@ -29,6 +29,7 @@ import org.apache.commons.collections15.functors.TruePredicate;
 import edu.uci.ics.jung.algorithms.layout.GraphElementAccessor;
 import edu.uci.ics.jung.algorithms.layout.Layout;
 import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SnapshotGraph;
 import edu.uci.ics.jung.graph.util.Context;
 import edu.uci.ics.jung.graph.util.Pair;
 import edu.uci.ics.jung.visualization.Layer;
@@ -359,7 +360,7 @@ public class ShapePickSupport<V, E> implements GraphElementAccessor<V,E> {
 	 */
     protected Collection<V> getFilteredVertices(Layout<V,E> layout) {
     	if(verticesAreFiltered()) {
-    		Collection<V> unfiltered = layout.getGraph().getVertices();
+    		Collection<V> unfiltered = SnapshotGraph.snapshotOf(layout.getGraph()).getVertices();
     		Collection<V> filtered = new LinkedHashSet<V>();
     		for(V v : unfiltered) {
     			if(isVertexRendered(Context.<Graph<V,E>,V>getInstance(layout.getGraph(),v))) {
@@ -368,7 +369,7 @@ public class ShapePickSupport<V, E> implements GraphElementAccessor<V,E> {
     		}
     		return filtered;
     	} else {
-    		return layout.getGraph().getVertices();
+    		return SnapshotGraph.snapshotOf(layout.getGraph()).getVertices();
     	}
     }
 
@@ -379,7 +380,7 @@ public class ShapePickSupport<V, E> implements GraphElementAccessor<V,E> {
      */
     protected Collection<E> getFilteredEdges(Layout<V,E> layout) {
     	if(edgesAreFiltered()) {
-    		Collection<E> unfiltered = layout.getGraph().getEdges();
+    		Collection<E> unfiltered = SnapshotGraph.snapshotOf(layout.getGraph()).getEdges();
     		Collection<E> filtered = new LinkedHashSet<E>();
     		for(E e : unfiltered) {
     			if(isEdgeRendered(Context.<Graph<V,E>,E>getInstance(layout.getGraph(),e))) {
@@ -388,7 +389,7 @@ public class ShapePickSupport<V, E> implements GraphElementAccessor<V,E> {
     		}
     		return filtered;
     	} else {
-    		return layout.getGraph().getEdges();
+    		return SnapshotGraph.snapshotOf(layout.getGraph()).getEdges();
     	}
     }
     
@@ -0,0 +1,56 @@
+package edu.uci.ics.jung.visualization.layout;
+
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.layout.StaticLayout;
+import edu.uci.ics.jung.graph.ObservableGraph;
+import edu.uci.ics.jung.graph.SparseGraph;
+
+public class TestObservableCachingLayout extends TestCase {
+
+	ObservableGraph<Integer,Integer> graph;
+	ObservableCachingLayout<Integer,Integer> layout;
+	int changes;
+
+	@Override
+	public void setUp() {
+		graph = new ObservableGraph<Integer,Integer>(new SparseGraph<Integer,Integer>());
+		layout = new ObservableCachingLayout<Integer,Integer>(
+				new StaticLayout<Integer,Integer>(graph));
+		layout.addChangeListener(new ChangeListener() {
+			public void stateChanged(ChangeEvent e) {
+				changes++;
+			}
+		});
+	}
+
+	public void testBatch() {
+		graph.beginBatch();
+		for (int i = 0; i < 5; i++)
+			graph.addEdge(i, i, i + 1);
+		graph.commitBatch();
+		assertEquals(1, changes);
+		graph.addVertex(10);
+		assertEquals(2, changes);
+	}
+
+	public void testGraphReplaced() {
+		ObservableGraph<Integer,Integer> other = 
+			new ObservableGraph<Integer,Integer>(new SparseGraph<Integer,Integer>());
+		layout.setGraph(other);
+		graph.addVertex(0);
+		assertEquals(0, changes);
+		other.addVertex(0);
+		assertEquals(1, changes);
+
+		ObservableGraph<Integer,Integer> third = 
+			new ObservableGraph<Integer,Integer>(new SparseGraph<Integer,Integer>());
+		layout.setDelegate(new StaticLayout<Integer,Integer>(third));
+		other.addVertex(1);
+		assertEquals(1, changes);
+		third.addVertex(0);
+		assertEquals(2, changes);
+	}
+}